@@ -25,6 +25,7 @@ import com.ly.doc.factory.BuildTemplateFactory;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
 import com.ly.doc.model.ApiDoc;
+import com.ly.doc.model.ApiSchema;
 import com.ly.doc.template.IDocBuildTemplate;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 
@@ -78,7 +79,23 @@ public class AdocDocBuilder {
 		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
 				config.getClassLoader());
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
-		List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+		buildApiDoc(config, javaProjectBuilder, docBuildTemplate.getApiData(configBuilder));
+	}
+
+	/**
+	 * Render asciidoc from an api schema that has already been analyzed.
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param apiSchema api schema
+	 * @since 3.0.9
+	 */
+	public static void buildApiDoc(ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			ApiSchema<ApiDoc> apiSchema) {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+		builderTemplate.checkAndInit(config, Boolean.TRUE);
+		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
+				config.getClassLoader());
+		List<ApiDoc> apiDocList = apiSchema.getApiDatas();
 		if (config.isAllInOne()) {
 			String docName = builderTemplate.allInOneDocName(config, INDEX_DOC, DocGlobalConstants.ASCIIDOC_EXTENSION);
 			apiDocList = docBuildTemplate.handleApiGroup(apiDocList, config);
@@ -92,6 +109,7 @@ public class AdocDocBuilder {
 			builderTemplate.buildDirectoryDataDoc(config, javaProjectBuilder, DocGlobalConstants.DICT_LIST_ADOC_TPL,
 					DocGlobalConstants.DICT_LIST_ADOC);
 		}
+		DocBuildMetrics.writeReport(config);
 	}
 
 }
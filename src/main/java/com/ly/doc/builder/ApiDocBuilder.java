@@ -25,6 +25,7 @@ import com.ly.doc.factory.BuildTemplateFactory;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
 import com.ly.doc.model.ApiDoc;
+import com.ly.doc.model.ApiSchema;
 import com.ly.doc.template.IDocBuildTemplate;
 import com.power.common.util.DateTimeUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
@@ -68,7 +69,23 @@ public class ApiDocBuilder {
 		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
 				config.getClassLoader());
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
-		List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+		buildApiDoc(config, javaProjectBuilder, docBuildTemplate.getApiData(configBuilder));
+	}
+
+	/**
+	 * Render markdown doc from an api schema that has already been analyzed.
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param apiSchema api schema
+	 * @since 3.0.9
+	 */
+	public static void buildApiDoc(ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			ApiSchema<ApiDoc> apiSchema) {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+		builderTemplate.checkAndInit(config, Boolean.TRUE);
+		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
+				config.getClassLoader());
+		List<ApiDoc> apiDocList = apiSchema.getApiDatas();
 		if (config.isAllInOne()) {
 			String version = config.isCoverOld() ? "" : "-V" + DateTimeUtil.long2Str(System.currentTimeMillis(),
 					DocGlobalConstants.DATE_FORMAT_YYYY_MM_DD_HH_MM);
@@ -87,6 +104,7 @@ public class ApiDocBuilder {
 			builderTemplate.buildDirectoryDataDoc(config, javaProjectBuilder, DocGlobalConstants.DICT_LIST_MD_TPL,
 					DocGlobalConstants.DICT_LIST_MD);
 		}
+		DocBuildMetrics.writeReport(config);
 	}
 
 }
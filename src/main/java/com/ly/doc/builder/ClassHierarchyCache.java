@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.builder;
+
+import com.ly.doc.constants.JavaTypeConstants;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.DocJavaField;
+import com.ly.doc.model.annotation.MappingAnnotation;
+import com.ly.doc.utils.JavaClassUtil;
+import com.thoughtworks.qdox.model.JavaAnnotation;
+import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class hierarchy data resolved once per build. Holds, per class, the linearized
+ * ancestors, the fields merged from the ancestors with the generic bindings of the class,
+ * the actual types of the type parameters and the inherited mapping annotations. The
+ * results are shared and read only, consumers only specialize the type variables.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public final class ClassHierarchyCache {
+
+	/**
+	 * api config, its class loader resolves the generic types of the fields
+	 */
+	private final ApiConfig apiConfig;
+
+	/**
+	 * the class and its ancestors, by class
+	 */
+	private final Map<JavaClass, List<JavaClass>> hierarchies = new ConcurrentHashMap<>();
+
+	/**
+	 * merged fields, by class
+	 */
+	private final Map<JavaClass, List<DocJavaField>> fields = new ConcurrentHashMap<>();
+
+	/**
+	 * actual types of the type parameters, by class
+	 */
+	private final Map<JavaClass, Map<String, JavaType>> actualTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * class annotations with the inherited mapping annotations, by mapping annotations
+	 * and class
+	 */
+	private final Map<Map<String, MappingAnnotation>, Map<JavaClass, List<JavaAnnotation>>> classAnnotations = Collections
+		.synchronizedMap(new IdentityHashMap<>());
+
+	/**
+	 * Constructor
+	 * @param apiConfig ApiConfig
+	 */
+	public ClassHierarchyCache(ApiConfig apiConfig) {
+		this.apiConfig = apiConfig;
+	}
+
+	/**
+	 * Get the class followed by its superclasses and interfaces, breadth first.
+	 * java.lang.Object is left out.
+	 * @param cls JavaClass
+	 * @return read only list of classes
+	 */
+	public List<JavaClass> getHierarchy(JavaClass cls) {
+		List<JavaClass> hierarchy = hierarchies.get(cls);
+		if (Objects.isNull(hierarchy)) {
+			hierarchy = Collections.unmodifiableList(linearize(cls));
+			hierarchies.put(cls, hierarchy);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Get the fields of the class merged with the fields of its ancestors, see
+	 * {@link JavaClassUtil#getFields(JavaClass, int, Map, ClassLoader)}.
+	 * @param cls JavaClass
+	 * @return read only list of fields
+	 */
+	public List<DocJavaField> getFields(JavaClass cls) {
+		if (Objects.isNull(cls)) {
+			return Collections.emptyList();
+		}
+		List<DocJavaField> fieldList = fields.get(cls);
+		if (Objects.isNull(fieldList)) {
+			fieldList = Collections
+				.unmodifiableList(JavaClassUtil.getFields(cls, 0, new LinkedHashMap<>(), apiConfig.getClassLoader()));
+			fields.put(cls, fieldList);
+		}
+		return fieldList;
+	}
+
+	/**
+	 * Get the actual types of the type parameters of the class, see
+	 * {@link JavaClassUtil#getActualTypesMap(JavaClass)}.
+	 * @param cls JavaClass
+	 * @return read only map of type variable name to actual type
+	 */
+	public Map<String, JavaType> getActualTypesMap(JavaClass cls) {
+		Map<String, JavaType> typesMap = actualTypes.get(cls);
+		if (Objects.isNull(typesMap)) {
+			typesMap = Collections.unmodifiableMap(JavaClassUtil.getActualTypesMap(cls));
+			actualTypes.put(cls, typesMap);
+		}
+		return typesMap;
+	}
+
+	/**
+	 * Get the annotations of the class, a class without a mapping annotation inherits the
+	 * mapping annotations of its superclass and interfaces.
+	 * @param cls JavaClass
+	 * @param mappingAnnotationMap mapping annotations of the framework
+	 * @return read only list of annotations
+	 */
+	public List<JavaAnnotation> getClassAnnotations(JavaClass cls,
+			Map<String, MappingAnnotation> mappingAnnotationMap) {
+		Map<JavaClass, List<JavaAnnotation>> annotationsMap = classAnnotations.computeIfAbsent(mappingAnnotationMap,
+				k -> new ConcurrentHashMap<>());
+		List<JavaAnnotation> annotations = annotationsMap.get(cls);
+		if (Objects.isNull(annotations)) {
+			annotations = Collections.unmodifiableList(resolveClassAnnotations(cls, mappingAnnotationMap));
+			annotationsMap.put(cls, annotations);
+		}
+		return annotations;
+	}
+
+	/**
+	 * Linearize the hierarchy the way it was walked by the templates, a class reachable
+	 * through several paths is kept once.
+	 * @param cls JavaClass
+	 * @return list of classes
+	 */
+	private static List<JavaClass> linearize(JavaClass cls) {
+		Set<JavaClass> visited = new LinkedHashSet<>();
+		List<JavaClass> queue = new ArrayList<>();
+		queue.add(cls);
+		for (int i = 0; i < queue.size(); i++) {
+			JavaClass current = queue.get(i);
+			if (!visited.add(current)) {
+				continue;
+			}
+			JavaClass parentClass = current.getSuperJavaClass();
+			if (Objects.nonNull(parentClass)
+					&& !JavaTypeConstants.OBJECT_SIMPLE_NAME.equals(parentClass.getSimpleName())) {
+				queue.add(parentClass);
+			}
+			queue.addAll(current.getInterfaces());
+		}
+		return new ArrayList<>(visited);
+	}
+
+	/**
+	 * Resolve the class annotations, the ancestors are resolved through the cache.
+	 * @param cls JavaClass
+	 * @param mappingAnnotationMap mapping annotations of the framework
+	 * @return list of annotations
+	 */
+	private List<JavaAnnotation> resolveClassAnnotations(JavaClass cls,
+			Map<String, MappingAnnotation> mappingAnnotationMap) {
+		List<JavaAnnotation> annotationsList = new ArrayList<>(cls.getAnnotations());
+		if (annotationsList.stream().anyMatch(annotation -> isMapping(annotation, mappingAnnotationMap))) {
+			return annotationsList;
+		}
+		List<JavaClass> parents = new ArrayList<>();
+		JavaClass superJavaClass = cls.getSuperJavaClass();
+		if (Objects.nonNull(superJavaClass)
+				&& !JavaTypeConstants.OBJECT_SIMPLE_NAME.equals(superJavaClass.getSimpleName())) {
+			parents.add(superJavaClass);
+		}
+		parents.addAll(cls.getInterfaces());
+		for (JavaClass parent : parents) {
+			for (JavaAnnotation annotation : this.getClassAnnotations(parent, mappingAnnotationMap)) {
+				if (isMapping(annotation, mappingAnnotationMap)) {
+					annotationsList.add(annotation);
+				}
+			}
+		}
+		return annotationsList;
+	}
+
+	private static boolean isMapping(JavaAnnotation annotation, Map<String, MappingAnnotation> mappingAnnotationMap) {
+		return mappingAnnotationMap.containsKey(annotation.getType().getValue())
+				|| mappingAnnotationMap.containsKey(annotation.getType().getFullyQualifiedName());
+	}
+
+}
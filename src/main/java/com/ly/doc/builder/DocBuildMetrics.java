@@ -0,0 +1,584 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.builder;
+
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.utils.JsonUtil;
+import com.power.common.util.StringUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * Wall time, cpu time and allocated bytes of the build phases, the controllers and the
+ * endpoints of the builds run with an api config. The metrics are recorded only if
+ * {@link ApiConfig#isPerformanceReport()} is on and written to {@link #REPORT_NAME} in
+ * the output path after the sources are loaded, after the api data is analyzed and when a
+ * builder has written its output. The times of a phase include the times of the phases
+ * nested in it, the cpu time and the allocated bytes are measured on the thread running
+ * the phase.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public final class DocBuildMetrics {
+
+	/**
+	 * report file name
+	 */
+	public static final String REPORT_NAME = "smart-doc-performance.json";
+
+	/**
+	 * load the java sources, see {@link ProjectDocConfigBuilder}
+	 */
+	public static final String LOAD_SOURCES = "loadSources";
+
+	/**
+	 * analyze the api data of the candidate classes
+	 */
+	public static final String ANALYZE = "analyze";
+
+	/**
+	 * select the candidate classes
+	 */
+	public static final String CANDIDATE_CLASSES = "candidateClasses";
+
+	/**
+	 * build the method docs of a controller, also recorded per controller
+	 */
+	public static final String CONTROLLER = "buildEntryPointMethod";
+
+	/**
+	 * build the doc of an endpoint, the slowest endpoints are listed
+	 */
+	public static final String ENDPOINT = "endpoint";
+
+	/**
+	 * build the request params of an endpoint
+	 */
+	public static final String REQUEST_PARAMS = "requestParams";
+
+	/**
+	 * build the request example of an endpoint
+	 */
+	public static final String REQUEST_JSON = "requestJson";
+
+	/**
+	 * build the response example of an endpoint
+	 */
+	public static final String RESPONSE_JSON = "responseJson";
+
+	/**
+	 * build the response params of an endpoint
+	 */
+	public static final String RESPONSE_PARAMS = "responseParams";
+
+	/**
+	 * render a doc page with its template
+	 */
+	public static final String RENDER = "render";
+
+	/**
+	 * write an output file
+	 */
+	public static final String WRITE = "write";
+
+	/**
+	 * Logger for the class.
+	 */
+	private static final Logger log = Logger.getLogger(DocBuildMetrics.class.getName());
+
+	/**
+	 * The report is written when one of these phases ends, unless it is nested in another
+	 * one.
+	 */
+	private static final Set<String> REPORTED_PHASES = new HashSet<>(Arrays.asList(LOAD_SOURCES, ANALYZE));
+
+	/**
+	 * metrics by api config
+	 */
+	private static final Map<ApiConfig, DocBuildMetrics> REGISTRY = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * the outermost reported span of the thread
+	 */
+	private static final ThreadLocal<Span> REPORTED_SPAN = new ThreadLocal<>();
+
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+	private static final boolean CPU_TIME_SUPPORTED = isCpuTimeSupported();
+
+	private static final boolean ALLOCATION_SUPPORTED = isAllocationSupported();
+
+	/**
+	 * the begin of a {@link DocPhaseEvent}, null if the jvm has no JFR
+	 */
+	private static final MethodHandle JFR_BEGIN = findJfrMethod("begin",
+			MethodType.methodType(Object.class, String.class, String.class, String.class));
+
+	/**
+	 * the end of a {@link DocPhaseEvent}, null if the jvm has no JFR
+	 */
+	private static final MethodHandle JFR_END = findJfrMethod("end",
+			MethodType.methodType(void.class, Object.class, long.class, long.class));
+
+	private final ApiConfig config;
+
+	/**
+	 * wall clock in nanoseconds
+	 */
+	private final LongSupplier wallClock;
+
+	/**
+	 * stats by phase
+	 */
+	private final Map<String, Stat> phases = new ConcurrentHashMap<>();
+
+	/**
+	 * stats of the {@link #CONTROLLER} phase by controller
+	 */
+	private final Map<String, Stat> controllers = new ConcurrentHashMap<>();
+
+	/**
+	 * the slowest endpoints, the fastest first
+	 */
+	private final PriorityQueue<EndpointTime> slowestEndpoints = new PriorityQueue<>(
+			Comparator.comparingLong(e -> e.wallNanos));
+
+	private DocBuildMetrics(ApiConfig config) {
+		this(config, System::nanoTime);
+	}
+
+	private DocBuildMetrics(ApiConfig config, LongSupplier wallClock) {
+		this.config = config;
+		this.wallClock = wallClock;
+	}
+
+	/**
+	 * Start a phase.
+	 * @param config ApiConfig, may be null
+	 * @param phase phase
+	 * @return the span to close when the phase ends
+	 */
+	public static Span start(ApiConfig config, String phase) {
+		return start(config, phase, null, null);
+	}
+
+	/**
+	 * Start a phase of a controller or an endpoint.
+	 * @param config ApiConfig, may be null
+	 * @param phase phase
+	 * @param controller controller name, may be null
+	 * @param endpoint endpoint, may be null
+	 * @return the span to close when the phase ends
+	 */
+	public static Span start(ApiConfig config, String phase, String controller, String endpoint) {
+		if (Objects.isNull(config) || !config.isPerformanceReport()) {
+			return Span.NOOP;
+		}
+		DocBuildMetrics metrics = REGISTRY.computeIfAbsent(config, DocBuildMetrics::new);
+		return new Span(metrics, phase, controller, endpoint);
+	}
+
+	/**
+	 * Record every call of the function as a phase.
+	 * @param config ApiConfig
+	 * @param phase phase
+	 * @param function function
+	 * @param <T> argument type
+	 * @param <R> result type
+	 * @return the measured function, the function itself if no report is recorded
+	 */
+	public static <T, R> Function<T, R> measure(ApiConfig config, String phase, Function<T, R> function) {
+		return measure(config, phase, t -> null, function);
+	}
+
+	/**
+	 * Record every call of the function as a phase of the controller the argument names.
+	 * @param config ApiConfig
+	 * @param phase phase
+	 * @param controller gets the controller name of the argument
+	 * @param function function
+	 * @param <T> argument type
+	 * @param <R> result type
+	 * @return the measured function, the function itself if no report is recorded
+	 */
+	public static <T, R> Function<T, R> measure(ApiConfig config, String phase, Function<T, String> controller,
+			Function<T, R> function) {
+		if (Objects.isNull(config) || !config.isPerformanceReport()) {
+			return function;
+		}
+		return t -> {
+			try (Span ignored = start(config, phase, controller.apply(t), null)) {
+				return function.apply(t);
+			}
+		};
+	}
+
+	/**
+	 * Get the metrics recorded for the api config.
+	 * @param config ApiConfig
+	 * @return the metrics, null if none are recorded
+	 */
+	public static DocBuildMetrics get(ApiConfig config) {
+		return REGISTRY.get(config);
+	}
+
+	/**
+	 * Record the metrics of the api config with the given wall clock, replacing the
+	 * metrics recorded so far.
+	 * @param config ApiConfig
+	 * @param wallClock wall clock in nanoseconds
+	 * @return the metrics
+	 */
+	static DocBuildMetrics register(ApiConfig config, LongSupplier wallClock) {
+		DocBuildMetrics metrics = new DocBuildMetrics(config, wallClock);
+		REGISTRY.put(config, metrics);
+		return metrics;
+	}
+
+	/**
+	 * Drop the metrics recorded for the api config.
+	 * @param config ApiConfig
+	 */
+	public static void reset(ApiConfig config) {
+		REGISTRY.remove(config);
+	}
+
+	/**
+	 * Write the report of the metrics recorded for the api config.
+	 * @param config ApiConfig, may be null
+	 */
+	public static void writeReport(ApiConfig config) {
+		if (Objects.isNull(config)) {
+			return;
+		}
+		DocBuildMetrics metrics = REGISTRY.get(config);
+		if (Objects.nonNull(metrics)) {
+			metrics.writeReport();
+		}
+	}
+
+	/**
+	 * Write the report to the output path.
+	 */
+	public void writeReport() {
+		if (StringUtil.isEmpty(config.getOutPath())) {
+			return;
+		}
+		File outDir = new File(config.getOutPath());
+		File reportFile = new File(outDir, REPORT_NAME);
+		File tempFile = new File(outDir, REPORT_NAME + ".tmp");
+		try {
+			Files.createDirectories(outDir.toPath());
+			Files.write(tempFile.toPath(), JsonUtil.toPrettyJson(this.toReport()).getBytes(StandardCharsets.UTF_8));
+			Files.move(tempFile.toPath(), reportFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException | RuntimeException e) {
+			log.warning("Unable to write the performance report: " + e.getMessage());
+			tempFile.delete();
+		}
+	}
+
+	/**
+	 * Build the report model.
+	 * @return report
+	 */
+	public Map<String, Object> toReport() {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("cpuTimeSupported", CPU_TIME_SUPPORTED);
+		report.put("allocationSupported", ALLOCATION_SUPPORTED);
+		Map<String, Object> phaseStats = new TreeMap<>();
+		phases.forEach((phase, stat) -> phaseStats.put(phase, stat.toReport()));
+		report.put("phases", phaseStats);
+		List<Map.Entry<String, Stat>> controllerStats = new ArrayList<>(controllers.entrySet());
+		controllerStats.sort(Comparator.comparingLong((Map.Entry<String, Stat> e) -> e.getValue().wallNanos.sum())
+			.reversed()
+			.thenComparing(Map.Entry::getKey));
+		Map<String, Object> controllerReport = new LinkedHashMap<>();
+		for (Map.Entry<String, Stat> entry : controllerStats) {
+			controllerReport.put(entry.getKey(), entry.getValue().toReport());
+		}
+		report.put("controllers", controllerReport);
+		List<EndpointTime> endpoints;
+		synchronized (slowestEndpoints) {
+			endpoints = new ArrayList<>(slowestEndpoints);
+		}
+		endpoints.sort(Comparator.comparingLong((EndpointTime e) -> e.wallNanos).reversed());
+		List<Map<String, Object>> endpointReport = new ArrayList<>(endpoints.size());
+		for (EndpointTime endpoint : endpoints) {
+			Map<String, Object> item = new LinkedHashMap<>();
+			item.put("controller", endpoint.controller);
+			item.put("endpoint", endpoint.endpoint);
+			item.put("wallMillis", millis(endpoint.wallNanos));
+			item.put("cpuMillis", millis(endpoint.cpuNanos));
+			item.put("allocatedBytes", endpoint.allocatedBytes);
+			endpointReport.add(item);
+		}
+		report.put("slowestEndpoints", endpointReport);
+		return report;
+	}
+
+	private void record(Span span, long wallNanos, long cpuNanos, long allocatedBytes) {
+		phases.computeIfAbsent(span.phase, k -> new Stat()).add(wallNanos, cpuNanos, allocatedBytes);
+		if (CONTROLLER.equals(span.phase) && Objects.nonNull(span.controller)) {
+			controllers.computeIfAbsent(span.controller, k -> new Stat()).add(wallNanos, cpuNanos, allocatedBytes);
+		}
+		int topN = config.getPerformanceReportTopN();
+		if (ENDPOINT.equals(span.phase) && topN > 0) {
+			synchronized (slowestEndpoints) {
+				if (slowestEndpoints.size() < topN || slowestEndpoints.peek().wallNanos < wallNanos) {
+					slowestEndpoints
+						.add(new EndpointTime(span.controller, span.endpoint, wallNanos, cpuNanos, allocatedBytes));
+					while (slowestEndpoints.size() > topN) {
+						slowestEndpoints.poll();
+					}
+				}
+			}
+		}
+	}
+
+	private static double millis(long nanos) {
+		return Math.round(nanos / 1000.0) / 1000.0;
+	}
+
+	private static long cpuTime() {
+		return CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : 0L;
+	}
+
+	private static long allocatedBytes() {
+		return ALLOCATION_SUPPORTED
+				? ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId())
+				: 0L;
+	}
+
+	private static boolean isCpuTimeSupported() {
+		return THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+	}
+
+	private static boolean isAllocationSupported() {
+		try {
+			if (THREADS instanceof com.sun.management.ThreadMXBean) {
+				com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+				return threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+			}
+		}
+		catch (LinkageError e) {
+			// not a HotSpot compatible jvm
+		}
+		return false;
+	}
+
+	/**
+	 * Find a method of the jfr event, the event class is only loaded if the jvm has JFR.
+	 * @param name method name
+	 * @param type method type
+	 * @return the method, null if the jvm has no JFR
+	 */
+	private static MethodHandle findJfrMethod(String name, MethodType type) {
+		ClassLoader classLoader = DocBuildMetrics.class.getClassLoader();
+		try {
+			Class.forName("jdk.jfr.Event", false, classLoader);
+			Class<?> eventClass = Class.forName(DocBuildMetrics.class.getPackage().getName() + ".DocPhaseEvent", true,
+					classLoader);
+			return MethodHandles.lookup().findStatic(eventClass, name, type);
+		}
+		catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+
+	private static Object beginEvent(String phase, String controller, String endpoint) {
+		try {
+			return JFR_BEGIN.invoke(phase, controller, endpoint);
+		}
+		catch (Throwable e) {
+			return null;
+		}
+	}
+
+	private static void endEvent(Object event, long cpuNanos, long allocated) {
+		try {
+			JFR_END.invoke(event, cpuNanos, allocated);
+		}
+		catch (Throwable e) {
+			// the phase is recorded without the event
+		}
+	}
+
+	/**
+	 * A started phase, close it when the phase ends.
+	 */
+	public static final class Span implements AutoCloseable {
+
+		private static final Span NOOP = new Span();
+
+		private final DocBuildMetrics metrics;
+
+		private final String phase;
+
+		private final String controller;
+
+		private final String endpoint;
+
+		private final long startWall;
+
+		private final long startCpu;
+
+		private final long startAllocated;
+
+		/**
+		 * the jfr event, see {@link DocPhaseEvent}
+		 */
+		private final Object event;
+
+		private boolean closed;
+
+		private Span() {
+			this.metrics = null;
+			this.phase = null;
+			this.controller = null;
+			this.endpoint = null;
+			this.startWall = 0L;
+			this.startCpu = 0L;
+			this.startAllocated = 0L;
+			this.event = null;
+		}
+
+		private Span(DocBuildMetrics metrics, String phase, String controller, String endpoint) {
+			this.metrics = metrics;
+			this.phase = phase;
+			this.controller = controller;
+			this.endpoint = endpoint;
+			if (REPORTED_PHASES.contains(phase) && Objects.isNull(REPORTED_SPAN.get())) {
+				REPORTED_SPAN.set(this);
+			}
+			this.event = Objects.nonNull(JFR_BEGIN) && Objects.nonNull(JFR_END) && metrics.config.isPerformanceJfr()
+					? beginEvent(phase, controller, endpoint) : null;
+			this.startAllocated = allocatedBytes();
+			this.startCpu = cpuTime();
+			this.startWall = metrics.wallClock.getAsLong();
+		}
+
+		@Override
+		public void close() {
+			if (Objects.isNull(metrics) || closed) {
+				return;
+			}
+			closed = true;
+			long wallNanos = metrics.wallClock.getAsLong() - startWall;
+			long cpuNanos = cpuTime() - startCpu;
+			long allocated = allocatedBytes() - startAllocated;
+			metrics.record(this, wallNanos, cpuNanos, allocated);
+			if (Objects.nonNull(event)) {
+				endEvent(event, cpuNanos, allocated);
+			}
+			if (REPORTED_SPAN.get() == this) {
+				REPORTED_SPAN.remove();
+				metrics.writeReport();
+			}
+		}
+
+	}
+
+	/**
+	 * Sums of a phase
+	 */
+	private static final class Stat {
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder wallNanos = new LongAdder();
+
+		private final LongAdder cpuNanos = new LongAdder();
+
+		private final LongAdder allocatedBytes = new LongAdder();
+
+		void add(long wall, long cpu, long allocated) {
+			count.increment();
+			wallNanos.add(wall);
+			cpuNanos.add(cpu);
+			allocatedBytes.add(allocated);
+		}
+
+		Map<String, Object> toReport() {
+			Map<String, Object> report = new LinkedHashMap<>();
+			report.put("count", count.sum());
+			report.put("wallMillis", millis(wallNanos.sum()));
+			report.put("cpuMillis", millis(cpuNanos.sum()));
+			report.put("allocatedBytes", allocatedBytes.sum());
+			return report;
+		}
+
+	}
+
+	/**
+	 * Times of an endpoint
+	 */
+	private static final class EndpointTime {
+
+		private final String controller;
+
+		private final String endpoint;
+
+		private final long wallNanos;
+
+		private final long cpuNanos;
+
+		private final long allocatedBytes;
+
+		EndpointTime(String controller, String endpoint, long wallNanos, long cpuNanos, long allocatedBytes) {
+			this.controller = controller;
+			this.endpoint = endpoint;
+			this.wallNanos = wallNanos;
+			this.cpuNanos = cpuNanos;
+			this.allocatedBytes = allocatedBytes;
+		}
+
+	}
+
+}
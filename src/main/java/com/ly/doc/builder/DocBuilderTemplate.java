@@ -37,6 +37,7 @@ import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.beetl.core.Template;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -75,11 +76,14 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 	 */
 	public void buildApiDoc(List<ApiDoc> apiDocList, ApiConfig config, String template, String fileExtension) {
 		FileUtil.mkdirs(config.getOutPath());
-		for (ApiDoc doc : apiDocList) {
-			Template mapper = this.buildApiDocTemplate(doc, config, template);
-			FileUtil.nioWriteFile(mapper.render(),
-					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + doc.getName() + fileExtension);
-		}
+		DocOutputManifest manifest = DocOutputManifest.load(config);
+		ParallelDocWriter.write(apiDocList, config.getRenderThreads(),
+				DocBuildMetrics.measure(config, DocBuildMetrics.RENDER,
+						doc -> this.buildApiDocTemplate(doc, config, template).render()),
+				doc -> config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + doc.getName() + fileExtension,
+				manifest, doc -> DocOutputManifest.hash(BeetlTemplateUtil.getTemplateHash(template),
+						config.isRequestExample(), config.isResponseExample(), doc));
+		manifest.save();
 	}
 
 	/**
@@ -124,30 +128,67 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 	 */
 	public Template buildAllRenderDocTemplate(List<ApiDoc> apiDocList, ApiConfig config,
 			JavaProjectBuilder javaProjectBuilder, String template, ApiDoc apiDoc, String index) {
+		Map<String, Object> bindings = this.buildAllRenderDocBindings(apiDocList, config, javaProjectBuilder, index);
+		return this.buildAllRenderDocTemplate(bindings, config, template, apiDoc);
+	}
+
+	/**
+	 * get render doc template from the bindings shared by all pages.
+	 * @param bindings shared bindings
+	 * @param config api config
+	 * @param template template
+	 * @param apiDoc apiDoc
+	 * @return Template
+	 * @since 3.0.9
+	 */
+	public Template buildAllRenderDocTemplate(Map<String, Object> bindings, ApiConfig config, String template,
+			ApiDoc apiDoc) {
+		Template tpl = BeetlTemplateUtil.getByName(template);
+		tpl.binding(bindings);
+		this.setCssCDN(config, tpl);
+		this.setDirectoryLanguageVariable(config, tpl);
+		if (Objects.nonNull(apiDoc)) {
+			tpl.binding(TemplateVariable.DESC.getVariable(), apiDoc.getDesc());
+			tpl.binding(TemplateVariable.ORDER.getVariable(), apiDoc.getOrder());
+			tpl.binding(TemplateVariable.LIST.getVariable(), apiDoc.getList());
+		}
+		return tpl;
+	}
+
+	/**
+	 * Build the bindings shared by all pages, the error codes and dictionaries are
+	 * resolved only once.
+	 * @param apiDocList list data of Api doc
+	 * @param config api config
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param index index html
+	 * @return bindings
+	 * @since 3.0.9
+	 */
+	public Map<String, Object> buildAllRenderDocBindings(List<ApiDoc> apiDocList, ApiConfig config,
+			JavaProjectBuilder javaProjectBuilder, String index) {
 		String strTime = DateTimeUtil.long2Str(NOW, DateTimeUtil.DATE_FORMAT_SECOND);
 		List<ApiErrorCode> errorCodeList = DocUtil.errorCodeDictToList(config, javaProjectBuilder);
-		Template tpl = BeetlTemplateUtil.getByName(template);
+		Map<String, Object> bindings = new HashMap<>(32);
 		String style = config.getStyle();
-		tpl.binding(TemplateVariable.STYLE.getVariable(), style);
-		tpl.binding(TemplateVariable.HIGH_LIGHT_CSS_LINK.getVariable(), config.getHighlightStyleLink());
-		tpl.binding(TemplateVariable.BACKGROUND.getVariable(), HighlightStyle.getBackgroundColor(style));
-		tpl.binding(TemplateVariable.API_DOC_LIST.getVariable(), apiDocList);
-		tpl.binding(TemplateVariable.ERROR_CODE_LIST.getVariable(), errorCodeList);
-		tpl.binding(TemplateVariable.VERSION_LIST.getVariable(), config.getRevisionLogs());
-		tpl.binding(TemplateVariable.LANGUAGE.getVariable(), config.getLanguage());
-		tpl.binding(TemplateVariable.VERSION.getVariable(), NOW);
-		tpl.binding(TemplateVariable.INDEX_ALIAS.getVariable(), index);
-		tpl.binding(TemplateVariable.CREATE_TIME.getVariable(), strTime);
-		tpl.binding(TemplateVariable.PROJECT_NAME.getVariable(), config.getProjectName());
-		tpl.binding(TemplateVariable.REQUEST_EXAMPLE.getVariable(), config.isRequestExample());
-		tpl.binding(TemplateVariable.RESPONSE_EXAMPLE.getVariable(), config.isResponseExample());
-		tpl.binding(TemplateVariable.DISPLAY_REQUEST_PARAMS.getVariable(), config.isRequestParamsTable());
-		tpl.binding(TemplateVariable.DISPLAY_RESPONSE_PARAMS.getVariable(), config.isResponseParamsTable());
-		this.setCssCDN(config, tpl);
+		bindings.put(TemplateVariable.STYLE.getVariable(), style);
+		bindings.put(TemplateVariable.HIGH_LIGHT_CSS_LINK.getVariable(), config.getHighlightStyleLink());
+		bindings.put(TemplateVariable.BACKGROUND.getVariable(), HighlightStyle.getBackgroundColor(style));
+		bindings.put(TemplateVariable.API_DOC_LIST.getVariable(), apiDocList);
+		bindings.put(TemplateVariable.ERROR_CODE_LIST.getVariable(), errorCodeList);
+		bindings.put(TemplateVariable.VERSION_LIST.getVariable(), config.getRevisionLogs());
+		bindings.put(TemplateVariable.LANGUAGE.getVariable(), config.getLanguage());
+		bindings.put(TemplateVariable.VERSION.getVariable(), NOW);
+		bindings.put(TemplateVariable.INDEX_ALIAS.getVariable(), index);
+		bindings.put(TemplateVariable.CREATE_TIME.getVariable(), strTime);
+		bindings.put(TemplateVariable.PROJECT_NAME.getVariable(), config.getProjectName());
+		bindings.put(TemplateVariable.REQUEST_EXAMPLE.getVariable(), config.isRequestExample());
+		bindings.put(TemplateVariable.RESPONSE_EXAMPLE.getVariable(), config.isResponseExample());
+		bindings.put(TemplateVariable.DISPLAY_REQUEST_PARAMS.getVariable(), config.isRequestParamsTable());
+		bindings.put(TemplateVariable.DISPLAY_RESPONSE_PARAMS.getVariable(), config.isResponseParamsTable());
 
-		this.setDirectoryLanguageVariable(config, tpl);
 		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
-		tpl.binding(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
+		bindings.put(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
 
 		boolean onlyHasDefaultGroup = apiDocList.stream()
 			.allMatch(doc -> Objects.equals(TornaConstants.DEFAULT_GROUP_CODE, doc.getGroup()));
@@ -160,30 +201,25 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 		else {
 			codeIndex = apiDocList.size();
 		}
-		tpl.binding(TemplateVariable.API_DOC_LIST_ONLY_HAS_DEFAULT_GROUP.getVariable(), onlyHasDefaultGroup);
+		bindings.put(TemplateVariable.API_DOC_LIST_ONLY_HAS_DEFAULT_GROUP.getVariable(), onlyHasDefaultGroup);
 
 		if (CollectionUtil.isNotEmpty(errorCodeList)) {
-			tpl.binding(TemplateVariable.ERROR_CODE_ORDER.getVariable(), ++codeIndex);
+			bindings.put(TemplateVariable.ERROR_CODE_ORDER.getVariable(), ++codeIndex);
 		}
 
 		if (CollectionUtil.isNotEmpty(apiDocDictList)) {
-			tpl.binding(TemplateVariable.DICT_ORDER.getVariable(), ++codeIndex);
+			bindings.put(TemplateVariable.DICT_ORDER.getVariable(), ++codeIndex);
 		}
 
-		if (Objects.nonNull(apiDoc)) {
-			tpl.binding(TemplateVariable.DESC.getVariable(), apiDoc.getDesc());
-			tpl.binding(TemplateVariable.ORDER.getVariable(), apiDoc.getOrder());
-			tpl.binding(TemplateVariable.LIST.getVariable(), apiDoc.getList());
-		}
 		// add jmeter prometheus listener
 		if (Objects.nonNull(config.getJmeter())) {
-			tpl.binding(TemplateVariable.JMETER_PROMETHEUS_LISTENER.getVariable(),
+			bindings.put(TemplateVariable.JMETER_PROMETHEUS_LISTENER.getVariable(),
 					config.getJmeter().getAddPrometheusListener());
 		}
 		else {
-			tpl.binding(TemplateVariable.JMETER_PROMETHEUS_LISTENER.getVariable(), Boolean.FALSE);
+			bindings.put(TemplateVariable.JMETER_PROMETHEUS_LISTENER.getVariable(), Boolean.FALSE);
 		}
-		return tpl;
+		return bindings;
 	}
 
 	/**
@@ -201,7 +237,7 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 		String outPath = config.getOutPath();
 		FileUtil.mkdirs(outPath);
 		Template tpl = this.buildAllRenderDocTemplate(apiDocList, config, javaProjectBuilder, template, apiDoc, index);
-		FileUtil.nioWriteFile(tpl.render(), outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName, tpl.render());
 	}
 
 	/**
@@ -298,8 +334,10 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 			}
 		}
 		tpl.binding(TemplateVariable.API_DOC_LIST.getVariable(), apiDocs);
-		FileUtil.nioWriteFile(tpl.render(),
-				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.SEARCH_JS_OUT);
+		DocOutputManifest manifest = DocOutputManifest.load(config);
+		manifest.write(config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.SEARCH_JS_OUT, null,
+				tpl.render());
+		manifest.save();
 	}
 
 	/**
@@ -337,8 +375,8 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 		errorTemplate.binding(TemplateVariable.BACKGROUND.getVariable(), HighlightStyle.getBackgroundColor(style));
 		errorTemplate.binding(TemplateVariable.ERROR_CODE_LIST.getVariable(), errorCodeList);
 		setDirectoryLanguageVariable(config, errorTemplate);
-		FileUtil.nioWriteFile(errorTemplate.render(),
-				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName,
+				errorTemplate.render());
 
 	}
 
@@ -378,8 +416,8 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 		mapper.binding(TemplateVariable.ERROR_CODE_LIST.getVariable(), errorCodeList);
 		this.setDirectoryLanguageVariable(config, mapper);
 		mapper.binding(TemplateVariable.DICT_LIST.getVariable(), directoryList);
-		FileUtil.nioWriteFile(mapper.render(),
-				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName,
+				mapper.render());
 	}
 
 	/**
@@ -392,8 +430,8 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 	public void buildDirectoryDataDoc(ApiConfig config, JavaProjectBuilder javaProjectBuilder, String template,
 			String outPutFileName) {
 		Template mapper = buildDirectoryDataDocTemplate(config, javaProjectBuilder, template);
-		FileUtil.nioWriteFile(mapper.render(),
-				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName,
+				mapper.render());
 	}
 
 	/**
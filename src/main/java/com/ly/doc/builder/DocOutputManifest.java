@@ -0,0 +1,428 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.builder;
+
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.ApiMethodDoc;
+import com.ly.doc.utils.DocUtil;
+import com.ly.doc.utils.JsonUtil;
+import com.power.common.util.StringUtil;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Manifest of the files written to the output path. Each file is recorded with the hash
+ * of the model it is rendered from and the hash of its content, a page whose model is
+ * unchanged is not rendered again and unchanged content is not written again, so the file
+ * keeps its modification time.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public final class DocOutputManifest {
+
+	/**
+	 * Logger for the class.
+	 */
+	private static final Logger log = Logger.getLogger(DocOutputManifest.class.getName());
+
+	/**
+	 * manifest file name
+	 */
+	private static final String MANIFEST_NAME = ".smart-doc-manifest.json";
+
+	/**
+	 * The schema version of the manifest, change it when the format or the rendering of
+	 * the models is incompatible.
+	 */
+	private static final String SCHEMA = "v1";
+
+	/**
+	 * Serialize the models for hashing, the back references of the models and the qdox
+	 * models are skipped.
+	 */
+	private static final Gson HASH_GSON = new GsonBuilder().serializeSpecialFloatingPointValues()
+		.setExclusionStrategies(new ExclusionStrategy() {
+			@Override
+			public boolean shouldSkipField(FieldAttributes f) {
+				return "tagRefs".equals(f.getName())
+						|| (ApiMethodDoc.class.equals(f.getDeclaringClass()) && "clazzDoc".equals(f.getName()));
+			}
+
+			@Override
+			public boolean shouldSkipClass(Class<?> clazz) {
+				return Class.class.equals(clazz) || ClassLoader.class.isAssignableFrom(clazz)
+						|| clazz.getName().startsWith("com.thoughtworks.qdox");
+			}
+		})
+		.create();
+
+	/**
+	 * The manifest of a build without output manifest.
+	 */
+	private static final DocOutputManifest DISABLED = new DocOutputManifest(null, Collections.emptyMap(), null);
+
+	/**
+	 * output directory, null if the manifest is disabled
+	 */
+	private final File outDir;
+
+	/**
+	 * entries loaded from the manifest file
+	 */
+	private final Map<String, Entry> entries;
+
+	/**
+	 * entries of the files checked or written in this build
+	 */
+	private final Map<String, Entry> current = new ConcurrentHashMap<>();
+
+	/**
+	 * files not rendered or not written again, for logging
+	 */
+	private final AtomicInteger skipped = new AtomicInteger();
+
+	/**
+	 * api config the writes are recorded for, see {@link DocBuildMetrics}
+	 */
+	private final ApiConfig config;
+
+	private DocOutputManifest(File outDir, Map<String, Entry> entries, ApiConfig config) {
+		this.outDir = outDir;
+		this.entries = entries;
+		this.config = config;
+	}
+
+	/**
+	 * Load the manifest of the output path.
+	 * @param config ApiConfig
+	 * @return the manifest, a disabled one if {@link ApiConfig#isOutputManifest()} is off
+	 */
+	public static DocOutputManifest load(ApiConfig config) {
+		if (!config.isOutputManifest() || StringUtil.isEmpty(config.getOutPath())) {
+			// still records the write phases of the performance report
+			return config.isPerformanceReport() ? new DocOutputManifest(null, Collections.emptyMap(), config)
+					: DISABLED;
+		}
+		File outDir = new File(config.getOutPath()).getAbsoluteFile();
+		return new DocOutputManifest(outDir, readEntries(new File(outDir, MANIFEST_NAME)), config);
+	}
+
+	/**
+	 * Get the manifest that always renders and writes.
+	 * @return the disabled manifest
+	 */
+	public static DocOutputManifest disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Hash the models a file is rendered from.
+	 * @param models models
+	 * @return md5 hex of the models
+	 */
+	public static String hash(Object... models) {
+		MessageDigest digest = DigestUtils.getMd5Digest();
+		for (Object model : models) {
+			DigestUtils.updateDigest(digest, HASH_GSON.toJson(model));
+			digest.update((byte) '\n');
+		}
+		return Hex.encodeHexString(digest.digest());
+	}
+
+	/**
+	 * Write a single file through the output manifest of the config, see
+	 * {@link #write(String, String, String)}.
+	 * @param config ApiConfig
+	 * @param filePath file path
+	 * @param content content
+	 */
+	public static void write(ApiConfig config, String filePath, String content) {
+		DocOutputManifest manifest = load(config);
+		manifest.write(filePath, null, content);
+		manifest.save();
+	}
+
+	public boolean isEnabled() {
+		return Objects.nonNull(outDir);
+	}
+
+	/**
+	 * Whether the file was rendered from the same model and is unchanged on disk, an up
+	 * to date file is kept in the manifest.
+	 * @param filePath file path
+	 * @param inputHash hash of the model, see {@link #hash(Object...)}
+	 * @return true if the file does not need to be rendered
+	 */
+	public boolean isUpToDate(String filePath, String inputHash) {
+		if (!isEnabled() || Objects.isNull(inputHash)) {
+			return false;
+		}
+		String key = key(filePath);
+		Entry entry = entries.get(key);
+		if (Objects.isNull(entry) || !inputHash.equals(entry.input) || !entry.matches(new File(filePath))) {
+			return false;
+		}
+		current.put(key, entry);
+		skipped.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Write the content to the file, the write is skipped if the file already has the
+	 * content.
+	 * @param filePath file path
+	 * @param inputHash hash of the model, may be null
+	 * @param content content
+	 */
+	public void write(String filePath, String inputHash, String content) {
+		try {
+			write(filePath, inputHash, writer -> writer.write(content));
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to write " + filePath, e);
+		}
+	}
+
+	/**
+	 * Stream the content to the file. The content is written to a temporary file, which
+	 * replaces the file only if the content is changed.
+	 * @param filePath file path
+	 * @param inputHash hash of the model, may be null
+	 * @param contentWriter writes the content
+	 * @throws IOException if the file can't be written
+	 */
+	public void write(String filePath, String inputHash, ContentWriter contentWriter) throws IOException {
+		try (DocBuildMetrics.Span ignored = DocBuildMetrics.start(config, DocBuildMetrics.WRITE)) {
+			this.writeFile(filePath, inputHash, contentWriter);
+		}
+	}
+
+	private void writeFile(String filePath, String inputHash, ContentWriter contentWriter) throws IOException {
+		Path path = Paths.get(filePath);
+		if (Objects.nonNull(path.getParent())) {
+			Files.createDirectories(path.getParent());
+		}
+		if (!isEnabled()) {
+			try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+				contentWriter.write(writer);
+			}
+			return;
+		}
+		Path tempPath = Paths.get(filePath + ".tmp");
+		MessageDigest digest = DigestUtils.getMd5Digest();
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+				new DigestOutputStream(Files.newOutputStream(tempPath), digest), StandardCharsets.UTF_8))) {
+			contentWriter.write(writer);
+		}
+		catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(tempPath);
+			throw e;
+		}
+		String outputHash = Hex.encodeHexString(digest.digest());
+		String key = key(filePath);
+		Entry entry = entries.get(key);
+		File file = path.toFile();
+		if (Objects.nonNull(entry) && outputHash.equals(entry.output) && entry.matches(file)) {
+			Files.delete(tempPath);
+			current.put(key, new Entry(inputHash, outputHash, entry.length, entry.modified));
+			skipped.incrementAndGet();
+			return;
+		}
+		Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+		current.put(key, new Entry(inputHash, outputHash, file.length(), file.lastModified()));
+	}
+
+	/**
+	 * Write the manifest, the entries of the files not touched by this build are kept if
+	 * the files are unchanged.
+	 */
+	public void save() {
+		if (!isEnabled()) {
+			return;
+		}
+		log.fine("Output manifest skipped: " + skipped.get() + "/" + current.size());
+		Map<String, Entry> files = new TreeMap<>();
+		entries.forEach((key, entry) -> {
+			if (entry.matches(new File(outDir, key))) {
+				files.put(key, entry);
+			}
+		});
+		files.putAll(current);
+		if (files.equals(entries)) {
+			return;
+		}
+		Manifest manifest = new Manifest();
+		manifest.fingerprint = fingerprint();
+		manifest.files = files;
+		File manifestFile = new File(outDir, MANIFEST_NAME);
+		File tempFile = new File(manifestFile.getAbsolutePath() + ".tmp");
+		try {
+			Files.createDirectories(outDir.toPath());
+			Files.write(tempFile.toPath(), JsonUtil.toPrettyJson(manifest).getBytes(StandardCharsets.UTF_8));
+			Files.move(tempFile.toPath(), manifestFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException | RuntimeException e) {
+			log.warning("Unable to write the output manifest: " + e.getMessage());
+			tempFile.delete();
+		}
+	}
+
+	/**
+	 * Get the manifest key of a file, the path relative to the output directory.
+	 * @param filePath file path
+	 * @return key
+	 */
+	private String key(String filePath) {
+		Path path = Paths.get(filePath).toAbsolutePath().normalize();
+		return outDir.toPath().normalize().relativize(path).toString().replace(File.separatorChar, '/');
+	}
+
+	/**
+	 * Read the entries of the manifest file, a missing or incompatible file gives an
+	 * empty manifest.
+	 * @param manifestFile the manifest file
+	 * @return the entries keyed by path
+	 */
+	private static Map<String, Entry> readEntries(File manifestFile) {
+		if (!manifestFile.isFile()) {
+			return Collections.emptyMap();
+		}
+		try {
+			String content = new String(Files.readAllBytes(manifestFile.toPath()), StandardCharsets.UTF_8);
+			Manifest manifest = JsonUtil.toObject(content, Manifest.class);
+			if (Objects.isNull(manifest) || !fingerprint().equals(manifest.fingerprint)
+					|| Objects.isNull(manifest.files)) {
+				return Collections.emptyMap();
+			}
+			return manifest.files;
+		}
+		catch (IOException | RuntimeException e) {
+			log.warning("Ignore the broken output manifest: " + e.getMessage());
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * The rendered content depends on the smart-doc version, the hashes of the files
+	 * cover the content of their templates.
+	 * @return the fingerprint of the manifest
+	 */
+	private static String fingerprint() {
+		String version = DocUtil.getLibraryVersion(DocOutputManifest.class);
+		return SCHEMA + ":" + (Objects.isNull(version) ? "unknown" : version);
+	}
+
+	/**
+	 * Writes the content of a file.
+	 */
+	@FunctionalInterface
+	public interface ContentWriter {
+
+		/**
+		 * Write the content.
+		 * @param writer writer of the file
+		 * @throws IOException if the content can't be written
+		 */
+		void write(Writer writer) throws IOException;
+
+	}
+
+	/**
+	 * The manifest file
+	 */
+	private static class Manifest {
+
+		private String fingerprint;
+
+		private Map<String, Entry> files;
+
+	}
+
+	/**
+	 * A manifest entry
+	 */
+	private static class Entry {
+
+		private String input;
+
+		private String output;
+
+		private long length;
+
+		private long modified;
+
+		Entry(String input, String output, long length, long modified) {
+			this.input = input;
+			this.output = output;
+			this.length = length;
+			this.modified = modified;
+		}
+
+		boolean matches(File file) {
+			return file.isFile() && file.length() == length && file.lastModified() == modified;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			Entry entry = (Entry) o;
+			return length == entry.length && modified == entry.modified && Objects.equals(input, entry.input)
+					&& Objects.equals(output, entry.output);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(input, output, length, modified);
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.builder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event of a phase recorded by {@link DocBuildMetrics}. The class is loaded
+ * reflectively and only if the jvm has JFR, no other class may refer to it.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+@Name("com.ly.doc.BuildPhase")
+@Label("Doc Build Phase")
+@Category("smart-doc")
+@Description("A phase of a smart-doc build")
+final class DocPhaseEvent extends Event {
+
+	@Label("Phase")
+	String phase;
+
+	@Label("Controller")
+	String controller;
+
+	@Label("Endpoint")
+	String endpoint;
+
+	@Label("CPU Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long cpuTime;
+
+	@Label("Allocated")
+	@DataAmount
+	long allocated;
+
+	static Object begin(String phase, String controller, String endpoint) {
+		DocPhaseEvent event = new DocPhaseEvent();
+		event.phase = phase;
+		event.controller = controller;
+		event.endpoint = endpoint;
+		event.begin();
+		return event;
+	}
+
+	static void end(Object started, long cpuTime, long allocated) {
+		DocPhaseEvent event = (DocPhaseEvent) started;
+		event.end();
+		if (event.shouldCommit()) {
+			event.cpuTime = cpuTime;
+			event.allocated = allocated;
+			event.commit();
+		}
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.builder;
+
+import com.ly.doc.builder.openapi.OpenApiBuilder;
+import com.ly.doc.builder.openapi.SwaggerBuilder;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.ApiDoc;
+import com.ly.doc.model.ApiSchema;
+import com.power.common.util.StringUtil;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+
+/**
+ * Built-in output targets of the multi-target build.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public enum DocTarget implements IApiDocWriter {
+
+	/**
+	 * html doc
+	 */
+	HTML {
+		@Override
+		public void prepareConfig(ApiConfig config) {
+			config.setParamsDataToTree(false);
+		}
+
+		@Override
+		public void write(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema) {
+			HtmlApiDocBuilder.buildApiDoc(config, javaProjectBuilder, apiSchema);
+		}
+	},
+
+	/**
+	 * markdown doc
+	 */
+	MARKDOWN {
+		@Override
+		public void prepareConfig(ApiConfig config) {
+			config.setAdoc(false);
+			config.setParamsDataToTree(false);
+		}
+
+		@Override
+		public void write(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema) {
+			ApiDocBuilder.buildApiDoc(config, javaProjectBuilder, apiSchema);
+		}
+	},
+
+	/**
+	 * asciidoc
+	 */
+	ASCIIDOC {
+		@Override
+		public void prepareConfig(ApiConfig config) {
+			config.setAdoc(true);
+			config.setParamsDataToTree(false);
+		}
+
+		@Override
+		public void write(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema) {
+			AdocDocBuilder.buildApiDoc(config, javaProjectBuilder, apiSchema);
+		}
+	},
+
+	/**
+	 * word doc
+	 */
+	WORD {
+		@Override
+		public void prepareConfig(ApiConfig config) {
+			config.setParamsDataToTree(false);
+		}
+
+		@Override
+		public void write(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema)
+				throws Exception {
+			WordDocBuilder.buildApiDoc(config, javaProjectBuilder, apiSchema);
+		}
+	},
+
+	/**
+	 * openapi 3.0
+	 */
+	OPENAPI {
+		@Override
+		public void prepareConfig(ApiConfig config) {
+			config.setShowJavaType(false);
+			config.setParamsDataToTree(true);
+		}
+
+		@Override
+		public void write(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema) {
+			OpenApiBuilder.buildOpenApi(config, apiSchema);
+		}
+	},
+
+	/**
+	 * swagger 2.0
+	 */
+	SWAGGER {
+		@Override
+		public void prepareConfig(ApiConfig config) {
+			config.setShowJavaType(false);
+			config.setParamsDataToTree(true);
+		}
+
+		@Override
+		public void write(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema) {
+			SwaggerBuilder.buildOpenApi(config, apiSchema);
+		}
+	},
+
+	/**
+	 * postman collection
+	 */
+	POSTMAN {
+		@Override
+		public void prepareConfig(ApiConfig config) {
+			if (StringUtil.isNotEmpty(config.getServerEnv())) {
+				config.setServerUrl(config.getServerEnv());
+			}
+			config.setShowJavaType(true);
+			config.setParamsDataToTree(false);
+		}
+
+		@Override
+		public void write(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema) {
+			PostmanJsonBuilder.buildPostmanCollection(config, apiSchema);
+		}
+	},
+
+	/**
+	 * jmeter script
+	 */
+	JMETER {
+		@Override
+		public void prepareConfig(ApiConfig config) {
+			config.setAdoc(false);
+			config.setShowJavaType(true);
+			config.setParamsDataToTree(false);
+		}
+
+		@Override
+		public void write(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema) {
+			JMeterBuilder.buildApiDoc(config, javaProjectBuilder, apiSchema);
+		}
+	},
+
+	/**
+	 * push to torna
+	 */
+	TORNA {
+		@Override
+		public void prepareConfig(ApiConfig config) {
+			config.setParamsDataToTree(true);
+		}
+
+		@Override
+		public void write(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema) {
+			TornaBuilder.buildApiDoc(config, javaProjectBuilder, apiSchema);
+		}
+	};
+
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.builder;
+
+import com.ly.doc.constants.DocGlobalConstants;
+import com.ly.doc.helper.JavaProjectBuilderHelper;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.SourceCodePath;
+import com.ly.doc.utils.DocUtil;
+import com.power.common.util.CollectionUtil;
+import com.power.common.util.StringUtil;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.parser.ParseException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watch mode of the doc builders. The watcher keeps the parsed project in memory, watches
+ * the source code paths and, after a change, parses only the touched files again before
+ * it runs the builds. The builds write through the output manifest, so only the pages and
+ * specs whose model changed are rendered and written.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * try (DocWatcher watcher = DocWatcher.create(config, ApiDocBuilder::buildApiDoc, OpenApiBuilder::buildOpenApi)) {
+ *     watcher.run();
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public class DocWatcher implements Closeable {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger log = Logger.getLogger(DocWatcher.class.getName());
+
+	/**
+	 * The changes are collected until no file changed for this time, an editor saving
+	 * several files triggers a single build.
+	 */
+	private static final long QUIET_MILLIS = 100L;
+
+	private final ApiConfig config;
+
+	private final List<DocBuild> builds;
+
+	private final WatchService watchService;
+
+	/**
+	 * The watched directories by their watch key
+	 */
+	private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+
+	private JavaProjectBuilder javaProjectBuilder;
+
+	/**
+	 * The events were lost, all sources are loaded again
+	 */
+	private boolean overflow;
+
+	/**
+	 * The sources can't be removed from the loaded project, all sources are loaded again
+	 * after every change
+	 */
+	private boolean reloadAll;
+
+	private volatile boolean closed;
+
+	/**
+	 * A doc build, e.g. {@code ApiDocBuilder::buildApiDoc}
+	 */
+	@FunctionalInterface
+	public interface DocBuild {
+
+		/**
+		 * Build the docs from a loaded project.
+		 * @param config ApiConfig
+		 * @param javaProjectBuilder the builder holding the parsed sources
+		 */
+		void build(ApiConfig config, JavaProjectBuilder javaProjectBuilder);
+
+	}
+
+	private DocWatcher(ApiConfig config, List<DocBuild> builds) throws IOException {
+		this.config = config;
+		this.builds = builds;
+		this.watchService = FileSystems.getDefault().newWatchService();
+	}
+
+	/**
+	 * Create a watcher, the sources are loaded and the source code paths are watched. The
+	 * output manifest is enabled and the git based incremental build is disabled, the
+	 * watcher knows the changed files itself.
+	 * @param config ApiConfig
+	 * @param builds the builds run after every change
+	 * @return DocWatcher
+	 */
+	public static DocWatcher create(ApiConfig config, DocBuild... builds) {
+		if (builds.length == 0) {
+			throw new IllegalArgumentException("At least one doc build is required.");
+		}
+		config.setOutputManifest(true);
+		config.setIncrement(false);
+		try {
+			DocWatcher watcher = new DocWatcher(config, Arrays.asList(builds));
+			for (Path sourcePath : getSourcePaths(config)) {
+				watcher.registerTree(sourcePath);
+			}
+			watcher.javaProjectBuilder = watcher.load();
+			return watcher;
+		}
+		catch (IOException e) {
+			throw new RuntimeException("ERROR: Unable to watch the source code paths: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Build the docs, then build them again after every change until the watcher is
+	 * closed. This method blocks the calling thread.
+	 */
+	public void run() {
+		this.build();
+		while (!this.closed) {
+			Set<Path> changed = this.awaitChanges();
+			if (this.closed) {
+				return;
+			}
+			if (this.overflow) {
+				this.overflow = false;
+				this.javaProjectBuilder = this.load();
+			}
+			else if (changed.isEmpty()) {
+				continue;
+			}
+			else {
+				this.reload(changed);
+			}
+			this.build();
+		}
+	}
+
+	/**
+	 * Run the builds on the loaded project.
+	 */
+	public void build() {
+		long start = System.nanoTime();
+		for (DocBuild build : this.builds) {
+			try {
+				build.build(this.config, this.javaProjectBuilder);
+			}
+			catch (RuntimeException e) {
+				log.log(Level.WARNING, "Doc build failed: " + e.getMessage(), e);
+			}
+		}
+		log.info("Docs built in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+	}
+
+	/**
+	 * Parse the changed files again, a deleted file is only removed.
+	 * @param changed the changed java files
+	 */
+	public void reload(Collection<Path> changed) {
+		if (!this.reloadAll) {
+			for (Path path : changed) {
+				File file = path.toFile();
+				try {
+					if (!JavaProjectBuilderHelper.removeSource(this.javaProjectBuilder, file.toURI().toURL())) {
+						// the old classes of the file would shadow the new ones
+						log.warning(
+								"Unable to reload the changed source files only, all sources are reloaded from now on");
+						this.reloadAll = true;
+						break;
+					}
+					if (file.isFile()) {
+						this.javaProjectBuilder.addSource(file);
+					}
+				}
+				catch (ParseException | IOException e) {
+					log.warning("Unable to parse " + path + ": " + e.getMessage());
+				}
+			}
+		}
+		if (this.reloadAll) {
+			this.javaProjectBuilder = this.load();
+			log.info("Reloaded all source files");
+			return;
+		}
+		DocUtil.clearDictionaryCache(this.javaProjectBuilder);
+		log.info("Reloaded " + changed.size() + " changed source files");
+	}
+
+	@Override
+	public void close() {
+		this.closed = true;
+		try {
+			this.watchService.close();
+		}
+		catch (IOException e) {
+			log.warning("Unable to close the watch service: " + e.getMessage());
+		}
+	}
+
+	private JavaProjectBuilder load() {
+		JavaProjectBuilder builder = JavaProjectBuilderHelper.create();
+		// loads the sources into the builder
+		new ProjectDocConfigBuilder(this.config, builder);
+		JavaProjectBuilderHelper.markSourcesLoaded(builder);
+		return builder;
+	}
+
+	/**
+	 * Wait for a change, then collect the changes until the files are quiet.
+	 * @return the changed java files
+	 */
+	private Set<Path> awaitChanges() {
+		Set<Path> changed = new LinkedHashSet<>();
+		try {
+			WatchKey key = this.watchService.take();
+			while (key != null) {
+				this.collectChanges(key, changed);
+				key = this.watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+			}
+		}
+		catch (ClosedWatchServiceException e) {
+			this.closed = true;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.closed = true;
+		}
+		return changed;
+	}
+
+	private void collectChanges(WatchKey key, Set<Path> changed) {
+		Path dir = this.watchedDirs.get(key);
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+				this.overflow = true;
+				continue;
+			}
+			Path path = dir.resolve((Path) event.context());
+			if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+				// a new package, its files may be written before it is watched
+				try {
+					this.registerTree(path);
+					try (Stream<Path> files = Files.walk(path)) {
+						changed.addAll(files.filter(DocWatcher::isJavaFile).collect(Collectors.toList()));
+					}
+				}
+				catch (IOException e) {
+					log.warning("Unable to watch " + path + ": " + e.getMessage());
+					this.overflow = true;
+				}
+			}
+			else if (isJavaFile(path)) {
+				changed.add(path);
+			}
+		}
+		if (!key.reset()) {
+			this.watchedDirs.remove(key);
+		}
+	}
+
+	private void registerTree(Path root) throws IOException {
+		if (!Files.isDirectory(root)) {
+			return;
+		}
+		try (Stream<Path> dirs = Files.walk(root)) {
+			for (Path dir : dirs.filter(Files::isDirectory).collect(Collectors.toList())) {
+				WatchKey key = dir.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+				this.watchedDirs.put(key, dir);
+			}
+		}
+	}
+
+	private static boolean isJavaFile(Path path) {
+		return path.toString().endsWith(".java");
+	}
+
+	/**
+	 * The source code paths of the config, the project code path if there is none.
+	 * @param config ApiConfig
+	 * @return the source code paths
+	 */
+	private static List<Path> getSourcePaths(ApiConfig config) {
+		List<Path> sourcePaths = new ArrayList<>();
+		if (CollectionUtil.isEmpty(config.getSourceCodePaths())) {
+			sourcePaths.add(Paths.get(DocGlobalConstants.PROJECT_CODE_PATH).toAbsolutePath());
+			return sourcePaths;
+		}
+		for (SourceCodePath path : config.getSourceCodePaths()) {
+			if (null != path && StringUtil.isNotEmpty(path.getPath())) {
+				sourcePaths.add(Paths.get(path.getPath()).toAbsolutePath());
+			}
+		}
+		return sourcePaths;
+	}
+
+}
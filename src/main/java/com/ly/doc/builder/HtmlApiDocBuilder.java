@@ -21,10 +21,13 @@
 package com.ly.doc.builder;
 
 import com.ly.doc.constants.DocGlobalConstants;
+import com.ly.doc.constants.TemplateVariable;
 import com.ly.doc.factory.BuildTemplateFactory;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
 import com.ly.doc.model.ApiDoc;
+import com.ly.doc.model.ApiSchema;
+import com.ly.doc.model.RevisionLog;
 import com.ly.doc.template.IDocBuildTemplate;
 import com.ly.doc.utils.BeetlTemplateUtil;
 import com.power.common.util.FileUtil;
@@ -32,7 +35,9 @@ import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.apache.commons.lang3.StringUtils;
 import org.beetl.core.Template;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -87,7 +92,23 @@ public class HtmlApiDocBuilder {
 		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
 				config.getClassLoader());
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
-		List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+		buildApiDoc(config, javaProjectBuilder, docBuildTemplate.getApiData(configBuilder));
+	}
+
+	/**
+	 * Render html doc from an api schema that has already been analyzed.
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param apiSchema api schema
+	 * @since 3.0.9
+	 */
+	public static void buildApiDoc(ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			ApiSchema<ApiDoc> apiSchema) {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+		builderTemplate.checkAndInit(config, Boolean.TRUE);
+		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
+				config.getClassLoader());
+		List<ApiDoc> apiDocList = apiSchema.getApiDatas();
 		builderTemplate.copyJQueryAndCss(config);
 		if (config.isAllInOne()) {
 			apiDocList = docBuildTemplate.handleApiGroup(apiDocList, config);
@@ -99,8 +120,9 @@ public class HtmlApiDocBuilder {
 				builderTemplate.buildAllInOne(apiDocList, config, javaProjectBuilder,
 						DocGlobalConstants.DEBUG_PAGE_ALL_TPL, INDEX_HTML);
 				Template mockJs = BeetlTemplateUtil.getByName(DocGlobalConstants.DEBUG_JS_TPL);
-				FileUtil.nioWriteFile(mockJs.render(),
-						config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.DEBUG_JS_OUT);
+				DocOutputManifest.write(config,
+						config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.DEBUG_JS_OUT,
+						mockJs.render());
 			}
 			else {
 				if (StringUtils.isNotEmpty(config.getAllInOneDocFileName())) {
@@ -118,8 +140,9 @@ public class HtmlApiDocBuilder {
 				buildDoc(builderTemplate, apiDocList, config, javaProjectBuilder,
 						DocGlobalConstants.DEBUG_PAGE_SINGLE_TPL, indexAlias);
 				Template mockJs = BeetlTemplateUtil.getByName(DocGlobalConstants.DEBUG_JS_TPL);
-				FileUtil.nioWriteFile(mockJs.render(),
-						config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.DEBUG_JS_OUT);
+				DocOutputManifest.write(config,
+						config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.DEBUG_JS_OUT,
+						mockJs.render());
 			}
 			else {
 				indexAlias = "api";
@@ -133,6 +156,7 @@ public class HtmlApiDocBuilder {
 			builderTemplate.buildSearchJs(config, javaProjectBuilder, apiDocList, DocGlobalConstants.SEARCH_JS_TPL);
 		}
 
+		DocBuildMetrics.writeReport(config);
 	}
 
 	/**
@@ -146,16 +170,36 @@ public class HtmlApiDocBuilder {
 	 */
 	private static void buildDoc(DocBuilderTemplate builderTemplate, List<ApiDoc> apiDocList, ApiConfig config,
 			JavaProjectBuilder javaProjectBuilder, String template, String indexHtml) {
-		FileUtil.mkdirs(config.getOutPath());
-		int index = 0;
-		for (ApiDoc doc : apiDocList) {
-			if (index == 0) {
-				doc.setAlias(indexHtml);
+		String outPath = config.getOutPath();
+		FileUtil.mkdirs(outPath);
+		if (!apiDocList.isEmpty()) {
+			apiDocList.get(0).setAlias(indexHtml);
+		}
+		Map<String, Object> bindings = builderTemplate.buildAllRenderDocBindings(apiDocList, config, javaProjectBuilder,
+				indexHtml);
+		DocOutputManifest manifest = DocOutputManifest.load(config);
+		String bindingsHash = null;
+		if (manifest.isEnabled()) {
+			// the build time changes on every run, a skipped page keeps the time it was
+			// rendered at
+			Map<String, Object> modelBindings = new HashMap<>(bindings);
+			modelBindings.remove(TemplateVariable.VERSION.getVariable());
+			modelBindings.remove(TemplateVariable.CREATE_TIME.getVariable());
+			List<RevisionLog> revisionLogs = config.getRevisionLogs();
+			if (revisionLogs.size() == 1 && "auto".equals(revisionLogs.get(0).getStatus())) {
+				// the default revision log is stamped with the build time
+				modelBindings.remove(TemplateVariable.VERSION_LIST.getVariable());
 			}
-			builderTemplate.buildDoc(apiDocList, config, javaProjectBuilder, template, doc.getAlias() + ".html", doc,
-					indexHtml);
-			index++;
+			bindingsHash = DocOutputManifest.hash(BeetlTemplateUtil.getTemplateHash(template), config.getLanguage(),
+					modelBindings);
 		}
+		String sharedHash = bindingsHash;
+		ParallelDocWriter.write(apiDocList, config.getRenderThreads(),
+				DocBuildMetrics.measure(config, DocBuildMetrics.RENDER,
+						doc -> builderTemplate.buildAllRenderDocTemplate(bindings, config, template, doc).render()),
+				doc -> outPath + DocGlobalConstants.FILE_SEPARATOR + doc.getAlias() + ".html", manifest,
+				doc -> DocOutputManifest.hash(sharedHash, doc.getDesc(), doc.getOrder(), doc.getList()));
+		manifest.save();
 	}
 
 }
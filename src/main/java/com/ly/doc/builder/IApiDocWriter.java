@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.builder;
+
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.ApiDoc;
+import com.ly.doc.model.ApiSchema;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+
+/**
+ * Output writer of a multi-target build, it renders an api schema that has already been
+ * analyzed by {@link MultiTargetDocBuilder}.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public interface IApiDocWriter {
+
+	/**
+	 * Set the analysis options that the output depends on, such as paramsDataToTree and
+	 * showJavaType. Writers that prepare the config the same way share one analysis.
+	 * @param config ApiConfig
+	 */
+	default void prepareConfig(ApiConfig config) {
+	}
+
+	/**
+	 * Write the output of the api schema.
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param apiSchema api schema, a private copy for this writer
+	 * @throws Exception exception
+	 */
+	void write(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema) throws Exception;
+
+}
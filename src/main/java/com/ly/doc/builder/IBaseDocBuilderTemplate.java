@@ -32,7 +32,6 @@ import com.ly.doc.utils.BeetlTemplateUtil;
 import com.ly.doc.utils.DocUtil;
 import com.power.common.util.CollectionUtil;
 import com.power.common.util.DateTimeUtil;
-import com.power.common.util.FileUtil;
 import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.apache.commons.lang3.StringUtils;
@@ -40,8 +39,6 @@ import org.beetl.core.Resource;
 import org.beetl.core.Template;
 import org.beetl.core.resource.ClasspathResourceLoader;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.HashMap;
@@ -260,19 +257,22 @@ public interface IBaseDocBuilderTemplate<T extends IDoc> {
 	 * output path.
 	 */
 	default void copyJQueryAndCss(ApiConfig config) {
+		DocOutputManifest manifest = DocOutputManifest.load(config);
 		Template indexCssTemplate = BeetlTemplateUtil.getByName(DocGlobalConstants.ALL_IN_ONE_CSS);
-		FileUtil.nioWriteFile(indexCssTemplate.render(),
-				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.ALL_IN_ONE_CSS_OUT);
+		manifest.write(config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.ALL_IN_ONE_CSS_OUT,
+				null, indexCssTemplate.render());
 		IBaseDocBuilderTemplate.copyJarFile("css/" + DocGlobalConstants.FONT_STYLE,
-				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.FONT_STYLE);
+				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.FONT_STYLE, manifest);
 		IBaseDocBuilderTemplate.copyJarFile("js/" + DocGlobalConstants.JQUERY,
-				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.JQUERY);
+				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.JQUERY, manifest);
 		IBaseDocBuilderTemplate.copyJarFile("js/" + DocGlobalConstants.HIGH_LIGHT_JS,
-				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.HIGH_LIGHT_JS);
+				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.HIGH_LIGHT_JS, manifest);
 		if (HighLightJsConstants.HIGH_LIGHT_CSS_DEFAULT.equals(config.getHighlightStyleLink())) {
 			IBaseDocBuilderTemplate.copyJarFile("css/" + DocGlobalConstants.HIGH_LIGHT_STYLE,
-					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.HIGH_LIGHT_STYLE);
+					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.HIGH_LIGHT_STYLE,
+					manifest);
 		}
+		manifest.save();
 	}
 
 	/**
@@ -283,20 +283,28 @@ public interface IBaseDocBuilderTemplate<T extends IDoc> {
 	 * @param target The target path where the file will be copied.
 	 */
 	static void copyJarFile(String source, String target) {
+		copyJarFile(source, target, DocOutputManifest.disabled());
+	}
+
+	/**
+	 * Copies a file from a source path to a target path, the write is skipped if the
+	 * target already has the content.
+	 * @param source The source path of the file to be copied.
+	 * @param target The target path where the file will be copied.
+	 * @param manifest output manifest
+	 * @since 3.0.9
+	 */
+	static void copyJarFile(String source, String target, DocOutputManifest manifest) {
 		ClasspathResourceLoader resourceLoader = new ClasspathResourceLoader("/template/");
 		Resource<?> resource = resourceLoader.getResource(source);
-		try (FileWriter fileWriter = new FileWriter(target, false); Reader reader = resource.openReader()) {
-			char[] c = new char[1024 * 1024];
-			int temp;
-			int len = 0;
-			while ((temp = reader.read()) != -1) {
-				c[len] = (char) temp;
-				len++;
-			}
-			reader.close();
-			BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
-			bufferedWriter.write(c, 0, len);
-			bufferedWriter.close();
+		try (Reader reader = resource.openReader()) {
+			manifest.write(target, null, writer -> {
+				char[] buffer = new char[8192];
+				int len;
+				while ((len = reader.read(buffer)) != -1) {
+					writer.write(buffer, 0, len);
+				}
+			});
 		}
 		catch (IOException e) {
 			log.warning("copy jar file error:" + e.getMessage());
@@ -313,7 +321,8 @@ public interface IBaseDocBuilderTemplate<T extends IDoc> {
 	default void buildErrorCodeDoc(ApiConfig config, String template, String outPutFileName,
 			JavaProjectBuilder javaProjectBuilder) {
 		Template tpl = this.buildErrorCodeDocTemplate(config, template, javaProjectBuilder);
-		FileUtil.nioWriteFile(tpl.render(), config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName,
+				tpl.render());
 	}
 
 	/**
@@ -70,6 +70,7 @@ public interface IRpcDocBuilderTemplate<T extends AbstractRpcApiDoc<?>> extends
 	 */
 	default void buildApiDoc(List<T> apiDocList, ApiConfig config, String template, String fileExtension) {
 		FileUtil.mkdirs(config.getOutPath());
+		DocOutputManifest manifest = DocOutputManifest.load(config);
 		for (T rpcDoc : apiDocList) {
 			Template mapper = BeetlTemplateUtil.getByName(template);
 			mapper.binding(TemplateVariable.DESC.getVariable(), rpcDoc.getDesc());
@@ -79,8 +80,9 @@ public interface IRpcDocBuilderTemplate<T extends AbstractRpcApiDoc<?>> extends
 			mapper.binding(TemplateVariable.PROTOCOL.getVariable(), rpcDoc.getProtocol());
 			mapper.binding(TemplateVariable.VERSION.getVariable(), rpcDoc.getVersion());
 			mapper.binding(TemplateVariable.URI.getVariable(), rpcDoc.getUri());
-			this.writeApiDocFile(mapper, config, rpcDoc, fileExtension);
+			this.writeApiDocFile(mapper, config, rpcDoc, fileExtension, manifest);
 		}
+		manifest.save();
 	}
 
 	/**
@@ -89,10 +91,27 @@ public interface IRpcDocBuilderTemplate<T extends AbstractRpcApiDoc<?>> extends
 	 * @param config api config
 	 * @param rpcDoc api doc
 	 * @param fileExtension file extension
+	 * @deprecated use
+	 * {@link #writeApiDocFile(Template, ApiConfig, AbstractRpcApiDoc, String, DocOutputManifest)}
 	 */
+	@Deprecated
 	default void writeApiDocFile(Template mapper, ApiConfig config, T rpcDoc, String fileExtension) {
-		FileUtil.nioWriteFile(mapper.render(),
-				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + rpcDoc.getShortName() + fileExtension);
+		this.writeApiDocFile(mapper, config, rpcDoc, fileExtension, DocOutputManifest.disabled());
+	}
+
+	/**
+	 * Write rpc api doc file, the write is skipped if the file already has the content.
+	 * @param mapper template
+	 * @param config api config
+	 * @param rpcDoc api doc
+	 * @param fileExtension file extension
+	 * @param manifest output manifest
+	 * @since 3.0.9
+	 */
+	default void writeApiDocFile(Template mapper, ApiConfig config, T rpcDoc, String fileExtension,
+			DocOutputManifest manifest) {
+		manifest.write(config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + rpcDoc.getShortName() + fileExtension,
+				null, mapper.render());
 	}
 
 	/**
@@ -118,7 +137,7 @@ public interface IRpcDocBuilderTemplate<T extends AbstractRpcApiDoc<?>> extends
 		tpl.binding(TemplateVariable.RPC_CONSUMER_CONFIG.getVariable(), rpcConfigConfigContent);
 		// binding common variable
 		this.bindingCommonVariable(config, javaProjectBuilder, tpl, apiDocList.isEmpty());
-		FileUtil.nioWriteFile(tpl.render(), outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName, tpl.render());
 	}
 
 	/**
@@ -158,7 +177,8 @@ public interface IRpcDocBuilderTemplate<T extends AbstractRpcApiDoc<?>> extends
 		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
 		tpl.binding(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
 		tpl.binding(TemplateVariable.DIRECTORY_TREE.getVariable(), apiDocs);
-		FileUtil.nioWriteFile(tpl.render(), config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName,
+				tpl.render());
 	}
 
 	/**
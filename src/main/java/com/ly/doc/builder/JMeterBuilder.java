@@ -26,6 +26,7 @@ import com.ly.doc.factory.BuildTemplateFactory;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
 import com.ly.doc.model.ApiDoc;
+import com.ly.doc.model.ApiSchema;
 import com.ly.doc.template.IDocBuildTemplate;
 import com.power.common.util.DateTimeUtil;
 import com.power.common.util.StringUtil;
@@ -76,7 +77,21 @@ public class JMeterBuilder {
 		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
 				config.getClassLoader());
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
-		List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+		buildApiDoc(config, javaProjectBuilder, docBuildTemplate.getApiData(configBuilder));
+	}
+
+	/**
+	 * Render jmeter script from an api schema that has already been analyzed.
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param apiSchema api schema
+	 * @since 3.0.9
+	 */
+	public static void buildApiDoc(ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			ApiSchema<ApiDoc> apiSchema) {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+		builderTemplate.checkAndInit(config, Boolean.TRUE);
+		List<ApiDoc> apiDocList = apiSchema.getApiDatas();
 		String version = config.isCoverOld() ? "" : "-V"
 				+ DateTimeUtil.long2Str(System.currentTimeMillis(), DocGlobalConstants.DATE_FORMAT_YYYY_MM_DD_HH_MM);
 		String docName;
@@ -87,6 +102,7 @@ public class JMeterBuilder {
 			docName = "jmeter-script" + version + JMETER_SCRIPT_EXTENSION;
 		}
 		builderTemplate.buildAllInOne(apiDocList, config, javaProjectBuilder, DocGlobalConstants.JMETER_TPL, docName);
+		DocBuildMetrics.writeReport(config);
 	}
 
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.builder;
+
+import com.ly.doc.factory.BuildTemplateFactory;
+import com.ly.doc.helper.JavaProjectBuilderHelper;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.ApiDoc;
+import com.ly.doc.model.ApiSchema;
+import com.ly.doc.template.IDocBuildTemplate;
+import com.power.common.util.CollectionUtil;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Build several outputs in one pass. The sources are loaded once and the api data is
+ * analyzed once for each distinct set of analysis options required by the writers, then
+ * every writer renders its own copy of the api schema.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public class MultiTargetDocBuilder {
+
+	/**
+	 * private constructor
+	 */
+	private MultiTargetDocBuilder() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * build all the targets, for unit testing
+	 * @param config ApiConfig
+	 * @param writers output writers
+	 * @throws Exception exception thrown by writer
+	 */
+	public static void buildApiDoc(ApiConfig config, IApiDocWriter... writers) throws Exception {
+		JavaProjectBuilder javaProjectBuilder = JavaProjectBuilderHelper.create();
+		buildApiDoc(config, javaProjectBuilder, Arrays.asList(writers));
+	}
+
+	/**
+	 * Only for smart-doc maven plugin and gradle plugin.
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param writers output writers
+	 * @throws Exception exception thrown by writer
+	 */
+	public static void buildApiDoc(ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			Collection<? extends IApiDocWriter> writers) throws Exception {
+		if (CollectionUtil.isEmpty(writers)) {
+			return;
+		}
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+		builderTemplate.checkAndInit(config, Boolean.FALSE);
+		String serverUrl = config.getServerUrl();
+		// writers which need the same analysis options share one api schema
+		Map<AnalysisOptions, List<IApiDocWriter>> writerGroups = new LinkedHashMap<>();
+		for (IApiDocWriter writer : writers) {
+			writer.prepareConfig(config);
+			writerGroups.computeIfAbsent(AnalysisOptions.of(config), k -> new ArrayList<>()).add(writer);
+			config.setServerUrl(serverUrl);
+		}
+		ProjectDocConfigBuilder configBuilder = new ProjectDocConfigBuilder(config, javaProjectBuilder);
+		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
+				config.getClassLoader());
+		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
+		for (Map.Entry<AnalysisOptions, List<IApiDocWriter>> entry : writerGroups.entrySet()) {
+			entry.getKey().applyTo(config);
+			ApiSchema<ApiDoc> apiSchema = docBuildTemplate.getApiData(configBuilder);
+			for (IApiDocWriter writer : entry.getValue()) {
+				writer.prepareConfig(config);
+				writer.write(config, javaProjectBuilder, copyOf(apiSchema));
+				config.setServerUrl(serverUrl);
+			}
+		}
+	}
+
+	/**
+	 * Copy the api schema for a writer, builders regroup and reorder the api docs while
+	 * rendering.
+	 * @param apiSchema api schema
+	 * @return ApiSchema
+	 */
+	private static ApiSchema<ApiDoc> copyOf(ApiSchema<ApiDoc> apiSchema) {
+		List<ApiDoc> apiDocs = new ArrayList<>(apiSchema.getApiDatas().size());
+		for (ApiDoc apiDoc : apiSchema.getApiDatas()) {
+			apiDocs.add(ApiDoc.copyOf(apiDoc));
+		}
+		ApiSchema<ApiDoc> copy = new ApiSchema<>();
+		copy.setApiDatas(apiDocs);
+		copy.setApiExceptionStatuses(new ArrayList<>(apiSchema.getApiExceptionStatuses()));
+		return copy;
+	}
+
+	/**
+	 * Config options which change the result of the analysis.
+	 */
+	private static final class AnalysisOptions {
+
+		/**
+		 * is asciidoc
+		 */
+		private final boolean adoc;
+
+		/**
+		 * show java type
+		 */
+		private final Boolean showJavaType;
+
+		/**
+		 * params data to tree
+		 */
+		private final boolean paramsDataToTree;
+
+		/**
+		 * server url
+		 */
+		private final String serverUrl;
+
+		private AnalysisOptions(ApiConfig config) {
+			this.adoc = config.isAdoc();
+			this.showJavaType = config.getShowJavaType();
+			this.paramsDataToTree = config.isParamsDataToTree();
+			this.serverUrl = config.getServerUrl();
+		}
+
+		static AnalysisOptions of(ApiConfig config) {
+			return new AnalysisOptions(config);
+		}
+
+		void applyTo(ApiConfig config) {
+			config.setAdoc(adoc);
+			config.setShowJavaType(showJavaType);
+			config.setParamsDataToTree(paramsDataToTree);
+			config.setServerUrl(serverUrl);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			AnalysisOptions that = (AnalysisOptions) o;
+			return adoc == that.adoc && paramsDataToTree == that.paramsDataToTree
+					&& Objects.equals(showJavaType, that.showJavaType) && Objects.equals(serverUrl, that.serverUrl);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(adoc, showJavaType, paramsDataToTree, serverUrl);
+		}
+
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.builder;
+
+import com.ly.doc.utils.DocThreadUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Render doc pages on a bounded pool and write them asynchronously.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public final class ParallelDocWriter {
+
+	/**
+	 * Number of rendered pages each render thread may keep waiting for the writer.
+	 */
+	private static final int PENDING_PAGES_PER_THREAD = 2;
+
+	/**
+	 * private constructor
+	 */
+	private ParallelDocWriter() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Render and write every doc page. The pages are rendered on {@code threads} threads
+	 * and written by a single writer thread, a value less than 2 keeps the serial
+	 * rendering.
+	 * @param docs docs to render
+	 * @param threads number of render threads
+	 * @param renderer render the content of a doc page
+	 * @param pathResolver resolve the output file of a doc page
+	 * @param <T> doc type
+	 */
+	public static <T> void write(List<T> docs, int threads, Function<T, String> renderer,
+			Function<T, String> pathResolver) {
+		write(docs, threads, renderer, pathResolver, DocOutputManifest.disabled(), null);
+	}
+
+	/**
+	 * Render and write the doc pages that are not up to date in the manifest, see
+	 * {@link #write(List, int, Function, Function)}.
+	 * @param docs docs to render
+	 * @param threads number of render threads
+	 * @param renderer render the content of a doc page
+	 * @param pathResolver resolve the output file of a doc page
+	 * @param manifest output manifest
+	 * @param inputHasher hash the model of a doc page, see
+	 * {@link DocOutputManifest#hash(Object...)}
+	 * @param <T> doc type
+	 */
+	public static <T> void write(List<T> docs, int threads, Function<T, String> renderer,
+			Function<T, String> pathResolver, DocOutputManifest manifest, Function<T, String> inputHasher) {
+		int renderThreads = Math.min(threads, docs.size());
+		if (renderThreads < 2) {
+			for (T doc : docs) {
+				writePage(render(doc, renderer, pathResolver, manifest, inputHasher), manifest);
+			}
+			return;
+		}
+		ExecutorService renderPool = Executors.newFixedThreadPool(renderThreads,
+				DocThreadUtil.daemonThreadFactory("smart-doc-render-"));
+		ExecutorService writerPool = Executors
+			.newSingleThreadExecutor(DocThreadUtil.daemonThreadFactory("smart-doc-writer-"));
+		// bound the rendered pages held in memory while the writer catches up
+		Semaphore pending = new Semaphore(renderThreads * PENDING_PAGES_PER_THREAD);
+		List<CompletableFuture<Void>> futures = new ArrayList<>(docs.size());
+		try {
+			for (T doc : docs) {
+				pending.acquire();
+				CompletableFuture<Void> future = CompletableFuture
+					.supplyAsync(() -> render(doc, renderer, pathResolver, manifest, inputHasher), renderPool)
+					.thenAcceptAsync(page -> writePage(page, manifest), writerPool)
+					.whenComplete((v, e) -> pending.release());
+				futures.add(future);
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while rendering doc pages", e);
+		}
+		catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new RuntimeException("Failed to render doc pages", cause);
+		}
+		finally {
+			renderPool.shutdownNow();
+			writerPool.shutdown();
+		}
+	}
+
+	/**
+	 * Render a doc page.
+	 * @param doc doc to render
+	 * @param renderer render the content of a doc page
+	 * @param pathResolver resolve the output file of a doc page
+	 * @param manifest output manifest
+	 * @param inputHasher hash the model of a doc page, may be null
+	 * @param <T> doc type
+	 * @return the page, null if the page is up to date
+	 */
+	private static <T> Page render(T doc, Function<T, String> renderer, Function<T, String> pathResolver,
+			DocOutputManifest manifest, Function<T, String> inputHasher) {
+		String path = pathResolver.apply(doc);
+		String inputHash = manifest.isEnabled() && Objects.nonNull(inputHasher) ? inputHasher.apply(doc) : null;
+		if (manifest.isUpToDate(path, inputHash)) {
+			return null;
+		}
+		return new Page(path, inputHash, renderer.apply(doc));
+	}
+
+	/**
+	 * Write a rendered doc page.
+	 * @param page the page, null if the page is up to date
+	 * @param manifest output manifest
+	 */
+	private static void writePage(Page page, DocOutputManifest manifest) {
+		if (Objects.nonNull(page)) {
+			manifest.write(page.path, page.inputHash, page.content);
+		}
+	}
+
+	/**
+	 * A rendered doc page
+	 */
+	private static class Page {
+
+		private final String path;
+
+		private final String inputHash;
+
+		private final String content;
+
+		Page(String path, String inputHash, String content) {
+			this.path = path;
+			this.inputHash = inputHash;
+			this.content = content;
+		}
+
+	}
+
+}
@@ -30,10 +30,10 @@ import com.ly.doc.model.ApiDoc;
 import com.ly.doc.model.ApiMethodDoc;
 import com.ly.doc.model.ApiParam;
 import com.ly.doc.model.ApiReqParam;
+import com.ly.doc.model.ApiSchema;
 import com.ly.doc.model.FormData;
 import com.ly.doc.model.postman.InfoBean;
 import com.ly.doc.model.postman.ItemBean;
-import com.ly.doc.model.postman.RequestItem;
 import com.ly.doc.model.postman.UrlBean;
 import com.ly.doc.model.postman.request.ParamBean;
 import com.ly.doc.model.postman.request.RequestBean;
@@ -43,10 +43,11 @@ import com.ly.doc.template.IDocBuildTemplate;
 import com.ly.doc.utils.DocPathUtil;
 import com.ly.doc.utils.JsonUtil;
 import com.power.common.util.CollectionUtil;
-import com.power.common.util.FileUtil;
 import com.power.common.util.StringUtil;
+import com.google.gson.stream.JsonWriter;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -275,25 +276,53 @@ public class PostmanJsonBuilder {
 		return headerBeans;
 	}
 
+	/**
+	 * Build postman json from an api schema that has already been analyzed.
+	 * @param config ApiConfig Object
+	 * @param apiSchema api schema
+	 * @since 3.0.9
+	 */
+	public static void buildPostmanCollection(ApiConfig config, ApiSchema<ApiDoc> apiSchema) {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+		builderTemplate.checkAndInit(config, Boolean.TRUE);
+		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
+				config.getClassLoader());
+		postManCreate(config, docBuildTemplate.handleApiGroup(apiSchema.getApiDatas(), config));
+		DocBuildMetrics.writeReport(config);
+	}
+
 	private static void postManCreate(ApiConfig config, ProjectDocConfigBuilder configBuilder) {
 		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
 				config.getClassLoader());
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
 		config.setShowJavaType(true);
 		List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
-		apiDocList = docBuildTemplate.handleApiGroup(apiDocList, config);
-		RequestItem requestItem = new RequestItem();
-		requestItem.setInfo(new InfoBean(config.getProjectName()));
-		List<ItemBean> itemBeans = new ArrayList<>();
-		apiDocList.forEach(apiDoc -> {
-			ItemBean itemBean = buildItemBean(apiDoc);
-			itemBeans.add(itemBean);
-		});
-		requestItem.setItem(itemBeans);
+		postManCreate(config, docBuildTemplate.handleApiGroup(apiDocList, config));
+	}
+
+	private static void postManCreate(ApiConfig config, List<ApiDoc> apiDocList) {
 		String filePath = config.getOutPath();
 		filePath = filePath + DocGlobalConstants.POSTMAN_JSON;
-		String data = JsonUtil.toPrettyJson(requestItem);
-		FileUtil.nioWriteFile(data, filePath);
+		DocOutputManifest manifest = DocOutputManifest.load(config);
+		try {
+			// stream the collection in the layout of RequestItem, one item at a time
+			manifest.write(filePath, null, out -> {
+				try (JsonWriter writer = JsonUtil.newPrettyJsonWriter(out)) {
+					writer.beginObject();
+					JsonUtil.writePrettyJson(writer, "info", new InfoBean(config.getProjectName()));
+					writer.name("item").beginArray();
+					for (ApiDoc apiDoc : apiDocList) {
+						JsonUtil.writePrettyJson(writer, buildItemBean(apiDoc));
+					}
+					writer.endArray();
+					writer.endObject();
+				}
+			});
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to write " + filePath, e);
+		}
+		manifest.save();
 	}
 
 	/**
@@ -23,7 +23,9 @@ package com.ly.doc.builder;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.constants.HighLightJsConstants;
 import com.ly.doc.constants.HighlightStyle;
+import com.ly.doc.helper.GitHelper;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
+import com.ly.doc.helper.JavaSourceCache;
 import com.ly.doc.model.ApiConfig;
 import com.ly.doc.model.ApiConstant;
 import com.ly.doc.model.ApiDataDictionary;
@@ -32,7 +34,11 @@ import com.ly.doc.model.ApiObjectReplacement;
 import com.ly.doc.model.BodyAdvice;
 import com.ly.doc.model.CustomField;
 import com.ly.doc.model.DocJavaField;
+import com.ly.doc.model.EnumMetadata;
 import com.ly.doc.model.SourceCodePath;
+import com.ly.doc.model.dependency.ApiDependency;
+import com.ly.doc.model.dependency.DependencyTree;
+import com.ly.doc.utils.DocThreadUtil;
 import com.ly.doc.utils.JavaClassUtil;
 import com.power.common.constants.Charset;
 import com.power.common.util.CollectionUtil;
@@ -43,14 +49,19 @@ import com.thoughtworks.qdox.directorywalker.SuffixFilter;
 import com.thoughtworks.qdox.model.JavaClass;
 import com.thoughtworks.qdox.parser.ParseException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.nio.file.Files;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -59,7 +70,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Logger;
@@ -87,11 +101,31 @@ public class ProjectDocConfigBuilder {
 	 */
 	private final Map<String, JavaClass> classFilesMap = new ConcurrentHashMap<>();
 
+	/**
+	 * The classes resolved by {@link #getClassByName(String)}, by the looked up name. It
+	 * starts with the source classes by their fully qualified names.
+	 * @since 3.0.9
+	 */
+	private final Map<String, JavaClass> symbolTable = new ConcurrentHashMap<>();
+
+	/**
+	 * The names {@link #getClassByName(String)} resolved to null. Not used if the sources
+	 * are loaded on demand, a name may resolve after the source of its class is loaded.
+	 * @since 3.0.9
+	 */
+	private final Set<String> missingClassNames = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * enumClassMap
 	 */
 	private final Map<String, Class<? extends Enum<?>>> enumClassMap = new ConcurrentHashMap<>();
 
+	/**
+	 * enum metadata by the binary name of the enum
+	 * @since 3.0.9
+	 */
+	private final Map<String, EnumMetadata> enumMetadataMap = new ConcurrentHashMap<>();
+
 	/**
 	 * customRespFieldMap
 	 */
@@ -113,14 +147,20 @@ public class ProjectDocConfigBuilder {
 	private final Map<String, String> constantsMap = new ConcurrentHashMap<>();
 
 	/**
-	 * serverUrl
+	 * ApiConfig
 	 */
-	private final String serverUrl;
+	private final ApiConfig apiConfig;
 
 	/**
-	 * ApiConfig
+	 * class hierarchy data resolved for this build
+	 * @since 3.0.9
 	 */
-	private final ApiConfig apiConfig;
+	private final ClassHierarchyCache classHierarchy;
+
+	/**
+	 * whether the sources are loaded on demand by an incremental build
+	 */
+	private boolean lazySource;
 
 	/**
 	 * Constructor
@@ -132,21 +172,21 @@ public class ProjectDocConfigBuilder {
 			throw new NullPointerException("ApiConfig can't be null.");
 		}
 		this.apiConfig = apiConfig;
+		this.classHierarchy = new ClassHierarchyCache(apiConfig);
 		if (Objects.isNull(javaProjectBuilder)) {
 			javaProjectBuilder = JavaProjectBuilderHelper.create();
 		}
 
-		if (StringUtil.isEmpty(apiConfig.getServerUrl())) {
-			this.serverUrl = DocGlobalConstants.DEFAULT_SERVER_URL;
-		}
-		else {
-			this.serverUrl = apiConfig.getServerUrl();
-		}
 		this.setHighlightStyle();
 		javaProjectBuilder.setEncoding(Charset.DEFAULT_CHARSET);
 		this.javaProjectBuilder = javaProjectBuilder;
 		try {
-			this.loadJavaSource(apiConfig, this.javaProjectBuilder);
+			// a builder kept warm by the watch mode has its sources already
+			if (!JavaProjectBuilderHelper.isSourcesLoaded(this.javaProjectBuilder)) {
+				try (DocBuildMetrics.Span ignored = DocBuildMetrics.start(apiConfig, DocBuildMetrics.LOAD_SOURCES)) {
+					this.loadJavaSource(apiConfig, this.javaProjectBuilder);
+				}
+			}
 		}
 		catch (Exception e) {
 			log.warning(e.getMessage());
@@ -208,17 +248,51 @@ public class ProjectDocConfigBuilder {
 	}
 
 	/**
-	 * Get class by name.
+	 * Get class by name. The classes and the missing names are remembered, a name is
+	 * resolved only once. The missing names are resolved again if the sources are loaded
+	 * on demand.
 	 * @param simpleName simpleName
 	 * @return JavaClass
 	 */
 	public JavaClass getClassByName(String simpleName) {
+		if (Objects.isNull(simpleName)) {
+			return this.resolveClassByName(null);
+		}
+		JavaClass cls = symbolTable.get(simpleName);
+		if (Objects.nonNull(cls) || missingClassNames.contains(simpleName)) {
+			return cls;
+		}
+		cls = this.resolveClassByName(simpleName);
+		if (Objects.nonNull(cls)) {
+			symbolTable.put(simpleName, cls);
+		}
+		else if (!lazySource) {
+			missingClassNames.add(simpleName);
+		}
+		return cls;
+	}
+
+	/**
+	 * Resolve a class by name, a class without fields is looked up in the class files
+	 * map.
+	 * @param simpleName simpleName
+	 * @return JavaClass
+	 */
+	private JavaClass resolveClassByName(String simpleName) {
 		JavaClass cls = javaProjectBuilder.getClassByName(simpleName);
 
 		if (!cls.isEnum()) {
 			List<DocJavaField> fieldList = JavaClassUtil.getFields(cls, 0, new LinkedHashMap<>(), null);
 			// handle inner class
 			if (Objects.isNull(cls.getFields()) || fieldList.isEmpty()) {
+				// the classes loaded on demand are not in the class files map yet
+				if (lazySource) {
+					JavaClass sourceClass = JavaClassUtil.isSourceClass(cls) ? cls
+							: this.findNestedSourceClass(simpleName);
+					if (Objects.nonNull(sourceClass)) {
+						this.putClassFile(sourceClass);
+					}
+				}
 				cls = classFilesMap.get(simpleName);
 				return cls;
 			}
@@ -227,10 +301,49 @@ public class ProjectDocConfigBuilder {
 		List<JavaClass> classList = cls.getNestedClasses();
 		for (JavaClass javaClass : classList) {
 			classFilesMap.put(javaClass.getFullyQualifiedName(), javaClass);
+			// the name may resolve now
+			missingClassNames.remove(javaClass.getFullyQualifiedName());
 		}
 		return cls;
 	}
 
+	/**
+	 * Find a nested class in the source of its outer class. Qdox keeps a placeholder for
+	 * a nested class looked up before the source of its outer class is loaded.
+	 * @param className fully qualified name of the nested class
+	 * @return the nested class, null if no outer source class declares it
+	 */
+	private JavaClass findNestedSourceClass(String className) {
+		int index = className.lastIndexOf('.');
+		if (index < 0) {
+			return null;
+		}
+		String outerClassName = className.substring(0, index);
+		JavaClass outerClass = javaProjectBuilder.getClassByName(outerClassName);
+		if (!JavaClassUtil.isSourceClass(outerClass)) {
+			outerClass = this.findNestedSourceClass(outerClassName);
+		}
+		if (Objects.isNull(outerClass)) {
+			return null;
+		}
+		for (JavaClass nestedClass : outerClass.getNestedClasses()) {
+			if (className.equals(nestedClass.getFullyQualifiedName())) {
+				return nestedClass;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Add a class loaded on demand to the class files map.
+	 * @param cls JavaClass
+	 */
+	private void putClassFile(JavaClass cls) {
+		if (Objects.isNull(classFilesMap.putIfAbsent(cls.getFullyQualifiedName(), cls))) {
+			missingClassNames.remove(cls.getFullyQualifiedName());
+		}
+	}
+
 	/**
 	 * Load java source.
 	 * @param config ApiConfig
@@ -238,38 +351,116 @@ public class ProjectDocConfigBuilder {
 	 */
 	private void loadJavaSource(ApiConfig config, JavaProjectBuilder builder) {
 		if (CollectionUtil.isNotEmpty(config.getJarSourcePaths())) {
-			for (SourceCodePath path : config.getJarSourcePaths()) {
-				loadJarJavaSource(path.getPath(), builder);
-			}
+			loadJarJavaSources(config.getJarSourcePaths(), builder);
 		}
+		List<String> sourcePaths = new ArrayList<>();
 		if (CollectionUtil.isEmpty(config.getSourceCodePaths())) {
-			builder.addSourceTree(new File(DocGlobalConstants.PROJECT_CODE_PATH));
+			sourcePaths.add(DocGlobalConstants.PROJECT_CODE_PATH);
 		}
 		else {
 			for (SourceCodePath path : config.getSourceCodePaths()) {
-				if (null == path) {
-					continue;
+				if (null != path && StringUtil.isNotEmpty(path.getPath())) {
+					sourcePaths.add(path.getPath().replace("\\", DocGlobalConstants.PATH_DELIMITER));
+				}
+			}
+		}
+		this.lazySource = isLazySource(config, sourcePaths);
+		if (this.lazySource) {
+			// the changed files and the types they reach are parsed when they are
+			// resolved
+			log.info("Incremental build, the java sources are loaded on demand.");
+			for (String strPath : sourcePaths) {
+				builder.addSourceFolder(new File(strPath));
+			}
+			return;
+		}
+		JavaSourceCache sourceCache = null;
+		if (config.isSourceCache() && StringUtil.isNotEmpty(config.getBaseDir())) {
+			sourceCache = JavaSourceCache.load(config.getBaseDir(), builder);
+		}
+		if (CollectionUtil.isEmpty(config.getSourceCodePaths()) && Objects.isNull(sourceCache)) {
+			builder.addSourceTree(new File(DocGlobalConstants.PROJECT_CODE_PATH));
+		}
+		else {
+			for (String strPath : sourcePaths) {
+				loadJavaSource(strPath, builder, sourceCache);
+			}
+		}
+		if (Objects.nonNull(sourceCache)) {
+			sourceCache.save();
+		}
+	}
+
+	/**
+	 * Whether the sources can be loaded on demand. An incremental build after a recorded
+	 * build only analyzes the changed api classes, the source folders resolve the classes
+	 * by package, so every api class of the dependency tree must be found in them.
+	 * @param config ApiConfig
+	 * @param sourcePaths the source paths
+	 * @return true if the sources can be loaded on demand
+	 */
+	private static boolean isLazySource(ApiConfig config, List<String> sourcePaths) {
+		if (!config.isIncrement() || StringUtil.isEmpty(config.getBaseDir()) || sourcePaths.isEmpty()) {
+			return false;
+		}
+		// the implementations of a dictionary interface are found by scanning all enums
+		if (hasInterfaceDictionary(config) || GitHelper.create().notGitRepo()) {
+			return false;
+		}
+		DependencyTree dependencyTree = DependencyTree.detect(config.getBaseDir(), true);
+		if (Objects.isNull(dependencyTree) || StringUtil.isEmpty(dependencyTree.getCommitId())
+				|| CollectionUtil.isEmpty(dependencyTree.getDependencyTree())) {
+			return false;
+		}
+		for (ApiDependency dependency : dependencyTree.getDependencyTree()) {
+			String fileName = dependency.getClazz().replace(".", File.separator) + ".java";
+			if (sourcePaths.stream().noneMatch(path -> new File(path, fileName).isFile())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether a data or error code dictionary is configured with an interface.
+	 * @param config ApiConfig
+	 * @return true if a dictionary is configured with an interface
+	 */
+	private static boolean hasInterfaceDictionary(ApiConfig config) {
+		if (CollectionUtil.isNotEmpty(config.getDataDictionaries())) {
+			for (ApiDataDictionary dictionary : config.getDataDictionaries()) {
+				if (Objects.nonNull(dictionary.getEnumClass()) && dictionary.getEnumClass().isInterface()) {
+					return true;
 				}
-				String strPath = path.getPath();
-				if (StringUtil.isNotEmpty(strPath)) {
-					strPath = strPath.replace("\\", DocGlobalConstants.PATH_DELIMITER);
-					loadJavaSource(strPath, builder);
+			}
+		}
+		if (CollectionUtil.isNotEmpty(config.getErrorCodeDictionaries())) {
+			for (ApiErrorCodeDictionary dictionary : config.getErrorCodeDictionaries()) {
+				if (Objects.nonNull(dictionary.getEnumClass()) && dictionary.getEnumClass().isInterface()) {
+					return true;
 				}
 			}
 		}
+		return false;
 	}
 
 	/**
 	 * Load jar java source.
 	 * @param strPath path
 	 * @param builder builder
+	 * @param sourceCache the source cache, may be null
 	 */
-	private void loadJavaSource(String strPath, JavaProjectBuilder builder) {
+	private void loadJavaSource(String strPath, JavaProjectBuilder builder, JavaSourceCache sourceCache) {
 		DirectoryScanner scanner = new DirectoryScanner(new File(strPath));
 		scanner.addFilter(new SuffixFilter(".java"));
 		scanner.scan(currentFile -> {
 			try {
-				builder.addSource(currentFile);
+				if (Objects.isNull(sourceCache)) {
+					builder.addSource(currentFile);
+				}
+				else {
+					sourceCache.addSource(currentFile, builder);
+				}
 			}
 			catch (ParseException | IOException e) {
 				log.warning(e.getMessage());
@@ -277,43 +468,108 @@ public class ProjectDocConfigBuilder {
 		});
 	}
 
+	/**
+	 * Load the java sources of the jars. The jars are read in parallel and their sources
+	 * are parsed in the configured order.
+	 * @param jarSourcePaths jar source paths
+	 * @param builder builder
+	 */
+	private void loadJarJavaSources(List<SourceCodePath> jarSourcePaths, JavaProjectBuilder builder) {
+		List<String> paths = new ArrayList<>(jarSourcePaths.size());
+		for (SourceCodePath path : jarSourcePaths) {
+			if (Objects.nonNull(path) && StringUtil.isNotEmpty(path.getPath()) && path.getPath().endsWith(".jar")) {
+				paths.add(path.getPath());
+			}
+		}
+		// reading the jars is mostly io, use at least two threads
+		int threads = Math.min(paths.size(), Math.max(2, Runtime.getRuntime().availableProcessors()));
+		if (threads < 2) {
+			for (String path : paths) {
+				loadJarJavaSource(path, builder);
+			}
+			return;
+		}
+		builder.setEncoding(Charset.DEFAULT_CHARSET);
+		ExecutorService readPool = Executors.newFixedThreadPool(threads,
+				DocThreadUtil.daemonThreadFactory("smart-doc-jar-"));
+		// bound the jars held in memory while the sources are parsed
+		Deque<CompletableFuture<Map<String, byte[]>>> reading = new ArrayDeque<>(threads);
+		try {
+			for (String path : paths) {
+				reading.add(CompletableFuture.supplyAsync(() -> readJarJavaSource(path), readPool));
+				if (reading.size() > threads) {
+					addJarJavaSource(reading.poll().join(), builder);
+				}
+			}
+			while (!reading.isEmpty()) {
+				addJarJavaSource(reading.poll().join(), builder);
+			}
+		}
+		finally {
+			readPool.shutdownNow();
+		}
+	}
+
 	/**
 	 * Load jar java source.
 	 * @param path path
 	 * @param builder builder
 	 */
 	public void loadJarJavaSource(String path, JavaProjectBuilder builder) {
-		OutputStream out;
 		if (!path.endsWith(".jar")) {
 			return;
 		}
+		builder.setEncoding(Charset.DEFAULT_CHARSET);
+		addJarJavaSource(readJarJavaSource(path), builder);
+	}
+
+	/**
+	 * Read the java sources of a jar straight from the jar entries.
+	 * @param path jar path
+	 * @return the sources keyed by entry name, in the order of the jar
+	 */
+	private static Map<String, byte[]> readJarJavaSource(String path) {
+		Map<String, byte[]> sources = new LinkedHashMap<>();
 		try (JarFile jarFile = new JarFile(path)) {
-			builder.setEncoding(Charset.DEFAULT_CHARSET);
 			Enumeration<JarEntry> entryEnumeration = jarFile.entries();
+			byte[] buffer = new byte[8192];
 			while (entryEnumeration.hasMoreElements()) {
 				JarEntry entry = entryEnumeration.nextElement();
-				if (entry.getName().endsWith(".java")) {
-					InputStream is = jarFile.getInputStream(entry);
-					File file = new File(DocGlobalConstants.JAR_TEMP + entry.getName());
-					if (!file.exists()) {
-						file.getParentFile().mkdirs();
-					}
-					out = Files.newOutputStream(file.toPath());
+				if (!entry.getName().endsWith(".java")) {
+					continue;
+				}
+				try (InputStream is = jarFile.getInputStream(entry)) {
+					ByteArrayOutputStream out = new ByteArrayOutputStream(
+							entry.getSize() > 0 ? (int) entry.getSize() : buffer.length);
 					int len;
-					while ((len = is.read()) != -1) {
-						out.write(len);
+					while ((len = is.read(buffer)) != -1) {
+						out.write(buffer, 0, len);
 					}
-					is.close();
-					out.close();
+					sources.put(entry.getName(), out.toByteArray());
 				}
 			}
-			File file = new File(DocGlobalConstants.JAR_TEMP);
-			builder.addSourceTree(file);
-			deleteDir(file);
 		}
 		catch (IOException e) {
 			log.info("jar" + path + " load  error ,e :" + e);
 		}
+		return sources;
+	}
+
+	/**
+	 * Parse the java sources of a jar.
+	 * @param sources the sources keyed by entry name
+	 * @param builder builder
+	 */
+	private static void addJarJavaSource(Map<String, byte[]> sources, JavaProjectBuilder builder) {
+		for (Map.Entry<String, byte[]> source : sources.entrySet()) {
+			try (Reader reader = new InputStreamReader(new ByteArrayInputStream(source.getValue()),
+					StandardCharsets.UTF_8)) {
+				builder.addSource(reader);
+			}
+			catch (ParseException | IOException e) {
+				log.warning(source.getKey() + ": " + e.getMessage());
+			}
+		}
 	}
 
 	/**
@@ -340,6 +596,7 @@ public class ProjectDocConfigBuilder {
 	private void initClassFilesMap() {
 		Collection<JavaClass> javaClasses = javaProjectBuilder.getClasses();
 		for (JavaClass cls : javaClasses) {
+			symbolTable.put(cls.getFullyQualifiedName(), cls);
 			if (cls.isEnum()) {
 				Class enumClass;
 				ClassLoader classLoader = apiConfig.getClassLoader();
@@ -505,14 +762,30 @@ public class ProjectDocConfigBuilder {
 		return customReqFieldMap;
 	}
 
+	/**
+	 * Get server url, read from the config on each call so that a builder shared by
+	 * several output targets follows the target's server url.
+	 * @return server url
+	 */
 	public String getServerUrl() {
-		return serverUrl;
+		if (StringUtil.isEmpty(apiConfig.getServerUrl())) {
+			return DocGlobalConstants.DEFAULT_SERVER_URL;
+		}
+		return apiConfig.getServerUrl();
 	}
 
 	public ApiConfig getApiConfig() {
 		return apiConfig;
 	}
 
+	public ClassHierarchyCache getClassHierarchy() {
+		return classHierarchy;
+	}
+
+	public boolean isLazySource() {
+		return lazySource;
+	}
+
 	public Map<String, String> getReplaceClassMap() {
 		return replaceClassMap;
 	}
@@ -521,6 +794,10 @@ public class ProjectDocConfigBuilder {
 		return enumClassMap;
 	}
 
+	public Map<String, EnumMetadata> getEnumMetadataMap() {
+		return enumMetadataMap;
+	}
+
 	public Map<String, String> getConstantsMap() {
 		return constantsMap;
 	}
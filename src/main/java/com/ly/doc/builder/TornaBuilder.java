@@ -74,6 +74,22 @@ public class TornaBuilder {
 		buildTorna(apiDocList, config, javaProjectBuilder);
 	}
 
+	/**
+	 * Push an api schema that has already been analyzed to torna.
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param apiSchema api schema
+	 * @since 3.0.9
+	 */
+	public static void buildApiDoc(ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			ApiSchema<ApiDoc> apiSchema) {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+		builderTemplate.checkAndInit(config, Boolean.FALSE);
+		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
+				config.getClassLoader());
+		buildTorna(docBuildTemplate.handleApiGroup(apiSchema.getApiDatas(), config), config, javaProjectBuilder);
+	}
+
 	/**
 	 * build torna Data
 	 * @param apiDocs apiData
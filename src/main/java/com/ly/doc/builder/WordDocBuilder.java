@@ -101,7 +101,23 @@ public class WordDocBuilder {
 		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
 				config.getClassLoader());
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
-		ApiSchema<ApiDoc> apiSchema = docBuildTemplate.getApiData(configBuilder);
+		buildApiDoc(config, javaProjectBuilder, docBuildTemplate.getApiData(configBuilder));
+	}
+
+	/**
+	 * Render word doc from an api schema that has already been analyzed.
+	 * @param config config
+	 * @param javaProjectBuilder javaProjectBuilder
+	 * @param apiSchema api schema
+	 * @throws Exception exception
+	 * @since 3.0.9
+	 */
+	public static void buildApiDoc(ApiConfig config, JavaProjectBuilder javaProjectBuilder, ApiSchema<ApiDoc> apiSchema)
+			throws Exception {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+		builderTemplate.checkAndInit(config, Boolean.TRUE);
+		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
+				config.getClassLoader());
 		List<ApiDoc> apiDocList = apiSchema.getApiDatas();
 
 		if (config.isAllInOne()) {
@@ -132,6 +148,7 @@ public class WordDocBuilder {
 			copyAndReplaceDocx(directoryDataDocTemplate.render(),
 					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + BUILD_DICT_DOCX);
 		}
+		DocBuildMetrics.writeReport(config);
 	}
 
 	/**
@@ -21,6 +21,7 @@
  */
 package com.ly.doc.builder.grpc;
 
+import com.ly.doc.builder.DocOutputManifest;
 import com.ly.doc.builder.IRpcDocBuilderTemplate;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.constants.FrameworkEnum;
@@ -32,7 +33,6 @@ import com.ly.doc.model.grpc.GrpcApiDoc;
 import com.ly.doc.utils.BeetlTemplateUtil;
 import com.ly.doc.utils.DocUtil;
 import com.power.common.util.CollectionUtil;
-import com.power.common.util.FileUtil;
 import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.beetl.core.Template;
@@ -64,9 +64,10 @@ public class GrpcDocBuilderTemplate implements IRpcDocBuilderTemplate<GrpcApiDoc
 	}
 
 	@Override
-	public void writeApiDocFile(Template mapper, ApiConfig config, GrpcApiDoc rpcDoc, String fileExtension) {
-		FileUtil.nioWriteFile(mapper.render(),
-				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + rpcDoc.getName() + fileExtension);
+	public void writeApiDocFile(Template mapper, ApiConfig config, GrpcApiDoc rpcDoc, String fileExtension,
+			DocOutputManifest manifest) {
+		manifest.write(config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + rpcDoc.getName() + fileExtension, null,
+				mapper.render());
 	}
 
 	@Override
@@ -93,7 +94,8 @@ public class GrpcDocBuilderTemplate implements IRpcDocBuilderTemplate<GrpcApiDoc
 		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
 		tpl.binding(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
 		tpl.binding(TemplateVariable.DIRECTORY_TREE.getVariable(), apiDocs);
-		FileUtil.nioWriteFile(tpl.render(), config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName,
+				tpl.render());
 	}
 
 }
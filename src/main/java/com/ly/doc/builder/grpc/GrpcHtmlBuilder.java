@@ -20,6 +20,7 @@
  */
 package com.ly.doc.builder.grpc;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
@@ -71,6 +72,7 @@ public class GrpcHtmlBuilder {
 				DocGlobalConstants.GRPC_ALL_IN_ONE_HTML_TPL, INDEX_HTML);
 		grpcDocBuilderTemplate.buildSearchJs(apiDocList, apiConfig, javaProjectBuilder,
 				DocGlobalConstants.GRPC_ALL_IN_ONE_SEARCH_TPL, DocGlobalConstants.SEARCH_JS_OUT);
+		DocBuildMetrics.writeReport(apiConfig);
 	}
 
 }
@@ -21,6 +21,7 @@
  */
 package com.ly.doc.builder.grpc;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
@@ -78,6 +79,7 @@ public class GrpcMarkdownBuilder {
 			grpcDocBuilderTemplate.buildErrorCodeDoc(apiConfig, DocGlobalConstants.ERROR_CODE_LIST_MD_TPL,
 					DocGlobalConstants.ERROR_CODE_LIST_MD, javaProjectBuilder);
 		}
+		DocBuildMetrics.writeReport(apiConfig);
 	}
 
 }
@@ -21,6 +21,7 @@
  */
 package com.ly.doc.builder.javadoc;
 
+import com.ly.doc.builder.DocOutputManifest;
 import com.ly.doc.builder.IBaseDocBuilderTemplate;
 import com.ly.doc.builder.ProjectDocConfigBuilder;
 import com.ly.doc.constants.DocGlobalConstants;
@@ -74,6 +75,7 @@ public class JavadocDocBuilderTemplate implements IBaseDocBuilderTemplate<Javado
 	 */
 	public void buildApiDoc(List<JavadocApiDoc> apiDocList, ApiConfig config, String template, String fileExtension) {
 		FileUtil.mkdirs(config.getOutPath());
+		DocOutputManifest manifest = DocOutputManifest.load(config);
 		for (JavadocApiDoc apiDoc : apiDocList) {
 			Template mapper = BeetlTemplateUtil.getByName(template);
 			mapper.binding(TemplateVariable.NAME.getVariable(), apiDoc.getName());
@@ -81,9 +83,11 @@ public class JavadocDocBuilderTemplate implements IBaseDocBuilderTemplate<Javado
 			mapper.binding(TemplateVariable.LIST.getVariable(), apiDoc.getList());
 			mapper.binding(TemplateVariable.AUTHOR.getVariable(), apiDoc.getAuthor());
 			mapper.binding(TemplateVariable.VERSION.getVariable(), apiDoc.getVersion());
-			FileUtil.nioWriteFile(mapper.render(),
-					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + apiDoc.getShortName() + fileExtension);
+			manifest.write(
+					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + apiDoc.getShortName() + fileExtension,
+					null, mapper.render());
 		}
+		manifest.save();
 	}
 
 	/**
@@ -103,7 +107,7 @@ public class JavadocDocBuilderTemplate implements IBaseDocBuilderTemplate<Javado
 		// binding common variable
 		this.bindingCommonVariable(config, javaProjectBuilder, tpl, apiDocList.isEmpty());
 
-		FileUtil.nioWriteFile(tpl.render(), outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName, tpl.render());
 	}
 
 	/**
@@ -143,7 +147,8 @@ public class JavadocDocBuilderTemplate implements IBaseDocBuilderTemplate<Javado
 		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
 		tpl.binding(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
 		tpl.binding(TemplateVariable.DIRECTORY_TREE.getVariable(), apiDocs);
-		FileUtil.nioWriteFile(tpl.render(), config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName,
+				tpl.render());
 	}
 
 	/**
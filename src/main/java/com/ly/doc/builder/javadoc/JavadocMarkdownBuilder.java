@@ -20,6 +20,7 @@
  */
 package com.ly.doc.builder.javadoc;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
@@ -74,6 +75,7 @@ public class JavadocMarkdownBuilder {
 			builderTemplate.buildErrorCodeDoc(apiConfig, DocGlobalConstants.ERROR_CODE_LIST_MD_TPL,
 					DocGlobalConstants.ERROR_CODE_LIST_MD, javaProjectBuilder);
 		}
+		DocBuildMetrics.writeReport(apiConfig);
 	}
 
 }
@@ -31,11 +31,14 @@ import com.ly.doc.model.*;
 import com.ly.doc.model.openapi.OpenApiTag;
 import com.ly.doc.template.IDocBuildTemplate;
 import com.ly.doc.utils.DocUtil;
+import com.ly.doc.utils.JsonUtil;
 import com.ly.doc.utils.OpenApiSchemaUtil;
 import com.power.common.util.CollectionUtil;
 import com.power.common.util.StringUtil;
+import com.google.gson.stream.JsonWriter;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -167,8 +170,18 @@ public abstract class AbstractOpenApiBuilder {
 				}
 			}
 		}
+		tags.addAll(this.buildOpenApiTags());
+		return pathMap;
+	}
+
+	/**
+	 * Build openapi tags
+	 * @return Set of tags
+	 * @since 3.0.9
+	 */
+	public Set<OpenApiTag> buildOpenApiTags() {
+		Set<OpenApiTag> tags = new HashSet<>();
 		for (Map.Entry<String, TagDoc> docEntry : DocMapping.TAG_DOC.entrySet()) {
-			String tag = docEntry.getKey();
 			tags.addAll(docEntry.getValue()
 				.getClazzDocs()
 				.stream()
@@ -176,7 +189,46 @@ public abstract class AbstractOpenApiBuilder {
 				.map(doc -> OpenApiTag.of(doc.getName(), doc.getDesc()))
 				.collect(Collectors.toSet()));
 		}
-		return pathMap;
+		return tags;
+	}
+
+	/**
+	 * Write openapi paths to the json writer. Only the operations of one path are held in
+	 * memory at a time, the output is the same as {@link #buildPaths}.
+	 * @param writer json writer
+	 * @param apiConfig Configuration of smart-doc
+	 * @param apiSchema Project API schema
+	 * @throws IOException if the paths can't be written
+	 * @since 3.0.9
+	 */
+	public void writePaths(JsonWriter writer, ApiConfig apiConfig, ApiSchema<ApiDoc> apiSchema) throws IOException {
+		Map<String, List<ApiMethodDoc>> pathMethods = new LinkedHashMap<>(500);
+		for (ApiDoc apiDoc : apiSchema.getApiDatas()) {
+			if (CollectionUtil.isEmpty(apiDoc.getList())) {
+				continue;
+			}
+			for (ApiMethodDoc methodDoc : apiDoc.getList()) {
+				for (String path : methodDoc.getPath().split(";")) {
+					pathMethods.computeIfAbsent(path.trim(), key -> new ArrayList<>()).add(methodDoc);
+				}
+			}
+		}
+		writer.name("paths").beginObject();
+		for (Map.Entry<String, List<ApiMethodDoc>> entry : pathMethods.entrySet()) {
+			Map<String, Object> request = null;
+			for (ApiMethodDoc methodDoc : entry.getValue()) {
+				Map<String, Object> methodRequest = this.buildPathUrls(apiConfig, methodDoc, methodDoc.getClazzDoc(),
+						apiSchema.getApiExceptionStatuses());
+				if (Objects.isNull(request)) {
+					request = methodRequest;
+				}
+				else {
+					request.putAll(methodRequest);
+				}
+			}
+			JsonUtil.writePrettyJson(writer, entry.getKey(), request);
+		}
+		writer.endObject();
 	}
 
 	/**
@@ -22,19 +22,22 @@
  */
 package com.ly.doc.builder.openapi;
 
+import com.ly.doc.builder.DocBuildMetrics;
+import com.ly.doc.builder.DocBuilderTemplate;
+import com.ly.doc.builder.DocOutputManifest;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.constants.Methods;
 import com.ly.doc.constants.ParamTypeConstants;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.*;
-import com.ly.doc.model.openapi.OpenApiTag;
 import com.ly.doc.utils.JsonUtil;
 import com.ly.doc.utils.OpenApiSchemaUtil;
 import com.power.common.util.CollectionUtil;
-import com.power.common.util.FileUtil;
+import com.google.gson.stream.JsonWriter;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -77,6 +80,18 @@ public class OpenApiBuilder extends AbstractOpenApiBuilder {
 		INSTANCE.openApiCreate(config, apiSchema);
 	}
 
+	/**
+	 * Build openapi from an api schema that has already been analyzed.
+	 * @param config Configuration of smart-doc
+	 * @param apiSchema Project API schema
+	 * @since 3.0.9
+	 */
+	public static void buildOpenApi(ApiConfig config, ApiSchema<ApiDoc> apiSchema) {
+		new DocBuilderTemplate().checkAndInit(config, Boolean.TRUE);
+		INSTANCE.openApiCreate(config, apiSchema);
+		DocBuildMetrics.writeReport(config);
+	}
+
 	@Override
 	public String getModuleName() {
 		return DocGlobalConstants.OPENAPI_3_COMPONENT_KRY;
@@ -85,19 +100,28 @@ public class OpenApiBuilder extends AbstractOpenApiBuilder {
 	@Override
 	public void openApiCreate(ApiConfig config, ApiSchema<ApiDoc> apiSchema) {
 		this.setComponentKey(getModuleName());
-		Map<String, Object> json = new LinkedHashMap<>(8);
-		json.put("openapi", "3.1.0");
-		json.put("info", buildInfo(config));
-		json.put("servers", buildServers(config));
-		Set<OpenApiTag> tags = new HashSet<>();
-		json.put("tags", tags);
-		json.put("paths", this.buildPaths(config, apiSchema, tags));
-		json.put("components", this.buildComponentsSchema(apiSchema));
-
 		String filePath = config.getOutPath();
 		filePath = filePath + DocGlobalConstants.OPEN_API_JSON;
-		String data = JsonUtil.toPrettyJson(json);
-		FileUtil.nioWriteFile(data, filePath);
+		DocOutputManifest manifest = DocOutputManifest.load(config);
+		try {
+			// stream the document, the paths are written one by one
+			manifest.write(filePath, null, out -> {
+				try (JsonWriter writer = JsonUtil.newPrettyJsonWriter(out)) {
+					writer.beginObject();
+					JsonUtil.writePrettyJson(writer, "openapi", "3.1.0");
+					JsonUtil.writePrettyJson(writer, "info", buildInfo(config));
+					JsonUtil.writePrettyJson(writer, "servers", buildServers(config));
+					JsonUtil.writePrettyJson(writer, "tags", this.buildOpenApiTags());
+					this.writePaths(writer, config, apiSchema);
+					JsonUtil.writePrettyJson(writer, "components", this.buildComponentsSchema(apiSchema));
+					writer.endObject();
+				}
+			});
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to write " + filePath, e);
+		}
+		manifest.save();
 	}
 
 	/**
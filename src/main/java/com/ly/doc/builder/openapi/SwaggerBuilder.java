@@ -21,6 +21,9 @@
  */
 package com.ly.doc.builder.openapi;
 
+import com.ly.doc.builder.DocBuildMetrics;
+import com.ly.doc.builder.DocBuilderTemplate;
+import com.ly.doc.builder.DocOutputManifest;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.constants.MediaType;
 import com.ly.doc.constants.ParamTypeConstants;
@@ -33,22 +36,20 @@ import com.ly.doc.model.ApiMethodDoc;
 import com.ly.doc.model.ApiParam;
 import com.ly.doc.model.ApiReqParam;
 import com.ly.doc.model.ApiSchema;
-import com.ly.doc.model.openapi.OpenApiTag;
 import com.ly.doc.utils.DocUtil;
 import com.ly.doc.utils.JsonUtil;
 import com.power.common.util.CollectionUtil;
-import com.power.common.util.FileUtil;
 import com.power.common.util.StringUtil;
+import com.google.gson.stream.JsonWriter;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -89,6 +90,18 @@ public class SwaggerBuilder extends AbstractOpenApiBuilder {
 		INSTANCE.openApiCreate(config, apiSchema);
 	}
 
+	/**
+	 * Build openapi from an api schema that has already been analyzed.
+	 * @param config Configuration of smart-doc
+	 * @param apiSchema Project API schema
+	 * @since 3.0.9
+	 */
+	public static void buildOpenApi(ApiConfig config, ApiSchema<ApiDoc> apiSchema) {
+		new DocBuilderTemplate().checkAndInit(config, Boolean.TRUE);
+		INSTANCE.openApiCreate(config, apiSchema);
+		DocBuildMetrics.writeReport(config);
+	}
+
 	@Override
 	public String getModuleName() {
 		return DocGlobalConstants.OPENAPI_2_COMPONENT_KRY;
@@ -101,21 +114,31 @@ public class SwaggerBuilder extends AbstractOpenApiBuilder {
 	@Override
 	public void openApiCreate(ApiConfig config, ApiSchema<ApiDoc> apiSchema) {
 		this.setComponentKey(getModuleName());
-		Map<String, Object> json = new HashMap<>(8);
-		json.put("swagger", "2.0");
-		json.put("info", buildInfo(config));
-		json.put("host", config.getServerUrl() == null ? "127.0.0.1" : config.getServerUrl());
-		json.put("basePath", StringUtils.isNotBlank(config.getPathPrefix()) ? config.getPathPrefix()
-				: DocGlobalConstants.PATH_DELIMITER);
-		Set<OpenApiTag> tags = new HashSet<>();
-		json.put("tags", tags);
-		json.put("paths", buildPaths(config, apiSchema, tags));
-		json.put("definitions", buildComponentsSchema(apiSchema));
-
 		String filePath = config.getOutPath();
 		filePath = filePath + DocGlobalConstants.OPEN_API_JSON;
-		String data = JsonUtil.toPrettyJson(json);
-		FileUtil.nioWriteFile(data, filePath);
+		DocOutputManifest manifest = DocOutputManifest.load(config);
+		try {
+			// stream the document, the paths are written one by one
+			manifest.write(filePath, null, out -> {
+				try (JsonWriter writer = JsonUtil.newPrettyJsonWriter(out)) {
+					writer.beginObject();
+					JsonUtil.writePrettyJson(writer, "swagger", "2.0");
+					JsonUtil.writePrettyJson(writer, "info", buildInfo(config));
+					JsonUtil.writePrettyJson(writer, "host",
+							config.getServerUrl() == null ? "127.0.0.1" : config.getServerUrl());
+					JsonUtil.writePrettyJson(writer, "basePath", StringUtils.isNotBlank(config.getPathPrefix())
+							? config.getPathPrefix() : DocGlobalConstants.PATH_DELIMITER);
+					JsonUtil.writePrettyJson(writer, "tags", this.buildOpenApiTags());
+					this.writePaths(writer, config, apiSchema);
+					JsonUtil.writePrettyJson(writer, "definitions", buildComponentsSchema(apiSchema));
+					writer.endObject();
+				}
+			});
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to write " + filePath, e);
+		}
+		manifest.save();
 	}
 
 	/**
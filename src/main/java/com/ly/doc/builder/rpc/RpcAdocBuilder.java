@@ -20,6 +20,7 @@
  */
 package com.ly.doc.builder.rpc;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
@@ -80,6 +81,7 @@ public class RpcAdocBuilder {
 			builderTemplate.buildErrorCodeDoc(config, DocGlobalConstants.ERROR_CODE_LIST_ADOC_TPL,
 					DocGlobalConstants.ERROR_CODE_LIST_ADOC, javaProjectBuilder);
 		}
+		DocBuildMetrics.writeReport(config);
 	}
 
 }
@@ -20,6 +20,7 @@
  */
 package com.ly.doc.builder.rpc;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
@@ -66,6 +67,7 @@ public class RpcHtmlBuilder {
 				DocGlobalConstants.RPC_ALL_IN_ONE_HTML_TPL, INDEX_HTML);
 		builderTemplate.buildSearchJs(apiDocList, config, javaProjectBuilder,
 				DocGlobalConstants.RPC_ALL_IN_ONE_SEARCH_TPL, DocGlobalConstants.SEARCH_JS_OUT);
+		DocBuildMetrics.writeReport(config);
 	}
 
 }
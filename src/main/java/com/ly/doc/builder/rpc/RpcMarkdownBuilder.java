@@ -20,6 +20,7 @@
  */
 package com.ly.doc.builder.rpc;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
@@ -71,6 +72,7 @@ public class RpcMarkdownBuilder {
 			builderTemplate.buildErrorCodeDoc(apiConfig, DocGlobalConstants.ERROR_CODE_LIST_MD_TPL,
 					DocGlobalConstants.ERROR_CODE_LIST_MD, javaProjectBuilder);
 		}
+		DocBuildMetrics.writeReport(apiConfig);
 	}
 
 }
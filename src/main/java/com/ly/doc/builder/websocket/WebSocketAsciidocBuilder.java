@@ -20,6 +20,7 @@
  */
 package com.ly.doc.builder.websocket;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
@@ -89,6 +90,7 @@ public class WebSocketAsciidocBuilder {
 			webSocketDocBuilderTemplate.buildErrorCodeDoc(config, DocGlobalConstants.ERROR_CODE_LIST_ADOC_TPL,
 					DocGlobalConstants.ERROR_CODE_LIST_ADOC, javaProjectBuilder);
 		}
+		DocBuildMetrics.writeReport(config);
 	}
 
 }
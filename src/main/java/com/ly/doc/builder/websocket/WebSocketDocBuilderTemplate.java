@@ -21,6 +21,7 @@
  */
 package com.ly.doc.builder.websocket;
 
+import com.ly.doc.builder.DocOutputManifest;
 import com.ly.doc.builder.IBaseDocBuilderTemplate;
 import com.ly.doc.builder.ProjectDocConfigBuilder;
 import com.ly.doc.constants.DocGlobalConstants;
@@ -107,7 +108,7 @@ public class WebSocketDocBuilderTemplate implements IBaseDocBuilderTemplate<WebS
 		this.setCssCDN(config, tpl);
 		// binding common variable
 		this.bindingCommonVariable(config, javaProjectBuilder, tpl, webSocketDocList.isEmpty());
-		FileUtil.nioWriteFile(tpl.render(), outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName, tpl.render());
 	}
 
 	/**
@@ -120,11 +121,13 @@ public class WebSocketDocBuilderTemplate implements IBaseDocBuilderTemplate<WebS
 	public void buildWebSocketApiDoc(List<WebSocketDoc> apiDocList, ApiConfig config, String template,
 			String fileExtension) {
 		FileUtil.mkdirs(config.getOutPath());
+		DocOutputManifest manifest = DocOutputManifest.load(config);
 		for (WebSocketDoc doc : apiDocList) {
 			Template mapper = this.buildWebSocketApiDocTemplate(doc, config, template);
-			FileUtil.nioWriteFile(mapper.render(),
-					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + doc.getName() + fileExtension);
+			manifest.write(config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + doc.getName() + fileExtension,
+					null, mapper.render());
 		}
+		manifest.save();
 	}
 
 	/**
@@ -178,7 +181,8 @@ public class WebSocketDocBuilderTemplate implements IBaseDocBuilderTemplate<WebS
 		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
 		tpl.binding(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
 		tpl.binding(TemplateVariable.DIRECTORY_TREE.getVariable(), apiDocs);
-		FileUtil.nioWriteFile(tpl.render(), config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		DocOutputManifest.write(config, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName,
+				tpl.render());
 	}
 
 }
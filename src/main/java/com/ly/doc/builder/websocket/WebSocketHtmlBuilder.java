@@ -20,6 +20,7 @@
  */
 package com.ly.doc.builder.websocket;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
@@ -76,6 +77,7 @@ public class WebSocketHtmlBuilder {
 		webSocketDocBuilderTemplate.buildSearchJs(webSocketDocList, config, javaProjectBuilder,
 				DocGlobalConstants.WEBSOCKET_ALL_IN_ONE_SEARCH_TPL, DocGlobalConstants.SEARCH_JS_OUT);
 
+		DocBuildMetrics.writeReport(config);
 	}
 
 }
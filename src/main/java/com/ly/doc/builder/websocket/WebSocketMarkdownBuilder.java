@@ -20,6 +20,7 @@
  */
 package com.ly.doc.builder.websocket;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.model.ApiConfig;
@@ -82,6 +83,7 @@ public class WebSocketMarkdownBuilder {
 			webSocketDocBuilderTemplate.buildErrorCodeDoc(config, DocGlobalConstants.ERROR_CODE_LIST_MD_TPL,
 					DocGlobalConstants.ERROR_CODE_LIST_MD, javaProjectBuilder);
 		}
+		DocBuildMetrics.writeReport(config);
 	}
 
 }
@@ -27,11 +27,15 @@ import com.ly.doc.model.IMethod;
 import com.ly.doc.model.dependency.ApiDependency;
 import com.ly.doc.model.dependency.DependencyTree;
 import com.ly.doc.model.dependency.FileDiff;
+import com.ly.doc.utils.JavaClassUtil;
 import com.power.common.util.CollectionUtil;
 import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaField;
+import com.thoughtworks.qdox.model.JavaParameterizedType;
 import com.thoughtworks.qdox.model.JavaType;
+import com.thoughtworks.qdox.model.JavaWildcardType;
 import org.eclipse.jgit.diff.DiffEntry;
 
 import java.io.File;
@@ -57,6 +61,11 @@ public class DocBuildHelper {
 	 */
 	private String codePath;
 
+	/**
+	 * {@link ProjectDocConfigBuilder#isLazySource()}
+	 */
+	private boolean lazySource;
+
 	/**
 	 * DependencyTree {@link DependencyTree}
 	 */
@@ -100,6 +109,7 @@ public class DocBuildHelper {
 		DocBuildHelper helper = new DocBuildHelper();
 		helper.projectBuilder = configBuilder.getJavaProjectBuilder();
 		helper.codePath = codePath;
+		helper.lazySource = configBuilder.isLazySource();
 		// when is git repo
 		if (helper.gitHelper.isGitRepo()) {
 			helper.dependencyTree = DependencyTree.detect(baseDir, apiConfig.isIncrement());
@@ -131,8 +141,20 @@ public class DocBuildHelper {
 			dependencyTree = Collections.emptyList();
 		}
 
+		// index the rebuilt api classes before the merge consumes the new tree
+		Map<String, Set<String>> typeReferences = null;
+		Set<String> rebuiltClazz = null;
+		if (this.dependencyTree.isIncrement()) {
+			typeReferences = buildTypeReferences(dependencyTree);
+			rebuiltClazz = dependencyTree.stream().map(ApiDependency::getClazz).collect(Collectors.toSet());
+		}
+
 		List<ApiDependency> mergedDependencyTree = mergeDependencyTree(dependencyTree);
 		this.dependencyTree.setConfig(commitId, mergedDependencyTree);
+		if (Objects.nonNull(typeReferences)) {
+			this.dependencyTree
+				.setTypeReferences(mergeTypeReferences(mergedDependencyTree, rebuiltClazz, typeReferences));
+		}
 
 		DependencyTree.write(this.dependencyTree);
 	}
@@ -148,9 +170,11 @@ public class DocBuildHelper {
 			return new ArrayList<>();
 		}
 		List<ApiDependency> oldDependencyTree = new ArrayList<>(this.dependencyTree.getDependencyTree());
+		// a full build has no changed files
+		Set<FileDiff> fileDiffList = Objects.isNull(this.fileDiffList) ? Collections.emptySet() : this.fileDiffList;
 
 		// remove the deleted or deprecated dependencies
-		List<String> deletedClazz = this.fileDiffList.stream()
+		List<String> deletedClazz = fileDiffList.stream()
 			// newQualifiedName equals /dev/null means the class is deleted
 			.filter(item -> DiffEntry.DEV_NULL.equals(item.getNewQualifiedName()))
 			.map(FileDiff::getOldQualifiedName)
@@ -160,7 +184,7 @@ public class DocBuildHelper {
 			.map(ApiDependency::getClazz)
 			.distinct()
 			.collect(Collectors.toList());
-		List<String> deprecatedClazz = this.fileDiffList.stream()
+		List<String> deprecatedClazz = fileDiffList.stream()
 			.filter(FileDiff::isEntryPoint)
 			.map(FileDiff::getNewQualifiedName)
 			.filter(item -> {
@@ -335,60 +359,62 @@ public class DocBuildHelper {
 
 	/**
 	 * Populate the related clazz and mark the entry point.
+	 * <p>
+	 * The api classes affected by a changed type are looked up in the type reference
+	 * index of the dependency tree, so a change of a nested field type also rebuilds the
+	 * api classes that reach it. A dependency tree written without the index falls back
+	 * to the arguments and returns of the apis.
 	 * @param diffList the diff list
 	 * @param isEntryPoint the entry point predicate
 	 */
-	private void populateRelatedClazzAndMarkEntryPoint(Set<FileDiff> diffList, Predicate<String> isEntryPoint) {
+	void populateRelatedClazzAndMarkEntryPoint(Set<FileDiff> diffList, Predicate<String> isEntryPoint) {
 		List<ApiDependency> oldDependencyTree = this.dependencyTree.getDependencyTree();
 
 		if (CollectionUtil.isEmpty(oldDependencyTree)) {
 			return;
 		}
 
-		// foreach the exist dependency tree,
-		// check whether it is entry point if clazzName is matched and get the related
-		// entry points
-		oldDependencyTree.forEach(dependency -> {
-			String clazz = dependency.getClazz();
-
-			Optional<FileDiff> matchClazzOptional = diffList.stream().filter(item -> {
-				boolean equals = clazz.equals(item.getNewQualifiedName());
-				if (equals) {
-					return true;
-				}
+		Map<String, Set<String>> typeReferences = this.dependencyTree.getTypeReferences();
+		if (Objects.isNull(typeReferences)) {
+			typeReferences = buildDirectTypeReferences(oldDependencyTree);
+		}
 
-				List<String> derivedClazz = dependency.getDerivedClazz();
-				if (CollectionUtil.isEmpty(derivedClazz)) {
-					return false;
-				}
+		// the api classes and their derived classes are entry points
+		Set<String> entryPoints = new HashSet<>();
+		for (ApiDependency dependency : oldDependencyTree) {
+			entryPoints.add(dependency.getClazz());
+			if (CollectionUtil.isNotEmpty(dependency.getDerivedClazz())) {
+				entryPoints.addAll(dependency.getDerivedClazz());
+			}
+		}
 
-				return dependency.getDerivedClazz().contains(item.getNewQualifiedName());
-			}).findFirst();
-			if (matchClazzOptional.isPresent()) {
+		Set<String> changedClazz = new HashSet<>(diffList.size());
+		Set<String> relatedClazz = new TreeSet<>();
+		for (FileDiff diff : diffList) {
+			String newQualifiedName = diff.getNewQualifiedName();
+			changedClazz.add(newQualifiedName);
+			if (entryPoints.contains(newQualifiedName)) {
 				// mark the class is entry point(maybe now is not)
-				matchClazzOptional.get().setEntryPoint(true);
-				return;
+				diff.setEntryPoint(true);
 			}
+			relatedClazz.addAll(typeReferences.getOrDefault(newQualifiedName, Collections.emptySet()));
+			// the api classes of a deleted or renamed type are changed as well
+			if (StringUtil.isNotEmpty(diff.getOldQualifiedName())) {
+				relatedClazz.addAll(typeReferences.getOrDefault(diff.getOldQualifiedName(), Collections.emptySet()));
+			}
+		}
 
-			dependency.getApis().forEach(apiInfo -> {
-				boolean matchArgs = apiInfo.getArgs()
-					.stream()
-					.anyMatch(item -> diffList.stream().anyMatch(diff -> item.equals(diff.getNewQualifiedName())));
-
-				boolean matchReturns = apiInfo.getReturns()
-					.stream()
-					.anyMatch(item -> diffList.stream().anyMatch(diff -> item.equals(diff.getNewQualifiedName())));
-
-				if (matchArgs || matchReturns) {
-					FileDiff fileDiff = new FileDiff();
+		for (String clazz : relatedClazz) {
+			if (changedClazz.contains(clazz)) {
+				continue;
+			}
+			FileDiff fileDiff = new FileDiff();
 
-					fileDiff.setChangeType(FileDiff.ChangeType.RELATED);
-					fileDiff.setNewQualifiedName(clazz);
-					fileDiff.setEntryPoint(true);
-					diffList.add(fileDiff);
-				}
-			});
-		});
+			fileDiff.setChangeType(FileDiff.ChangeType.RELATED);
+			fileDiff.setNewQualifiedName(clazz);
+			fileDiff.setEntryPoint(true);
+			diffList.add(fileDiff);
+		}
 
 		// check whether the others are entry point
 		diffList.stream().filter(item -> !item.isEntryPoint()).forEach(item -> {
@@ -397,6 +423,192 @@ public class DocBuildHelper {
 		});
 	}
 
+	/**
+	 * Build the type reference index of a dependency tree written without one, from the
+	 * arguments and returns of the apis.
+	 * @param dependencyTree the dependency tree
+	 * @return type to the api classes using it
+	 */
+	private static Map<String, Set<String>> buildDirectTypeReferences(List<ApiDependency> dependencyTree) {
+		Map<String, Set<String>> typeReferences = new HashMap<>();
+		for (ApiDependency dependency : dependencyTree) {
+			for (ApiDependency.ApiInfo apiInfo : dependency.getApis()) {
+				for (String type : apiInfo.getArgs()) {
+					typeReferences.computeIfAbsent(type, k -> new HashSet<>()).add(dependency.getClazz());
+				}
+				for (String type : apiInfo.getReturns()) {
+					typeReferences.computeIfAbsent(type, k -> new HashSet<>()).add(dependency.getClazz());
+				}
+			}
+		}
+		return typeReferences;
+	}
+
+	/**
+	 * Build the type reference index of the api classes. Every source type reached from
+	 * an api class, its derived classes, arguments and returns through fields, generic
+	 * arguments and super types references the api class.
+	 * @param dependencyTree the dependency tree of the built api classes
+	 * @return source type to the api classes reaching it
+	 */
+	private Map<String, Set<String>> buildTypeReferences(List<ApiDependency> dependencyTree) {
+		Map<String, JavaClass> sourceClasses = new HashMap<>();
+		for (JavaClass cls : projectBuilder.getClasses()) {
+			registerSourceClass(cls, sourceClasses);
+		}
+		// the types referenced by each source type, shared by all api classes
+		Map<String, List<String>> referencedTypes = new HashMap<>();
+		Map<String, Set<String>> typeReferences = new TreeMap<>();
+		for (ApiDependency dependency : dependencyTree) {
+			Deque<String> queue = new ArrayDeque<>();
+			queue.add(dependency.getClazz());
+			if (CollectionUtil.isNotEmpty(dependency.getDerivedClazz())) {
+				queue.addAll(dependency.getDerivedClazz());
+			}
+			for (ApiDependency.ApiInfo apiInfo : dependency.getApis()) {
+				queue.addAll(apiInfo.getArgs());
+				queue.addAll(apiInfo.getReturns());
+			}
+			Set<String> visited = new HashSet<>();
+			while (!queue.isEmpty()) {
+				String type = queue.poll();
+				JavaClass cls = getSourceClass(type, sourceClasses);
+				if (Objects.isNull(cls) || !visited.add(type)) {
+					continue;
+				}
+				typeReferences.computeIfAbsent(type, k -> new TreeSet<>()).add(dependency.getClazz());
+				// a nested type is changed within the file of its top level class
+				JavaClass topLevelClass = cls;
+				while (Objects.nonNull(topLevelClass.getDeclaringClass())) {
+					topLevelClass = topLevelClass.getDeclaringClass();
+				}
+				typeReferences.computeIfAbsent(topLevelClass.getFullyQualifiedName(), k -> new TreeSet<>())
+					.add(dependency.getClazz());
+				queue.addAll(referencedTypes.computeIfAbsent(type, k -> getReferencedTypes(cls)));
+			}
+		}
+		return typeReferences;
+	}
+
+	/**
+	 * Merge the type reference index of the rebuilt api classes into the index of the
+	 * previous build.
+	 * @param dependencyTree the merged dependency tree
+	 * @param rebuiltClazz the rebuilt api classes
+	 * @param newTypeReferences the type reference index of the rebuilt api classes
+	 * @return the merged type reference index
+	 */
+	private Map<String, Set<String>> mergeTypeReferences(List<ApiDependency> dependencyTree, Set<String> rebuiltClazz,
+			Map<String, Set<String>> newTypeReferences) {
+		Map<String, Set<String>> oldTypeReferences = this.dependencyTree.getTypeReferences();
+		Set<String> keptClazz = dependencyTree.stream()
+			.map(ApiDependency::getClazz)
+			.filter(clazz -> !rebuiltClazz.contains(clazz))
+			.collect(Collectors.toSet());
+		if (keptClazz.isEmpty()) {
+			return newTypeReferences;
+		}
+		if (Objects.isNull(oldTypeReferences)) {
+			// the previous build has no index, index the kept api classes as well
+			return buildTypeReferences(dependencyTree);
+		}
+		Map<String, Set<String>> typeReferences = new TreeMap<>(newTypeReferences);
+		oldTypeReferences.forEach((type, clazzSet) -> {
+			for (String clazz : clazzSet) {
+				if (keptClazz.contains(clazz)) {
+					typeReferences.computeIfAbsent(type, k -> new TreeSet<>()).add(clazz);
+				}
+			}
+		});
+		return typeReferences;
+	}
+
+	/**
+	 * Register a source class and its nested classes by fully qualified name.
+	 * @param cls the source class
+	 * @param sourceClasses the source classes
+	 */
+	private static void registerSourceClass(JavaClass cls, Map<String, JavaClass> sourceClasses) {
+		sourceClasses.put(cls.getFullyQualifiedName(), cls);
+		for (JavaClass nestedClass : cls.getNestedClasses()) {
+			registerSourceClass(nestedClass, sourceClasses);
+		}
+	}
+
+	/**
+	 * Get a source class by fully qualified name. The sources loaded on demand are
+	 * resolved by the project builder, the misses are cached as well.
+	 * @param type the fully qualified name
+	 * @param sourceClasses the source classes
+	 * @return the source class, or null if the type is not a source class
+	 */
+	private JavaClass getSourceClass(String type, Map<String, JavaClass> sourceClasses) {
+		if (!lazySource || sourceClasses.containsKey(type)) {
+			return sourceClasses.get(type);
+		}
+		JavaClass cls = null;
+		try {
+			JavaClass resolved = projectBuilder.getClassByName(type);
+			if (JavaClassUtil.isSourceClass(resolved)) {
+				cls = resolved;
+			}
+		}
+		catch (Exception ignore) {
+		}
+		sourceClasses.put(type, cls);
+		return cls;
+	}
+
+	/**
+	 * Get the types referenced by the fields, generic arguments and super types of a
+	 * class.
+	 * @param cls the class
+	 * @return the referenced type names
+	 */
+	private static List<String> getReferencedTypes(JavaClass cls) {
+		List<String> types = new ArrayList<>();
+		JavaType superClass = cls.getSuperClass();
+		if (Objects.nonNull(superClass)) {
+			addTypeNames(superClass, types);
+		}
+		for (JavaType implement : cls.getImplements()) {
+			addTypeNames(implement, types);
+		}
+		for (JavaField field : cls.getFields()) {
+			addTypeNames(field.getType(), types);
+		}
+		return types;
+	}
+
+	/**
+	 * Add the name of a type and of its generic arguments.
+	 * @param type the type
+	 * @param types the type names
+	 */
+	private static void addTypeNames(JavaType type, List<String> types) {
+		String name = type.getFullyQualifiedName();
+		int arrayIndex = name.indexOf('[');
+		types.add(arrayIndex > 0 ? name.substring(0, arrayIndex) : name);
+		if (type instanceof JavaParameterizedType) {
+			for (JavaType argument : ((JavaParameterizedType) type).getActualTypeArguments()) {
+				addTypeNames(argument, types);
+			}
+		}
+		if (type instanceof JavaWildcardType) {
+			JavaWildcardType wildcardType = (JavaWildcardType) type;
+			if (Objects.nonNull(wildcardType.getUpperBounds())) {
+				for (JavaType bound : wildcardType.getUpperBounds()) {
+					addTypeNames(bound, types);
+				}
+			}
+			if (Objects.nonNull(wildcardType.getLowerBounds())) {
+				for (JavaType bound : wildcardType.getLowerBounds()) {
+					addTypeNames(bound, types);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Rebuilds the dependency tree.
 	 * @param <T> the type parameter representing the kind of document, which must extend
@@ -81,8 +81,7 @@ public class FormDataBuildHelper extends BaseHelper {
 		String simpleName = DocClassUtil.getSimpleName(className);
 		String[] globGicName = DocClassUtil.getSimpleGicName(className);
 		JavaClass cls = builder.getJavaProjectBuilder().getClassByName(simpleName);
-		List<DocJavaField> fields = JavaClassUtil.getFields(cls, 0, new LinkedHashMap<>(),
-				builder.getApiConfig().getClassLoader());
+		List<DocJavaField> fields = builder.getClassHierarchy().getFields(cls);
 		if (JavaClassValidateUtil.isPrimitive(simpleName)) {
 			FormData formData = new FormData();
 			formData.setKey(pre);
@@ -21,7 +21,27 @@
 package com.ly.doc.helper;
 
 import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.library.AbstractClassLibrary;
+import com.thoughtworks.qdox.library.ClassLibrary;
 import com.thoughtworks.qdox.library.ClassLibraryBuilder;
+import com.thoughtworks.qdox.library.JavaClassContext;
+import com.thoughtworks.qdox.library.SourceLibrary;
+import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaSource;
+
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * the helper to create {@link JavaProjectBuilder} object
@@ -30,6 +50,17 @@ import com.thoughtworks.qdox.library.ClassLibraryBuilder;
  */
 public class JavaProjectBuilderHelper {
 
+	/**
+	 * Logger for the class.
+	 */
+	private static final Logger log = Logger.getLogger(JavaProjectBuilderHelper.class.getName());
+
+	/**
+	 * The builders whose sources are loaded already
+	 */
+	private static final Set<JavaProjectBuilder> LOADED_BUILDERS = Collections
+		.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
 	/**
 	 * private constructor
 	 */
@@ -54,4 +85,155 @@ public class JavaProjectBuilderHelper {
 		return new JavaProjectBuilder(classLibraryBuilder);
 	}
 
+	/**
+	 * Make the class maps of the qdox class libraries safe for concurrent lookups. Qdox
+	 * registers classes resolved from the class path lazily in plain maps, so reading the
+	 * model from several threads needs synchronized maps.
+	 * @param javaProjectBuilder the {@link JavaProjectBuilder} object
+	 * @return false if the class library can't be synchronized
+	 * @since 3.0.9
+	 */
+	public static boolean synchronizeClassLibrary(JavaProjectBuilder javaProjectBuilder) {
+		try {
+			ClassLibraryBuilder classLibraryBuilder = (ClassLibraryBuilder) readField(JavaProjectBuilder.class,
+					"classLibraryBuilder", javaProjectBuilder);
+			ClassLibrary classLibrary = classLibraryBuilder.getClassLibrary();
+			while (classLibrary instanceof AbstractClassLibrary) {
+				synchronizeContext(readField(AbstractClassLibrary.class, "context", classLibrary));
+				if (classLibrary instanceof SourceLibrary) {
+					synchronizeContext(readField(SourceLibrary.class, "context", classLibrary));
+				}
+				classLibrary = (ClassLibrary) readField(AbstractClassLibrary.class, "parentClassLibrary", classLibrary);
+			}
+			return true;
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			log.log(Level.WARNING, "Unable to synchronize the qdox class library", e);
+			return false;
+		}
+	}
+
+	/**
+	 * Mark the sources of a builder as loaded, a {@code ProjectDocConfigBuilder} created
+	 * with the builder doesn't load the sources again.
+	 * @param javaProjectBuilder the {@link JavaProjectBuilder} object
+	 * @since 3.0.9
+	 */
+	public static void markSourcesLoaded(JavaProjectBuilder javaProjectBuilder) {
+		LOADED_BUILDERS.add(javaProjectBuilder);
+	}
+
+	/**
+	 * Check whether the sources of a builder are loaded already.
+	 * @param javaProjectBuilder the {@link JavaProjectBuilder} object
+	 * @return boolean
+	 * @since 3.0.9
+	 */
+	public static boolean isSourcesLoaded(JavaProjectBuilder javaProjectBuilder) {
+		return LOADED_BUILDERS.contains(javaProjectBuilder);
+	}
+
+	/**
+	 * Remove a source file and its classes from a builder, so the file can be added again
+	 * after it changed. Qdox keeps the classes by name in the context of every class
+	 * library, a class added again would be shadowed by the old one.
+	 * @param javaProjectBuilder the {@link JavaProjectBuilder} object
+	 * @param url the url of the source file
+	 * @return false if the source can't be removed
+	 * @since 3.0.9
+	 */
+	@SuppressWarnings("unchecked")
+	public static boolean removeSource(JavaProjectBuilder javaProjectBuilder, URL url) {
+		try {
+			ClassLibraryBuilder classLibraryBuilder = (ClassLibraryBuilder) readField(JavaProjectBuilder.class,
+					"classLibraryBuilder", javaProjectBuilder);
+			ClassLibrary classLibrary = classLibraryBuilder.getClassLibrary();
+			List<JavaClassContext> contexts = new ArrayList<>();
+			while (classLibrary instanceof AbstractClassLibrary) {
+				contexts.add((JavaClassContext) readField(AbstractClassLibrary.class, "context", classLibrary));
+				if (classLibrary instanceof SourceLibrary) {
+					contexts.add((JavaClassContext) readField(SourceLibrary.class, "context", classLibrary));
+				}
+				classLibrary = (ClassLibrary) readField(AbstractClassLibrary.class, "parentClassLibrary", classLibrary);
+			}
+			Set<String> classNames = new HashSet<>();
+			Field sourceSetField = JavaClassContext.class.getDeclaredField("sourceSet");
+			sourceSetField.setAccessible(true);
+			for (JavaClassContext context : contexts) {
+				if (Objects.isNull(context)) {
+					continue;
+				}
+				Set<JavaSource> sources = (Set<JavaSource>) sourceSetField.get(context);
+				synchronized (sources) {
+					Iterator<JavaSource> iterator = sources.iterator();
+					while (iterator.hasNext()) {
+						JavaSource source = iterator.next();
+						if (url.equals(source.getURL())) {
+							iterator.remove();
+							source.getClasses().forEach(cls -> collectClassNames(cls, classNames));
+						}
+					}
+				}
+			}
+			for (JavaClassContext context : contexts) {
+				if (Objects.nonNull(context)) {
+					classNames.forEach(context::removeClassByName);
+				}
+			}
+			return true;
+		}
+		catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+			log.log(Level.WARNING, "Unable to remove the source " + url, e);
+			return false;
+		}
+	}
+
+	private static void collectClassNames(JavaClass cls, Set<String> classNames) {
+		classNames.add(cls.getFullyQualifiedName());
+		classNames.add(cls.getBinaryName());
+		for (JavaClass nestedClass : cls.getNestedClasses()) {
+			collectClassNames(nestedClass, classNames);
+		}
+	}
+
+	/**
+	 * Replace the maps of a {@link JavaClassContext} with synchronized views.
+	 * @param context the context, may be null
+	 * @throws ReflectiveOperationException if the fields can't be accessed
+	 */
+	@SuppressWarnings("unchecked")
+	private static void synchronizeContext(Object context) throws ReflectiveOperationException {
+		if (Objects.isNull(context)) {
+			return;
+		}
+		for (String name : new String[] { "classMap", "packageMap" }) {
+			Field field = JavaClassContext.class.getDeclaredField(name);
+			field.setAccessible(true);
+			Map<String, ?> map = (Map<String, ?>) field.get(context);
+			if (!map.getClass().getName().startsWith(Collections.class.getName())) {
+				field.set(context, Collections.synchronizedMap(map));
+			}
+		}
+		Field field = JavaClassContext.class.getDeclaredField("sourceSet");
+		field.setAccessible(true);
+		Set<?> set = (Set<?>) field.get(context);
+		if (!set.getClass().getName().startsWith(Collections.class.getName())) {
+			field.set(context, Collections.synchronizedSet(set));
+		}
+	}
+
+	/**
+	 * Read a private field.
+	 * @param type the declaring class
+	 * @param name the field name
+	 * @param target the instance
+	 * @return the field value
+	 * @throws ReflectiveOperationException if the field can't be accessed
+	 */
+	private static Object readField(Class<?> type, String name, Object target) throws ReflectiveOperationException {
+		Field field = type.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(target);
+	}
+
 }
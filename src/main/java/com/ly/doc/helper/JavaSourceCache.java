@@ -0,0 +1,361 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.helper;
+
+import com.ly.doc.utils.DocUtil;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.builder.Builder;
+import com.thoughtworks.qdox.builder.impl.ModelBuilder;
+import com.thoughtworks.qdox.library.AbstractClassLibrary;
+import com.thoughtworks.qdox.library.ClassLibrary;
+import com.thoughtworks.qdox.model.JavaSource;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persistent cache of the source models extracted by the qdox parser, the models are
+ * keyed by the file path and the md5 of the file content. The model of an unchanged file
+ * is replayed to the qdox model builder without parsing the file, a changed file is
+ * parsed and its model replaces the cached one. See {@link JavaSourceModel}.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public class JavaSourceCache {
+
+	/**
+	 * Logger for the class.
+	 */
+	private static final Logger log = Logger.getLogger(JavaSourceCache.class.getName());
+
+	/**
+	 * cache file name
+	 */
+	private static final String CACHE_NAME = ".smart-doc-source-cache";
+
+	/**
+	 * The schema version of the cache file, change it when the format is incompatible.
+	 */
+	private static final String SCHEMA = "v3";
+
+	/**
+	 * the smallest compilation unit qdox parses, an empty type declaration
+	 */
+	private static final String EMPTY_SOURCE = ";";
+
+	/**
+	 * version of the qdox parser the models are extracted with, null if unknown
+	 */
+	private static final String QDOX_VERSION = DocUtil.getLibraryVersion(JavaProjectBuilder.class);
+
+	/**
+	 * cache file
+	 */
+	private final File cacheFile;
+
+	/**
+	 * entries loaded from the cache file
+	 */
+	private final Map<String, Entry> entries;
+
+	/**
+	 * entries of the files added in this build
+	 */
+	private final Map<String, Entry> current = new LinkedHashMap<>();
+
+	/**
+	 * whether the cache file needs to be written
+	 */
+	private boolean changed;
+
+	/**
+	 * cache hits
+	 */
+	private int hits;
+
+	/**
+	 * whether the model builder factory is set to the source library
+	 */
+	private boolean installed;
+
+	/**
+	 * whether the source library doesn't accept a model builder factory, the sources are
+	 * parsed and the cache file is not written then
+	 */
+	private boolean disabled;
+
+	/**
+	 * the model the next model builder replays
+	 */
+	private List<Consumer<Builder>> replay;
+
+	/**
+	 * the url of the source the next model builder replays
+	 */
+	private URL replayUrl;
+
+	/**
+	 * whether the next model builder records the model of the parsed source
+	 */
+	private boolean record;
+
+	/**
+	 * the model builder recording the model of the parsed source
+	 */
+	private JavaSourceModel.RecordingModelBuilder recorder;
+
+	private JavaSourceCache(File cacheFile, Map<String, Entry> entries) {
+		this.cacheFile = cacheFile;
+		this.entries = entries;
+	}
+
+	/**
+	 * Load the source cache of the base directory.
+	 * @param baseDir the cache file base directory
+	 * @param javaProjectBuilder the project builder the sources are added to
+	 * @return the cache, null if the qdox version is unknown
+	 */
+	public static JavaSourceCache load(String baseDir, JavaProjectBuilder javaProjectBuilder) {
+		if (Objects.isNull(QDOX_VERSION)) {
+			log.warning("The source cache is disabled, the qdox version is unknown");
+			return null;
+		}
+		File cacheFile = new File(baseDir, CACHE_NAME);
+		return new JavaSourceCache(cacheFile, readEntries(cacheFile));
+	}
+
+	/**
+	 * Add a source file to the project, the cached model is used when the file is not
+	 * changed.
+	 * @param file the java source file
+	 * @param javaProjectBuilder the project builder
+	 * @throws IOException if the file can't be read
+	 */
+	public void addSource(File file, JavaProjectBuilder javaProjectBuilder) throws IOException {
+		if (!install(javaProjectBuilder)) {
+			javaProjectBuilder.addSource(file);
+			return;
+		}
+		String path = file.getAbsolutePath();
+		String hash = DigestUtils.md5Hex(Files.readAllBytes(file.toPath()));
+		Entry entry = entries.get(path);
+		if (Objects.nonNull(entry) && hash.equals(entry.hash)) {
+			try {
+				replay = JavaSourceModel.read(entry.model);
+				replayUrl = file.toURI().toURL();
+				// the model builder replays the model instead of the empty source, the
+				// package-info of the package is not read, smart-doc reads only the
+				// package name
+				javaProjectBuilder.addSource(new StringReader(EMPTY_SOURCE));
+				current.put(path, entry);
+				hits++;
+				return;
+			}
+			catch (IOException | RuntimeException e) {
+				log.log(Level.FINE, "Unable to read the cached source of " + path, e);
+			}
+			finally {
+				replay = null;
+				replayUrl = null;
+			}
+		}
+		record = true;
+		JavaSource source;
+		byte[] model;
+		try {
+			source = javaProjectBuilder.addSource(file);
+			model = Objects.isNull(recorder) ? null : recorder.getModel();
+		}
+		finally {
+			record = false;
+			recorder = null;
+		}
+		changed = true;
+		// a source without a model is parsed again in the next build
+		if (Objects.nonNull(source) && Objects.nonNull(model)) {
+			current.put(path, new Entry(hash, model));
+		}
+	}
+
+	/**
+	 * Set the model builder factory to the source library of the project builder. The
+	 * library is reached through an empty source, qdox keeps the library builder of a
+	 * project builder to itself.
+	 * @param javaProjectBuilder the project builder
+	 * @return false if the library doesn't accept a model builder factory
+	 */
+	private boolean install(JavaProjectBuilder javaProjectBuilder) {
+		if (installed || disabled) {
+			return installed;
+		}
+		ClassLibrary classLibrary = javaProjectBuilder.addSource(new StringReader(EMPTY_SOURCE)).getJavaClassLibrary();
+		if (!(classLibrary instanceof AbstractClassLibrary)) {
+			log.warning("The source cache is disabled, the class library is not supported");
+			disabled = true;
+			return false;
+		}
+		((AbstractClassLibrary) classLibrary).setModelBuilderFactory(this::newModelBuilder);
+		installed = true;
+		return true;
+	}
+
+	/**
+	 * Create the model builder of a source added to the library.
+	 * @param classLibrary the library
+	 * @return the model builder
+	 */
+	private ModelBuilder newModelBuilder(ClassLibrary classLibrary) {
+		JavaSourceModel.RecordingModelBuilder builder = new JavaSourceModel.RecordingModelBuilder(classLibrary);
+		if (Objects.nonNull(replay)) {
+			builder.replay(replay, replayUrl);
+			replay = null;
+		}
+		else if (record) {
+			// only the source itself, not its package-info
+			builder.record();
+			recorder = builder;
+			record = false;
+		}
+		return builder;
+	}
+
+	/**
+	 * Get the number of the sources registered from the cache.
+	 * @return cache hits
+	 */
+	int getHits() {
+		return hits;
+	}
+
+	/**
+	 * Write the models of the files added in this build to the cache file.
+	 */
+	public void save() {
+		if (disabled) {
+			return;
+		}
+		log.fine("Source cache hits: " + hits + "/" + current.size());
+		if (!changed && current.keySet().equals(entries.keySet())) {
+			return;
+		}
+		File tempFile = new File(cacheFile.getAbsolutePath() + ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+				out.writeUTF(fingerprint());
+				out.writeInt(current.size());
+				for (Map.Entry<String, Entry> item : current.entrySet()) {
+					out.writeUTF(item.getKey());
+					out.writeUTF(item.getValue().hash);
+					out.writeInt(item.getValue().model.length);
+					out.write(item.getValue().model);
+				}
+			}
+			Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException | RuntimeException e) {
+			log.warning("Unable to write the source cache: " + e.getMessage());
+			tempFile.delete();
+		}
+	}
+
+	/**
+	 * Read the entries of the cache file, a missing or incompatible file gives an empty
+	 * cache. The models are read when their files are added.
+	 * @param cacheFile the cache file
+	 * @return the entries keyed by path
+	 */
+	private static Map<String, Entry> readEntries(File cacheFile) {
+		Map<String, Entry> entries = new HashMap<>();
+		if (!cacheFile.isFile()) {
+			return entries;
+		}
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(cacheFile.toPath())))) {
+			if (!fingerprint().equals(in.readUTF())) {
+				return entries;
+			}
+			int size = in.readInt();
+			for (int i = 0; i < size; i++) {
+				String path = in.readUTF();
+				String hash = in.readUTF();
+				int length = in.readInt();
+				if (length < 0 || length > cacheFile.length()) {
+					throw new IOException("Invalid model length " + length);
+				}
+				byte[] model = new byte[length];
+				in.readFully(model);
+				entries.put(path, new Entry(hash, model));
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			log.warning("Ignore the broken source cache: " + e.getMessage());
+			entries.clear();
+		}
+		return entries;
+	}
+
+	/**
+	 * The cached models depend on the qdox parser.
+	 * @return the fingerprint of the cache format
+	 */
+	private static String fingerprint() {
+		return SCHEMA + ":" + QDOX_VERSION;
+	}
+
+	/**
+	 * A cache entry
+	 */
+	private static class Entry {
+
+		private final String hash;
+
+		/**
+		 * the model written by {@link JavaSourceModel}
+		 */
+		private final byte[] model;
+
+		Entry(String hash, byte[] model) {
+			this.hash = hash;
+			this.model = model;
+		}
+
+	}
+
+}
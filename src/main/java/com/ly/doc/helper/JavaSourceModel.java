@@ -0,0 +1,1074 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.helper;
+
+import com.thoughtworks.qdox.builder.Builder;
+import com.thoughtworks.qdox.builder.impl.ModelBuilder;
+import com.thoughtworks.qdox.library.ClassLibrary;
+import com.thoughtworks.qdox.model.JavaSource;
+import com.thoughtworks.qdox.model.impl.DefaultDocletTagFactory;
+import com.thoughtworks.qdox.parser.expression.AddDef;
+import com.thoughtworks.qdox.parser.expression.AndDef;
+import com.thoughtworks.qdox.parser.expression.AssignmentDef;
+import com.thoughtworks.qdox.parser.expression.BinaryOperatorDef;
+import com.thoughtworks.qdox.parser.expression.CastDef;
+import com.thoughtworks.qdox.parser.expression.ConstantDef;
+import com.thoughtworks.qdox.parser.expression.CreatorDef;
+import com.thoughtworks.qdox.parser.expression.DivideDef;
+import com.thoughtworks.qdox.parser.expression.ElemValueDef;
+import com.thoughtworks.qdox.parser.expression.ElemValueListDef;
+import com.thoughtworks.qdox.parser.expression.EqualsDef;
+import com.thoughtworks.qdox.parser.expression.ExclusiveOrDef;
+import com.thoughtworks.qdox.parser.expression.ExpressionDef;
+import com.thoughtworks.qdox.parser.expression.FieldRefDef;
+import com.thoughtworks.qdox.parser.expression.GreaterEqualsDef;
+import com.thoughtworks.qdox.parser.expression.GreaterThanDef;
+import com.thoughtworks.qdox.parser.expression.LambdaDef;
+import com.thoughtworks.qdox.parser.expression.LessEqualsDef;
+import com.thoughtworks.qdox.parser.expression.LessThanDef;
+import com.thoughtworks.qdox.parser.expression.LogicalAndDef;
+import com.thoughtworks.qdox.parser.expression.LogicalNotDef;
+import com.thoughtworks.qdox.parser.expression.LogicalOrDef;
+import com.thoughtworks.qdox.parser.expression.MethodInvocationDef;
+import com.thoughtworks.qdox.parser.expression.MethodReferenceDef;
+import com.thoughtworks.qdox.parser.expression.MinusSignDef;
+import com.thoughtworks.qdox.parser.expression.MultiplyDef;
+import com.thoughtworks.qdox.parser.expression.NotDef;
+import com.thoughtworks.qdox.parser.expression.NotEqualsDef;
+import com.thoughtworks.qdox.parser.expression.OrDef;
+import com.thoughtworks.qdox.parser.expression.ParenExpressionDef;
+import com.thoughtworks.qdox.parser.expression.PlusSignDef;
+import com.thoughtworks.qdox.parser.expression.PostDecrementDef;
+import com.thoughtworks.qdox.parser.expression.PostIncrementDef;
+import com.thoughtworks.qdox.parser.expression.PreDecrementDef;
+import com.thoughtworks.qdox.parser.expression.PreIncrementDef;
+import com.thoughtworks.qdox.parser.expression.QueryDef;
+import com.thoughtworks.qdox.parser.expression.RemainderDef;
+import com.thoughtworks.qdox.parser.expression.ShiftLeftDef;
+import com.thoughtworks.qdox.parser.expression.ShiftRightDef;
+import com.thoughtworks.qdox.parser.expression.SubtractDef;
+import com.thoughtworks.qdox.parser.expression.TypeRefDef;
+import com.thoughtworks.qdox.parser.expression.UnaryOperatorDef;
+import com.thoughtworks.qdox.parser.expression.UnsignedShiftRightDef;
+import com.thoughtworks.qdox.parser.structs.AnnoDef;
+import com.thoughtworks.qdox.parser.structs.ClassDef;
+import com.thoughtworks.qdox.parser.structs.CompactConstructorDef;
+import com.thoughtworks.qdox.parser.structs.FieldDef;
+import com.thoughtworks.qdox.parser.structs.InitDef;
+import com.thoughtworks.qdox.parser.structs.MethodDef;
+import com.thoughtworks.qdox.parser.structs.ModuleDef;
+import com.thoughtworks.qdox.parser.structs.PackageDef;
+import com.thoughtworks.qdox.parser.structs.RecordFieldsDef;
+import com.thoughtworks.qdox.parser.structs.TagDef;
+import com.thoughtworks.qdox.parser.structs.TypeDef;
+import com.thoughtworks.qdox.parser.structs.TypeVariableDef;
+import com.thoughtworks.qdox.parser.structs.WildcardTypeDef;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The model of a java source extracted by the qdox parser: the package, the imports and
+ * the classes with their fields, methods, annotations, doclet tags and generic
+ * signatures, in the order the parser reports them to the {@link Builder}. The model is
+ * written in a compact binary form, replaying it to a {@link ModelBuilder} builds the
+ * same qdox model as parsing the source.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+final class JavaSourceModel {
+
+	private static final int PACKAGE = 1;
+
+	private static final int IMPORT = 2;
+
+	private static final int JAVADOC = 3;
+
+	private static final int JAVADOC_TAG = 4;
+
+	private static final int BEGIN_CLASS = 5;
+
+	private static final int END_CLASS = 6;
+
+	private static final int END_RECORD = 7;
+
+	private static final int IMPLEMENTS = 8;
+
+	private static final int INITIALIZER = 9;
+
+	private static final int BEGIN_CONSTRUCTOR = 10;
+
+	private static final int END_CONSTRUCTOR = 11;
+
+	private static final int COMPACT_CONSTRUCTOR = 12;
+
+	private static final int BEGIN_METHOD = 13;
+
+	private static final int END_METHOD = 14;
+
+	private static final int BEGIN_FIELD = 15;
+
+	private static final int FIELD_INITIALIZATION = 16;
+
+	private static final int END_FIELD = 17;
+
+	private static final int PARAMETER = 18;
+
+	private static final int ANNOTATION = 19;
+
+	private static final int ARGUMENT = 20;
+
+	private static final int NULL = 0;
+
+	private static final int TYPE = 1;
+
+	private static final int WILDCARD_TYPE = 2;
+
+	private static final int ANNO_VALUE = 1;
+
+	private static final int LIST_VALUE = 2;
+
+	private static final int CONSTANT_VALUE = 3;
+
+	private static final int FIELD_REF_VALUE = 4;
+
+	private static final int TYPE_REF_VALUE = 5;
+
+	private static final int PAREN_VALUE = 6;
+
+	private static final int CAST_VALUE = 7;
+
+	private static final int QUERY_VALUE = 8;
+
+	private static final int ASSIGNMENT_VALUE = 9;
+
+	private static final int METHOD_INVOCATION_VALUE = 10;
+
+	private static final int CREATOR_VALUE = 11;
+
+	private static final int LAMBDA_VALUE = 12;
+
+	private static final int METHOD_REFERENCE_VALUE = 13;
+
+	private static final int BINARY_VALUE = 14;
+
+	private static final int UNARY_VALUE = 15;
+
+	/**
+	 * the types of the literals, by the index written to the model
+	 */
+	private static final List<Class<?>> CONSTANT_TYPES = Arrays.asList(String.class, Integer.class, Long.class,
+			Float.class, Double.class, Character.class, Boolean.class);
+
+	/**
+	 * the binary operators by class name
+	 */
+	private static final Map<String, BiFunction<ElemValueDef, ElemValueDef, BinaryOperatorDef>> BINARY_OPERATORS = new HashMap<>();
+
+	/**
+	 * the unary operators by class name
+	 */
+	private static final Map<String, Function<ElemValueDef, UnaryOperatorDef>> UNARY_OPERATORS = new HashMap<>();
+
+	static {
+		BINARY_OPERATORS.put(AddDef.class.getName(), AddDef::new);
+		BINARY_OPERATORS.put(AndDef.class.getName(), AndDef::new);
+		BINARY_OPERATORS.put(DivideDef.class.getName(), DivideDef::new);
+		BINARY_OPERATORS.put(EqualsDef.class.getName(), EqualsDef::new);
+		BINARY_OPERATORS.put(ExclusiveOrDef.class.getName(), ExclusiveOrDef::new);
+		BINARY_OPERATORS.put(GreaterEqualsDef.class.getName(), GreaterEqualsDef::new);
+		BINARY_OPERATORS.put(GreaterThanDef.class.getName(), GreaterThanDef::new);
+		BINARY_OPERATORS.put(LessEqualsDef.class.getName(), LessEqualsDef::new);
+		BINARY_OPERATORS.put(LessThanDef.class.getName(), LessThanDef::new);
+		BINARY_OPERATORS.put(LogicalAndDef.class.getName(), LogicalAndDef::new);
+		BINARY_OPERATORS.put(LogicalOrDef.class.getName(), LogicalOrDef::new);
+		BINARY_OPERATORS.put(MultiplyDef.class.getName(), MultiplyDef::new);
+		BINARY_OPERATORS.put(NotEqualsDef.class.getName(), NotEqualsDef::new);
+		BINARY_OPERATORS.put(OrDef.class.getName(), OrDef::new);
+		BINARY_OPERATORS.put(RemainderDef.class.getName(), RemainderDef::new);
+		BINARY_OPERATORS.put(ShiftLeftDef.class.getName(), ShiftLeftDef::new);
+		BINARY_OPERATORS.put(ShiftRightDef.class.getName(), ShiftRightDef::new);
+		BINARY_OPERATORS.put(SubtractDef.class.getName(), SubtractDef::new);
+		BINARY_OPERATORS.put(UnsignedShiftRightDef.class.getName(), UnsignedShiftRightDef::new);
+		UNARY_OPERATORS.put(LogicalNotDef.class.getName(), LogicalNotDef::new);
+		UNARY_OPERATORS.put(MinusSignDef.class.getName(), MinusSignDef::new);
+		UNARY_OPERATORS.put(NotDef.class.getName(), NotDef::new);
+		UNARY_OPERATORS.put(PlusSignDef.class.getName(), PlusSignDef::new);
+		UNARY_OPERATORS.put(PostDecrementDef.class.getName(), PostDecrementDef::new);
+		UNARY_OPERATORS.put(PostIncrementDef.class.getName(), PostIncrementDef::new);
+		UNARY_OPERATORS.put(PreDecrementDef.class.getName(), PreDecrementDef::new);
+		UNARY_OPERATORS.put(PreIncrementDef.class.getName(), PreIncrementDef::new);
+	}
+
+	private JavaSourceModel() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Read a model written by a {@link RecordingModelBuilder}, the whole model is read
+	 * before it's replayed, so a broken model doesn't leave a half built source.
+	 * @param model the model
+	 * @return the events to replay to a builder
+	 * @throws IOException if the model is broken
+	 */
+	static List<Consumer<Builder>> read(byte[] model) throws IOException {
+		List<Consumer<Builder>> events = new ArrayList<>();
+		ByteBuffer in = ByteBuffer.wrap(model);
+		try {
+			while (in.hasRemaining()) {
+				int event = Byte.toUnsignedInt(in.get());
+				switch (event) {
+					case PACKAGE: {
+						PackageDef def = new PackageDef(readString(in), in.getInt());
+						events.add(builder -> builder.addPackage(def));
+						break;
+					}
+					case IMPORT: {
+						String name = readString(in);
+						events.add(builder -> builder.addImport(name));
+						break;
+					}
+					case JAVADOC: {
+						String comment = readString(in);
+						events.add(builder -> builder.addJavaDoc(comment));
+						break;
+					}
+					case JAVADOC_TAG: {
+						TagDef def = new TagDef(readString(in), readString(in), in.getInt());
+						events.add(builder -> builder.addJavaDocTag(def));
+						break;
+					}
+					case BEGIN_CLASS: {
+						ClassDef def = new ClassDef(readString(in));
+						def.setLineNumber(in.getInt());
+						def.setType(readString(in));
+						def.setModifiers(readStrings(in));
+						def.setExtends(readTypes(in));
+						def.setImplements(readTypes(in));
+						def.setTypeParameters(readTypeVariables(in));
+						events.add(builder -> builder.beginClass(def));
+						break;
+					}
+					case END_CLASS:
+						events.add(Builder::endClass);
+						break;
+					case END_RECORD: {
+						RecordFieldsDef def = new RecordFieldsDef();
+						int size = readSize(in);
+						for (int i = 0; i < size; i++) {
+							def.addField(readField(in));
+						}
+						events.add(builder -> builder.endRecord(def));
+						break;
+					}
+					case IMPLEMENTS: {
+						Set<TypeDef> types = readTypes(in);
+						events.add(builder -> builder.addImplements(types));
+						break;
+					}
+					case INITIALIZER: {
+						InitDef def = new InitDef(readString(in), readBoolean(in));
+						def.setLineNumber(in.getInt());
+						events.add(builder -> builder.addInitializer(def));
+						break;
+					}
+					case BEGIN_CONSTRUCTOR:
+						events.add(Builder::beginConstructor);
+						break;
+					case END_CONSTRUCTOR: {
+						MethodDef def = readMethod(in);
+						events.add(builder -> builder.endConstructor(def));
+						break;
+					}
+					case COMPACT_CONSTRUCTOR: {
+						CompactConstructorDef def = new CompactConstructorDef();
+						def.setLineNumber(in.getInt());
+						def.setModifiers(readStrings(in));
+						def.setBody(readString(in));
+						events.add(builder -> builder.addCompactConstructor(def));
+						break;
+					}
+					case BEGIN_METHOD:
+						events.add(Builder::beginMethod);
+						break;
+					case END_METHOD: {
+						MethodDef def = readMethod(in);
+						events.add(builder -> builder.endMethod(def));
+						break;
+					}
+					case BEGIN_FIELD: {
+						FieldDef def = readField(in);
+						events.add(builder -> builder.beginField(def));
+						break;
+					}
+					case FIELD_INITIALIZATION: {
+						String expression = readString(in);
+						events.add(builder -> builder.setFieldInitializationExpression(expression));
+						break;
+					}
+					case END_FIELD:
+						events.add(Builder::endField);
+						break;
+					case PARAMETER: {
+						FieldDef def = readField(in);
+						events.add(builder -> builder.addParameter(def));
+						break;
+					}
+					case ANNOTATION: {
+						AnnoDef def = readAnnotation(in);
+						events.add(builder -> builder.addAnnotation(def));
+						break;
+					}
+					case ARGUMENT: {
+						ExpressionDef def = toExpression(readValue(in));
+						events.add(builder -> builder.addArgument(def));
+						break;
+					}
+					default:
+						throw new IOException("Unknown source model event " + event);
+				}
+			}
+		}
+		catch (BufferUnderflowException e) {
+			throw new IOException("Truncated source model", e);
+		}
+		return events;
+	}
+
+	private static int readSize(ByteBuffer in) throws IOException {
+		int size = in.getInt();
+		if (size < -1 || size > in.remaining()) {
+			throw new IOException("Invalid size " + size);
+		}
+		return size;
+	}
+
+	private static boolean readBoolean(ByteBuffer in) {
+		return in.get() != 0;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (Objects.isNull(value)) {
+			out.writeInt(-1);
+			return;
+		}
+		// a method body may exceed the limit of writeUTF
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer in) throws IOException {
+		int size = readSize(in);
+		if (size < 0) {
+			return null;
+		}
+		String value = new String(in.array(), in.position(), size, StandardCharsets.UTF_8);
+		in.position(in.position() + size);
+		return value;
+	}
+
+	private static void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+		out.writeInt(Objects.isNull(values) ? -1 : values.size());
+		if (Objects.nonNull(values)) {
+			for (String value : values) {
+				writeString(out, value);
+			}
+		}
+	}
+
+	private static Set<String> readStrings(ByteBuffer in) throws IOException {
+		int size = readSize(in);
+		if (size < 0) {
+			return null;
+		}
+		Set<String> values = new LinkedHashSet<>(size);
+		for (int i = 0; i < size; i++) {
+			values.add(readString(in));
+		}
+		return values;
+	}
+
+	private static void writeType(DataOutputStream out, TypeDef type) throws IOException {
+		if (Objects.isNull(type)) {
+			out.writeByte(NULL);
+		}
+		else if (type instanceof WildcardTypeDef) {
+			WildcardTypeDef wildcardType = (WildcardTypeDef) type;
+			out.writeByte(WILDCARD_TYPE);
+			writeType(out, wildcardType.getTypeDef());
+			writeString(out, wildcardType.getWildcardExpressionType());
+		}
+		else {
+			out.writeByte(TYPE);
+			writeString(out, type.getName());
+			out.writeInt(type.getDimensions());
+			writeTypes(out, type.getActualArgumentTypes());
+		}
+	}
+
+	private static TypeDef readType(ByteBuffer in) throws IOException {
+		int kind = Byte.toUnsignedInt(in.get());
+		switch (kind) {
+			case NULL:
+				return null;
+			case WILDCARD_TYPE: {
+				TypeDef bound = readType(in);
+				String wildcardExpressionType = readString(in);
+				// an unbounded wildcard has no bound
+				return Objects.isNull(bound) ? new WildcardTypeDef()
+						: new WildcardTypeDef(bound, wildcardExpressionType);
+			}
+			case TYPE:
+				TypeDef type = new TypeDef(readString(in), in.getInt());
+				type.setActualArgumentTypes(readTypeList(in));
+				return type;
+			default:
+				throw new IOException("Unknown type " + kind);
+		}
+	}
+
+	private static void writeTypes(DataOutputStream out, Collection<TypeDef> types) throws IOException {
+		out.writeInt(Objects.isNull(types) ? -1 : types.size());
+		if (Objects.nonNull(types)) {
+			for (TypeDef type : types) {
+				writeType(out, type);
+			}
+		}
+	}
+
+	private static List<TypeDef> readTypeList(ByteBuffer in) throws IOException {
+		int size = readSize(in);
+		if (size < 0) {
+			return null;
+		}
+		List<TypeDef> types = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			types.add(readType(in));
+		}
+		return types;
+	}
+
+	private static Set<TypeDef> readTypes(ByteBuffer in) throws IOException {
+		List<TypeDef> types = readTypeList(in);
+		return Objects.isNull(types) ? null : new LinkedHashSet<>(types);
+	}
+
+	private static void writeTypeVariables(DataOutputStream out, List<TypeVariableDef> typeVariables)
+			throws IOException {
+		out.writeInt(Objects.isNull(typeVariables) ? -1 : typeVariables.size());
+		if (Objects.nonNull(typeVariables)) {
+			for (TypeVariableDef typeVariable : typeVariables) {
+				writeString(out, typeVariable.getName());
+				writeTypes(out, typeVariable.getBounds());
+			}
+		}
+	}
+
+	private static List<TypeVariableDef> readTypeVariables(ByteBuffer in) throws IOException {
+		int size = readSize(in);
+		if (size < 0) {
+			return null;
+		}
+		List<TypeVariableDef> typeVariables = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			typeVariables.add(new TypeVariableDef(readString(in), readTypeList(in)));
+		}
+		return typeVariables;
+	}
+
+	private static void writeField(DataOutputStream out, FieldDef def) throws IOException {
+		out.writeInt(def.getLineNumber());
+		writeString(out, def.getName());
+		writeType(out, def.getType());
+		out.writeInt(def.getDimensions());
+		out.writeBoolean(def.isVarArgs());
+		writeString(out, def.getBody());
+		writeStrings(out, def.getModifiers());
+		out.writeBoolean(def.isEnumConstant());
+	}
+
+	private static FieldDef readField(ByteBuffer in) throws IOException {
+		FieldDef def = new FieldDef();
+		def.setLineNumber(in.getInt());
+		def.setName(readString(in));
+		def.setType(readType(in));
+		def.setDimensions(in.getInt());
+		def.setVarArgs(readBoolean(in));
+		def.setBody(readString(in));
+		def.setModifiers(readStrings(in));
+		def.setEnumConstant(readBoolean(in));
+		return def;
+	}
+
+	private static void writeMethod(DataOutputStream out, MethodDef def) throws IOException {
+		out.writeInt(def.getLineNumber());
+		writeString(out, def.getName());
+		writeType(out, def.getReturnType());
+		writeStrings(out, def.getModifiers());
+		out.writeBoolean(def.isConstructor());
+		writeString(out, def.getBody());
+		out.writeInt(def.getDimensions());
+		writeTypes(out, def.getExceptions());
+		writeTypeVariables(out, def.getTypeParams());
+	}
+
+	private static MethodDef readMethod(ByteBuffer in) throws IOException {
+		MethodDef def = new MethodDef();
+		def.setLineNumber(in.getInt());
+		def.setName(readString(in));
+		def.setReturnType(readType(in));
+		def.setModifiers(readStrings(in));
+		def.setConstructor(readBoolean(in));
+		def.setBody(readString(in));
+		def.setDimensions(in.getInt());
+		def.setExceptions(readTypes(in));
+		def.setTypeParams(readTypeVariables(in));
+		return def;
+	}
+
+	private static void writeAnnotation(DataOutputStream out, AnnoDef def) throws IOException {
+		out.writeInt(def.getLineNumber());
+		writeType(out, def.getTypeDef());
+		out.writeInt(def.getArgs().size());
+		for (Map.Entry<String, ElemValueDef> arg : def.getArgs().entrySet()) {
+			writeString(out, arg.getKey());
+			writeValue(out, arg.getValue());
+		}
+	}
+
+	private static AnnoDef readAnnotation(ByteBuffer in) throws IOException {
+		int lineNumber = in.getInt();
+		AnnoDef def = new AnnoDef(readType(in));
+		def.setLineNumber(lineNumber);
+		int size = readSize(in);
+		for (int i = 0; i < size; i++) {
+			def.getArgs().put(readString(in), readValue(in));
+		}
+		return def;
+	}
+
+	private static void writeValues(DataOutputStream out, List<? extends ElemValueDef> values) throws IOException {
+		out.writeInt(Objects.isNull(values) ? -1 : values.size());
+		if (Objects.nonNull(values)) {
+			for (ElemValueDef value : values) {
+				writeValue(out, value);
+			}
+		}
+	}
+
+	private static List<ElemValueDef> readValues(ByteBuffer in) throws IOException {
+		int size = readSize(in);
+		if (size < 0) {
+			return null;
+		}
+		List<ElemValueDef> values = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			values.add(readValue(in));
+		}
+		return values;
+	}
+
+	private static List<ExpressionDef> readExpressions(ByteBuffer in) throws IOException {
+		List<ElemValueDef> values = readValues(in);
+		if (Objects.isNull(values)) {
+			return null;
+		}
+		List<ExpressionDef> expressions = new ArrayList<>(values.size());
+		for (ElemValueDef value : values) {
+			expressions.add(toExpression(value));
+		}
+		return expressions;
+	}
+
+	/**
+	 * Write an annotation value or an expression.
+	 * @param out the output
+	 * @param value the value
+	 * @throws IOException if the value can't be written
+	 * @throws UnsupportedOperationException if the model has no form for the value
+	 */
+	private static void writeValue(DataOutputStream out, ElemValueDef value) throws IOException {
+		if (Objects.isNull(value)) {
+			out.writeByte(NULL);
+		}
+		else if (value instanceof AnnoDef) {
+			out.writeByte(ANNO_VALUE);
+			writeAnnotation(out, (AnnoDef) value);
+		}
+		else if (value instanceof ElemValueListDef) {
+			out.writeByte(LIST_VALUE);
+			writeValues(out, ((ElemValueListDef) value).getValueList());
+		}
+		else if (value instanceof ConstantDef) {
+			ConstantDef constant = (ConstantDef) value;
+			int type = CONSTANT_TYPES.indexOf(constant.getType());
+			if (type < 0) {
+				throw new UnsupportedOperationException("Constant of " + constant.getType());
+			}
+			out.writeByte(CONSTANT_VALUE);
+			writeString(out, constant.getValue());
+			out.writeByte(type);
+		}
+		else if (value instanceof FieldRefDef) {
+			out.writeByte(FIELD_REF_VALUE);
+			writeString(out, ((FieldRefDef) value).getName());
+		}
+		else if (value instanceof TypeRefDef) {
+			out.writeByte(TYPE_REF_VALUE);
+			writeType(out, ((TypeRefDef) value).getTypeDef());
+		}
+		else if (value instanceof ParenExpressionDef) {
+			out.writeByte(PAREN_VALUE);
+			writeValue(out, ((ParenExpressionDef) value).getElemValueDef());
+		}
+		else if (value instanceof CastDef) {
+			out.writeByte(CAST_VALUE);
+			writeType(out, ((CastDef) value).getTypeDef());
+			writeValue(out, ((CastDef) value).getElemDef());
+		}
+		else if (value instanceof QueryDef) {
+			QueryDef query = (QueryDef) value;
+			out.writeByte(QUERY_VALUE);
+			writeValue(out, query.getCondition());
+			writeValue(out, query.getTrueExpression());
+			writeValue(out, query.getFalseExpression());
+		}
+		else if (value instanceof AssignmentDef) {
+			AssignmentDef assignment = (AssignmentDef) value;
+			out.writeByte(ASSIGNMENT_VALUE);
+			writeValue(out, assignment.getLetfHandSide());
+			writeString(out, assignment.getOperator());
+			writeValue(out, assignment.getAssignmentExpression());
+		}
+		else if (value instanceof MethodInvocationDef) {
+			out.writeByte(METHOD_INVOCATION_VALUE);
+			writeString(out, ((MethodInvocationDef) value).getMethodName());
+			writeValues(out, ((MethodInvocationDef) value).getArguments());
+		}
+		else if (value instanceof CreatorDef) {
+			CreatorDef creator = (CreatorDef) value;
+			List<TypeDef> typeArguments = null;
+			if (Objects.nonNull(creator.getTypeArguments())) {
+				typeArguments = new ArrayList<>();
+				for (Object typeArgument : creator.getTypeArguments()) {
+					if (!(typeArgument instanceof TypeDef)) {
+						throw new UnsupportedOperationException("Type argument " + typeArgument);
+					}
+					typeArguments.add((TypeDef) typeArgument);
+				}
+			}
+			out.writeByte(CREATOR_VALUE);
+			writeString(out, creator.getCreatedName());
+			writeTypes(out, typeArguments);
+			writeValues(out, creator.getArguments());
+			writeString(out, creator.getClassBody());
+		}
+		else if (value.getClass() == LambdaDef.class) {
+			out.writeByte(LAMBDA_VALUE);
+		}
+		else if (value.getClass() == MethodReferenceDef.class) {
+			out.writeByte(METHOD_REFERENCE_VALUE);
+		}
+		else if (BINARY_OPERATORS.containsKey(value.getClass().getName())) {
+			out.writeByte(BINARY_VALUE);
+			writeString(out, value.getClass().getName());
+			writeValue(out, ((BinaryOperatorDef) value).getLeft());
+			writeValue(out, ((BinaryOperatorDef) value).getRight());
+		}
+		else if (UNARY_OPERATORS.containsKey(value.getClass().getName())) {
+			out.writeByte(UNARY_VALUE);
+			writeString(out, value.getClass().getName());
+			writeValue(out, ((UnaryOperatorDef) value).getElemValueDef());
+		}
+		else {
+			throw new UnsupportedOperationException("Expression " + value.getClass().getName());
+		}
+	}
+
+	private static ElemValueDef readValue(ByteBuffer in) throws IOException {
+		int kind = Byte.toUnsignedInt(in.get());
+		switch (kind) {
+			case NULL:
+				return null;
+			case ANNO_VALUE:
+				return readAnnotation(in);
+			case LIST_VALUE:
+				return new ElemValueListDef(readValues(in));
+			case CONSTANT_VALUE: {
+				String value = readString(in);
+				int type = Byte.toUnsignedInt(in.get());
+				if (type >= CONSTANT_TYPES.size()) {
+					throw new IOException("Unknown constant type " + type);
+				}
+				return new ConstantDef(value, CONSTANT_TYPES.get(type));
+			}
+			case FIELD_REF_VALUE:
+				return new FieldRefDef(readString(in));
+			case TYPE_REF_VALUE:
+				return new TypeRefDef(readType(in));
+			case PAREN_VALUE:
+				return new ParenExpressionDef(readValue(in));
+			case CAST_VALUE:
+				return new CastDef(readType(in), readValue(in));
+			case QUERY_VALUE:
+				return new QueryDef(readValue(in), readValue(in), readValue(in));
+			case ASSIGNMENT_VALUE:
+				return new AssignmentDef(readValue(in), readString(in), readValue(in));
+			case METHOD_INVOCATION_VALUE:
+				return new MethodInvocationDef(readString(in), readExpressions(in));
+			case CREATOR_VALUE: {
+				CreatorDef creator = new CreatorDef();
+				creator.setCreatedName(readString(in));
+				creator.setTypeArguments(readTypeList(in));
+				creator.setArguments(readExpressions(in));
+				creator.setClassBody(readString(in));
+				return creator;
+			}
+			case LAMBDA_VALUE:
+				return new LambdaDef();
+			case METHOD_REFERENCE_VALUE:
+				return new MethodReferenceDef();
+			case BINARY_VALUE: {
+				BiFunction<ElemValueDef, ElemValueDef, BinaryOperatorDef> operator = BINARY_OPERATORS
+					.get(readString(in));
+				if (Objects.isNull(operator)) {
+					throw new IOException("Unknown binary operator");
+				}
+				return operator.apply(readValue(in), readValue(in));
+			}
+			case UNARY_VALUE: {
+				Function<ElemValueDef, UnaryOperatorDef> operator = UNARY_OPERATORS.get(readString(in));
+				if (Objects.isNull(operator)) {
+					throw new IOException("Unknown unary operator");
+				}
+				return operator.apply(readValue(in));
+			}
+			default:
+				throw new IOException("Unknown value " + kind);
+		}
+	}
+
+	private static ExpressionDef toExpression(ElemValueDef value) throws IOException {
+		if (Objects.nonNull(value) && !(value instanceof ExpressionDef)) {
+			throw new IOException("Not an expression " + value.getClass().getName());
+		}
+		return (ExpressionDef) value;
+	}
+
+	/**
+	 * An event written to the model.
+	 */
+	@FunctionalInterface
+	private interface EventWriter {
+
+		void write(DataOutputStream out) throws IOException;
+
+	}
+
+	/**
+	 * A {@link ModelBuilder} that records the model of the parsed source, or replays a
+	 * model read from the cache instead of the events of the parser.
+	 */
+	static class RecordingModelBuilder extends ModelBuilder {
+
+		/**
+		 * the recorded model, null if the builder doesn't record
+		 */
+		private ByteArrayOutputStream model;
+
+		private DataOutputStream out;
+
+		/**
+		 * the events to replay, null if the builder doesn't replay
+		 */
+		private List<Consumer<Builder>> events;
+
+		private URL url;
+
+		RecordingModelBuilder(ClassLibrary classLibrary) {
+			super(classLibrary, new DefaultDocletTagFactory());
+		}
+
+		/**
+		 * Record the model of the parsed source.
+		 */
+		void record() {
+			this.model = new ByteArrayOutputStream();
+			this.out = new DataOutputStream(this.model);
+		}
+
+		/**
+		 * Get the recorded model.
+		 * @return the model, null if the source has an element the model has no form for
+		 */
+		byte[] getModel() {
+			return Objects.isNull(out) ? null : model.toByteArray();
+		}
+
+		/**
+		 * Build the source from a model instead of the events of the parser.
+		 * @param events the events read from the model
+		 * @param url the url of the source file
+		 */
+		void replay(List<Consumer<Builder>> events, URL url) {
+			this.events = events;
+			this.url = url;
+		}
+
+		private void write(int event, EventWriter writer) {
+			if (Objects.isNull(out)) {
+				return;
+			}
+			try {
+				out.writeByte(event);
+				writer.write(out);
+			}
+			catch (IOException | UnsupportedOperationException e) {
+				// the source is parsed again in the next build
+				out = null;
+			}
+		}
+
+		private void unsupported() {
+			out = null;
+		}
+
+		@Override
+		public void setModule(ModuleDef moduleDef) {
+			unsupported();
+			super.setModule(moduleDef);
+		}
+
+		@Override
+		public void addExports(ModuleDef.ExportsDef exportsDef) {
+			unsupported();
+			super.addExports(exportsDef);
+		}
+
+		@Override
+		public void addOpens(ModuleDef.OpensDef opensDef) {
+			unsupported();
+			super.addOpens(opensDef);
+		}
+
+		@Override
+		public void addProvides(ModuleDef.ProvidesDef providesDef) {
+			unsupported();
+			super.addProvides(providesDef);
+		}
+
+		@Override
+		public void addRequires(ModuleDef.RequiresDef requiresDef) {
+			unsupported();
+			super.addRequires(requiresDef);
+		}
+
+		@Override
+		public void addUses(ModuleDef.UsesDef usesDef) {
+			unsupported();
+			super.addUses(usesDef);
+		}
+
+		@Override
+		public void addPackage(PackageDef packageDef) {
+			write(PACKAGE, o -> {
+				writeString(o, packageDef.getName());
+				o.writeInt(packageDef.getLineNumber());
+			});
+			super.addPackage(packageDef);
+		}
+
+		@Override
+		public void addImport(String importName) {
+			write(IMPORT, o -> writeString(o, importName));
+			super.addImport(importName);
+		}
+
+		@Override
+		public void addImplements(Set<TypeDef> implementSet) {
+			write(IMPLEMENTS, o -> writeTypes(o, implementSet));
+			super.addImplements(implementSet);
+		}
+
+		@Override
+		public void addJavaDoc(String text) {
+			write(JAVADOC, o -> writeString(o, text));
+			super.addJavaDoc(text);
+		}
+
+		@Override
+		public void addJavaDocTag(TagDef tagDef) {
+			write(JAVADOC_TAG, o -> {
+				writeString(o, tagDef.getName());
+				writeString(o, tagDef.getText());
+				o.writeInt(tagDef.getLineNumber());
+			});
+			super.addJavaDocTag(tagDef);
+		}
+
+		@Override
+		public void beginClass(ClassDef def) {
+			write(BEGIN_CLASS, o -> {
+				writeString(o, def.getName());
+				o.writeInt(def.getLineNumber());
+				writeString(o, def.getType());
+				writeStrings(o, def.getModifiers());
+				writeTypes(o, def.getExtends());
+				writeTypes(o, def.getImplements());
+				writeTypeVariables(o, def.getTypeParameters());
+			});
+			super.beginClass(def);
+		}
+
+		@Override
+		public void endClass() {
+			write(END_CLASS, o -> {
+			});
+			super.endClass();
+		}
+
+		@Override
+		public void endRecord(RecordFieldsDef def) {
+			write(END_RECORD, o -> {
+				o.writeInt(def.getFields().size());
+				for (FieldDef field : def.getFields()) {
+					writeField(o, field);
+				}
+			});
+			super.endRecord(def);
+		}
+
+		@Override
+		public void addInitializer(InitDef def) {
+			write(INITIALIZER, o -> {
+				writeString(o, def.getBlockContent());
+				o.writeBoolean(def.isStatic());
+				o.writeInt(def.getLineNumber());
+			});
+			super.addInitializer(def);
+		}
+
+		@Override
+		public void beginConstructor() {
+			write(BEGIN_CONSTRUCTOR, o -> {
+			});
+			super.beginConstructor();
+		}
+
+		@Override
+		public void endConstructor(MethodDef def) {
+			write(END_CONSTRUCTOR, o -> writeMethod(o, def));
+			super.endConstructor(def);
+		}
+
+		@Override
+		public void addCompactConstructor(CompactConstructorDef def) {
+			write(COMPACT_CONSTRUCTOR, o -> {
+				o.writeInt(def.getLineNumber());
+				writeStrings(o, def.getModifiers());
+				writeString(o, def.getBody());
+			});
+			super.addCompactConstructor(def);
+		}
+
+		@Override
+		public void beginMethod() {
+			write(BEGIN_METHOD, o -> {
+			});
+			super.beginMethod();
+		}
+
+		@Override
+		public void endMethod(MethodDef def) {
+			write(END_METHOD, o -> writeMethod(o, def));
+			super.endMethod(def);
+		}
+
+		@Override
+		public void beginField(FieldDef def) {
+			write(BEGIN_FIELD, o -> writeField(o, def));
+			super.beginField(def);
+		}
+
+		@Override
+		public void setFieldInitializationExpression(String initializationExpression) {
+			write(FIELD_INITIALIZATION, o -> writeString(o, initializationExpression));
+			super.setFieldInitializationExpression(initializationExpression);
+		}
+
+		@Override
+		public void endField() {
+			write(END_FIELD, o -> {
+			});
+			super.endField();
+		}
+
+		@Override
+		public void addParameter(FieldDef fieldDef) {
+			write(PARAMETER, o -> writeField(o, fieldDef));
+			super.addParameter(fieldDef);
+		}
+
+		@Override
+		public void addAnnotation(AnnoDef annotation) {
+			write(ANNOTATION, o -> writeAnnotation(o, annotation));
+			super.addAnnotation(annotation);
+		}
+
+		@Override
+		public void addArgument(ExpressionDef argument) {
+			write(ARGUMENT, o -> writeValue(o, argument));
+			super.addArgument(argument);
+		}
+
+		@Override
+		public JavaSource getSource() {
+			if (Objects.nonNull(events)) {
+				List<Consumer<Builder>> replayed = events;
+				events = null;
+				super.setUrl(url);
+				replayed.forEach(event -> event.accept(this));
+			}
+			return super.getSource();
+		}
+
+	}
+
+}
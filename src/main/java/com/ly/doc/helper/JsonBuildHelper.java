@@ -96,8 +96,8 @@ public class JsonBuildHelper extends BaseHelper {
 			return StringUtil.removeQuotes(DocUtil.jsonValueByType(typeName));
 		}
 
-		return JsonUtil.toPrettyFormat(buildJson(typeName, returnType, Boolean.TRUE, 0, new HashMap<>(16),
-				Collections.emptySet(), docJavaMethod.getJsonViewClasses(), builder));
+		return buildPrettyJson(typeName, returnType, Boolean.TRUE, 0, new HashMap<>(16), Collections.emptySet(),
+				docJavaMethod.getJsonViewClasses(), builder);
 	}
 
 	/**
@@ -116,6 +116,58 @@ public class JsonBuildHelper extends BaseHelper {
 	public static String buildJson(String typeName, String genericCanonicalName, boolean isResp, int counter,
 			Map<String, String> registryClasses, Set<String> groupClasses, Set<String> methodJsonViewClasses,
 			ProjectDocConfigBuilder projectBuilder) {
+		JsonExampleWriter writer = new JsonExampleWriter(false);
+		writeJson(writer, typeName, genericCanonicalName, isResp, counter, registryClasses, groupClasses,
+				methodJsonViewClasses, projectBuilder);
+		return writer.toString();
+	}
+
+	/**
+	 * Builds a pretty printed JSON string representation of a given type. The example is
+	 * indented while it is written, only examples with mock values that are not valid
+	 * json fall back to {@link JsonUtil#toPrettyFormat(String)}.
+	 * @param typeName The name of the type.
+	 * @param genericCanonicalName The canonical name of the generic type.
+	 * @param isResp Flag indicating if this is a response.
+	 * @param counter The recursion counter.
+	 * @param registryClasses A map to keep track of processed classes.
+	 * @param groupClasses A set of valid group classes.
+	 * @param methodJsonViewClasses A set of valid `@JsonView` classes on controller
+	 * method.
+	 * @param projectBuilder The project config projectBuilder.
+	 * @return The pretty printed JSON string representation of the type.
+	 * @since 3.0.9
+	 */
+	public static String buildPrettyJson(String typeName, String genericCanonicalName, boolean isResp, int counter,
+			Map<String, String> registryClasses, Set<String> groupClasses, Set<String> methodJsonViewClasses,
+			ProjectDocConfigBuilder projectBuilder) {
+		Map<String, String> registryClassesCopy = new HashMap<>(registryClasses);
+		JsonExampleWriter writer = new JsonExampleWriter(true);
+		writeJson(writer, typeName, genericCanonicalName, isResp, counter, registryClasses, groupClasses,
+				methodJsonViewClasses, projectBuilder);
+		if (!writer.isMalformed()) {
+			return writer.toString();
+		}
+		return JsonUtil.toPrettyFormat(buildJson(typeName, genericCanonicalName, isResp, counter, registryClassesCopy,
+				groupClasses, methodJsonViewClasses, projectBuilder));
+	}
+
+	/**
+	 * Writes the JSON representation of a given type.
+	 * @param writer The json example writer.
+	 * @param typeName The name of the type.
+	 * @param genericCanonicalName The canonical name of the generic type.
+	 * @param isResp Flag indicating if this is a response.
+	 * @param counter The recursion counter.
+	 * @param registryClasses A map to keep track of processed classes.
+	 * @param groupClasses A set of valid group classes.
+	 * @param methodJsonViewClasses A set of valid `@JsonView` classes on controller
+	 * method.
+	 * @param projectBuilder The project config projectBuilder.
+	 */
+	private static void writeJson(JsonExampleWriter writer, String typeName, String genericCanonicalName,
+			boolean isResp, int counter, Map<String, String> registryClasses, Set<String> groupClasses,
+			Set<String> methodJsonViewClasses, ProjectDocConfigBuilder projectBuilder) {
 
 		if (StringUtil.isEmpty(typeName)) {
 			throw new RuntimeException("Class name can't be null or empty.");
@@ -126,13 +178,15 @@ public class JsonBuildHelper extends BaseHelper {
 
 		// Early exit when recursion limit is hit
 		if (counter > recursionLimit) {
-			return "{\"$ref\":\"...\"}";
+			writeRef(writer, "...");
+			return;
 		}
 
 		int nextLevel = counter + 1;
 		// Avoid processing the same class multiple times
 		if (registryClasses.containsKey(typeName) && counter > registryClasses.size()) {
-			return "{\"$ref\":\"...\"}";
+			writeRef(writer, "...");
+			return;
 		}
 
 		// Registry class
@@ -144,28 +198,29 @@ public class JsonBuildHelper extends BaseHelper {
 		// Check if the class should be ignored based on MVC parameters
 		if (JavaClassValidateUtil.isMvcIgnoreParams(typeName, projectBuilder.getApiConfig().getIgnoreRequestParams())) {
 			if (DocGlobalConstants.MODE_AND_VIEW_FULLY.equals(typeName)) {
-				return "Forward or redirect to a page view.";
+				writer.rawValue("Forward or redirect to a page view.");
 			}
 			else {
-				return "Error restful return.";
+				writer.rawValue("Error restful return.");
 			}
+			return;
 		}
 
 		// Handle primitive types
 		if (JavaClassValidateUtil.isPrimitive(typeName)) {
-			return StringUtil.removeQuotes(DocUtil.jsonValueByType(typeName));
+			writer.rawValue(StringUtil.removeQuotes(DocUtil.jsonValueByType(typeName)));
+			return;
 		}
 
 		// Handle enum types
 		if (javaClass.isEnum()) {
-			return StringUtil
-				.removeQuotes(String.valueOf(JavaClassUtil.getEnumValue(javaClass, projectBuilder, Boolean.TRUE)));
+			writer.rawValue(StringUtil
+				.removeQuotes(String.valueOf(JavaClassUtil.getEnumValue(javaClass, projectBuilder, Boolean.TRUE))));
+			return;
 		}
 
-		StringBuilder result = new StringBuilder();
 		JavaClass cls = projectBuilder.getClassByName(typeName);
 
-		result.append("{");
 		String[] globGicName = DocClassUtil.getSimpleGicName(genericCanonicalName);
 
 		// Obtain generics from parent class if not found
@@ -178,330 +233,316 @@ public class JsonBuildHelper extends BaseHelper {
 			}
 		}
 		JavaClassUtil.genericParamMap(genericMap, cls, globGicName);
-		StringBuilder data = new StringBuilder();
 
 		// Handle collection types
 		if (JavaClassValidateUtil.isCollection(typeName) || JavaClassValidateUtil.isArray(typeName)) {
-			data.append("[");
+			writer.beginArray();
 			if (globGicName.length == 0) {
-				data.append("{\"object\":\"any object\"}");
-				data.append("]");
-				return data.toString();
+				writeAnyObject(writer);
+				writer.endArray();
+				return;
 			}
 			String gNameTemp = globGicName[0];
 			String gName = JavaClassValidateUtil.isArray(gNameTemp) ? gNameTemp.substring(0, gNameTemp.indexOf("["))
 					: globGicName[0];
 			if (JavaTypeConstants.JAVA_OBJECT_FULLY.equals(gName)) {
-				data.append(DocGlobalConstants.GENERIC_LIST_WARNING);
+				writer.rawValue(DocGlobalConstants.GENERIC_LIST_WARNING);
 			}
 			else if (JavaClassValidateUtil.isPrimitive(gName)) {
-				data.append(DocUtil.jsonValueByType(gName)).append(",");
-				data.append(DocUtil.jsonValueByType(gName));
+				writer.rawValue(DocUtil.jsonValueByType(gName));
+				writer.rawValue(DocUtil.jsonValueByType(gName));
 			}
 			else if (gName.contains("<")) {
 				String simple = DocClassUtil.getSimpleName(gName);
-				String json = buildJson(simple, gName, isResp, nextLevel, registryClasses, groupClasses,
+				writeJson(writer, simple, gName, isResp, nextLevel, registryClasses, groupClasses,
 						methodJsonViewClasses, projectBuilder);
-				data.append(json);
 			}
 			else if (JavaClassValidateUtil.isCollection(gName)) {
-				data.append("\"any object\"");
+				writer.value("any object");
 			}
 			else {
-				String json = buildJson(gName, gName, isResp, nextLevel, registryClasses, groupClasses,
-						methodJsonViewClasses, projectBuilder);
-				data.append(json);
+				writeJson(writer, gName, gName, isResp, nextLevel, registryClasses, groupClasses, methodJsonViewClasses,
+						projectBuilder);
 			}
-			data.append("]");
-			return data.toString();
+			writer.endArray();
+			return;
 		}
 		// Handle map types
 		if (JavaClassValidateUtil.isMap(typeName)) {
-			buildMapJson(genericCanonicalName, isResp, counter, registryClasses, groupClasses, methodJsonViewClasses,
-					projectBuilder, data, nextLevel);
-			return data.toString();
-		}
-		// Handle generic object types
-		if (JavaTypeConstants.JAVA_OBJECT_FULLY.equals(typeName)) {
-			data.append("{\"object\":\" any object\"},");
-			// throw new RuntimeException("Please do not return java.lang.Object directly
-			// in api interface.");
+			writeMapJson(writer, genericCanonicalName, isResp, counter, registryClasses, groupClasses,
+					methodJsonViewClasses, projectBuilder, nextLevel);
+			return;
 		}
 		// Handle Reactor types
-		else if (JavaClassValidateUtil.isReactor(typeName)) {
-			data.append(buildJson(globGicName[0], typeName, isResp, nextLevel, registryClasses, groupClasses,
-					methodJsonViewClasses, projectBuilder));
-			return data.toString();
+		if (!JavaTypeConstants.JAVA_OBJECT_FULLY.equals(typeName) && JavaClassValidateUtil.isReactor(typeName)) {
+			writeJson(writer, globGicName[0], typeName, isResp, nextLevel, registryClasses, groupClasses,
+					methodJsonViewClasses, projectBuilder);
+			return;
 		}
-		// Process fields of the class
-		else {
-			boolean requestFieldToUnderline = projectBuilder.getApiConfig().isRequestFieldToUnderline();
-			boolean responseFieldToUnderline = projectBuilder.getApiConfig().isResponseFieldToUnderline();
-			List<DocJavaField> fields = JavaClassUtil.getFields(cls, 0, new LinkedHashMap<>(),
-					projectBuilder.getApiConfig().getClassLoader());
-
-			// get ignore fields from class
-			Map<String, String> ignoreFields = JavaClassUtil.getClassJsonIgnoreFields(cls);
-
-			// Process each field of the class
-			for (DocJavaField docField : fields) {
-				JavaField field = docField.getJavaField();
-				// ignore transient field
-				if (isTransientField(field, projectBuilder, isResp)) {
-					continue;
-				}
+		writer.beginObject();
+		// Process fields of the class, java.lang.Object is written as an empty object
+		if (!JavaTypeConstants.JAVA_OBJECT_FULLY.equals(typeName)) {
+			writeFields(writer, cls, typeName, genericCanonicalName, globGicName, genericMap, isResp, nextLevel,
+					registryClasses, groupClasses, methodJsonViewClasses, projectBuilder);
+		}
+		writer.endObject();
+	}
 
-				String fieldName = docField.getFieldName();
+	/**
+	 * Writes the fields of a class.
+	 * @param writer The json example writer.
+	 * @param cls The class.
+	 * @param typeName The name of the type.
+	 * @param genericCanonicalName The canonical name of the generic type.
+	 * @param globGicName The generic names of the type.
+	 * @param genericMap The generic parameter map of the type.
+	 * @param isResp Flag indicating if this is a response.
+	 * @param nextLevel The recursion counter of the fields.
+	 * @param registryClasses A map to keep track of processed classes.
+	 * @param groupClasses A set of valid group classes.
+	 * @param methodJsonViewClasses A set of valid `@JsonView` classes on controller
+	 * method.
+	 * @param projectBuilder The project config projectBuilder.
+	 */
+	private static void writeFields(JsonExampleWriter writer, JavaClass cls, String typeName,
+			String genericCanonicalName, String[] globGicName, Map<String, String> genericMap, boolean isResp,
+			int nextLevel, Map<String, String> registryClasses, Set<String> groupClasses,
+			Set<String> methodJsonViewClasses, ProjectDocConfigBuilder projectBuilder) {
+		boolean requestFieldToUnderline = projectBuilder.getApiConfig().isRequestFieldToUnderline();
+		boolean responseFieldToUnderline = projectBuilder.getApiConfig().isResponseFieldToUnderline();
+		List<DocJavaField> fields = projectBuilder.getClassHierarchy().getFields(cls);
+
+		// get ignore fields from class
+		Map<String, String> ignoreFields = JavaClassUtil.getClassJsonIgnoreFields(cls);
+
+		// Process each field of the class
+		for (DocJavaField docField : fields) {
+			JavaField field = docField.getJavaField();
+			// ignore transient field
+			if (isTransientField(field, projectBuilder, isResp)) {
+				continue;
+			}
 
-				// if ignore fields contains the field name, then skip this field
-				if (ignoreFields.containsKey(fieldName)) {
-					continue;
-				}
-				String subTypeName = docField.getTypeFullyQualifiedName();
+			String fieldName = docField.getFieldName();
 
-				// if the field name is underlined, then convert it to camel case
-				if ((responseFieldToUnderline && isResp) || (requestFieldToUnderline && !isResp)) {
-					fieldName = StringUtil.camelToUnderline(fieldName);
-				}
+			// if ignore fields contains the field name, then skip this field
+			if (ignoreFields.containsKey(fieldName)) {
+				continue;
+			}
+			String subTypeName = docField.getTypeFullyQualifiedName();
 
-				// get tags value from the field
-				Map<String, String> tagsMap = DocUtil.getFieldTagsValue(field, docField);
-				// get annotations on the field
-				List<JavaAnnotation> annotations = docField.getAnnotations();
+			// if the field name is underlined, then convert it to camel case
+			if ((responseFieldToUnderline && isResp) || (requestFieldToUnderline && !isResp)) {
+				fieldName = StringUtil.camelToUnderline(fieldName);
+			}
 
-				// field json annotation
-				FieldJsonAnnotationInfo annotationInfo = getFieldJsonAnnotationInfo(projectBuilder, docField, isResp,
-						groupClasses, methodJsonViewClasses);
+			// get tags value from the field
+			Map<String, String> tagsMap = DocUtil.getFieldTagsValue(field, docField);
 
-				if (Boolean.TRUE.equals(annotationInfo.getIgnore())) {
-					continue;
-				}
-				// the param type from @JsonFormat
-				String fieldJsonFormatType = annotationInfo.getFieldJsonFormatType();
-				// the param value from @JsonFormat
-				String fieldJsonFormatValue = annotationInfo.getFieldJsonFormatValue();
-				// has Annotation @JsonSerialize And using ToStringSerializer
-				boolean toStringSerializer = Boolean.TRUE.equals(annotationInfo.getToStringSerializer());
-				if (Objects.nonNull(annotationInfo.getFieldName())) {
-					fieldName = annotationInfo.getFieldName();
-				}
+			// field json annotation
+			FieldJsonAnnotationInfo annotationInfo = getFieldJsonAnnotationInfo(projectBuilder, docField, isResp,
+					groupClasses, methodJsonViewClasses);
+
+			if (Boolean.TRUE.equals(annotationInfo.getIgnore())) {
+				continue;
+			}
+			// the param value from @JsonFormat
+			String fieldJsonFormatValue = annotationInfo.getFieldJsonFormatValue();
+			// has Annotation @JsonSerialize And using ToStringSerializer
+			boolean toStringSerializer = Boolean.TRUE.equals(annotationInfo.getToStringSerializer());
+			if (Objects.nonNull(annotationInfo.getFieldName())) {
+				fieldName = annotationInfo.getFieldName();
+			}
 
-				String typeSimpleName = docField.getTypeSimpleName();
-				String fieldGicName = docField.getTypeGenericCanonicalName();
-				CustomField.Key key = CustomField.Key.create(docField.getDeclaringClassName(), fieldName);
+			String typeSimpleName = docField.getTypeSimpleName();
+			String fieldGicName = docField.getTypeGenericCanonicalName();
+			CustomField.Key key = CustomField.Key.create(docField.getDeclaringClassName(), fieldName);
+
+			CustomField customResponseField = CustomField.nameEquals(key, projectBuilder.getCustomRespFieldMap());
+			CustomField customRequestField = CustomField.nameEquals(key, projectBuilder.getCustomReqFieldMap());
+			CustomFieldInfo customFieldInfo = getCustomFieldInfo(projectBuilder, docField, customResponseField,
+					customRequestField, isResp, typeSimpleName);
+			// ignore custom field
+			if (Boolean.TRUE.equals(customFieldInfo.getIgnore())) {
+				continue;
+			}
+			if (StringUtil.isNotEmpty(customFieldInfo.getFieldName())) {
+				fieldName = customFieldInfo.getFieldName();
+			}
 
-				CustomField customResponseField = CustomField.nameEquals(key, projectBuilder.getCustomRespFieldMap());
-				CustomField customRequestField = CustomField.nameEquals(key, projectBuilder.getCustomReqFieldMap());
-				CustomFieldInfo customFieldInfo = getCustomFieldInfo(projectBuilder, docField, customResponseField,
-						customRequestField, isResp, typeSimpleName);
-				// ignore custom field
-				if (Boolean.TRUE.equals(customFieldInfo.getIgnore())) {
+			fieldName = fieldName.trim();
+			writer.name(fieldName);
+			// get mock value from tag @mock
+			String fieldValue = getFieldValueFromMockForJson(subTypeName, tagsMap, typeSimpleName);
+			// if the field is primitive type, then get the default value
+			if (JavaClassValidateUtil.isPrimitive(subTypeName)) {
+				if (StringUtil.isEmpty(fieldValue)) {
+					String valueByTypeAndFieldName = DocUtil.getValByTypeAndFieldName(typeSimpleName, field.getName());
+					if (toStringSerializer && isResp) {
+						fieldValue = valueByTypeAndFieldName.startsWith("\"") && valueByTypeAndFieldName.endsWith("\"")
+								? valueByTypeAndFieldName : DocUtil.handleJsonStr(valueByTypeAndFieldName);
+					}
+					else {
+						fieldValue = StringUtil.isNotEmpty(fieldJsonFormatValue) ? fieldJsonFormatValue
+								: valueByTypeAndFieldName;
+					}
+				}
+				String customValue = null;
+				if (Objects.nonNull(customRequestField) && !isResp
+						&& typeName.equals(customRequestField.getOwnerClassName())) {
+					customValue = JavaFieldUtil.getCustomFieldJsonValue(typeSimpleName, customRequestField);
+				}
+				if (Objects.nonNull(customResponseField) && isResp
+						&& typeName.equals(customResponseField.getOwnerClassName())) {
+					customValue = JavaFieldUtil.getCustomFieldJsonValue(typeSimpleName, customResponseField);
+				}
+				writer.rawValue(Objects.nonNull(customValue) ? customValue : fieldValue);
+			}
+			// collection or array
+			else if (JavaClassValidateUtil.isCollection(subTypeName) || JavaClassValidateUtil.isArray(subTypeName)) {
+				if (StringUtil.isNotEmpty(fieldValue)) {
+					writer.rawValue(fieldValue);
 					continue;
 				}
-				if (StringUtil.isNotEmpty(customFieldInfo.getFieldName())) {
-					fieldName = customFieldInfo.getFieldName();
+				if (globGicName.length > 0 && JavaTypeConstants.JAVA_LIST_FULLY.equals(fieldGicName)) {
+					fieldGicName = fieldGicName + "<T>";
 				}
-
-				fieldName = fieldName.trim();
-				result.append("\"").append(fieldName).append("\":");
-				// get mock value from tag @mock
-				String fieldValue = getFieldValueFromMockForJson(subTypeName, tagsMap, typeSimpleName);
-				// if the field is primitive type, then get the default value
-				if (JavaClassValidateUtil.isPrimitive(subTypeName)) {
-					int data0Length = result.length();
-					if (StringUtil.isEmpty(fieldValue)) {
-						String valueByTypeAndFieldName = DocUtil.getValByTypeAndFieldName(typeSimpleName,
-								field.getName());
-						if (toStringSerializer && isResp) {
-							fieldValue = valueByTypeAndFieldName.startsWith("\"")
-									&& valueByTypeAndFieldName.endsWith("\"") ? valueByTypeAndFieldName
-											: DocUtil.handleJsonStr(valueByTypeAndFieldName);
-						}
-						else {
-							fieldValue = StringUtil.isNotEmpty(fieldJsonFormatValue) ? fieldJsonFormatValue
-									: valueByTypeAndFieldName;
-						}
+				if (JavaClassValidateUtil.isArray(subTypeName)) {
+					fieldGicName = fieldGicName.substring(0, fieldGicName.lastIndexOf("["));
+					fieldGicName = "java.util.List<" + fieldGicName + ">";
+				}
+				String[] gicNameArray = DocClassUtil.getSimpleGicName(fieldGicName);
+				String gicName = gicNameArray[0];
+				if (JavaTypeConstants.JAVA_STRING_FULLY.equals(gicName)) {
+					writer.beginArray().rawValue(DocUtil.jsonValueByType(gicName)).endArray();
+				}
+				else if (JavaTypeConstants.JAVA_LIST_FULLY.equals(gicName)) {
+					writer.beginArray();
+					writeAnyObject(writer);
+					writer.endArray();
+				}
+				else if (gicName.length() == 1) {
+					if (globGicName.length == 0) {
+						writer.beginArray();
+						writeAnyObject(writer);
+						writer.endArray();
+						continue;
 					}
-					if (Objects.nonNull(customRequestField) && !isResp
-							&& typeName.equals(customRequestField.getOwnerClassName())) {
-						JavaFieldUtil.buildCustomField(result, typeSimpleName, customRequestField);
+					String gicName1 = genericMap.get(gicName) == null ? globGicName[0] : genericMap.get(gicName);
+					if (JavaTypeConstants.JAVA_STRING_FULLY.equals(gicName1)) {
+						writer.beginArray().rawValue(DocUtil.jsonValueByType(gicName1)).endArray();
 					}
-					if (Objects.nonNull(customResponseField) && isResp
-							&& typeName.equals(customResponseField.getOwnerClassName())) {
-						JavaFieldUtil.buildCustomField(result, typeSimpleName, customResponseField);
+					else if (!typeName.equals(gicName1)) {
+						writer.beginArray();
+						writeJson(writer, DocClassUtil.getSimpleName(gicName1), gicName1, isResp, nextLevel,
+								registryClasses, groupClasses, methodJsonViewClasses, projectBuilder);
+						writer.endArray();
 					}
-					if (result.length() == data0Length) {
-						result.append(fieldValue).append(",");
+					else {
+						writer.beginArray();
+						writeRef(writer, "..");
+						writer.endArray();
 					}
 				}
-				else {
-					// collection or array
-					if (JavaClassValidateUtil.isCollection(subTypeName) || JavaClassValidateUtil.isArray(subTypeName)) {
-						if (StringUtil.isNotEmpty(fieldValue)) {
-							result.append(fieldValue).append(",");
-							continue;
-						}
-						if (globGicName.length > 0 && JavaTypeConstants.JAVA_LIST_FULLY.equals(fieldGicName)) {
-							fieldGicName = fieldGicName + "<T>";
-						}
-						if (JavaClassValidateUtil.isArray(subTypeName)) {
-							fieldGicName = fieldGicName.substring(0, fieldGicName.lastIndexOf("["));
-							fieldGicName = "java.util.List<" + fieldGicName + ">";
-						}
-						String[] gicNameArray = DocClassUtil.getSimpleGicName(fieldGicName);
-						String gicName = gicNameArray[0];
-						if (JavaTypeConstants.JAVA_STRING_FULLY.equals(gicName)) {
-							result.append("[").append(DocUtil.jsonValueByType(gicName)).append("]").append(",");
-						}
-						else if (JavaTypeConstants.JAVA_LIST_FULLY.equals(gicName)) {
-							result.append("[{\"object\":\"any object\"}],");
-						}
-						else if (gicName.length() == 1) {
-							if (globGicName.length == 0) {
-								result.append("[{\"object\":\"any object\"}],");
-								continue;
-							}
-							String gicName1 = genericMap.get(gicName) == null ? globGicName[0]
-									: genericMap.get(gicName);
-							if (JavaTypeConstants.JAVA_STRING_FULLY.equals(gicName1)) {
-								result.append("[").append(DocUtil.jsonValueByType(gicName1)).append("]").append(",");
-							}
-							else {
-								if (!typeName.equals(gicName1)) {
-									result.append("[")
-										.append(buildJson(DocClassUtil.getSimpleName(gicName1), gicName1, isResp,
-												nextLevel, registryClasses, groupClasses, methodJsonViewClasses,
-												projectBuilder))
-										.append("]")
-										.append(",");
-								}
-								else {
-									result.append("[{\"$ref\":\"..\"}]").append(",");
-								}
-							}
-						}
-						else {
-							if (!typeName.equals(gicName)) {
-								if (JavaClassValidateUtil.isMap(gicName)) {
-									result.append("[{\"mapKey\":{}}],");
-									continue;
-								}
-								JavaClass arraySubClass = projectBuilder.getJavaProjectBuilder()
-									.getClassByName(gicName);
-								if (arraySubClass.isEnum()) {
-									Object value = JavaClassUtil.getEnumValue(arraySubClass, projectBuilder,
-											Boolean.TRUE);
-									result.append("[").append(value).append("],");
-									continue;
-								}
-								gicName = DocClassUtil.getSimpleName(gicName);
-								fieldGicName = DocUtil.formatFieldTypeGicName(genericMap, fieldGicName);
-								result.append("[")
-									.append(buildJson(gicName, fieldGicName, isResp, nextLevel, registryClasses,
-											groupClasses, methodJsonViewClasses, projectBuilder))
-									.append("]")
-									.append(",");
-							}
-							else {
-								result.append("[{\"$ref\":\"..\"}]").append(",");
-							}
-						}
+				else if (!typeName.equals(gicName)) {
+					if (JavaClassValidateUtil.isMap(gicName)) {
+						writer.beginArray();
+						writeMapKey(writer);
+						writer.endArray();
+						continue;
 					}
-					// when the field is map
-					else if (JavaClassValidateUtil.isMap(subTypeName)) {
-						if (StringUtil.isNotEmpty(fieldValue)) {
-							result.append(fieldValue).append(",");
-							continue;
-						}
-						if (JavaClassValidateUtil.isMap(fieldGicName)) {
-							result.append("{").append("\"mapKey\":{}},");
-							continue;
-						}
-						buildMapJson(fieldGicName, isResp, nextLevel, registryClasses, groupClasses,
-								methodJsonViewClasses, projectBuilder, result, nextLevel);
+					JavaClass arraySubClass = projectBuilder.getJavaProjectBuilder().getClassByName(gicName);
+					if (arraySubClass.isEnum()) {
+						Object value = JavaClassUtil.getEnumValue(arraySubClass, projectBuilder, Boolean.TRUE);
+						writer.beginArray().rawValue(String.valueOf(value)).endArray();
+						continue;
 					}
-					else if (fieldGicName.length() == 1) {
-						if (!typeName.equals(genericCanonicalName)) {
-							String gicName = genericMap.get(subTypeName) == null ? globGicName[0]
-									: genericMap.get(subTypeName);
-							if (JavaClassValidateUtil.isPrimitive(gicName)) {
-								result.append(DocUtil.jsonValueByType(gicName)).append(",");
-							}
-							else {
-								String simple = DocClassUtil.getSimpleName(gicName);
-								result
-									.append(buildJson(simple, gicName, isResp, nextLevel, registryClasses, groupClasses,
-											methodJsonViewClasses, projectBuilder))
-									.append(",");
-							}
-						}
-						else {
-							result.append("{},");
-						}
+					gicName = DocClassUtil.getSimpleName(gicName);
+					fieldGicName = DocUtil.formatFieldTypeGicName(genericMap, fieldGicName);
+					writer.beginArray();
+					writeJson(writer, gicName, fieldGicName, isResp, nextLevel, registryClasses, groupClasses,
+							methodJsonViewClasses, projectBuilder);
+					writer.endArray();
+				}
+				else {
+					writer.beginArray();
+					writeRef(writer, "..");
+					writer.endArray();
+				}
+			}
+			// when the field is map
+			else if (JavaClassValidateUtil.isMap(subTypeName)) {
+				if (StringUtil.isNotEmpty(fieldValue)) {
+					writer.rawValue(fieldValue);
+					continue;
+				}
+				if (JavaClassValidateUtil.isMap(fieldGicName)) {
+					writeMapKey(writer);
+					continue;
+				}
+				writeMapJson(writer, fieldGicName, isResp, nextLevel, registryClasses, groupClasses,
+						methodJsonViewClasses, projectBuilder, nextLevel);
+			}
+			else if (fieldGicName.length() == 1) {
+				if (!typeName.equals(genericCanonicalName)) {
+					String gicName = genericMap.get(subTypeName) == null ? globGicName[0] : genericMap.get(subTypeName);
+					if (JavaClassValidateUtil.isPrimitive(gicName)) {
+						writer.rawValue(DocUtil.jsonValueByType(gicName));
 					}
-					// Object
-					else if (JavaTypeConstants.JAVA_OBJECT_FULLY.equals(fieldGicName)) {
-						if (StringUtil.isNotEmpty(field.getComment())) {
-							// from source code
-							result.append("{\"object\":\"any object\"},");
-						}
-						else {
-							result.append("{},");
-						}
+					else {
+						String simple = DocClassUtil.getSimpleName(gicName);
+						writeJson(writer, simple, gicName, isResp, nextLevel, registryClasses, groupClasses,
+								methodJsonViewClasses, projectBuilder);
 					}
-					else if (typeName.equals(fieldGicName)) {
-						result.append("{\"$ref\":\"...\"}").append(",");
+				}
+				else {
+					writer.beginObject().endObject();
+				}
+			}
+			// Object
+			else if (JavaTypeConstants.JAVA_OBJECT_FULLY.equals(fieldGicName)) {
+				if (StringUtil.isNotEmpty(field.getComment())) {
+					// from source code
+					writeAnyObject(writer);
+				}
+				else {
+					writer.beginObject().endObject();
+				}
+			}
+			else if (typeName.equals(fieldGicName)) {
+				writeRef(writer, "...");
+			}
+			else {
+				JavaClass fieldClass = field.getType();
+				// if enum
+				if (fieldClass.isEnum()) {
+					// Override old value
+					if (tagsMap.containsKey(DocTags.MOCK) && StringUtil.isNotEmpty(tagsMap.get(DocTags.MOCK))) {
+						writer.rawValue(tagsMap.get(DocTags.MOCK));
+					}
+					// if has @JsonFormat and not using ToStringSerializer in response
+					else if (!(toStringSerializer && isResp) && StringUtil.isNotEmpty(fieldJsonFormatValue)) {
+						writer.rawValue(fieldJsonFormatValue);
 					}
 					else {
-						javaClass = field.getType();
-						// if enum
-						if (javaClass.isEnum()) {
-							// Override old value
-							if (tagsMap.containsKey(DocTags.MOCK) && StringUtil.isNotEmpty(tagsMap.get(DocTags.MOCK))) {
-								result.append(tagsMap.get(DocTags.MOCK)).append(",");
-							}
-							// if has Annotation @JsonSerialize And using
-							// ToStringSerializer && isResp
-							else if (toStringSerializer && isResp) {
-								Object value = JavaClassUtil.getEnumValue(javaClass, projectBuilder, Boolean.TRUE);
-								result.append(value).append(",");
-							}
-							// if has @JsonFormat
-							else if (StringUtil.isNotEmpty(fieldJsonFormatValue)) {
-								result.append(fieldJsonFormatValue).append(",");
-							}
-							else {
-								Object value = JavaClassUtil.getEnumValue(javaClass, projectBuilder, Boolean.TRUE);
-								result.append(value).append(",");
-							}
-						}
-						else {
-							// if has Annotation @JsonSerialize And using
-							// ToStringSerializer && isResp
-							if (toStringSerializer && isResp) {
-								result.append(" ").append(",");
-							}
-							else if (StringUtil.isNotEmpty(fieldJsonFormatValue)) {
-								result.append(fieldJsonFormatValue).append(",");
-							}
-							else {
-								fieldGicName = DocUtil.formatFieldTypeGicName(genericMap, fieldGicName);
-								result
-									.append(buildJson(subTypeName, fieldGicName, isResp, nextLevel, registryClasses,
-											groupClasses, methodJsonViewClasses, projectBuilder))
-									.append(",");
-							}
-						}
+						Object value = JavaClassUtil.getEnumValue(fieldClass, projectBuilder, Boolean.TRUE);
+						writer.rawValue(String.valueOf(value));
 					}
 				}
+				// if has Annotation @JsonSerialize And using ToStringSerializer && isResp
+				else if (toStringSerializer && isResp) {
+					writer.rawValue(" ");
+				}
+				else if (StringUtil.isNotEmpty(fieldJsonFormatValue)) {
+					writer.rawValue(fieldJsonFormatValue);
+				}
+				else {
+					fieldGicName = DocUtil.formatFieldTypeGicName(genericMap, fieldGicName);
+					writeJson(writer, subTypeName, fieldGicName, isResp, nextLevel, registryClasses, groupClasses,
+							methodJsonViewClasses, projectBuilder);
+				}
 			}
 		}
-		// Remove the trailing comma
-		if (result.charAt(result.length() - 1) == ',') {
-			result.deleteCharAt(result.length() - 1);
-		}
-		result.append("}");
-		return result.toString();
 	}
 
 	/**
@@ -519,9 +560,30 @@ public class JsonBuildHelper extends BaseHelper {
 	public static void buildMapJson(String genericCanonicalName, boolean isResp, int counter,
 			Map<String, String> registryClasses, Set<String> groupClasses, Set<String> methodJsonViewClasses,
 			ProjectDocConfigBuilder builder, StringBuilder data, int nextLevel) {
+		JsonExampleWriter writer = new JsonExampleWriter(false);
+		writeMapJson(writer, genericCanonicalName, isResp, counter, registryClasses, groupClasses,
+				methodJsonViewClasses, builder, nextLevel);
+		data.append(writer);
+	}
+
+	/**
+	 * write map json
+	 * @param writer json example writer
+	 * @param genericCanonicalName genericCanonicalName
+	 * @param isResp isResp
+	 * @param counter counter
+	 * @param registryClasses registryClasses
+	 * @param groupClasses groupClasses
+	 * @param methodJsonViewClasses methodJsonViewClasses
+	 * @param builder builder
+	 * @param nextLevel nextLevel
+	 */
+	private static void writeMapJson(JsonExampleWriter writer, String genericCanonicalName, boolean isResp, int counter,
+			Map<String, String> registryClasses, Set<String> groupClasses, Set<String> methodJsonViewClasses,
+			ProjectDocConfigBuilder builder, int nextLevel) {
 		String[] getKeyValType = DocClassUtil.getMapKeyValueType(genericCanonicalName);
 		if (getKeyValType.length == 0) {
-			data.append("{\"mapKey\":{}}");
+			writeMapKey(writer);
 			return;
 		}
 		JavaClass mapKeyClass = builder.getJavaProjectBuilder().getClassByName(getKeyValType[0]);
@@ -535,53 +597,75 @@ public class JsonBuildHelper extends BaseHelper {
 		// when map key is enum
 		if (mapKeyIsEnum) {
 			String mapValueSimpleName = DocClassUtil.getSimpleName(gicName);
-			// Handle primitive types
-			data.append("{");
+			writer.beginObject();
 			for (JavaField field : mapKeyClass.getFields()) {
-				data.append("\"")
-					.append(field.getName())
-					.append("\":")
-					.append(JavaClassValidateUtil.isPrimitive(mapValueSimpleName)
-							? DocUtil.jsonValueByType(mapValueSimpleName)
-							: buildJson(mapValueSimpleName, gicName, isResp, counter + 1, registryClasses, groupClasses,
-									methodJsonViewClasses, builder))
-					.append(",");
-			}
-			// Remove the trailing comma
-			if (data.charAt(data.length() - 1) == ',') {
-				data.deleteCharAt(data.length() - 1);
+				writer.name(field.getName());
+				// Handle primitive types
+				if (JavaClassValidateUtil.isPrimitive(mapValueSimpleName)) {
+					writer.rawValue(DocUtil.jsonValueByType(mapValueSimpleName));
+				}
+				else {
+					writeJson(writer, mapValueSimpleName, gicName, isResp, counter + 1, registryClasses, groupClasses,
+							methodJsonViewClasses, builder);
+				}
 			}
-			data.append("}");
+			writer.endObject();
 			return;
 		}
 
 		// when map value is Object
 		if (JavaTypeConstants.JAVA_OBJECT_FULLY.equals(gicName)) {
-			data.append("{").append("\"mapKey\":").append(DocGlobalConstants.OBJECT_MAP_VALUE_WARNING).append("}");
+			writer.beginObject().name("mapKey").rawValue(DocGlobalConstants.OBJECT_MAP_VALUE_WARNING).endObject();
 			return;
 		}
 
 		// when map value is primitive
 		if (JavaClassValidateUtil.isPrimitive(gicName)) {
-			data.append("{").append("\"mapKey1\":").append(DocUtil.jsonValueByType(gicName)).append(",");
-			data.append("\"mapKey2\":").append(DocUtil.jsonValueByType(gicName)).append("}");
+			writer.beginObject()
+				.name("mapKey1")
+				.rawValue(DocUtil.jsonValueByType(gicName))
+				.name("mapKey2")
+				.rawValue(DocUtil.jsonValueByType(gicName))
+				.endObject();
 			return;
 		}
 
+		writer.beginObject().name("mapKey");
 		if (gicName.contains("<")) {
 			String simple = DocClassUtil.getSimpleName(gicName);
-			String json = buildJson(simple, gicName, isResp, nextLevel, registryClasses, groupClasses,
+			writeJson(writer, simple, gicName, isResp, nextLevel, registryClasses, groupClasses, methodJsonViewClasses,
+					builder);
+		}
+		else {
+			writeJson(writer, gicName, genericCanonicalName, isResp, counter + 1, registryClasses, groupClasses,
 					methodJsonViewClasses, builder);
-			data.append("{").append("\"mapKey\":").append(json).append("}");
-			return;
 		}
+		writer.endObject();
+	}
 
-		data.append("{")
-			.append("\"mapKey\":")
-			.append(buildJson(gicName, genericCanonicalName, isResp, counter + 1, registryClasses, groupClasses,
-					methodJsonViewClasses, builder))
-			.append("}");
+	/**
+	 * write {"$ref":"..."}
+	 * @param writer json example writer
+	 * @param ref ref
+	 */
+	private static void writeRef(JsonExampleWriter writer, String ref) {
+		writer.beginObject().name("$ref").value(ref).endObject();
+	}
+
+	/**
+	 * write {"object":"any object"}
+	 * @param writer json example writer
+	 */
+	private static void writeAnyObject(JsonExampleWriter writer) {
+		writer.beginObject().name("object").value("any object").endObject();
+	}
 
+	/**
+	 * write {"mapKey":{}}
+	 * @param writer json example writer
+	 */
+	private static void writeMapKey(JsonExampleWriter writer) {
+		writer.beginObject().name("mapKey").beginObject().endObject().endObject();
 	}
 
 }
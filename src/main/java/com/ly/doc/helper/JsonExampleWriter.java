@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.helper;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Json token stream used to build the json examples. The compact writer keeps the
+ * fragments of the mock values as they are, the pretty writer indents them in place so
+ * the example never has to be parsed again.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+final class JsonExampleWriter {
+
+	/**
+	 * Pretty print indent, the same as gson pretty printing
+	 */
+	private static final String INDENT = "  ";
+
+	private final StringWriter out = new StringWriter();
+
+	private final JsonWriter writer;
+
+	private final boolean pretty;
+
+	/**
+	 * Names written in the open objects, a duplicate name is merged by gson
+	 */
+	private final Deque<Set<String>> objectNames = new ArrayDeque<>();
+
+	/**
+	 * Number of the open objects and arrays
+	 */
+	private int depth;
+
+	/**
+	 * Set when a fragment of the pretty writer is not a single json value
+	 */
+	private boolean malformed;
+
+	JsonExampleWriter(boolean pretty) {
+		this.pretty = pretty;
+		this.writer = new JsonWriter(out);
+		if (pretty) {
+			this.writer.setIndent(INDENT);
+		}
+		this.writer.setSerializeNulls(false);
+	}
+
+	JsonExampleWriter beginObject() {
+		if (!malformed) {
+			try {
+				writer.beginObject();
+				depth++;
+				objectNames.push(new HashSet<>());
+			}
+			catch (IOException | IllegalStateException e) {
+				malformed = true;
+			}
+		}
+		return this;
+	}
+
+	JsonExampleWriter endObject() {
+		if (!malformed) {
+			try {
+				writer.endObject();
+				depth--;
+				objectNames.pop();
+			}
+			catch (IOException | IllegalStateException e) {
+				malformed = true;
+			}
+		}
+		return this;
+	}
+
+	JsonExampleWriter beginArray() {
+		if (!malformed) {
+			try {
+				writer.beginArray();
+				depth++;
+			}
+			catch (IOException | IllegalStateException e) {
+				malformed = true;
+			}
+		}
+		return this;
+	}
+
+	JsonExampleWriter endArray() {
+		if (!malformed) {
+			try {
+				writer.endArray();
+				depth--;
+			}
+			catch (IOException | IllegalStateException e) {
+				malformed = true;
+			}
+		}
+		return this;
+	}
+
+	JsonExampleWriter name(String name) {
+		if (!malformed) {
+			try {
+				if (pretty && !objectNames.isEmpty() && !objectNames.peek().add(name)) {
+					malformed = true;
+					return this;
+				}
+				writer.name(name);
+			}
+			catch (IOException | IllegalStateException e) {
+				malformed = true;
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Write a string value.
+	 * @param value string value
+	 * @return this
+	 */
+	JsonExampleWriter value(String value) {
+		if (!malformed) {
+			try {
+				writer.value(value);
+			}
+			catch (IOException | IllegalStateException e) {
+				malformed = true;
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Write a json fragment such as a mock value. The compact writer keeps it as it is,
+	 * the pretty writer copies its tokens. A top level fragment that is not an object or
+	 * an array is kept as it is by both.
+	 * @param json json fragment
+	 * @return this
+	 */
+	JsonExampleWriter rawValue(String json) {
+		if (malformed) {
+			return this;
+		}
+		try {
+			if (!pretty || (depth == 0 && !json.startsWith("[") && !json.startsWith("{"))) {
+				writer.jsonValue(json);
+				return this;
+			}
+			JsonReader reader = new JsonReader(new StringReader(json));
+			reader.setLenient(true);
+			this.copy(reader);
+			if (reader.peek() != JsonToken.END_DOCUMENT) {
+				malformed = true;
+			}
+		}
+		catch (IOException | IllegalStateException | NumberFormatException e) {
+			malformed = true;
+		}
+		return this;
+	}
+
+	/**
+	 * Whether a fragment of the pretty writer could not be written as json.
+	 * @return boolean
+	 */
+	boolean isMalformed() {
+		return malformed;
+	}
+
+	@Override
+	public String toString() {
+		return out.toString();
+	}
+
+	/**
+	 * Copy one json value from the reader, the same way gson reads and writes a json
+	 * element.
+	 * @param reader json reader
+	 * @throws IOException if the fragment is not json
+	 */
+	private void copy(JsonReader reader) throws IOException {
+		int level = 0;
+		do {
+			JsonToken token = reader.peek();
+			switch (token) {
+				case BEGIN_OBJECT:
+					reader.beginObject();
+					this.beginObject();
+					level++;
+					break;
+				case END_OBJECT:
+					reader.endObject();
+					this.endObject();
+					level--;
+					break;
+				case BEGIN_ARRAY:
+					reader.beginArray();
+					this.beginArray();
+					level++;
+					break;
+				case END_ARRAY:
+					reader.endArray();
+					this.endArray();
+					level--;
+					break;
+				case NAME:
+					this.name(reader.nextName());
+					break;
+				case STRING:
+					this.value(reader.nextString());
+					break;
+				case NUMBER:
+					writer.jsonValue(reader.nextString());
+					break;
+				case BOOLEAN:
+					writer.value(reader.nextBoolean());
+					break;
+				case NULL:
+					reader.nextNull();
+					writer.nullValue();
+					break;
+				default:
+					malformed = true;
+					return;
+			}
+		}
+		while (level > 0 && !malformed);
+	}
+
+}
@@ -51,14 +51,17 @@ import com.thoughtworks.qdox.model.JavaField;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -69,6 +72,13 @@ import java.util.stream.Collectors;
  */
 public class ParamsBuildHelper extends BaseHelper {
 
+	/**
+	 * Resolved parameter trees of a build, keyed by the ProjectDocConfigBuilder of the
+	 * build
+	 */
+	private static final Map<ProjectDocConfigBuilder, Map<ParamTreeKey, ParamTree>> PARAM_TREES = Collections
+		.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Builds a parameter list based on field information.
 	 * @param className The name of the generic type.
@@ -94,6 +104,54 @@ public class ParamsBuildHelper extends BaseHelper {
 	public static List<ApiParam> buildParams(String className, String pre, int level, String isRequired, boolean isResp,
 			Map<String, String> registryClasses, ProjectDocConfigBuilder projectBuilder, Set<String> groupClasses,
 			Set<String> methodJsonViewClasses, int pid, boolean jsonRequest, AtomicInteger atomicInteger) {
+		// the trees of a class reached through a registry depend on the classes visited
+		if (!registryClasses.isEmpty() || StringUtil.isEmpty(className)) {
+			return resolveParams(className, pre, level, isRequired, isResp, registryClasses, projectBuilder,
+					groupClasses, methodJsonViewClasses, pid, jsonRequest, atomicInteger);
+		}
+		Map<ParamTreeKey, ParamTree> trees = PARAM_TREES.computeIfAbsent(projectBuilder,
+				builder -> new ConcurrentHashMap<>(64));
+		ParamTreeKey key = new ParamTreeKey(className, pre, level, isRequired, isResp, groupClasses,
+				methodJsonViewClasses, jsonRequest, Objects.nonNull(atomicInteger), projectBuilder.getApiConfig());
+		ParamTree tree = trees.get(key);
+		if (Objects.isNull(tree)) {
+			if (Objects.isNull(atomicInteger)) {
+				tree = new ParamTree(pid, null, resolveParams(className, pre, level, isRequired, isResp,
+						registryClasses, projectBuilder, groupClasses, methodJsonViewClasses, pid, jsonRequest, null));
+			}
+			else {
+				// numbered from the base, the ids are moved behind the ids of the caller
+				// on copy
+				AtomicInteger ids = new AtomicInteger(ParamTree.ID_BASE);
+				tree = new ParamTree(0, ids, resolveParams(className, pre, level, isRequired, isResp, registryClasses,
+						projectBuilder, groupClasses, methodJsonViewClasses, 0, jsonRequest, ids));
+			}
+			trees.putIfAbsent(key, tree);
+		}
+		return tree.copy(pid, atomicInteger);
+	}
+
+	/**
+	 * Builds a parameter list based on field information without the cache of the build.
+	 * @param className The name of the generic type.
+	 * @param pre A prefix builder for nested fields.
+	 * @param level The next level of nesting.
+	 * @param isRequired Indicates whether the parameter is required.
+	 * @param isResp Indicates whether the parameter is a response parameter.
+	 * @param registryClasses A collection of registered classes.
+	 * @param projectBuilder A project builder instance.
+	 * @param groupClasses A collection of JSR303 grouped classes.
+	 * @param methodJsonViewClasses A set of valid `@JsonView` classes on controller
+	 * method.
+	 * @param pid The parent ID of the field.
+	 * @param jsonRequest The JSON request object.
+	 * @param atomicInteger An AtomicInteger for ID generation.
+	 * @return A List of ApiParam instances representing the built parameters.
+	 */
+	private static List<ApiParam> resolveParams(String className, String pre, int level, String isRequired,
+			boolean isResp, Map<String, String> registryClasses, ProjectDocConfigBuilder projectBuilder,
+			Set<String> groupClasses, Set<String> methodJsonViewClasses, int pid, boolean jsonRequest,
+			AtomicInteger atomicInteger) {
 
 		if (StringUtil.isEmpty(className)) {
 			throw new RuntimeException("Class name can't be null or empty.");
@@ -226,7 +284,7 @@ public class ParamsBuildHelper extends BaseHelper {
 		JavaClassUtil.genericParamMap(genericMap, cls, globGicName);
 
 		Map<String, String> ignoreFields = JavaClassUtil.getClassJsonIgnoreFields(cls);
-		List<DocJavaField> fields = JavaClassUtil.getFields(cls, 0, new LinkedHashMap<>(), classLoader);
+		List<DocJavaField> fields = projectBuilder.getClassHierarchy().getFields(cls);
 		for (DocJavaField docField : fields) {
 			JavaField field = docField.getJavaField();
 			// ignore transient field
@@ -991,4 +1049,120 @@ public class ParamsBuildHelper extends BaseHelper {
 		return paramList;
 	}
 
+	/**
+	 * Cache key of a parameter tree, everything that changes the tree except the pid and
+	 * the ids.
+	 */
+	private static final class ParamTreeKey {
+
+		private final String className;
+
+		private final String pre;
+
+		private final int level;
+
+		private final String isRequired;
+
+		private final boolean isResp;
+
+		private final Set<String> groupClasses;
+
+		private final Set<String> jsonViewClasses;
+
+		private final boolean jsonRequest;
+
+		private final boolean atomicIds;
+
+		/**
+		 * the config options read while the tree is resolved, the config of a build may
+		 * change between its option groups
+		 */
+		private final List<Object> options;
+
+		private ParamTreeKey(String className, String pre, int level, String isRequired, boolean isResp,
+				Set<String> groupClasses, Set<String> jsonViewClasses, boolean jsonRequest, boolean atomicIds,
+				ApiConfig apiConfig) {
+			this.className = className;
+			this.pre = pre;
+			this.level = level;
+			this.isRequired = isRequired;
+			this.isResp = isResp;
+			this.groupClasses = Objects.isNull(groupClasses) ? null : new HashSet<>(groupClasses);
+			this.jsonViewClasses = Objects.isNull(jsonViewClasses) ? null : new HashSet<>(jsonViewClasses);
+			this.jsonRequest = jsonRequest;
+			this.atomicIds = atomicIds;
+			this.options = Arrays.asList(apiConfig.getShowJavaType(), apiConfig.isRequestFieldToUnderline(),
+					apiConfig.isResponseFieldToUnderline(), apiConfig.isDisplayActualType(),
+					apiConfig.isShowValidation(), apiConfig.getInlineEnum(), apiConfig.isSerializeRequestTransients(),
+					apiConfig.isSerializeResponseTransients(), apiConfig.getRecursionLimit(),
+					apiConfig.getClassLoader());
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof ParamTreeKey)) {
+				return false;
+			}
+			ParamTreeKey that = (ParamTreeKey) o;
+			return level == that.level && isResp == that.isResp && jsonRequest == that.jsonRequest
+					&& atomicIds == that.atomicIds && className.equals(that.className) && Objects.equals(pre, that.pre)
+					&& Objects.equals(isRequired, that.isRequired) && Objects.equals(groupClasses, that.groupClasses)
+					&& Objects.equals(jsonViewClasses, that.jsonViewClasses) && options.equals(that.options);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(className, pre, level, isRequired, isResp, groupClasses, jsonViewClasses, jsonRequest,
+					atomicIds, options);
+		}
+
+	}
+
+	/**
+	 * Parameter tree built from a pid, copies are renumbered from the pid of the caller.
+	 */
+	private static final class ParamTree {
+
+		/**
+		 * first id of a tree numbered by an AtomicInteger, far above the ids computed
+		 * from the pid
+		 */
+		private static final int ID_BASE = 1 << 30;
+
+		private final int pid;
+
+		/**
+		 * number of the ids taken from the AtomicInteger, -1 if the ids are computed from
+		 * the pid
+		 */
+		private final int ids;
+
+		private final List<ApiParam> params;
+
+		private ParamTree(int pid, AtomicInteger ids, List<ApiParam> params) {
+			this.pid = pid;
+			this.ids = Objects.isNull(ids) ? -1 : ids.get() - ID_BASE;
+			this.params = params;
+		}
+
+		private List<ApiParam> copy(int newPid, AtomicInteger atomicInteger) {
+			int offset = newPid - pid;
+			// the ids the resolution would have taken from the AtomicInteger of the
+			// caller
+			int idOffset = ids < 0 ? 0 : atomicInteger.getAndAdd(ids) - ID_BASE;
+			List<ApiParam> copies = new ArrayList<>(params.size());
+			for (ApiParam param : params) {
+				ApiParam copy = param.clone();
+				copy.setId(param.getId() + (ids >= 0 && param.getId() > ID_BASE ? idOffset : offset));
+				copy.setPid(param.getPid() + (ids >= 0 && param.getPid() > ID_BASE ? idOffset : offset));
+				copies.add(copy);
+			}
+			return copies;
+		}
+
+	}
+
 }
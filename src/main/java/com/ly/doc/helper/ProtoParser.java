@@ -0,0 +1,845 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.helper;
+
+import com.ly.doc.model.grpc.proto.EnumDefinition;
+import com.ly.doc.model.grpc.proto.EnumValue;
+import com.ly.doc.model.grpc.proto.Message;
+import com.ly.doc.model.grpc.proto.MessageField;
+import com.ly.doc.model.grpc.proto.ProtoFile;
+import com.ly.doc.model.grpc.proto.ProtoJson;
+import com.ly.doc.model.grpc.proto.Service;
+import com.ly.doc.model.grpc.proto.ServiceMethod;
+import com.ly.doc.utils.DocThreadUtil;
+import com.power.common.util.StringUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * A parser of the .proto files. It builds the same model as the json output of
+ * protoc-gen-doc, so the gRPC docs are built in process. The files are parsed in
+ * parallel, then the type references are resolved against the messages and enums of all
+ * files.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public class ProtoParser {
+
+	private static final Logger log = Logger.getLogger(ProtoParser.class.getName());
+
+	/**
+	 * Scalar value types of protobuf
+	 */
+	private static final Set<String> SCALAR_TYPES = new HashSet<>(
+			Arrays.asList("double", "float", "int32", "int64", "uint32", "uint64", "sint32", "sint64", "fixed32",
+					"fixed64", "sfixed32", "sfixed64", "bool", "string", "bytes"));
+
+	/**
+	 * Path of the file, used in the error messages
+	 */
+	private final String path;
+
+	private final List<Token> tokens;
+
+	private int pos;
+
+	/**
+	 * proto3 fields have no label unless they are repeated or optional
+	 */
+	private boolean proto3;
+
+	private final ProtoFile protoFile;
+
+	/**
+	 * Type references resolved after all files are parsed
+	 */
+	private final List<TypeReference> references = new ArrayList<>();
+
+	private ProtoParser(String path, String content) {
+		this.path = path;
+		this.tokens = tokenize(content);
+		this.protoFile = ProtoFile.builder()
+			.setName(Paths.get(path).getFileName().toString())
+			.setDescription("")
+			.setPackageName("")
+			.setEnums(new ArrayList<>())
+			.setExtensions(new ArrayList<>())
+			.setMessages(new ArrayList<>())
+			.setServices(new ArrayList<>());
+	}
+
+	/**
+	 * Parse the .proto files. A file that can't be read or parsed is skipped with a
+	 * warning.
+	 * @param paths paths of the .proto files
+	 * @return the parsed files ordered by path
+	 */
+	public static ProtoJson parse(Collection<String> paths) {
+		List<String> files = new ArrayList<>(new TreeSet<>(paths));
+		List<ProtoParser> parsers = new ArrayList<>(files.size());
+		int threads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+		if (threads < 2) {
+			for (String file : files) {
+				parsers.add(parseFile(file));
+			}
+		}
+		else {
+			ExecutorService parsePool = Executors.newFixedThreadPool(threads,
+					DocThreadUtil.daemonThreadFactory("smart-doc-proto-"));
+			try {
+				List<CompletableFuture<ProtoParser>> futures = new ArrayList<>(files.size());
+				for (String file : files) {
+					futures.add(CompletableFuture.supplyAsync(() -> parseFile(file), parsePool));
+				}
+				for (CompletableFuture<ProtoParser> future : futures) {
+					parsers.add(future.join());
+				}
+			}
+			finally {
+				parsePool.shutdownNow();
+			}
+		}
+		parsers.removeIf(Objects::isNull);
+		resolveReferences(parsers);
+		List<ProtoFile> protoFiles = new ArrayList<>(parsers.size());
+		for (ProtoParser parser : parsers) {
+			protoFiles.add(parser.protoFile);
+		}
+		return ProtoJson.builder().setFiles(protoFiles);
+	}
+
+	private static ProtoParser parseFile(String file) {
+		try {
+			Path path = Paths.get(file);
+			ProtoParser parser = new ProtoParser(file, new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+			parser.parseFile();
+			return parser;
+		}
+		catch (IOException | RuntimeException e) {
+			log.warning("Error parsing proto file: " + file + ", " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Resolve the type names with the scoping rules of protobuf, the innermost scope
+	 * wins.
+	 * @param parsers parsers of all files
+	 */
+	private static void resolveReferences(List<ProtoParser> parsers) {
+		// full name of the messages and enums to the package of their file
+		Map<String, String> packages = new HashMap<>();
+		for (ProtoParser parser : parsers) {
+			String packageName = parser.protoFile.getPackageName();
+			for (Message message : parser.protoFile.getMessages()) {
+				packages.put(message.getFullName(), packageName);
+			}
+			for (EnumDefinition definition : parser.protoFile.getEnums()) {
+				packages.put(definition.getFullName(), packageName);
+			}
+		}
+		for (ProtoParser parser : parsers) {
+			for (TypeReference reference : parser.references) {
+				reference.resolve(packages);
+			}
+		}
+	}
+
+	private void parseFile() {
+		ProtoFile file = this.protoFile;
+		while (this.pos < this.tokens.size()) {
+			Token token = this.next();
+			if (token.is("syntax") || token.is("edition")) {
+				this.expect("=");
+				String syntax = this.next().text;
+				this.proto3 = token.is("edition") || "proto3".equals(syntax);
+				this.expect(";");
+				file.setDescription(description(token, null));
+			}
+			else if (token.is("package")) {
+				file.setPackageName(this.word());
+				this.expect(";");
+				if (StringUtil.isEmpty(file.getDescription())) {
+					file.setDescription(description(token, null));
+				}
+			}
+			else if (token.is("message")) {
+				this.parseMessage(token, file.getPackageName(), "");
+			}
+			else if (token.is("enum")) {
+				this.parseEnum(token, file.getPackageName(), "");
+			}
+			else if (token.is("service")) {
+				this.parseService(token);
+			}
+			else {
+				// import, option, extend and empty statements
+				this.skipStatement(token);
+			}
+		}
+		file.setHasMessages(!file.getMessages().isEmpty());
+		file.setHasEnums(!file.getEnums().isEmpty());
+		file.setHasServices(!file.getServices().isEmpty());
+	}
+
+	private void parseMessage(Token keyword, String parentFullName, String parentLongName) {
+		String name = this.word();
+		Token open = this.expect("{");
+		List<MessageField> fields = new ArrayList<>();
+		Message message = Message.builder()
+			.setName(name)
+			.setLongName(qualify(parentLongName, name))
+			.setFullName(qualify(parentFullName, name))
+			.setDescription(description(keyword, open))
+			.setFields(fields);
+		this.protoFile.getMessages().add(message);
+		while (!this.peekIs("}")) {
+			Token token = this.next();
+			if (token.is("message")) {
+				this.parseMessage(token, message.getFullName(), message.getLongName());
+			}
+			else if (token.is("enum")) {
+				this.parseEnum(token, message.getFullName(), message.getLongName());
+			}
+			else if (token.is("oneof")) {
+				String oneof = this.word();
+				this.expect("{");
+				message.setHasOneofs(true);
+				while (!this.peekIs("}")) {
+					Token field = this.next();
+					if (field.is("option") || field.is(";")) {
+						this.skipStatement(field);
+					}
+					else {
+						fields.add(this.parseField(field, message, oneof));
+					}
+				}
+				this.next();
+			}
+			else if (token.is("map") && this.peekIs("<")) {
+				fields.add(this.parseMapField(token, message));
+			}
+			else if (token.is("option") || token.is("reserved") || token.is("extensions") || token.is("extend")
+					|| token.is("group") || token.is(";")) {
+				this.skipStatement(token);
+			}
+			else {
+				fields.add(this.parseField(token, message, null));
+			}
+		}
+		this.next();
+		message.setHasFields(!fields.isEmpty());
+	}
+
+	private MessageField parseField(Token first, Message message, String oneof) {
+		String label = null;
+		Token type = first;
+		if (first.is("optional") || first.is("required") || first.is("repeated")) {
+			label = first.text;
+			type = this.next();
+		}
+		String name = this.word();
+		this.expect("=");
+		this.next();
+		String defaultValue = this.fieldOptions();
+		Token end = this.expect(";");
+		MessageField field = MessageField.builder()
+			.setName(name)
+			.setDescription(description(first, end))
+			.setDefaultValue(defaultValue);
+		if (Objects.nonNull(oneof)) {
+			field.setOneof(true).setOneofDecl(oneof);
+		}
+		if ("repeated".equals(label)) {
+			field.setLabel(label);
+		}
+		else if (this.proto3) {
+			if ("optional".equals(label)) {
+				// proto3 optional fields are in a synthetic oneof
+				field.setLabel(label).setOneof(true).setOneofDecl("_" + name);
+				message.setHasOneofs(true);
+			}
+			else {
+				field.setLabel("");
+			}
+		}
+		else {
+			field.setLabel(Objects.isNull(label) ? "optional" : label);
+		}
+		this.reference(type.text, message.getFullName(), (simpleType, longType,
+				fullType) -> field.setType(simpleType).setLongType(longType).setFullType(fullType));
+		return field;
+	}
+
+	/**
+	 * Parse a map field. Like protoc, the map is a repeated field of a nested entry
+	 * message with a key and a value field.
+	 */
+	private MessageField parseMapField(Token first, Message message) {
+		this.expect("<");
+		String keyType = this.word();
+		this.expect(",");
+		String valueType = this.word();
+		this.expect(">");
+		String name = this.word();
+		this.expect("=");
+		this.next();
+		this.fieldOptions();
+		Token end = this.expect(";");
+
+		String entryName = mapEntryName(name);
+		List<MessageField> entryFields = new ArrayList<>(2);
+		Message entry = Message.builder()
+			.setName(entryName)
+			.setLongName(qualify(message.getLongName(), entryName))
+			.setFullName(qualify(message.getFullName(), entryName))
+			.setDescription("")
+			.setHasFields(true)
+			.setFields(entryFields);
+		this.protoFile.getMessages().add(entry);
+		String entryLabel = this.proto3 ? "" : "optional";
+		MessageField key = MessageField.builder().setName("key").setDescription("").setLabel(entryLabel);
+		this.reference(keyType, entry.getFullName(), (simpleType, longType,
+				fullType) -> key.setType(simpleType).setLongType(longType).setFullType(fullType));
+		MessageField value = MessageField.builder().setName("value").setDescription("").setLabel(entryLabel);
+		this.reference(valueType, entry.getFullName(), (simpleType, longType,
+				fullType) -> value.setType(simpleType).setLongType(longType).setFullType(fullType));
+		entryFields.add(key);
+		entryFields.add(value);
+
+		return MessageField.builder()
+			.setName(name)
+			.setDescription(description(first, end))
+			.setLabel("repeated")
+			.setMap(true)
+			.setType(entryName)
+			.setLongType(entry.getLongName())
+			.setFullType(entry.getFullName())
+			.setDefaultValue("");
+	}
+
+	private void parseEnum(Token keyword, String parentFullName, String parentLongName) {
+		String name = this.word();
+		Token open = this.expect("{");
+		List<EnumValue> values = new ArrayList<>();
+		this.protoFile.getEnums()
+			.add(EnumDefinition.builder()
+				.setName(name)
+				.setLongName(qualify(parentLongName, name))
+				.setFullName(qualify(parentFullName, name))
+				.setDescription(description(keyword, open))
+				.setValues(values));
+		while (!this.peekIs("}")) {
+			Token token = this.next();
+			if (token.is("option") || token.is("reserved") || token.is(";")) {
+				this.skipStatement(token);
+				continue;
+			}
+			this.expect("=");
+			Token number = this.next();
+			this.fieldOptions();
+			Token end = this.expect(";");
+			values.add(EnumValue.builder()
+				.setName(token.text)
+				.setNumber(this.parseNumber(number))
+				.setDescription(description(token, end)));
+		}
+		this.next();
+	}
+
+	private void parseService(Token keyword) {
+		String name = this.word();
+		Token open = this.expect("{");
+		List<ServiceMethod> methods = new ArrayList<>();
+		Service service = Service.builder()
+			.setName(name)
+			.setLongName(name)
+			.setFullName(qualify(this.protoFile.getPackageName(), name))
+			.setDescription(description(keyword, open))
+			.setMethods(methods);
+		this.protoFile.getServices().add(service);
+		while (!this.peekIs("}")) {
+			Token token = this.next();
+			if (!token.is("rpc")) {
+				this.skipStatement(token);
+				continue;
+			}
+			String methodName = this.word();
+			this.expect("(");
+			boolean requestStreaming = this.acceptStream();
+			String requestType = this.word();
+			this.expect(")");
+			this.expect("returns");
+			this.expect("(");
+			boolean responseStreaming = this.acceptStream();
+			String responseType = this.word();
+			this.expect(")");
+			Token end = this.next();
+			if (end.is("{")) {
+				// method options
+				this.skipStatement(end);
+			}
+			else if (!end.is(";")) {
+				throw this.error("expected ';' or '{'", end);
+			}
+			ServiceMethod method = ServiceMethod.builder()
+				.setName(methodName)
+				.setDescription(description(token, end))
+				.setRequestStreaming(requestStreaming)
+				.setResponseStreaming(responseStreaming);
+			this.reference(requestType, service.getFullName(),
+					(simpleType, longType, fullType) -> method.setRequestType(simpleType)
+						.setRequestLongType(longType)
+						.setRequestFullType(fullType));
+			this.reference(responseType, service.getFullName(),
+					(simpleType, longType, fullType) -> method.setResponseType(simpleType)
+						.setResponseLongType(longType)
+						.setResponseFullType(fullType));
+			methods.add(method);
+		}
+		this.next();
+	}
+
+	/**
+	 * Skip the options of a field or an enum value.
+	 * @return the default value of a proto2 field, or an empty string
+	 */
+	private String fieldOptions() {
+		String defaultValue = "";
+		if (!this.peekIs("[")) {
+			return defaultValue;
+		}
+		int depth = 0;
+		do {
+			Token token = this.next();
+			if (token.is("[") || token.is("{")) {
+				depth++;
+			}
+			else if (token.is("]") || token.is("}")) {
+				depth--;
+			}
+			else if (depth == 1 && token.is("default") && this.peekIs("=")) {
+				this.next();
+				defaultValue = this.next().text;
+			}
+		}
+		while (depth > 0);
+		return defaultValue;
+	}
+
+	/**
+	 * Skip a statement ending with ';' or a block, the first token is consumed already.
+	 */
+	private void skipStatement(Token first) {
+		int depth = 0;
+		Token token = first;
+		while (true) {
+			if (token.is("{")) {
+				depth++;
+			}
+			else if (token.is("}")) {
+				if (--depth == 0) {
+					return;
+				}
+			}
+			else if (token.is(";") && depth == 0) {
+				return;
+			}
+			token = this.next();
+		}
+	}
+
+	private boolean acceptStream() {
+		if (this.peekIs("stream") && this.pos + 1 < this.tokens.size() && !this.tokens.get(this.pos + 1).is(")")) {
+			this.next();
+			return true;
+		}
+		return false;
+	}
+
+	private void reference(String name, String scope, TypeSetter setter) {
+		if (SCALAR_TYPES.contains(name)) {
+			setter.set(name, name, name);
+			return;
+		}
+		this.references.add(new TypeReference(name, scope, setter));
+	}
+
+	private int parseNumber(Token token) {
+		try {
+			return Integer.decode(token.text);
+		}
+		catch (NumberFormatException e) {
+			throw this.error("invalid number '" + token.text + "'", token);
+		}
+	}
+
+	private Token next() {
+		this.checkEnd();
+		return this.tokens.get(this.pos++);
+	}
+
+	private boolean peekIs(String text) {
+		this.checkEnd();
+		return this.tokens.get(this.pos).is(text);
+	}
+
+	private void checkEnd() {
+		if (this.pos >= this.tokens.size()) {
+			Token last = this.tokens.isEmpty() ? null : this.tokens.get(this.tokens.size() - 1);
+			throw this.error("unexpected end of file", last);
+		}
+	}
+
+	private Token expect(String text) {
+		Token token = this.next();
+		if (!token.is(text)) {
+			throw this.error("expected '" + text + "' but found '" + token.text + "'", token);
+		}
+		return token;
+	}
+
+	private String word() {
+		Token token = this.next();
+		if (token.quoted || !isWordChar(token.text.charAt(0))) {
+			throw this.error("expected a name but found '" + token.text + "'", token);
+		}
+		return token.text;
+	}
+
+	private RuntimeException error(String message, Token token) {
+		return new RuntimeException(this.path + ":" + (Objects.isNull(token) ? 1 : token.line) + " " + message);
+	}
+
+	private static String qualify(String scope, String name) {
+		return StringUtil.isEmpty(scope) ? name : scope + "." + name;
+	}
+
+	/**
+	 * The entry message name of a map field, e.g. "user_names" to "UserNamesEntry".
+	 */
+	private static String mapEntryName(String fieldName) {
+		StringBuilder name = new StringBuilder(fieldName.length() + 5);
+		boolean upper = true;
+		for (int i = 0; i < fieldName.length(); i++) {
+			char c = fieldName.charAt(i);
+			if (c == '_') {
+				upper = true;
+				continue;
+			}
+			name.append(upper ? Character.toUpperCase(c) : c);
+			upper = false;
+		}
+		return name.append("Entry").toString();
+	}
+
+	/**
+	 * The description of an element, the leading comments followed by the trailing
+	 * comment.
+	 * @param first the first token of the element
+	 * @param last the token after which a trailing comment is attached
+	 * @return the description, empty if there is no comment
+	 */
+	private static String description(Token first, Token last) {
+		StringBuilder description = new StringBuilder();
+		if (Objects.nonNull(first.leadingComment)) {
+			description.append(first.leadingComment).append('\n');
+		}
+		if (Objects.nonNull(last) && Objects.nonNull(last.trailingComment)) {
+			description.append(last.trailingComment);
+		}
+		return description.toString().trim();
+	}
+
+	private static boolean isWordChar(char c) {
+		return Character.isLetterOrDigit(c) || c == '_' || c == '.';
+	}
+
+	/**
+	 * Split the content into tokens and attach the comments to them. The comments right
+	 * above a token are its leading comments, a comment starting on the line of a token
+	 * is its trailing comment.
+	 */
+	private static List<Token> tokenize(String content) {
+		List<Token> tokens = new ArrayList<>();
+		List<Comment> comments = new ArrayList<>();
+		int length = content.length();
+		int line = 1;
+		int i = 0;
+		while (i < length) {
+			char c = content.charAt(i);
+			if (c == '\n') {
+				line++;
+				i++;
+				continue;
+			}
+			if (Character.isWhitespace(c)) {
+				i++;
+				continue;
+			}
+			if (c == '/' && i + 1 < length && content.charAt(i + 1) == '/') {
+				int end = content.indexOf('\n', i);
+				end = end < 0 ? length : end;
+				comments.add(new Comment(content.substring(i + 2, end), line, line, false));
+				i = end;
+				continue;
+			}
+			if (c == '/' && i + 1 < length && content.charAt(i + 1) == '*') {
+				int end = content.indexOf("*/", i + 2);
+				end = end < 0 ? length : end;
+				String text = content.substring(i + 2, end);
+				int startLine = line;
+				for (int k = 0; k < text.length(); k++) {
+					if (text.charAt(k) == '\n') {
+						line++;
+					}
+				}
+				comments.add(new Comment(text, startLine, line, true));
+				i = Math.min(length, end + 2);
+				continue;
+			}
+			Token token;
+			int start = i;
+			if (c == '"' || c == '\'') {
+				int startLine = line;
+				StringBuilder value = new StringBuilder();
+				i++;
+				while (i < length && content.charAt(i) != c) {
+					char ch = content.charAt(i++);
+					if (ch == '\\' && i < length) {
+						value.append(ch);
+						ch = content.charAt(i++);
+					}
+					if (ch == '\n') {
+						line++;
+					}
+					value.append(ch);
+				}
+				i++;
+				token = new Token(value.toString(), true, startLine);
+			}
+			else if (isWordChar(c) || ((c == '-' || c == '+') && i + 1 < length && isWordChar(content.charAt(i + 1)))) {
+				i++;
+				while (i < length && (isWordChar(content.charAt(i)) || isExponentSign(content, start, i))) {
+					i++;
+				}
+				token = new Token(content.substring(start, i), false, line);
+			}
+			else {
+				i++;
+				token = new Token(String.valueOf(c), false, line);
+			}
+			attachComments(tokens, comments, token);
+			tokens.add(token);
+		}
+		attachComments(tokens, comments, null);
+		return tokens;
+	}
+
+	/**
+	 * The sign of an exponent in a float literal, e.g. 1.5e-3
+	 */
+	private static boolean isExponentSign(String content, int start, int i) {
+		char c = content.charAt(i);
+		char previous = content.charAt(i - 1);
+		return (c == '-' || c == '+') && (previous == 'e' || previous == 'E')
+				&& Character.isDigit(content.charAt(Character.isDigit(content.charAt(start)) ? start : start + 1));
+	}
+
+	private static void attachComments(List<Token> tokens, List<Comment> comments, Token token) {
+		if (comments.isEmpty()) {
+			return;
+		}
+		int first = 0;
+		Token previous = tokens.isEmpty() ? null : tokens.get(tokens.size() - 1);
+		if (Objects.nonNull(previous) && comments.get(0).startLine == previous.line) {
+			previous.trailingComment = comments.get(0).text();
+			first = 1;
+		}
+		if (Objects.nonNull(token)) {
+			// the comment block must end right above the token
+			int expectedLine = token.line;
+			int from = comments.size();
+			for (int k = comments.size() - 1; k >= first; k--) {
+				Comment comment = comments.get(k);
+				if (comment.endLine < expectedLine - 1) {
+					break;
+				}
+				from = k;
+				expectedLine = comment.startLine;
+			}
+			if (from < comments.size()) {
+				StringBuilder leading = new StringBuilder();
+				for (Comment comment : comments.subList(from, comments.size())) {
+					leading.append(comment.text()).append('\n');
+				}
+				token.leadingComment = leading.toString().trim();
+			}
+		}
+		comments.clear();
+	}
+
+	/**
+	 * Sets the resolved type of a field or a method
+	 */
+	@FunctionalInterface
+	private interface TypeSetter {
+
+		void set(String simpleType, String longType, String fullType);
+
+	}
+
+	/**
+	 * A type name used in a scope
+	 */
+	private static final class TypeReference {
+
+		private final String name;
+
+		private final String scope;
+
+		private final TypeSetter setter;
+
+		private TypeReference(String name, String scope, TypeSetter setter) {
+			this.name = name;
+			this.scope = scope;
+			this.setter = setter;
+		}
+
+		private void resolve(Map<String, String> packages) {
+			String fullName = this.fullName(packages);
+			String packageName = packages.get(fullName);
+			String longName = StringUtil.isNotEmpty(packageName) && fullName.startsWith(packageName + ".")
+					? fullName.substring(packageName.length() + 1) : fullName;
+			this.setter.set(fullName.substring(fullName.lastIndexOf('.') + 1), longName, fullName);
+		}
+
+		private String fullName(Map<String, String> packages) {
+			if (this.name.startsWith(".")) {
+				return this.name.substring(1);
+			}
+			String scope = this.scope;
+			while (true) {
+				String candidate = qualify(scope, this.name);
+				if (packages.containsKey(candidate)) {
+					return candidate;
+				}
+				if (StringUtil.isEmpty(scope)) {
+					return this.name;
+				}
+				int dot = scope.lastIndexOf('.');
+				scope = dot < 0 ? "" : scope.substring(0, dot);
+			}
+		}
+
+	}
+
+	private static final class Token {
+
+		private final String text;
+
+		/**
+		 * true for a string literal
+		 */
+		private final boolean quoted;
+
+		private final int line;
+
+		private String leadingComment;
+
+		private String trailingComment;
+
+		private Token(String text, boolean quoted, int line) {
+			this.text = text;
+			this.quoted = quoted;
+			this.line = line;
+		}
+
+		private boolean is(String value) {
+			return !this.quoted && this.text.equals(value);
+		}
+
+	}
+
+	private static final class Comment {
+
+		private final String text;
+
+		private final int startLine;
+
+		private final int endLine;
+
+		private final boolean block;
+
+		private Comment(String text, int startLine, int endLine, boolean block) {
+			this.text = text;
+			this.startLine = startLine;
+			this.endLine = endLine;
+			this.block = block;
+		}
+
+		/**
+		 * The comment text without the comment markers and the leading space of the lines
+		 */
+		private String text() {
+			StringBuilder text = new StringBuilder();
+			for (String line : this.text.split("\n", -1)) {
+				String value = line;
+				if (this.block) {
+					value = value.trim();
+					if (value.startsWith("*")) {
+						value = value.substring(1);
+					}
+				}
+				if (value.startsWith(" ")) {
+					value = value.substring(1);
+				}
+				int end = value.length();
+				while (end > 0 && Character.isWhitespace(value.charAt(end - 1))) {
+					end--;
+				}
+				text.append(value, 0, end).append('\n');
+			}
+			return text.toString().trim();
+		}
+
+	}
+
+}
@@ -467,6 +467,86 @@ public class ApiConfig {
 	 */
 	private boolean enumConvertor = Boolean.FALSE;
 
+	/**
+	 * Number of threads used to analyze the controllers. A value less than 2 keeps the
+	 * serial analysis.
+	 *
+	 * @since 3.0.9
+	 */
+	private int analysisThreads = 1;
+
+	/**
+	 * Cache the parsed source models under baseDir, only the changed source files are
+	 * parsed in the next build.
+	 *
+	 * @since 3.0.9
+	 */
+	private boolean sourceCache;
+
+	/**
+	 * Number of threads used to render the single page docs of the controllers. A value
+	 * less than 2 keeps the serial rendering.
+	 *
+	 * @since 3.0.9
+	 */
+	private int renderThreads = 1;
+
+	/**
+	 * Record the output files in a manifest under outPath, the pages rendered from an
+	 * unchanged model are not rendered again and unchanged files are not written again.
+	 * All the files of the builders are written through the manifest except the word
+	 * documents, which are zip archives. The pages stamped with the build time are
+	 * rendered and written on every build.
+	 *
+	 * @since 3.0.9
+	 */
+	private boolean outputManifest;
+
+	/**
+	 * Number of api partitions pushed to Torna at the same time. A value less than 2
+	 * pushes the partitions one after another.
+	 *
+	 * @since 3.0.9
+	 */
+	private int tornaPushThreads = 1;
+
+	/**
+	 * Number of retries of a Torna push that failed with an io error or a server error
+	 *
+	 * @since 3.0.9
+	 */
+	private int tornaPushRetries = 2;
+
+	/**
+	 * Gzip the body of the Torna push requests, the server must accept gzip encoded
+	 * requests.
+	 *
+	 * @since 3.0.9
+	 */
+	private boolean tornaGzip;
+
+	/**
+	 * Record the wall time, cpu time and allocated bytes of the build phases, controllers
+	 * and endpoints, and write them to smart-doc-performance.json in the output path
+	 *
+	 * @since 3.0.9
+	 */
+	private boolean performanceReport;
+
+	/**
+	 * Number of the slowest endpoints listed in the performance report
+	 *
+	 * @since 3.0.9
+	 */
+	private int performanceReportTopN = 10;
+
+	/**
+	 * Also emit the recorded phases as JFR events, requires a JVM with JFR
+	 *
+	 * @since 3.0.9
+	 */
+	private boolean performanceJfr;
+
 	public static ApiConfig getInstance() {
 		return instance;
 	}
@@ -1156,4 +1236,84 @@ public class ApiConfig {
 		this.enumConvertor = enumConvertor;
 	}
 
+	public int getAnalysisThreads() {
+		return analysisThreads;
+	}
+
+	public void setAnalysisThreads(int analysisThreads) {
+		this.analysisThreads = analysisThreads;
+	}
+
+	public boolean isSourceCache() {
+		return sourceCache;
+	}
+
+	public void setSourceCache(boolean sourceCache) {
+		this.sourceCache = sourceCache;
+	}
+
+	public int getRenderThreads() {
+		return renderThreads;
+	}
+
+	public void setRenderThreads(int renderThreads) {
+		this.renderThreads = renderThreads;
+	}
+
+	public boolean isOutputManifest() {
+		return outputManifest;
+	}
+
+	public void setOutputManifest(boolean outputManifest) {
+		this.outputManifest = outputManifest;
+	}
+
+	public int getTornaPushThreads() {
+		return tornaPushThreads;
+	}
+
+	public void setTornaPushThreads(int tornaPushThreads) {
+		this.tornaPushThreads = tornaPushThreads;
+	}
+
+	public int getTornaPushRetries() {
+		return tornaPushRetries;
+	}
+
+	public void setTornaPushRetries(int tornaPushRetries) {
+		this.tornaPushRetries = tornaPushRetries;
+	}
+
+	public boolean isTornaGzip() {
+		return tornaGzip;
+	}
+
+	public void setTornaGzip(boolean tornaGzip) {
+		this.tornaGzip = tornaGzip;
+	}
+
+	public boolean isPerformanceReport() {
+		return performanceReport;
+	}
+
+	public void setPerformanceReport(boolean performanceReport) {
+		this.performanceReport = performanceReport;
+	}
+
+	public int getPerformanceReportTopN() {
+		return performanceReportTopN;
+	}
+
+	public void setPerformanceReportTopN(int performanceReportTopN) {
+		this.performanceReportTopN = performanceReportTopN;
+	}
+
+	public boolean isPerformanceJfr() {
+		return performanceJfr;
+	}
+
+	public void setPerformanceJfr(boolean performanceJfr) {
+		this.performanceJfr = performanceJfr;
+	}
+
 }
@@ -135,6 +135,39 @@ public class ApiDoc implements IDoc, Comparable<ApiDoc> {
 		return apiDoc;
 	}
 
+	/**
+	 * Copy the controller level data of the api doc, the method docs are shared with the
+	 * source.
+	 * @param source source api doc
+	 * @return ApiDoc
+	 * @since 3.0.9
+	 */
+	public static ApiDoc copyOf(ApiDoc source) {
+		ApiDoc apiDoc = new ApiDoc();
+		apiDoc.setOrder(source.getOrder());
+		apiDoc.setName(source.getName());
+		apiDoc.setAlias(source.getAlias());
+		apiDoc.setTags(source.getTags());
+		apiDoc.getTagRefs().addAll(source.getTagRefs());
+		apiDoc.setGroup(source.getGroup());
+		apiDoc.setPackageName(source.getPackageName());
+		apiDoc.setDesc(source.getDesc());
+		apiDoc.setLink(source.link);
+		apiDoc.setAuthor(source.getAuthor());
+		apiDoc.setFolder(source.isFolder());
+		if (Objects.nonNull(source.list)) {
+			apiDoc.setList(new ArrayList<>(source.list));
+		}
+		if (Objects.nonNull(source.getChildrenApiDocs())) {
+			List<ApiDoc> children = new ArrayList<>(source.getChildrenApiDocs().size());
+			for (ApiDoc child : source.getChildrenApiDocs()) {
+				children.add(copyOf(child));
+			}
+			apiDoc.setChildrenApiDocs(children);
+		}
+		return apiDoc;
+	}
+
 	public String getAuthor() {
 		return author;
 	}
@@ -42,7 +42,7 @@ import static com.ly.doc.constants.DocGlobalConstants.PARAM_PREFIX;
  * @author yu 2019/9/27.
  * @since 1.7.2
  */
-public class ApiParam implements Serializable {
+public class ApiParam implements Serializable, Cloneable {
 
 	/**
 	 * serialVersionUID
@@ -407,6 +407,16 @@ public class ApiParam implements Serializable {
 		}
 	}
 
+	@Override
+	public ApiParam clone() {
+		try {
+			return (ApiParam) super.clone();
+		}
+		catch (CloneNotSupportedException e) {
+			throw new RuntimeException("clone apiParam is error", e);
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "ApiParam{" + "className='" + className + '\'' + ", id=" + id + ", field='" + field + '\'' + ", type='"
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.model;
+
+import com.ly.doc.model.torna.EnumInfo;
+import com.ly.doc.model.torna.EnumInfoAndValues;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enum metadata resolved once per build: the loaded enum class, its {@code JsonValue}
+ * accessor, the values of the constants and the computed enum info.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public class EnumMetadata {
+
+	/**
+	 * the enum class, loaded only when the enum has a {@code JsonValue} accessor
+	 */
+	private Class<?> enumClass;
+
+	/**
+	 * name of the method annotated with {@code JsonValue}
+	 */
+	private String jsonValueMethod;
+
+	/**
+	 * name of the field annotated with {@code JsonValue}
+	 */
+	private String jsonValueField;
+
+	/**
+	 * {@code JsonValue} values, by constant name
+	 */
+	private final Map<String, Optional<Object>> jsonValues = new ConcurrentHashMap<>();
+
+	/**
+	 * enum info
+	 */
+	private volatile EnumInfo enumInfo;
+
+	/**
+	 * enum info and values of an enum in json
+	 */
+	private volatile EnumInfoAndValues jsonEnumInfoAndValues;
+
+	/**
+	 * enum info and values of an enum in a form or a path
+	 */
+	private volatile EnumInfoAndValues enumInfoAndValues;
+
+	public static EnumMetadata builder() {
+		return new EnumMetadata();
+	}
+
+	public Class<?> getEnumClass() {
+		return enumClass;
+	}
+
+	public EnumMetadata setEnumClass(Class<?> enumClass) {
+		this.enumClass = enumClass;
+		return this;
+	}
+
+	public String getJsonValueMethod() {
+		return jsonValueMethod;
+	}
+
+	public EnumMetadata setJsonValueMethod(String jsonValueMethod) {
+		this.jsonValueMethod = jsonValueMethod;
+		return this;
+	}
+
+	public String getJsonValueField() {
+		return jsonValueField;
+	}
+
+	public EnumMetadata setJsonValueField(String jsonValueField) {
+		this.jsonValueField = jsonValueField;
+		return this;
+	}
+
+	public Map<String, Optional<Object>> getJsonValues() {
+		return jsonValues;
+	}
+
+	public EnumInfo getEnumInfo() {
+		return enumInfo;
+	}
+
+	public EnumMetadata setEnumInfo(EnumInfo enumInfo) {
+		this.enumInfo = enumInfo;
+		return this;
+	}
+
+	public EnumInfoAndValues getEnumInfoAndValues(boolean jsonEnum) {
+		return jsonEnum ? jsonEnumInfoAndValues : enumInfoAndValues;
+	}
+
+	public EnumMetadata setEnumInfoAndValues(boolean jsonEnum, EnumInfoAndValues enumInfoAndValues) {
+		if (jsonEnum) {
+			this.jsonEnumInfoAndValues = enumInfoAndValues;
+		}
+		else {
+			this.enumInfoAndValues = enumInfoAndValues;
+		}
+		return this;
+	}
+
+}
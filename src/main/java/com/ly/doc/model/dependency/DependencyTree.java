@@ -30,6 +30,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -65,6 +67,13 @@ public class DependencyTree {
 	 */
 	private List<ApiDependency> dependencyTree;
 
+	/**
+	 * Reverse type reference index, from a source type to the api classes that reach it
+	 * through arguments, returns, fields, generics and super types.
+	 * @since 3.0.9
+	 */
+	private Map<String, Set<String>> typeReferences;
+
 	private DependencyTree() {
 
 	}
@@ -92,6 +101,7 @@ public class DependencyTree {
 		else {
 			dependencyTree = Support.load(configFile);
 		}
+		dependencyTree.setIncrement(true);
 		return dependencyTree;
 	}
 
@@ -124,6 +134,14 @@ public class DependencyTree {
 		this.dependencyTree = dependencyTree;
 	}
 
+	public Map<String, Set<String>> getTypeReferences() {
+		return typeReferences;
+	}
+
+	public void setTypeReferences(Map<String, Set<String>> typeReferences) {
+		this.typeReferences = typeReferences;
+	}
+
 	public boolean isIncrement() {
 		return increment;
 	}
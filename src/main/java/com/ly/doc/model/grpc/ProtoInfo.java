@@ -29,7 +29,11 @@ import java.util.logging.Logger;
  * proto info.
  *
  * @author linwumingshi
+ * @deprecated the .proto files are parsed in process by
+ * {@link com.ly.doc.helper.ProtoParser}, protoc is no longer run, will be removed in the
+ * next release
  */
+@Deprecated
 public class ProtoInfo implements Serializable {
 
 	private static final Logger log = Logger.getLogger(ProtoInfo.class.getName());
@@ -20,12 +20,12 @@
  */
 package com.ly.doc.template;
 
-import com.google.gson.Gson;
 import com.ly.doc.builder.ProjectDocConfigBuilder;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.constants.FrameworkEnum;
 import com.ly.doc.constants.GrpcMethodTypeEnum;
 import com.ly.doc.constants.ParamTypeConstants;
+import com.ly.doc.helper.ProtoParser;
 import com.ly.doc.model.ApiConfig;
 import com.ly.doc.model.ApiParam;
 import com.ly.doc.model.ApiSchema;
@@ -36,14 +36,12 @@ import com.ly.doc.model.grpc.GrpcJavaMethod;
 import com.ly.doc.model.grpc.ProtoInfo;
 import com.ly.doc.model.grpc.proto.*;
 import com.ly.doc.utils.DocUtil;
-import com.power.common.util.FileUtil;
 import com.thoughtworks.qdox.model.JavaClass;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -107,16 +105,11 @@ public class GRpcDocBuildTemplate implements IDocBuildTemplate<GrpcApiDoc>, IJav
 		ApiConfig apiConfig = projectBuilder.getApiConfig();
 		List<GrpcApiDoc> apiDocList = new ArrayList<>();
 
-		// proto to json
-		ProtoInfo protoInfo = this.protoToJson(apiConfig);
-
-		if (Objects.isNull(protoInfo) || Objects.isNull(protoInfo.getTargetJsonFilePath())) {
+		Set<String> protoFiles = this.findProtoFiles(apiConfig.getSourceCodePaths());
+		if (protoFiles.isEmpty()) {
 			return new ApiSchema<>();
 		}
-
-		// json to javaClass
-		String fileContent = FileUtil.getFileContent(protoInfo.getTargetJsonFilePath());
-		ProtoJson protoJson = new Gson().fromJson(fileContent, ProtoJson.class);
+		ProtoJson protoJson = ProtoParser.parse(protoFiles);
 
 		// get services
 		List<Service> services = protoJson.getFiles()
@@ -215,34 +208,6 @@ public class GRpcDocBuildTemplate implements IDocBuildTemplate<GrpcApiDoc>, IJav
 		return gRpcJavaMethods;
 	}
 
-	/**
-	 * proto to json.
-	 * @param apiConfig api config
-	 */
-	private ProtoInfo protoToJson(ApiConfig apiConfig) {
-		Set<String> protoFiles = this.findProtoFiles(apiConfig.getSourceCodePaths());
-		if (protoFiles.isEmpty()) {
-			return null;
-		}
-
-		ProtoInfo protoInfo = ProtoInfo.build();
-
-		this.createDirectories(apiConfig.getOutPath(), protoInfo.getTargetJsonDirectoryPath());
-		this.copyResourceFiles(protoInfo);
-		this.executeProtocCommands(protoFiles, protoInfo);
-
-		return protoInfo;
-	}
-
-	/**
-	 * Copy the resource files to the target directory.
-	 * @param protoInfo The proto info.
-	 */
-	private void copyResourceFiles(ProtoInfo protoInfo) {
-		this.copyResourceFile(protoInfo.getSourceProtocPath(), protoInfo.getProtocPath());
-		this.copyResourceFile(protoInfo.getSourceProtocGenDocPath(), protoInfo.getProtocGenDocPath());
-	}
-
 	/**
 	 * Finds the .proto files in the specified source code paths.
 	 * @param sourceCodePaths The list of source code paths.
@@ -279,40 +244,14 @@ public class GRpcDocBuildTemplate implements IDocBuildTemplate<GrpcApiDoc>, IJav
 		}
 	}
 
-	/**
-	 * Create directories for the specified output path and target JSON path.
-	 * @param outPath The output path.
-	 * @param targetJsonPath The target JSON path.
-	 */
-	private void createDirectories(String outPath, String targetJsonPath) {
-		FileUtil.mkdirs(outPath);
-		FileUtil.mkdirs(targetJsonPath);
-	}
-
-	/**
-	 * Copy a resource file from the classpath to the specified target path.
-	 * @param resourcePath The path of the resource file to be copied.
-	 * @param targetPath The target path where the resource file will be copied.
-	 */
-	private void copyResourceFile(String resourcePath, String targetPath) {
-		try (InputStream resourceAsStream = GRpcDocBuildTemplate.class.getResourceAsStream(resourcePath)) {
-			if (Objects.isNull(resourceAsStream)) {
-				return;
-			}
-			File targetFile = new File(targetPath);
-			FileUtil.mkdirs(targetFile.getParent());
-			FileUtil.copyInputStreamToFile(resourceAsStream, new File(targetPath), StandardCopyOption.REPLACE_EXISTING);
-		}
-		catch (IOException e) {
-			log.warning("Error executing command error:" + e.getMessage());
-		}
-	}
-
 	/**
 	 * Execute the protoc command to generate the JSON files.
 	 * @param protoFiles The set of .proto files to be processed.
 	 * @param protoInfo The proto info.
+	 * @deprecated the .proto files are parsed in process by {@link ProtoParser}, will be
+	 * removed in the next release
 	 */
+	@Deprecated
 	public void executeProtocCommands(Set<String> protoFiles, ProtoInfo protoInfo) {
 		List<String> command = this.buildProtocCommand(protoFiles, protoInfo);
 		this.executeCommand(command, protoInfo);
@@ -323,6 +262,7 @@ public class GRpcDocBuildTemplate implements IDocBuildTemplate<GrpcApiDoc>, IJav
 	 * @param command The command to be executed.
 	 * @param protoInfo The proto info.
 	 */
+	@Deprecated
 	private void executeCommand(List<String> command, ProtoInfo protoInfo) {
 		try {
 			if (!protoInfo.isWinOs()) {
@@ -368,6 +308,7 @@ public class GRpcDocBuildTemplate implements IDocBuildTemplate<GrpcApiDoc>, IJav
 	 * @param protoInfo The proto info.
 	 * @return The list of command arguments.
 	 */
+	@Deprecated
 	private List<String> buildProtocCommand(Set<String> protoFiles, ProtoInfo protoInfo) {
 		List<String> command = new ArrayList<>();
 		command.add(protoInfo.getProtocPath());
@@ -132,9 +132,19 @@ public interface IBaseDocBuildTemplate {
 	 * @param apiMethodDoc ApiMethodDoc
 	 */
 	default void convertParamsDataToTree(ApiMethodDoc apiMethodDoc) {
-		apiMethodDoc.setPathParams(ApiParamTreeUtil.apiParamToTree(apiMethodDoc.getPathParams()));
-		apiMethodDoc.setQueryParams(ApiParamTreeUtil.apiParamToTree(apiMethodDoc.getQueryParams()));
-		apiMethodDoc.setRequestParams(ApiParamTreeUtil.apiParamToTree(apiMethodDoc.getRequestParams()));
+		convertParamsDataToTree(apiMethodDoc, ApiParamTreeUtil.DEFAULT_RECURSION_LIMIT);
+	}
+
+	/**
+	 * Convert params data to tree
+	 * @param apiMethodDoc ApiMethodDoc
+	 * @param recursionLimit the deepest level of children
+	 * @since 3.0.9
+	 */
+	default void convertParamsDataToTree(ApiMethodDoc apiMethodDoc, int recursionLimit) {
+		apiMethodDoc.setPathParams(ApiParamTreeUtil.apiParamToTree(apiMethodDoc.getPathParams(), recursionLimit));
+		apiMethodDoc.setQueryParams(ApiParamTreeUtil.apiParamToTree(apiMethodDoc.getQueryParams(), recursionLimit));
+		apiMethodDoc.setRequestParams(ApiParamTreeUtil.apiParamToTree(apiMethodDoc.getRequestParams(), recursionLimit));
 	}
 
 	/**
@@ -20,11 +20,13 @@
  */
 package com.ly.doc.template;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.builder.ProjectDocConfigBuilder;
 import com.ly.doc.helper.DocBuildHelper;
 import com.ly.doc.model.ApiSchema;
 import com.ly.doc.model.DocMapping;
 import com.ly.doc.model.IDoc;
+import com.ly.doc.utils.TypeSignature;
 import com.thoughtworks.qdox.model.JavaClass;
 
 import java.util.Collection;
@@ -48,19 +50,27 @@ public interface IDocBuildTemplate<T extends IDoc> extends IDocBuildBaseTemplate
 		// For DocMapping initialization, when building multiple modules together, it is
 		// necessary to initialize and clear the cache
 		DocMapping.init();
-		DocBuildHelper docBuildHelper = DocBuildHelper.create(projectBuilder);
+		TypeSignature.clearCache();
+		try (DocBuildMetrics.Span ignored = DocBuildMetrics.start(projectBuilder.getApiConfig(),
+				DocBuildMetrics.ANALYZE)) {
+			DocBuildHelper docBuildHelper = DocBuildHelper.create(projectBuilder);
 
-		this.preRender(docBuildHelper);
-		// get candidate classes
-		Collection<JavaClass> candidateClasses = this.getCandidateClasses(projectBuilder, docBuildHelper);
-		ApiSchema<T> apiSchema = this.renderApi(projectBuilder, candidateClasses);
+			this.preRender(docBuildHelper);
+			// get candidate classes
+			Collection<JavaClass> candidateClasses;
+			try (DocBuildMetrics.Span span = DocBuildMetrics.start(projectBuilder.getApiConfig(),
+					DocBuildMetrics.CANDIDATE_CLASSES)) {
+				candidateClasses = this.getCandidateClasses(projectBuilder, docBuildHelper);
+			}
+			ApiSchema<T> apiSchema = this.renderApi(projectBuilder, candidateClasses);
 
-		if (Objects.isNull(apiSchema)) {
-			apiSchema = new ApiSchema<>();
-		}
-		this.postRender(docBuildHelper, apiSchema.getApiDatas());
+			if (Objects.isNull(apiSchema)) {
+				apiSchema = new ApiSchema<>();
+			}
+			this.postRender(docBuildHelper, apiSchema.getApiDatas());
 
-		return apiSchema;
+			return apiSchema;
+		}
 	}
 
 	/**
@@ -20,6 +20,7 @@
  */
 package com.ly.doc.template;
 
+import com.ly.doc.builder.ClassHierarchyCache;
 import com.ly.doc.builder.ProjectDocConfigBuilder;
 import com.ly.doc.constants.*;
 import com.ly.doc.helper.ParamsBuildHelper;
@@ -184,6 +185,27 @@ public interface IJavadocDocTemplate<T extends JavadocJavaMethod> extends IBaseD
 
 	}
 
+	/**
+	 * Get parent class and interface methods, the hierarchy is resolved once per build.
+	 * @param apiConfig ApiConfig
+	 * @param projectBuilder ProjectDocConfigBuilder
+	 * @param cls JavaClass
+	 * @return List
+	 * @since 3.0.9
+	 */
+	default List<T> getParentsClassAndInterfaceMethods(ApiConfig apiConfig, ProjectDocConfigBuilder projectBuilder,
+			JavaClass cls) {
+		ClassHierarchyCache classHierarchy = projectBuilder.getClassHierarchy();
+		List<T> docJavaMethods = new ArrayList<>();
+		for (JavaClass currentClass : classHierarchy.getHierarchy(cls)) {
+			Map<String, JavaType> actualTypesMap = classHierarchy.getActualTypesMap(currentClass);
+			for (JavaMethod method : currentClass.getMethods()) {
+				docJavaMethods.add(this.convertToJavadocJavaMethod(apiConfig, method, actualTypesMap));
+			}
+		}
+		return docJavaMethods;
+	}
+
 	/**
 	 * Constructs a list of request parameters.
 	 * @param javaMethod The JavaMethod object, used to extract method information.
@@ -347,7 +369,7 @@ public interface IJavadocDocTemplate<T extends JavadocJavaMethod> extends IBaseD
 
 		}
 		// Add parent class And interface methods
-		methodDocList.addAll(this.getParentsClassAndInterfaceMethods(apiConfig, cls));
+		methodDocList.addAll(this.getParentsClassAndInterfaceMethods(apiConfig, projectBuilder, cls));
 
 		Map<T, List<ApiParam>> methodRequestParams = new HashMap<>(16);
 		Map<T, List<ApiParam>> methodResponseParams = new HashMap<>(16);
@@ -385,8 +407,9 @@ public interface IJavadocDocTemplate<T extends JavadocJavaMethod> extends IBaseD
 			// build response params
 			List<ApiParam> responseParams = methodResponseParams.get(method);
 			if (apiConfig.isParamsDataToTree()) {
-				method.setRequestParams(ApiParamTreeUtil.apiParamToTree(requestParams));
-				method.setResponseParams(ApiParamTreeUtil.apiParamToTree(responseParams));
+				method.setRequestParams(ApiParamTreeUtil.apiParamToTree(requestParams, apiConfig.getRecursionLimit()));
+				method
+					.setResponseParams(ApiParamTreeUtil.apiParamToTree(responseParams, apiConfig.getRecursionLimit()));
 			}
 			else {
 				method.setRequestParams(requestParams);
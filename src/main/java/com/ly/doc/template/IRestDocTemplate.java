@@ -21,6 +21,7 @@
 
 package com.ly.doc.template;
 
+import com.ly.doc.builder.DocBuildMetrics;
 import com.ly.doc.builder.ProjectDocConfigBuilder;
 import com.ly.doc.constants.ApiParamEnum;
 import com.ly.doc.constants.ApiReqParamInTypeEnum;
@@ -35,6 +36,7 @@ import com.ly.doc.constants.ParamTypeConstants;
 import com.ly.doc.handler.IHeaderHandler;
 import com.ly.doc.handler.IRequestMappingHandler;
 import com.ly.doc.helper.FormDataBuildHelper;
+import com.ly.doc.helper.JavaProjectBuilderHelper;
 import com.ly.doc.helper.JsonBuildHelper;
 import com.ly.doc.helper.ParamsBuildHelper;
 import com.ly.doc.model.ApiConfig;
@@ -99,7 +101,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -147,6 +152,8 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 		boolean setCustomOrder = false;
 		int maxOrder = 0;
 		ApiSchema<ApiDoc> apiSchema = new ApiSchema<>();
+		List<JavaClass> entryPoints = new ArrayList<>();
+		List<Integer> orders = new ArrayList<>();
 		// exclude class is ignore
 		for (JavaClass cls : javaClasses) {
 			if (StringUtil.isNotEmpty(apiConfig.getPackageFilters())) {
@@ -172,13 +179,19 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 				order = Integer.parseInt(strOrder);
 				maxOrder = Math.max(maxOrder, order);
 			}
-
-			List<ApiMethodDoc> apiMethodDocs = this.buildEntryPointMethod(cls, apiConfig, projectBuilder,
-					frameworkAnnotations, configApiReqParams, baseMappingHandler, headerHandler);
+			entryPoints.add(cls);
+			orders.add(order);
+		}
+		List<List<ApiMethodDoc>> entryPointMethods = this.buildEntryPointMethods(entryPoints, apiConfig, projectBuilder,
+				frameworkAnnotations, configApiReqParams, baseMappingHandler, headerHandler);
+		// keep the class order of the serial analysis
+		for (int i = 0; i < entryPoints.size(); i++) {
+			List<ApiMethodDoc> apiMethodDocs = entryPointMethods.get(i);
 			if (CollectionUtil.isEmpty(apiMethodDocs)) {
 				continue;
 			}
-			this.handleApiDoc(cls, apiDocList, apiMethodDocs, order, apiConfig.isMd5EncryptedHtmlName());
+			this.handleApiDoc(entryPoints.get(i), apiDocList, apiMethodDocs, orders.get(i),
+					apiConfig.isMd5EncryptedHtmlName());
 		}
 		apiDocList = this.handleTagsApiDoc(apiDocList);
 
@@ -209,6 +222,52 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 		return apiSchema;
 	}
 
+	/**
+	 * Build the method docs of the entry point classes. The classes are analyzed in a
+	 * {@link ForkJoinPool} when {@link ApiConfig#getAnalysisThreads()} is greater than 1,
+	 * the results keep the order of the given classes.
+	 * @param entryPoints the entry point classes
+	 * @param apiConfig the api config
+	 * @param projectBuilder the project builder
+	 * @param frameworkAnnotations the framework annotations
+	 * @param configApiReqParams the configured request params
+	 * @param baseMappingHandler the request mapping handler
+	 * @param headerHandler the header handler
+	 * @return the method docs of each class, in the order of the classes
+	 * @since 3.0.9
+	 */
+	default List<List<ApiMethodDoc>> buildEntryPointMethods(List<JavaClass> entryPoints, ApiConfig apiConfig,
+			ProjectDocConfigBuilder projectBuilder, FrameworkAnnotations frameworkAnnotations,
+			List<ApiReqParam> configApiReqParams, IRequestMappingHandler baseMappingHandler,
+			IHeaderHandler headerHandler) {
+		List<List<ApiMethodDoc>> result = new ArrayList<>(entryPoints.size());
+		int threads = Math.min(apiConfig.getAnalysisThreads(), entryPoints.size());
+		Function<JavaClass, List<ApiMethodDoc>> buildMethods = DocBuildMetrics.measure(apiConfig,
+				DocBuildMetrics.CONTROLLER, JavaClass::getCanonicalName,
+				cls -> this.buildEntryPointMethod(cls, apiConfig, projectBuilder, frameworkAnnotations,
+						configApiReqParams, baseMappingHandler, headerHandler));
+		if (threads < 2 || !JavaProjectBuilderHelper.synchronizeClassLibrary(projectBuilder.getJavaProjectBuilder())) {
+			for (JavaClass cls : entryPoints) {
+				result.add(buildMethods.apply(cls));
+			}
+			return result;
+		}
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			List<ForkJoinTask<List<ApiMethodDoc>>> tasks = new ArrayList<>(entryPoints.size());
+			for (JavaClass cls : entryPoints) {
+				tasks.add(pool.submit(() -> buildMethods.apply(cls)));
+			}
+			for (ForkJoinTask<List<ApiMethodDoc>> task : tasks) {
+				result.add(task.join());
+			}
+		}
+		finally {
+			pool.shutdownNow();
+		}
+		return result;
+	}
+
 	/**
 	 * Generates a string for document header rendering based on the list of request
 	 * parameters. If the header list is empty, it initializes it to an empty list to
@@ -665,7 +724,8 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 				// build response params
 				List<ApiParam> responseParams = this.buildReturnApiParams(docJavaMethod, projectBuilder);
 				if (paramsDataToTree) {
-					responseParams = ApiParamTreeUtil.apiParamToTree(responseParams);
+					responseParams = ApiParamTreeUtil.apiParamToTree(responseParams,
+							projectBuilder.getApiConfig().getRecursionLimit());
 				}
 				apiExceptionStatus.setExceptionResponseParams(responseParams);
 
@@ -718,7 +778,8 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 		Map<String, MappingAnnotation> mappingAnnotations = Objects.isNull(frameworkAnnotations.getMappingAnnotations())
 				? Collections.emptyMap() : frameworkAnnotations.getMappingAnnotations();
 		// Get class mappingAnnotations from class and its parent class or interface
-		List<JavaAnnotation> classAnnotations = this.getClassAnnotations(cls, mappingAnnotations);
+		List<JavaAnnotation> classAnnotations = projectBuilder.getClassHierarchy()
+			.getClassAnnotations(cls, mappingAnnotations);
 
 		String baseUrl = "";
 		// The requestMapping annotation's consumes value on class
@@ -750,7 +811,7 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 		List<DocJavaMethod> docJavaMethods = new ArrayList<>(methods.size());
 		for (JavaMethod method : methods) {
 			if (method.isPrivate()
-					|| DocUtil.isMatch(apiConfig.getPackageExcludeFilters(), clazzName + "." + method.getName())) {
+					|| DocUtil.isMatch(apiConfig.getPackageExcludeFilters(), clazzName, method.getName())) {
 				continue;
 			}
 			if (Objects.nonNull(method.getTagByName(IGNORE))) {
@@ -792,6 +853,9 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 				continue;
 			}
 			docJavaMethod.setMethodType(requestMapping.getMethodType());
+			// not recorded if the analysis fails, the build fails anyway
+			DocBuildMetrics.Span endpointSpan = DocBuildMetrics.start(apiConfig, DocBuildMetrics.ENDPOINT, clazzName,
+					requestMapping.getMethodType() + " " + requestMapping.getShortUrl());
 			ApiMethodDoc apiMethodDoc = new ApiMethodDoc();
 			// fill contentType by annotation's consumes parameter
 			String mediaType = requestMapping.getMediaType();
@@ -844,15 +908,18 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 				.collect(Collectors.toList());
 
 			// build request params
-			ApiMethodReqParam apiMethodReqParam = this.requestParams(docJavaMethod, projectBuilder, apiReqParamList,
-					frameworkAnnotations);
+			ApiMethodReqParam apiMethodReqParam;
+			try (DocBuildMetrics.Span span = DocBuildMetrics.start(apiConfig, DocBuildMetrics.REQUEST_PARAMS)) {
+				apiMethodReqParam = this.requestParams(docJavaMethod, projectBuilder, apiReqParamList,
+						frameworkAnnotations);
+			}
 			apiMethodDoc.setPathParams(apiMethodReqParam.getPathParams());
 			apiMethodDoc.setQueryParams(apiMethodReqParam.getQueryParams());
 			apiMethodDoc.setRequestParams(apiMethodReqParam.getRequestParams());
 
 			if (paramsDataToTree) {
 				// convert to tree
-				this.convertParamsDataToTree(apiMethodDoc);
+				this.convertParamsDataToTree(apiMethodDoc, projectBuilder.getApiConfig().getRecursionLimit());
 			}
 			List<ApiReqParam> allApiReqHeaders;
 			final Map<String, List<ApiReqParam>> reqParamMap = configApiReqParams.stream()
@@ -882,8 +949,10 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 			}
 
 			// build request json
-			ApiRequestExample requestExample = this.buildReqJson(docJavaMethod, apiMethodDoc, projectBuilder,
-					frameworkAnnotations);
+			ApiRequestExample requestExample;
+			try (DocBuildMetrics.Span span = DocBuildMetrics.start(apiConfig, DocBuildMetrics.REQUEST_JSON)) {
+				requestExample = this.buildReqJson(docJavaMethod, apiMethodDoc, projectBuilder, frameworkAnnotations);
+			}
 			String requestJson = requestExample.getExampleBody();
 			// set request example detail
 			apiMethodDoc.setRequestExample(requestExample);
@@ -895,12 +964,18 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 				apiMethodDoc.setResponseUsage(JsonUtil.toPrettyFormat(responseValue));
 			}
 			else {
-				apiMethodDoc.setResponseUsage(JsonBuildHelper.buildReturnJson(docJavaMethod, projectBuilder));
+				try (DocBuildMetrics.Span span = DocBuildMetrics.start(apiConfig, DocBuildMetrics.RESPONSE_JSON)) {
+					apiMethodDoc.setResponseUsage(JsonBuildHelper.buildReturnJson(docJavaMethod, projectBuilder));
+				}
 			}
 			// build response params
-			List<ApiParam> responseParams = this.buildReturnApiParams(docJavaMethod, projectBuilder);
+			List<ApiParam> responseParams;
+			try (DocBuildMetrics.Span span = DocBuildMetrics.start(apiConfig, DocBuildMetrics.RESPONSE_PARAMS)) {
+				responseParams = this.buildReturnApiParams(docJavaMethod, projectBuilder);
+			}
 			if (paramsDataToTree) {
-				responseParams = ApiParamTreeUtil.apiParamToTree(responseParams);
+				responseParams = ApiParamTreeUtil.apiParamToTree(responseParams,
+						projectBuilder.getApiConfig().getRecursionLimit());
 			}
 			apiMethodDoc.setReturnSchema(docJavaMethod.getReturnSchema());
 			apiMethodDoc.setRequestSchema(docJavaMethod.getRequestSchema());
@@ -917,6 +992,7 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 
 			TornaUtil.setTornaArrayTags(docJavaMethod.getJavaMethod(), apiMethodDoc, apiConfig);
 			methodDocList.add(apiMethodDoc);
+			endpointSpan.close();
 		}
 
 		return methodDocList;
@@ -1463,9 +1539,9 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 						requestExample.setJsonBody(mockValue).setJson(true);
 					}
 					else {
-						String json = JsonBuildHelper.buildJson(fullyQualifiedName, gicTypeName, Boolean.FALSE, 0,
+						String json = JsonBuildHelper.buildPrettyJson(fullyQualifiedName, gicTypeName, Boolean.FALSE, 0,
 								new HashMap<>(16), groupClasses, Collections.emptySet(), configBuilder);
-						requestExample.setJsonBody(JsonUtil.toPrettyFormat(json)).setJson(true);
+						requestExample.setJsonBody(json).setJson(true);
 					}
 					queryParamsMap.remove(paramName);
 					paramAdded = true;
@@ -1687,7 +1763,7 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 		List<DocJavaMethod> docJavaMethods = new ArrayList<>();
 		JavaClass parentClass = cls.getSuperJavaClass();
 		if (Objects.nonNull(parentClass) && !JavaTypeConstants.OBJECT_SIMPLE_NAME.equals(parentClass.getSimpleName())) {
-			Map<String, JavaType> actualTypesMap = JavaClassUtil.getActualTypesMap(parentClass);
+			Map<String, JavaType> actualTypesMap = projectBuilder.getClassHierarchy().getActualTypesMap(parentClass);
 			List<JavaMethod> parentMethodList = parentClass.getMethods();
 			for (JavaMethod method : parentMethodList) {
 				docJavaMethods.add(this.convertToDocJavaMethod(apiConfig, projectBuilder, method, actualTypesMap));
@@ -67,7 +67,6 @@ import com.ly.doc.utils.DocUtil;
 import com.ly.doc.utils.JavaClassUtil;
 import com.ly.doc.utils.JavaClassValidateUtil;
 import com.ly.doc.utils.JavaFieldUtil;
-import com.ly.doc.utils.JsonUtil;
 import com.ly.doc.utils.RequestExampleUtil;
 import com.ly.doc.utils.TornaUtil;
 import com.power.common.util.CollectionUtil;
@@ -237,7 +236,7 @@ public class JAXRSDocBuildTemplate implements IDocBuildTemplate<ApiDoc>, IWebSoc
 			apiMethodDoc.setRequestParams(apiMethodReqParam.getRequestParams());
 			if (paramsDataToTree) {
 				// convert to tree
-				this.convertParamsDataToTree(apiMethodDoc);
+				this.convertParamsDataToTree(apiMethodDoc, projectBuilder.getApiConfig().getRecursionLimit());
 			}
 			List<ApiReqParam> allApiReqParams;
 			allApiReqParams = apiReqParams;
@@ -279,7 +278,8 @@ public class JAXRSDocBuildTemplate implements IDocBuildTemplate<ApiDoc>, IWebSoc
 			// build response params
 			List<ApiParam> responseParams = buildReturnApiParams(docJavaMethod, projectBuilder);
 			if (paramsDataToTree) {
-				responseParams = ApiParamTreeUtil.apiParamToTree(responseParams);
+				responseParams = ApiParamTreeUtil.apiParamToTree(responseParams,
+						projectBuilder.getApiConfig().getRecursionLimit());
 			}
 			apiMethodDoc.setReturnSchema(docJavaMethod.getReturnSchema());
 			apiMethodDoc.setRequestSchema(docJavaMethod.getRequestSchema());
@@ -735,9 +735,9 @@ public class JAXRSDocBuildTemplate implements IDocBuildTemplate<ApiDoc>, IWebSoc
 					requestExample.setJsonBody(mockValue).setJson(true);
 				}
 				else {
-					String json = JsonBuildHelper.buildJson(fullyQualifiedName, gicTypeName, Boolean.FALSE, 0,
+					String json = JsonBuildHelper.buildPrettyJson(fullyQualifiedName, gicTypeName, Boolean.FALSE, 0,
 							new HashMap<>(16), groupClasses, jsonViewClasses, configBuilder);
-					requestExample.setJsonBody(JsonUtil.toPrettyFormat(json)).setJson(true);
+					requestExample.setJsonBody(json).setJson(true);
 				}
 			}
 		}
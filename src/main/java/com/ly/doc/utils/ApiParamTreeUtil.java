@@ -28,9 +28,12 @@ import com.ly.doc.model.ApiReqParam;
 import com.power.common.util.CollectionUtil;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -40,6 +43,22 @@ import java.util.stream.Collectors;
  */
 public class ApiParamTreeUtil {
 
+	/**
+	 * The default of {@link com.ly.doc.model.ApiConfig#getRecursionLimit()}
+	 */
+	public static final int DEFAULT_RECURSION_LIMIT = 7;
+
+	/**
+	 * Prefix of the field of a child param
+	 */
+	private static final Pattern PARAM_PREFIX_PATTERN = Pattern.compile(DocGlobalConstants.PARAM_PREFIX,
+			Pattern.LITERAL);
+
+	/**
+	 * Blank of the field of a child param
+	 */
+	private static final Pattern NBSP_PATTERN = Pattern.compile("&nbsp;", Pattern.LITERAL);
+
 	/**
 	 * private constructor
 	 */
@@ -53,23 +72,36 @@ public class ApiParamTreeUtil {
 	 * @return A list of ApiParam objects representing the tree structure.
 	 */
 	public static List<ApiParam> apiParamToTree(List<ApiParam> apiParamList) {
+		return apiParamToTree(apiParamList, DEFAULT_RECURSION_LIMIT);
+	}
+
+	/**
+	 * Converts a list of ApiParam objects into a tree structure. The children are indexed
+	 * by pid in one pass over the list.
+	 * @param apiParamList The list of ApiParam objects to be converted.
+	 * @param recursionLimit The deepest level of children, see
+	 * {@link com.ly.doc.model.ApiConfig#getRecursionLimit()}.
+	 * @return A list of ApiParam objects representing the tree structure.
+	 * @since 3.0.9
+	 */
+	public static List<ApiParam> apiParamToTree(List<ApiParam> apiParamList, int recursionLimit) {
 		if (CollectionUtil.isEmpty(apiParamList)) {
 			return new ArrayList<>(0);
 		}
 		List<ApiParam> params = new ArrayList<>();
-		// find root
+		Map<Integer, List<ApiParam>> childrenMap = new HashMap<>(apiParamList.size());
 		for (ApiParam apiParam : apiParamList) {
 			// remove pre of field
-			apiParam
-				.setField(apiParam.getField().replaceAll(DocGlobalConstants.PARAM_PREFIX, "").replaceAll("&nbsp;", ""));
+			String field = PARAM_PREFIX_PATTERN.matcher(apiParam.getField()).replaceAll("");
+			apiParam.setField(NBSP_PATTERN.matcher(field).replaceAll(""));
 			// pid == 0
 			if (apiParam.getPid() == 0) {
 				params.add(apiParam);
 			}
+			childrenMap.computeIfAbsent(apiParam.getPid(), k -> new ArrayList<>()).add(apiParam);
 		}
 		for (ApiParam apiParam : params) {
-			// remove pre of field
-			apiParam.setChildren(getChild(apiParam.getId(), apiParamList, 0));
+			apiParam.setChildren(getChild(apiParam.getId(), childrenMap, 0, recursionLimit));
 		}
 		return params;
 	}
@@ -77,26 +109,20 @@ public class ApiParamTreeUtil {
 	/**
 	 * find child
 	 * @param id param id
-	 * @param apiParamList List of ApiParam
-	 * @param counter invoked counter
+	 * @param childrenMap the params indexed by pid
+	 * @param level level of the parent
+	 * @param recursionLimit the deepest level of children
 	 * @return List of ApiParam
 	 */
-	private static List<ApiParam> getChild(int id, List<ApiParam> apiParamList, int counter) {
-		List<ApiParam> childList = new ArrayList<>();
-		if (counter > 7) {
-			return childList;
-		}
-		for (ApiParam param : apiParamList) {
-			if (param.getPid() == id) {
-				childList.add(param);
-			}
+	private static List<ApiParam> getChild(int id, Map<Integer, List<ApiParam>> childrenMap, int level,
+			int recursionLimit) {
+		List<ApiParam> children = childrenMap.get(id);
+		if (level > recursionLimit || Objects.isNull(children)) {
+			return new ArrayList<>(0);
 		}
-		counter++;
+		List<ApiParam> childList = new ArrayList<>(children);
 		for (ApiParam param : childList) {
-			param.setChildren(getChild(param.getId(), apiParamList, counter));
-		}
-		if (childList.isEmpty()) {
-			return new ArrayList<>(0);
+			param.setChildren(getChild(param.getId(), childrenMap, level + 1, recursionLimit));
 		}
 		return childList;
 	}
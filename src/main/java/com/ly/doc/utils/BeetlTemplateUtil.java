@@ -24,10 +24,13 @@ import com.ly.doc.constants.DocGlobalConstants;
 import com.power.common.util.FileUtil;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.beetl.core.Configuration;
 import org.beetl.core.GroupTemplate;
 import org.beetl.core.Resource;
@@ -45,6 +48,22 @@ public class BeetlTemplateUtil {
 
 	private final static String HTML_SUFFIX = ".html";
 
+	/**
+	 * Root of the doc templates
+	 */
+	private final static String TEMPLATE_ROOT = "/template/";
+
+	/**
+	 * Cache the group templates by template root and engine, the group template caches
+	 * the compiled programs of its templates.
+	 */
+	private static final Map<String, GroupTemplate> GROUP_TEMPLATE_CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Cache the content hashes of the templates by template name
+	 */
+	private static final Map<String, String> TEMPLATE_HASH_CACHE = new ConcurrentHashMap<>();
+
 	/**
 	 * private constructor
 	 */
@@ -58,19 +77,51 @@ public class BeetlTemplateUtil {
 	 * @return Beetl Template Object
 	 */
 	public static Template getByName(String templateName) {
-		try {
-			ClasspathResourceLoader resourceLoader = new ClasspathResourceLoader("/template/");
-			Configuration cfg = Configuration.defaultConfiguration();
-			cfg.add("/smart-doc-beetl.properties");
-			GroupTemplate gt = new GroupTemplate(resourceLoader, cfg);
-			if (templateName.endsWith(HTML_SUFFIX)) {
-				gt.setEngine(new HtmlCompressTemplateEngine());
+		boolean isHtml = templateName.endsWith(HTML_SUFFIX);
+		String key = TEMPLATE_ROOT + (isHtml ? HtmlCompressTemplateEngine.class.getName() : "");
+		GroupTemplate gt = GROUP_TEMPLATE_CACHE.computeIfAbsent(key, k -> {
+			try {
+				ClasspathResourceLoader resourceLoader = new ClasspathResourceLoader(TEMPLATE_ROOT);
+				Configuration cfg = Configuration.defaultConfiguration();
+				cfg.add("/smart-doc-beetl.properties");
+				GroupTemplate groupTemplate = new GroupTemplate(resourceLoader, cfg);
+				if (isHtml) {
+					groupTemplate.setEngine(new HtmlCompressTemplateEngine());
+				}
+				return groupTemplate;
 			}
-			return gt.getTemplate(templateName);
-		}
-		catch (IOException e) {
-			throw new RuntimeException("Can't get Beetl template.");
-		}
+			catch (IOException e) {
+				throw new RuntimeException("Can't get Beetl template.");
+			}
+		});
+		return gt.getTemplate(templateName);
+	}
+
+	/**
+	 * Clear the cached group templates, the templates are compiled again on next use.
+	 * @since 3.0.9
+	 */
+	public static void clearCache() {
+		GROUP_TEMPLATE_CACHE.clear();
+		TEMPLATE_HASH_CACHE.clear();
+	}
+
+	/**
+	 * Get the md5 hex of the content of a template, a page rendered from the template is
+	 * rendered again when the template changes.
+	 * @param templateName template name
+	 * @return md5 hex of the template, the template name if the template is not found
+	 * @since 3.0.9
+	 */
+	public static String getTemplateHash(String templateName) {
+		return TEMPLATE_HASH_CACHE.computeIfAbsent(templateName, name -> {
+			try (InputStream in = BeetlTemplateUtil.class.getResourceAsStream(TEMPLATE_ROOT + name)) {
+				return Objects.isNull(in) ? name : DigestUtils.md5Hex(in);
+			}
+			catch (IOException e) {
+				return name;
+			}
+		});
 	}
 
 	/**
@@ -102,15 +153,17 @@ public class BeetlTemplateUtil {
 	 * @return group template
 	 */
 	private static GroupTemplate getGroupTemplate(String path) {
-		try {
-			ClasspathResourceLoader resourceLoader = new ClasspathResourceLoader(
-					DocGlobalConstants.PATH_DELIMITER + path + DocGlobalConstants.PATH_DELIMITER);
-			Configuration cfg = Configuration.defaultConfiguration();
-			return new GroupTemplate(resourceLoader, cfg);
-		}
-		catch (IOException e) {
-			throw new RuntimeException("Can't found Beetl template.");
-		}
+		return GROUP_TEMPLATE_CACHE.computeIfAbsent(path, k -> {
+			try {
+				ClasspathResourceLoader resourceLoader = new ClasspathResourceLoader(
+						DocGlobalConstants.PATH_DELIMITER + path + DocGlobalConstants.PATH_DELIMITER);
+				Configuration cfg = Configuration.defaultConfiguration();
+				return new GroupTemplate(resourceLoader, cfg);
+			}
+			catch (IOException e) {
+				throw new RuntimeException("Can't found Beetl template.");
+			}
+		});
 	}
 
 	public static class HtmlCompressTemplateEngine extends FastRuntimeEngine {
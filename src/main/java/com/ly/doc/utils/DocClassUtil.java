@@ -20,7 +20,6 @@
  */
 package com.ly.doc.utils;
 
-import com.ly.doc.filter.ReturnTypeProcessor;
 import com.ly.doc.model.ApiReturn;
 import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.model.JavaAnnotation;
@@ -49,6 +48,15 @@ public class DocClassUtil {
 	 * @return array of string
 	 */
 	public static String[] getSimpleGicName(String typeName) {
+		return TypeSignature.of(typeName).typeArgumentNames().clone();
+	}
+
+	/**
+	 * Parse the class names of a generic class name, see {@link #getSimpleGicName}.
+	 * @param typeName generic class name
+	 * @return array of string
+	 */
+	static String[] parseSimpleGicName(String typeName) {
 		if (JavaClassValidateUtil.isCollection(typeName)) {
 			typeName = typeName + "<T>";
 		}
@@ -117,6 +125,15 @@ public class DocClassUtil {
 	 * @return String
 	 */
 	public static String getSimpleName(String gicName) {
+		return TypeSignature.of(gicName).getRawType();
+	}
+
+	/**
+	 * Remove the type arguments of a generic class name, see {@link #getSimpleName}.
+	 * @param gicName Generic class name
+	 * @return String
+	 */
+	static String removeTypeArguments(String gicName) {
 		// remove strings contained in '< >' and < >. e.g. controller.R<T,A>$Data<T,A>
 		// =====> controller.R$Data
 		StringBuilder builder = new StringBuilder(gicName.length());
@@ -198,6 +215,15 @@ public class DocClassUtil {
 		if (StringUtil.isEmpty(gName)) {
 			return new String[0];
 		}
+		return TypeSignature.of(gName).mapKeyValueNames().clone();
+	}
+
+	/**
+	 * Parse the map key and value type names, see {@link #getMapKeyValueType}.
+	 * @param gName generic class name
+	 * @return array of string
+	 */
+	static String[] parseMapKeyValueType(String gName) {
 		// Find the positions of the outermost '<' and '>' characters
 		int leftAngleBracket = gName.indexOf('<');
 		// If no matching angle brackets are found, return new String[0]
@@ -391,9 +417,11 @@ public class DocClassUtil {
 	 * @return ApiReturn
 	 */
 	public static ApiReturn processReturnType(String fullyName) {
-		ReturnTypeProcessor processor = new ReturnTypeProcessor();
-		processor.setTypeName(fullyName);
-		return processor.process();
+		String[] names = TypeSignature.of(fullyName).returnTypeNames();
+		ApiReturn apiReturn = new ApiReturn();
+		apiReturn.setGenericCanonicalName(names[0]);
+		apiReturn.setSimpleName(names[1]);
+		return apiReturn;
 	}
 
 	/**
@@ -62,6 +62,9 @@ import net.datafaker.Faker;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.File;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -92,8 +95,9 @@ import java.util.Set;
 import java.util.Stack;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -277,14 +281,26 @@ public class DocUtil {
 	}
 
 	/**
-	 * Cache the regex and its pattern object
+	 * "packageFilters" cache
 	 */
-	private static final Map<String, Pattern> PATTERN_CACHE = new HashMap<>();
+	private static final Map<String, Set<String>> FILTER_METHOD_CACHE = new ConcurrentHashMap<>();
 
 	/**
-	 * "packageFilters" cache
+	 * Upper bound of the cached path variable generators
+	 */
+	private static final int MAX_PATH_PATTERN_GENERATORS = 1024;
+
+	/**
+	 * Compiled generators of the path variable patterns, by regex
 	 */
-	private static final Map<String, Set<String>> FILTER_METHOD_CACHE = new HashMap<>();
+	private static final Map<String, Generex> PATH_PATTERN_GENERATORS = new ConcurrentHashMap<>();
+
+	/**
+	 * Resolved error codes and dictionaries of a build, keyed by the JavaProjectBuilder
+	 * of the build
+	 */
+	private static final Map<JavaProjectBuilder, DictionaryRegistry> DICTIONARY_REGISTRY = Collections
+		.synchronizedMap(new WeakHashMap<>());
 
 	/**
 	 * Generate a random value based on java type name.
@@ -379,22 +395,19 @@ public class DocUtil {
 	 * @return boolean
 	 */
 	public static boolean isMatch(String packageFilters, String controllerName) {
-		if (StringUtil.isEmpty(packageFilters)) {
-			return false;
-		}
-		String[] patterns = packageFilters.split(",");
-		for (String str : patterns) {
-			if (str.contains("*")) {
-				Pattern pattern = Pattern.compile(str);
-				if (pattern.matcher(controllerName).matches()) {
-					return true;
-				}
-			}
-			else if (controllerName.startsWith(str)) {
-				return true;
-			}
-		}
-		return false;
+		return PackageFilterMatcher.of(packageFilters).matches(controllerName);
+	}
+
+	/**
+	 * match the method of a controller
+	 * @param packageFilters package filter
+	 * @param controllerName controller name
+	 * @param methodName method name
+	 * @return boolean
+	 * @since 3.0.9
+	 */
+	public static boolean isMatch(String packageFilters, String controllerName, String methodName) {
+		return PackageFilterMatcher.of(packageFilters).matches(controllerName, methodName);
 	}
 
 	/**
@@ -404,61 +417,26 @@ public class DocUtil {
 	 * @return boolean
 	 */
 	public static boolean isMatch(String packageFilters, JavaClass controllerClass) {
-		if (StringUtil.isEmpty(packageFilters)) {
+		PackageFilterMatcher matcher = PackageFilterMatcher.of(packageFilters);
+		if (matcher.isEmpty()) {
 			return false;
 		}
 
 		String controllerName = controllerClass.getCanonicalName();
-
-		boolean pointToMethod = false;
-		// if the 'packageFilters' is point to the method, add all candidate methods into
-		// this container
-		int capacity = Math.max((int) (controllerClass.getMethods().size() / 0.75F) + 1, 16);
-		Set<String> filterMethods = new HashSet<>(capacity);
-
-		String[] filters = packageFilters.split(",");
-
-		for (String filter : filters) {
-			if (filter.contains("*")) {
-				Pattern pattern = getPattern(filter);
-
-				// if the pattern matches the controller canonical name,
-				// that means the user want all methods in this controller
-				boolean matchControllerName = pattern.matcher(controllerName).matches();
-				if (matchControllerName) {
-					cacheFilterMethods(controllerName, Collections.singleton(DocGlobalConstants.DEFAULT_FILTER_METHOD));
-					return true;
-				}
-				else {
-					// try to match the methods in this controller
-					List<String> controllerMethods = controllerClass.getMethods()
-						.stream()
-						.map(JavaMember::getName)
-						.collect(Collectors.toList());
-					Set<String> methodsMatch = controllerMethods.stream()
-						.filter(method -> pattern.matcher(controllerName + "." + method).matches())
-						.collect(Collectors.toSet());
-					if (!methodsMatch.isEmpty()) {
-						pointToMethod = true;
-						filterMethods.addAll(methodsMatch);
-					}
-				}
-			}
-			else if (controllerName.equals(filter) || controllerName.contains(filter)) {
-				// the filter is just the controller canonical name,
-				// or the controller is in a sub package
-				cacheFilterMethods(controllerName, Collections.singleton(DocGlobalConstants.DEFAULT_FILTER_METHOD));
-				return true;
-			}
-			else if (filter.contains(controllerName)) {
-				// the filter is point to a method
-				pointToMethod = true;
-				String method = filter.replace(controllerName, "").replace(".", "");
-				filterMethods.add(method);
-			}
+		// if the filters match the controller, that means the user want all methods in
+		// this controller
+		if (matcher.matchesClass(controllerName)) {
+			cacheFilterMethods(controllerName, Collections.singleton(DocGlobalConstants.DEFAULT_FILTER_METHOD));
+			return true;
 		}
 
-		if (pointToMethod) {
+		// the filters may point to the methods of this controller
+		List<String> controllerMethods = controllerClass.getMethods()
+			.stream()
+			.map(JavaMember::getName)
+			.collect(Collectors.toList());
+		Set<String> filterMethods = matcher.matchMethods(controllerName, controllerMethods);
+		if (!filterMethods.isEmpty()) {
 			cacheFilterMethods(controllerName, filterMethods);
 			return true;
 		}
@@ -466,21 +444,6 @@ public class DocUtil {
 		return false;
 	}
 
-	/**
-	 * Get pattern from the cache by a regex string. If there is no cache, then compile a
-	 * new pattern object and put it into cache
-	 * @param regex a regex string
-	 * @return a usable pattern object
-	 */
-	private static Pattern getPattern(String regex) {
-		Pattern pattern = PATTERN_CACHE.get(regex);
-		if (pattern == null) {
-			pattern = Pattern.compile(regex);
-			PATTERN_CACHE.put(regex, pattern);
-		}
-		return pattern;
-	}
-
 	/**
 	 * Put the specified method names into a cache.
 	 * @param controller the controller canonical name
@@ -513,6 +476,31 @@ public class DocUtil {
 		return getFilterMethodsCache(controllerName);
 	}
 
+	/**
+	 * Generate a string matching the regex of a path variable. Unless random mock is
+	 * enabled the generator is seeded by the regex, so a pattern gets the same value on
+	 * every run.
+	 * @param regex regex
+	 * @return generated string
+	 */
+	public static String generateByRegex(String regex) {
+		Generex generex = PATH_PATTERN_GENERATORS.get(regex);
+		if (Objects.isNull(generex)) {
+			if (PATH_PATTERN_GENERATORS.size() >= MAX_PATH_PATTERN_GENERATORS) {
+				PATH_PATTERN_GENERATORS.clear();
+			}
+			generex = PATH_PATTERN_GENERATORS.computeIfAbsent(regex, Generex::new);
+		}
+		boolean randomMock = Boolean.parseBoolean(System.getProperty(DocGlobalConstants.RANDOM_MOCK));
+		// the generator holds its random, the seed and the generation go together
+		synchronized (generex) {
+			if (!randomMock) {
+				generex.setSeed(regex.hashCode());
+			}
+			return generex.random();
+		}
+	}
+
 	/**
 	 * An interpreter for strings with named placeholders.
 	 * @param str string to format
@@ -541,12 +529,9 @@ public class DocUtil {
 			if (pathParam.contains(":") && pathParam.startsWith("{")) {
 				int length = pathParam.length();
 				String reg = pathParam.substring(pathParam.indexOf(":") + 1, length - 1);
-				Generex generex = new Generex(reg);
-				// Generate random String
-				String randomStr = generex.random();
 				String key = pathParam.substring(1, pathParam.indexOf(":"));
 				if (!values.containsKey(key)) {
-					values.put(key, randomStr);
+					values.put(key, generateByRegex(reg));
 				}
 				String path = pathParam.substring(0, pathParam.indexOf(":")) + "}";
 				finalPaths.add(path);
@@ -1079,86 +1064,177 @@ public class DocUtil {
 		return resolveAnnotationValue(classLoader, annotationValue);
 	}
 
+	/**
+	 * Build the error code list, the error code dictionaries are resolved once per build
+	 * and the same unmodifiable list is returned to every caller.
+	 * @param config api config
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @return list of ApiErrorCode
+	 */
 	public static List<ApiErrorCode> errorCodeDictToList(ApiConfig config, JavaProjectBuilder javaProjectBuilder) {
 		if (CollectionUtil.isNotEmpty(config.getErrorCodes())) {
 			return config.getErrorCodes();
 		}
-		List<ApiErrorCodeDictionary> errorCodeDictionaries = config.getErrorCodeDictionaries();
-		if (CollectionUtil.isEmpty(errorCodeDictionaries)) {
+		if (CollectionUtil.isEmpty(config.getErrorCodeDictionaries())) {
 			return new ArrayList<>(0);
 		}
-		else {
-			ClassLoader classLoader = config.getClassLoader();
-			Set<ApiErrorCode> errorCodeList = new LinkedHashSet<>();
-			try {
-				for (ApiErrorCodeDictionary dictionary : errorCodeDictionaries) {
-					Class<?> clzz = dictionary.getEnumClass();
-					if (Objects.isNull(clzz)) {
-						if (StringUtil.isEmpty(dictionary.getEnumClassName())) {
-							throw new RuntimeException("Enum class name can't be null.");
-						}
-						clzz = classLoader.loadClass(dictionary.getEnumClassName());
-					}
+		DictionaryRegistry registry = getDictionaryRegistry(config, javaProjectBuilder);
+		synchronized (registry) {
+			if (Objects.isNull(registry.errorCodes)) {
+				registry.errorCodes = Collections.unmodifiableList(resolveErrorCodes(config, javaProjectBuilder));
+			}
+			return registry.errorCodes;
+		}
+	}
 
-					Class<?> valuesResolverClass = null;
-					if (StringUtil.isNotEmpty(dictionary.getValuesResolverClass())) {
-						valuesResolverClass = classLoader.loadClass(dictionary.getValuesResolverClass());
-					}
-					if (null != valuesResolverClass
-							&& DictionaryValuesResolver.class.isAssignableFrom(valuesResolverClass)) {
-						DictionaryValuesResolver resolver = (DictionaryValuesResolver) DocClassUtil
-							.newInstance(valuesResolverClass);
-						// add two method results
-						errorCodeList.addAll(resolver.resolve());
-						errorCodeList.addAll(resolver.resolve(clzz));
+	/**
+	 * Resolve the error codes from the error code dictionaries.
+	 * @param config api config
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @return list of ApiErrorCode
+	 */
+	private static List<ApiErrorCode> resolveErrorCodes(ApiConfig config, JavaProjectBuilder javaProjectBuilder) {
+		List<ApiErrorCodeDictionary> errorCodeDictionaries = config.getErrorCodeDictionaries();
+		ClassLoader classLoader = config.getClassLoader();
+		Set<ApiErrorCode> errorCodeList = new LinkedHashSet<>();
+		try {
+			for (ApiErrorCodeDictionary dictionary : errorCodeDictionaries) {
+				Class<?> clzz = dictionary.getEnumClass();
+				if (Objects.isNull(clzz)) {
+					if (StringUtil.isEmpty(dictionary.getEnumClassName())) {
+						throw new RuntimeException("Enum class name can't be null.");
 					}
-					else if (clzz.isInterface()) {
-						Set<Class<? extends Enum<?>>> enumImplementSet = dictionary.getEnumImplementSet();
-						if (CollectionUtil.isEmpty(enumImplementSet)) {
-							continue;
-						}
-
-						for (Class<? extends Enum<?>> enumClass : enumImplementSet) {
-							JavaClass interfaceClass = javaProjectBuilder.getClassByName(enumClass.getCanonicalName());
-							if (Objects.nonNull(interfaceClass.getTagByName(DocTags.IGNORE))) {
-								continue;
-							}
-							List<ApiErrorCode> enumDictionaryList = EnumUtil.getEnumInformation(enumClass,
-									dictionary.getCodeField(), dictionary.getDescField());
-							errorCodeList.addAll(enumDictionaryList);
-						}
+					clzz = classLoader.loadClass(dictionary.getEnumClassName());
+				}
 
+				Class<?> valuesResolverClass = null;
+				if (StringUtil.isNotEmpty(dictionary.getValuesResolverClass())) {
+					valuesResolverClass = classLoader.loadClass(dictionary.getValuesResolverClass());
+				}
+				if (null != valuesResolverClass
+						&& DictionaryValuesResolver.class.isAssignableFrom(valuesResolverClass)) {
+					DictionaryValuesResolver resolver = (DictionaryValuesResolver) DocClassUtil
+						.newInstance(valuesResolverClass);
+					// add two method results
+					errorCodeList.addAll(resolver.resolve());
+					errorCodeList.addAll(resolver.resolve(clzz));
+				}
+				else if (clzz.isInterface()) {
+					Set<Class<? extends Enum<?>>> enumImplementSet = dictionary.getEnumImplementSet();
+					if (CollectionUtil.isEmpty(enumImplementSet)) {
+						continue;
 					}
-					else {
-						JavaClass javaClass = javaProjectBuilder.getClassByName(clzz.getCanonicalName());
-						if (Objects.nonNull(javaClass.getTagByName(DocTags.IGNORE))) {
+
+					for (Class<? extends Enum<?>> enumClass : enumImplementSet) {
+						JavaClass interfaceClass = javaProjectBuilder.getClassByName(enumClass.getCanonicalName());
+						if (Objects.nonNull(interfaceClass.getTagByName(DocTags.IGNORE))) {
 							continue;
 						}
-						List<ApiErrorCode> enumDictionaryList = EnumUtil.getEnumInformation(clzz,
+						List<ApiErrorCode> enumDictionaryList = EnumUtil.getEnumInformation(enumClass,
 								dictionary.getCodeField(), dictionary.getDescField());
 						errorCodeList.addAll(enumDictionaryList);
 					}
 
 				}
+				else {
+					JavaClass javaClass = javaProjectBuilder.getClassByName(clzz.getCanonicalName());
+					if (Objects.nonNull(javaClass.getTagByName(DocTags.IGNORE))) {
+						continue;
+					}
+					List<ApiErrorCode> enumDictionaryList = EnumUtil.getEnumInformation(clzz, dictionary.getCodeField(),
+							dictionary.getDescField());
+					errorCodeList.addAll(enumDictionaryList);
+				}
+
 			}
-			catch (ClassNotFoundException e) {
-				logger.warning(e.getMessage());
-			}
-			return new ArrayList<>(errorCodeList);
 		}
+		catch (ClassNotFoundException e) {
+			logger.warning(e.getMessage());
+		}
+		return new ArrayList<>(errorCodeList);
 	}
 
 	/**
-	 * Build dictionary
+	 * Build dictionary, the data dictionaries are resolved once per build and the same
+	 * unmodifiable list is returned to every caller.
 	 * @param config api config
 	 * @param javaProjectBuilder JavaProjectBuilder
 	 * @return list of ApiDocDict
 	 */
 	public static List<ApiDocDict> buildDictionary(ApiConfig config, JavaProjectBuilder javaProjectBuilder) {
-		List<ApiDataDictionary> apiDataDictionaryList = config.getDataDictionaries();
-		if (CollectionUtil.isEmpty(apiDataDictionaryList)) {
+		if (CollectionUtil.isEmpty(config.getDataDictionaries())) {
 			return new ArrayList<>(0);
 		}
+		DictionaryRegistry registry = getDictionaryRegistry(config, javaProjectBuilder);
+		synchronized (registry) {
+			if (Objects.isNull(registry.dictionaries)) {
+				registry.dictionaries = Collections.unmodifiableList(resolveDictionary(config, javaProjectBuilder));
+			}
+			return registry.dictionaries;
+		}
+	}
+
+	/**
+	 * Drop the error codes and dictionaries resolved for a builder, they are resolved
+	 * again after its sources changed.
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @since 3.0.9
+	 */
+	public static void clearDictionaryCache(JavaProjectBuilder javaProjectBuilder) {
+		DICTIONARY_REGISTRY.remove(javaProjectBuilder);
+	}
+
+	/**
+	 * Get the version of the library a class is loaded from, used to invalidate the files
+	 * cached by an older version. The implementation version of the jar manifest is used
+	 * if present, otherwise the size and the modification time of the jar, or of the
+	 * class file when the class is loaded from a directory.
+	 * @param type a class of the library
+	 * @return the version, null if it can't be determined
+	 * @since 3.0.9
+	 */
+	public static String getLibraryVersion(Class<?> type) {
+		Package pkg = type.getPackage();
+		if (Objects.nonNull(pkg) && StringUtil.isNotEmpty(pkg.getImplementationVersion())) {
+			return pkg.getImplementationVersion();
+		}
+		try {
+			CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+			if (Objects.isNull(codeSource) || Objects.isNull(codeSource.getLocation())) {
+				return null;
+			}
+			File location = new File(codeSource.getLocation().toURI());
+			if (location.isDirectory()) {
+				location = new File(location, type.getName().replace('.', '/') + ".class");
+			}
+			return location.isFile() ? location.length() + "-" + location.lastModified() : null;
+		}
+		catch (URISyntaxException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Get the dictionary registry of the build, a new registry is created when the config
+	 * or its dictionaries changed.
+	 * @param config api config
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @return DictionaryRegistry
+	 */
+	private static DictionaryRegistry getDictionaryRegistry(ApiConfig config, JavaProjectBuilder javaProjectBuilder) {
+		return DICTIONARY_REGISTRY.compute(javaProjectBuilder,
+				(builder, registry) -> Objects.nonNull(registry) && registry.isFor(config) ? registry
+						: new DictionaryRegistry(config));
+	}
+
+	/**
+	 * Resolve the dictionaries from the data dictionaries.
+	 * @param config api config
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @return list of ApiDocDict
+	 */
+	private static List<ApiDocDict> resolveDictionary(ApiConfig config, JavaProjectBuilder javaProjectBuilder) {
+		List<ApiDataDictionary> apiDataDictionaryList = config.getDataDictionaries();
 		List<ApiDocDict> apiDocDictList = new ArrayList<>();
 		try {
 
@@ -1810,4 +1886,32 @@ public class DocUtil {
 		return getStringBuilderByLevel(level).toString();
 	}
 
+	/**
+	 * Error codes and dictionaries resolved for one build.
+	 */
+	private static final class DictionaryRegistry {
+
+		private final ApiConfig config;
+
+		private final List<ApiErrorCodeDictionary> errorCodeDictionaries;
+
+		private final List<ApiDataDictionary> dataDictionaries;
+
+		private List<ApiErrorCode> errorCodes;
+
+		private List<ApiDocDict> dictionaries;
+
+		private DictionaryRegistry(ApiConfig config) {
+			this.config = config;
+			this.errorCodeDictionaries = config.getErrorCodeDictionaries();
+			this.dataDictionaries = config.getDataDictionaries();
+		}
+
+		private boolean isFor(ApiConfig config) {
+			return this.config == config && this.errorCodeDictionaries == config.getErrorCodeDictionaries()
+					&& this.dataDictionaries == config.getDataDictionaries();
+		}
+
+	}
+
 }
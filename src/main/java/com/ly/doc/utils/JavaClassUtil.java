@@ -34,6 +34,7 @@ import com.ly.doc.constants.ParamTypeConstants;
 import com.ly.doc.model.ApiConfig;
 import com.ly.doc.model.ApiDataDictionary;
 import com.ly.doc.model.DocJavaField;
+import com.ly.doc.model.EnumMetadata;
 import com.ly.doc.model.torna.EnumInfo;
 import com.ly.doc.model.torna.EnumInfoAndValues;
 import com.ly.doc.model.torna.Item;
@@ -410,26 +411,42 @@ public class JavaClassUtil {
 	 */
 	public static Object getEnumValueWithJsonValue(JavaClass javaClass, ProjectDocConfigBuilder builder,
 			JavaField enumConstant) {
-		String methodName = findMethodWithJsonValue(javaClass);
-		if (Objects.nonNull(methodName)) {
-			Class<?> enumClass = loadEnumClass(javaClass, builder);
-			if (Objects.nonNull(enumClass)) {
-				return EnumUtil.getFieldValueByMethod(enumClass, methodName, enumConstant.getName());
-			}
+		EnumMetadata metadata = getEnumMetadata(javaClass, builder);
+		Class<?> enumClass = metadata.getEnumClass();
+		if (Objects.isNull(enumClass)) {
 			return null;
 		}
-
-		// Try getting value from field with JsonValue annotation
-		Optional<JavaField> fieldWithJsonValue = findFieldWithJsonValue(javaClass);
-		if (fieldWithJsonValue.isPresent()) {
-			Class<?> enumClass = loadEnumClass(javaClass, builder);
-			if (Objects.nonNull(enumClass)) {
-				return EnumUtil.getFieldValue(enumClass, fieldWithJsonValue.get().getName(), enumConstant.getName());
+		return metadata.getJsonValues().computeIfAbsent(enumConstant.getName(), name -> {
+			if (Objects.nonNull(metadata.getJsonValueMethod())) {
+				return Optional
+					.ofNullable(EnumUtil.getFieldValueByMethod(enumClass, metadata.getJsonValueMethod(), name));
 			}
-			return null;
-		}
+			return Optional.ofNullable(EnumUtil.getFieldValue(enumClass, metadata.getJsonValueField(), name));
+		}).orElse(null);
+	}
 
-		return null;
+	/**
+	 * Get the metadata of the enum, resolved once per build.
+	 * @param javaClass The JavaClass representing the enum
+	 * @param builder The configuration builder
+	 * @return EnumMetadata
+	 */
+	private static EnumMetadata getEnumMetadata(JavaClass javaClass, ProjectDocConfigBuilder builder) {
+		return builder.getEnumMetadataMap().computeIfAbsent(javaClass.getBinaryName(), name -> {
+			EnumMetadata metadata = EnumMetadata.builder();
+			// the JsonValue method is preferred to the JsonValue field
+			String methodName = findMethodWithJsonValue(javaClass);
+			if (Objects.nonNull(methodName)) {
+				metadata.setJsonValueMethod(methodName);
+			}
+			else {
+				findFieldWithJsonValue(javaClass).ifPresent(field -> metadata.setJsonValueField(field.getName()));
+			}
+			if (Objects.nonNull(metadata.getJsonValueMethod()) || Objects.nonNull(metadata.getJsonValueField())) {
+				metadata.setEnumClass(loadEnumClass(javaClass, builder));
+			}
+			return metadata;
+		});
 	}
 
 	/**
@@ -757,6 +774,22 @@ public class JavaClassUtil {
 			return null;
 		}
 
+		EnumMetadata metadata = getEnumMetadata(javaClass, builder);
+		EnumInfo enumInfo = metadata.getEnumInfo();
+		if (Objects.isNull(enumInfo)) {
+			enumInfo = buildEnumInfo(javaClass, builder);
+			metadata.setEnumInfo(enumInfo);
+		}
+		return enumInfo;
+	}
+
+	/**
+	 * Build the enum info
+	 * @param javaClass the java class info
+	 * @param builder builder
+	 * @return EnumInfo
+	 */
+	private static EnumInfo buildEnumInfo(JavaClass javaClass, ProjectDocConfigBuilder builder) {
 		EnumInfo enumInfo = new EnumInfo();
 		String comment = javaClass.getComment();
 		DocletTag apiNoteTag = javaClass.getTagByName(DocTags.API_NOTE);
@@ -1116,6 +1149,17 @@ public class JavaClassUtil {
 		return returnType;
 	}
 
+	/**
+	 * Whether the class is parsed from a source file, binary and unknown classes have no
+	 * source url.
+	 * @param cls the class
+	 * @return true if the class is parsed from a source file
+	 * @since 3.0.9
+	 */
+	public static boolean isSourceClass(JavaClass cls) {
+		return Objects.nonNull(cls) && Objects.nonNull(cls.getSource()) && Objects.nonNull(cls.getSource().getURL());
+	}
+
 	/**
 	 * Determines if one class is a child of another class.
 	 * <p>
@@ -1583,7 +1627,13 @@ public class JavaClassUtil {
 			return null;
 		}
 
-		return generateEnumInfoAndValues(enumInfo, javaClass, builder, jsonEnum);
+		EnumMetadata metadata = getEnumMetadata(javaClass, builder);
+		EnumInfoAndValues enumInfoAndValues = metadata.getEnumInfoAndValues(jsonEnum);
+		if (Objects.isNull(enumInfoAndValues)) {
+			enumInfoAndValues = generateEnumInfoAndValues(enumInfo, javaClass, builder, jsonEnum);
+			metadata.setEnumInfoAndValues(jsonEnum, enumInfoAndValues);
+		}
+		return enumInfoAndValues;
 	}
 
 	/**
@@ -79,15 +79,28 @@ public class JavaFieldUtil {
 	 * @param customField config field
 	 */
 	public static void buildCustomField(StringBuilder data0, String typeSimpleName, CustomField customField) {
+		String value = getCustomFieldJsonValue(typeSimpleName, customField);
+		if (Objects.nonNull(value)) {
+			data0.append(value).append(",");
+		}
+	}
+
+	/**
+	 * get the json value of custom field
+	 * @param typeSimpleName typeName
+	 * @param customField config field
+	 * @return json value, null if the custom field has no value
+	 * @since 3.0.9
+	 */
+	public static String getCustomFieldJsonValue(String typeSimpleName, CustomField customField) {
 		Object val = customField.getValue();
-		if (Objects.nonNull(val)) {
-			if (DocUtil.javaPrimaryType(typeSimpleName)) {
-				data0.append(val).append(",");
-			}
-			else {
-				data0.append(DocUtil.handleJsonStr(String.valueOf(val))).append(",");
-			}
+		if (Objects.isNull(val)) {
+			return null;
+		}
+		if (DocUtil.javaPrimaryType(typeSimpleName)) {
+			return String.valueOf(val);
 		}
+		return DocUtil.handleJsonStr(String.valueOf(val));
 	}
 
 	/**
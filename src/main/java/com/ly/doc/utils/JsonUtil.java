@@ -26,7 +26,14 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Objects;
 
 /**
@@ -36,6 +43,11 @@ import java.util.Objects;
  */
 public class JsonUtil {
 
+	/**
+	 * Pretty gson, the html characters are not escaped
+	 */
+	private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
 	/**
 	 * private constructor
 	 */
@@ -71,8 +83,65 @@ public class JsonUtil {
 	 * @return Format json string
 	 */
 	public static String toPrettyJson(Object src) {
-		Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
-		return gson.toJson(src);
+		return PRETTY_GSON.toJson(src);
+	}
+
+	/**
+	 * Open a pretty printing json writer on a buffered file channel, the output is the
+	 * same as {@link #toPrettyJson(Object)}.
+	 * @param filePath file path
+	 * @return JsonWriter
+	 * @throws IOException if the file can't be opened
+	 * @since 3.0.9
+	 */
+	public static JsonWriter newPrettyJsonWriter(String filePath) throws IOException {
+		Path path = Paths.get(filePath);
+		if (Objects.nonNull(path.getParent())) {
+			Files.createDirectories(path.getParent());
+		}
+		return PRETTY_GSON.newJsonWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Open a pretty printing json writer on a writer, the output is the same as
+	 * {@link #toPrettyJson(Object)}.
+	 * @param writer writer
+	 * @return JsonWriter
+	 * @throws IOException if the json writer can't be created
+	 * @since 3.0.9
+	 */
+	public static JsonWriter newPrettyJsonWriter(Writer writer) throws IOException {
+		return PRETTY_GSON.newJsonWriter(writer);
+	}
+
+	/**
+	 * Write a named value to the json writer, the value is serialized straight to the
+	 * writer without building the json string.
+	 * @param writer json writer
+	 * @param name name
+	 * @param value value
+	 * @throws IOException if the value can't be written
+	 * @since 3.0.9
+	 */
+	public static void writePrettyJson(JsonWriter writer, String name, Object value) throws IOException {
+		writer.name(name);
+		writePrettyJson(writer, value);
+	}
+
+	/**
+	 * Write a value to the json writer, the value is serialized straight to the writer
+	 * without building the json string.
+	 * @param writer json writer
+	 * @param value value
+	 * @throws IOException if the value can't be written
+	 * @since 3.0.9
+	 */
+	public static void writePrettyJson(JsonWriter writer, Object value) throws IOException {
+		if (Objects.isNull(value)) {
+			writer.nullValue();
+			return;
+		}
+		PRETTY_GSON.toJson(value, value.getClass(), writer);
 	}
 
 	/**
@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.utils;
+
+import com.power.common.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled form of a comma-separated "packageFilters" string. The plain entries are
+ * stored in a prefix trie and the wildcard entries are combined into one pattern, so the
+ * queries neither split the filters nor compile a pattern.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public final class PackageFilterMatcher {
+
+	/**
+	 * Matcher of an empty filter string, it matches nothing
+	 */
+	private static final PackageFilterMatcher EMPTY = new PackageFilterMatcher(Collections.emptyList(),
+			Collections.emptyList());
+
+	/**
+	 * Compiled matchers keyed by the filter string
+	 */
+	private static final Map<String, PackageFilterMatcher> MATCHER_CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Buffer used to join the class name and the method name
+	 */
+	private static final ThreadLocal<StringBuilder> NAME_BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+	/**
+	 * A numbered back reference can't be combined with other patterns
+	 */
+	private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\[1-9]");
+
+	/**
+	 * The plain filters in their original order
+	 */
+	private final List<String> literals;
+
+	/**
+	 * Prefix trie of the plain filters
+	 */
+	private final Node trie;
+
+	/**
+	 * The wildcard patterns, a single pattern when they could be combined
+	 */
+	private final List<ThreadLocal<Matcher>> wildcards;
+
+	private PackageFilterMatcher(List<String> literals, List<String> patterns) {
+		this.literals = Collections.unmodifiableList(literals);
+		this.trie = Node.build(literals);
+		List<ThreadLocal<Matcher>> wildcards = new ArrayList<>();
+		if (patterns.size() > 1 && patterns.stream().noneMatch(p -> BACK_REFERENCE.matcher(p).find())) {
+			StringBuilder combined = new StringBuilder();
+			for (String pattern : patterns) {
+				// compile each one alone to fail on the same syntax errors as before
+				Pattern.compile(pattern);
+				combined.append(combined.length() == 0 ? "" : "|").append("(?:").append(pattern).append(')');
+			}
+			wildcards.add(threadLocalMatcher(Pattern.compile(combined.toString())));
+		}
+		else {
+			for (String pattern : patterns) {
+				wildcards.add(threadLocalMatcher(Pattern.compile(pattern)));
+			}
+		}
+		this.wildcards = Collections.unmodifiableList(wildcards);
+	}
+
+	/**
+	 * Get the compiled matcher of a filter string.
+	 * @param packageFilters comma-separated filters, an entry containing "*" is a regex
+	 * @return the matcher, never null
+	 */
+	public static PackageFilterMatcher of(String packageFilters) {
+		if (StringUtil.isEmpty(packageFilters)) {
+			return EMPTY;
+		}
+		return MATCHER_CACHE.computeIfAbsent(packageFilters, PackageFilterMatcher::compile);
+	}
+
+	private static PackageFilterMatcher compile(String packageFilters) {
+		List<String> literals = new ArrayList<>();
+		List<String> patterns = new ArrayList<>();
+		for (String filter : packageFilters.split(",")) {
+			if (filter.contains("*")) {
+				patterns.add(filter);
+			}
+			else {
+				literals.add(filter);
+			}
+		}
+		return new PackageFilterMatcher(literals, patterns);
+	}
+
+	private static ThreadLocal<Matcher> threadLocalMatcher(Pattern pattern) {
+		return ThreadLocal.withInitial(() -> pattern.matcher(""));
+	}
+
+	/**
+	 * @return true if there is no filter
+	 */
+	public boolean isEmpty() {
+		return this == EMPTY;
+	}
+
+	/**
+	 * Check whether a name starts with a plain filter or matches a wildcard filter.
+	 * @param name class name or class name with method name
+	 * @return boolean
+	 */
+	public boolean matches(CharSequence name) {
+		return this.trie.hasPrefixAt(name, 0) || this.matchesWildcard(name);
+	}
+
+	/**
+	 * Same as {@link #matches(CharSequence)} with the name "className.methodName".
+	 * @param className class canonical name
+	 * @param methodName method name
+	 * @return boolean
+	 */
+	public boolean matches(String className, String methodName) {
+		if (this.isEmpty()) {
+			return false;
+		}
+		StringBuilder name = NAME_BUFFER.get();
+		name.setLength(0);
+		name.append(className).append('.').append(methodName);
+		return this.matches(name);
+	}
+
+	/**
+	 * Check whether the filters select the whole class, that is a wildcard filter matches
+	 * the class name or the class name contains a plain filter.
+	 * @param className class canonical name
+	 * @return boolean
+	 */
+	public boolean matchesClass(String className) {
+		for (int i = 0; i < className.length(); i++) {
+			if (this.trie.hasPrefixAt(className, i)) {
+				return true;
+			}
+		}
+		return this.trie.terminal || this.matchesWildcard(className);
+	}
+
+	/**
+	 * Find the methods of a class the filters point to.
+	 * @param className class canonical name
+	 * @param methodNames names of the class methods
+	 * @return the methods, empty if no filter points to a method of the class
+	 */
+	public Set<String> matchMethods(String className, Collection<String> methodNames) {
+		Set<String> methods = new HashSet<>();
+		if (!this.wildcards.isEmpty()) {
+			for (String methodName : methodNames) {
+				StringBuilder name = NAME_BUFFER.get();
+				name.setLength(0);
+				name.append(className).append('.').append(methodName);
+				if (this.matchesWildcard(name)) {
+					methods.add(methodName);
+				}
+			}
+		}
+		for (String filter : this.literals) {
+			if (filter.contains(className)) {
+				methods.add(filter.replace(className, "").replace(".", ""));
+			}
+		}
+		return methods;
+	}
+
+	private boolean matchesWildcard(CharSequence name) {
+		for (ThreadLocal<Matcher> wildcard : this.wildcards) {
+			if (wildcard.get().reset(name).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Node of the prefix trie, the children are sorted by their char
+	 */
+	private static final class Node {
+
+		private static final char[] NO_KEYS = new char[0];
+
+		private static final Node[] NO_CHILDREN = new Node[0];
+
+		private final boolean terminal;
+
+		private final char[] keys;
+
+		private final Node[] children;
+
+		private Node(boolean terminal, char[] keys, Node[] children) {
+			this.terminal = terminal;
+			this.keys = keys;
+			this.children = children;
+		}
+
+		static Node build(Collection<String> words) {
+			return new Builder().addAll(words).freeze();
+		}
+
+		boolean hasPrefixAt(CharSequence text, int start) {
+			Node node = this;
+			for (int i = start; !node.terminal; i++) {
+				if (i == text.length()) {
+					return false;
+				}
+				int index = indexOf(node.keys, text.charAt(i));
+				if (index < 0) {
+					return false;
+				}
+				node = node.children[index];
+			}
+			return true;
+		}
+
+		private static int indexOf(char[] keys, char key) {
+			int low = 0;
+			int high = keys.length - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				char midKey = keys[mid];
+				if (midKey < key) {
+					low = mid + 1;
+				}
+				else if (midKey > key) {
+					high = mid - 1;
+				}
+				else {
+					return mid;
+				}
+			}
+			return -1;
+		}
+
+		private static final class Builder {
+
+			private final TreeMap<Character, Builder> children = new TreeMap<>();
+
+			private boolean terminal;
+
+			Builder addAll(Collection<String> words) {
+				for (String word : words) {
+					Builder node = this;
+					for (int i = 0; i < word.length(); i++) {
+						node = node.children.computeIfAbsent(word.charAt(i), c -> new Builder());
+					}
+					node.terminal = true;
+				}
+				return this;
+			}
+
+			Node freeze() {
+				if (this.terminal || this.children.isEmpty()) {
+					// a shorter filter already covers the longer ones
+					return new Node(this.terminal, NO_KEYS, NO_CHILDREN);
+				}
+				char[] keys = new char[this.children.size()];
+				Node[] nodes = new Node[keys.length];
+				int i = 0;
+				for (Map.Entry<Character, Builder> entry : this.children.entrySet()) {
+					keys[i] = entry.getKey();
+					nodes[i++] = entry.getValue().freeze();
+				}
+				return new Node(false, keys, nodes);
+			}
+
+		}
+
+	}
+
+}
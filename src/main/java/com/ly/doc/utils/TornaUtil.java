@@ -54,14 +54,30 @@ import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import com.thoughtworks.qdox.model.JavaMethod;
 import com.thoughtworks.qdox.model.JavaParameter;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
 
 import static com.ly.doc.constants.TornaConstants.ENUM_PUSH;
 import static com.ly.doc.constants.TornaConstants.PUSH;
@@ -73,6 +89,25 @@ import static com.ly.doc.constants.TornaConstants.PUSH;
  **/
 public class TornaUtil {
 
+	/**
+	 * logger
+	 */
+	private static final Logger log = Logger.getLogger(TornaUtil.class.getName());
+
+	/**
+	 * Gson of the push requests
+	 */
+	private static final Gson GSON = new Gson();
+
+	private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json; charset=utf-8");
+
+	/**
+	 * Delay before the first retry of a failed push, doubled for every further retry
+	 */
+	private static final long RETRY_BACKOFF_MILLIS = 500L;
+
+	private static final int TOO_MANY_REQUESTS = 429;
+
 	/**
 	 * private constructor
 	 */
@@ -99,48 +134,130 @@ public class TornaUtil {
 		if (tornaApi == null || apiConfig == null) {
 			return;
 		}
-		// Push all documents
-		if (apiConfig.getApiUploadNums() == null) {
-			pushToTornaAll(tornaApi, apiConfig, builder);
-			return;
-		}
-		// Push part of documents if the upload number is not null
 		List<Apis> tornaApis = tornaApi.getApis();
-		if (tornaApis == null || tornaApis.isEmpty()) {
+		// Push part of documents if the upload number is not null
+		boolean partitioned = apiConfig.getApiUploadNums() != null;
+		if (partitioned && (tornaApis == null || tornaApis.isEmpty())) {
 			return;
 		}
-		CollectionUtil.partition(tornaApis, apiConfig.getApiUploadNums()).forEach(apis -> {
-			tornaApi.setApis(apis);
-			pushToTornaAll(tornaApi, apiConfig, builder);
-		});
+		// the dictionaries are the same for every partition, push them once
+		pushDictionary(apiConfig, builder);
+		List<List<Apis>> partitions = partitioned ? CollectionUtil.partition(tornaApis, apiConfig.getApiUploadNums())
+				: Collections.singletonList(tornaApis);
+		pushApis(tornaApi, partitions, apiConfig);
 	}
 
 	/**
-	 * Pushes all documentation information to the Torna platform.
-	 * @param tornaApi The Torna API object, containing the API details to be pushed.
+	 * Pushes the dictionaries to the Torna platform.
 	 * @param apiConfig The API configuration object, containing the connection
 	 * information for the Torna platform.
-	 * @param builder The Java project builder object, used to construct the documentation
-	 * information.
+	 * @param builder The Java project builder object, used to resolve the dictionaries.
 	 */
-	private static void pushToTornaAll(TornaApi tornaApi, ApiConfig apiConfig, JavaProjectBuilder builder) {
-		// Build push document information
-		Map<String, String> requestJson = TornaConstants.buildParams(PUSH, new Gson().toJson(tornaApi), apiConfig);
-		// Push dictionary information
-		Map<String, Object> dicMap = new HashMap<>(2);
+	private static void pushDictionary(ApiConfig apiConfig, JavaProjectBuilder builder) {
 		List<TornaDic> docDicts = TornaUtil.buildTornaDic(DocUtil.buildDictionary(apiConfig, builder));
-		// Push dictionary information
-		if (CollectionUtil.isNotEmpty(docDicts)) {
-			dicMap.put("enums", docDicts);
-			Map<String, String> dicRequestJson = TornaConstants.buildParams(ENUM_PUSH, new Gson().toJson(dicMap),
-					apiConfig);
-			String dicResponseMsg = OkHttp3Util.syncPostJson(apiConfig.getOpenUrl(), new Gson().toJson(dicRequestJson));
-			TornaUtil.printDebugInfo(apiConfig, dicResponseMsg, dicRequestJson, ENUM_PUSH);
+		if (CollectionUtil.isEmpty(docDicts)) {
+			return;
 		}
-		// Get the response result
-		String responseMsg = OkHttp3Util.syncPostJson(apiConfig.getOpenUrl(), new Gson().toJson(requestJson));
-		// Print the log of pushing documents to Torna
-		TornaUtil.printDebugInfo(apiConfig, responseMsg, requestJson, PUSH);
+		Map<String, Object> dicMap = new HashMap<>(2);
+		dicMap.put("enums", docDicts);
+		Map<String, String> dicRequestJson = TornaConstants.buildParams(ENUM_PUSH, GSON.toJson(dicMap), apiConfig);
+		String dicResponseMsg = post(apiConfig, GSON.toJson(dicRequestJson));
+		TornaUtil.printDebugInfo(apiConfig, dicResponseMsg, dicRequestJson, ENUM_PUSH);
+	}
+
+	/**
+	 * Pushes the api partitions to the Torna platform. Up to
+	 * {@link ApiConfig#getTornaPushThreads()} partitions are in flight while the next one
+	 * is serialized, the responses are printed in the order of the partitions.
+	 * @param tornaApi The Torna API object, its apis are replaced by each partition while
+	 * it is serialized.
+	 * @param partitions The api partitions.
+	 * @param apiConfig The API configuration object, containing the connection
+	 * information for the Torna platform.
+	 */
+	private static void pushApis(TornaApi tornaApi, List<List<Apis>> partitions, ApiConfig apiConfig) {
+		int threads = Math.max(1, Math.min(apiConfig.getTornaPushThreads(), partitions.size()));
+		ExecutorService pushPool = Executors.newFixedThreadPool(threads,
+				DocThreadUtil.daemonThreadFactory("smart-doc-torna-"));
+		List<Apis> tornaApis = tornaApi.getApis();
+		Deque<Push> pushing = new ArrayDeque<>(threads + 1);
+		try {
+			for (List<Apis> apis : partitions) {
+				tornaApi.setApis(apis);
+				Map<String, String> requestJson = TornaConstants.buildParams(PUSH, GSON.toJson(tornaApi), apiConfig);
+				String body = GSON.toJson(requestJson);
+				pushing
+					.add(new Push(requestJson, CompletableFuture.supplyAsync(() -> post(apiConfig, body), pushPool)));
+				if (pushing.size() > threads) {
+					pushing.poll().printDebugInfo(apiConfig);
+				}
+			}
+			while (!pushing.isEmpty()) {
+				pushing.poll().printDebugInfo(apiConfig);
+			}
+		}
+		finally {
+			pushPool.shutdownNow();
+			tornaApi.setApis(tornaApis);
+		}
+	}
+
+	/**
+	 * Post a json body to the Torna open url. An io error, a server error or a too many
+	 * requests response is retried {@link ApiConfig#getTornaPushRetries()} times with an
+	 * exponential backoff.
+	 * @param apiConfig The API configuration object.
+	 * @param json The json body.
+	 * @return the response body, or null if the request failed
+	 */
+	private static String post(ApiConfig apiConfig, String json) {
+		byte[] content = json.getBytes(StandardCharsets.UTF_8);
+		Request.Builder requestBuilder = new Request.Builder().url(apiConfig.getOpenUrl());
+		if (apiConfig.isTornaGzip()) {
+			content = gzip(content);
+			requestBuilder.header("Content-Encoding", "gzip");
+		}
+		Request request = requestBuilder.post(RequestBody.create(content, JSON_MEDIA_TYPE)).build();
+		int retries = Math.max(0, apiConfig.getTornaPushRetries());
+		for (int attempt = 0;; attempt++) {
+			String failure;
+			try (Response response = OkHttp3Util.getInstance().newCall(request).execute()) {
+				ResponseBody responseBody = response.body();
+				String responseMsg = Objects.isNull(responseBody) ? "" : responseBody.string();
+				int code = response.code();
+				if (attempt >= retries || (code < 500 && code != TOO_MANY_REQUESTS)) {
+					return responseMsg;
+				}
+				failure = "HTTP " + code;
+			}
+			catch (IOException e) {
+				if (attempt >= retries) {
+					log.warning("Failed to push to Torna: " + e.getMessage());
+					return null;
+				}
+				failure = e.getMessage();
+			}
+			long backoff = RETRY_BACKOFF_MILLIS << attempt;
+			log.warning("Failed to push to Torna: " + failure + ", retry in " + backoff + "ms");
+			try {
+				Thread.sleep(backoff);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+	}
+
+	private static byte[] gzip(byte[] content) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(content);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return out.toByteArray();
 	}
 
 	/**
@@ -575,4 +692,24 @@ public class TornaUtil {
 		return split[0];
 	}
 
+	/**
+	 * A partition in flight
+	 */
+	private static class Push {
+
+		private final Map<String, String> requestJson;
+
+		private final CompletableFuture<String> response;
+
+		private Push(Map<String, String> requestJson, CompletableFuture<String> response) {
+			this.requestJson = requestJson;
+			this.response = response;
+		}
+
+		private void printDebugInfo(ApiConfig apiConfig) {
+			TornaUtil.printDebugInfo(apiConfig, this.response.join(), this.requestJson, PUSH);
+		}
+
+	}
+
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2018-2024 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.ly.doc.utils;
+
+import com.ly.doc.filter.ReturnTypeProcessor;
+import com.ly.doc.model.ApiReturn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A parsed generic type name, e.g. {@code Result<PageResult<Map<String, List<Order>>>>}.
+ * The signatures are interned, each name is parsed once and the derived names of
+ * {@link DocClassUtil} are computed on first use and shared by all the helpers. The cache
+ * is cleared at the start of every analysis, see {@link #clearCache()}.
+ *
+ * @author agent
+ * @since 3.0.9
+ */
+public final class TypeSignature {
+
+	/**
+	 * The cache is dropped when it grows beyond this size, a project only has a few
+	 * thousand distinct type names.
+	 */
+	private static final int MAX_CACHE_SIZE = 1 << 16;
+
+	private static final String[] EMPTY = new String[0];
+
+	/**
+	 * interned signatures by type name
+	 */
+	private static final Map<String, TypeSignature> CACHE = new ConcurrentHashMap<>();
+
+	private final String name;
+
+	/**
+	 * the type name without type arguments, see {@link DocClassUtil#getSimpleName}
+	 */
+	private final String rawType;
+
+	/**
+	 * number of the trailing {@code []} of the raw type
+	 */
+	private final int arrayDepth;
+
+	/**
+	 * see {@link DocClassUtil#getSimpleGicName}, computed on first use
+	 */
+	private volatile String[] typeArgumentNames;
+
+	/**
+	 * see {@link DocClassUtil#getMapKeyValueType}, computed on first use
+	 */
+	private volatile String[] mapKeyValueNames;
+
+	/**
+	 * generic canonical name and simple name of the return type, see
+	 * {@link DocClassUtil#processReturnType}, computed on first use
+	 */
+	private volatile String[] returnTypeNames;
+
+	/**
+	 * signatures of the type argument names, computed on first use
+	 */
+	private volatile List<TypeSignature> typeArguments;
+
+	private TypeSignature(String name) {
+		this.name = name;
+		this.rawType = DocClassUtil.removeTypeArguments(name);
+		int depth = 0;
+		for (int end = rawType.length(); end > 1 && rawType.startsWith("[]", end - 2); end -= 2) {
+			depth++;
+		}
+		this.arrayDepth = depth;
+	}
+
+	/**
+	 * Get the interned signature of a type name.
+	 * @param name type name
+	 * @return TypeSignature
+	 */
+	public static TypeSignature of(String name) {
+		TypeSignature signature = CACHE.get(name);
+		if (signature != null) {
+			return signature;
+		}
+		if (CACHE.size() >= MAX_CACHE_SIZE) {
+			CACHE.clear();
+		}
+		signature = new TypeSignature(name);
+		TypeSignature existing = CACHE.putIfAbsent(name, signature);
+		return existing == null ? signature : existing;
+	}
+
+	/**
+	 * Drop the interned signatures.
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getRawType() {
+		return rawType;
+	}
+
+	public int getArrayDepth() {
+		return arrayDepth;
+	}
+
+	/**
+	 * Get the type arguments, collections and maps without type arguments get the default
+	 * ones of {@link DocClassUtil#getSimpleGicName}.
+	 * @return signatures of the type arguments
+	 */
+	public List<TypeSignature> getTypeArguments() {
+		List<TypeSignature> arguments = typeArguments;
+		if (arguments == null) {
+			String[] names = typeArgumentNames();
+			List<TypeSignature> list = new ArrayList<>(names.length);
+			for (String argument : names) {
+				list.add(of(argument));
+			}
+			arguments = Collections.unmodifiableList(list);
+			typeArguments = arguments;
+		}
+		return arguments;
+	}
+
+	/**
+	 * The type argument names, the array is shared and must not be modified.
+	 * @return type argument names
+	 */
+	String[] typeArgumentNames() {
+		String[] names = typeArgumentNames;
+		if (names == null) {
+			names = DocClassUtil.parseSimpleGicName(name);
+			typeArgumentNames = names.length == 0 ? EMPTY : names;
+		}
+		return names;
+	}
+
+	/**
+	 * The map key and value type names, the array is shared and must not be modified.
+	 * @return map key and value type names
+	 */
+	String[] mapKeyValueNames() {
+		String[] names = mapKeyValueNames;
+		if (names == null) {
+			names = DocClassUtil.parseMapKeyValueType(name);
+			mapKeyValueNames = names.length == 0 ? EMPTY : names;
+		}
+		return names;
+	}
+
+	/**
+	 * The generic canonical name and the simple name of the type as return type.
+	 * @return return type names
+	 */
+	String[] returnTypeNames() {
+		String[] names = returnTypeNames;
+		if (names == null) {
+			ReturnTypeProcessor processor = new ReturnTypeProcessor();
+			processor.setTypeName(name);
+			ApiReturn apiReturn = processor.process();
+			names = new String[] { apiReturn.getGenericCanonicalName(), apiReturn.getSimpleName() };
+			returnTypeNames = names;
+		}
+		return names;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+}
@@ -1,7 +1,9 @@
 package com.ly.doc;
 
 import com.ly.doc.builder.ApiDocBuilder;
+import com.ly.doc.builder.DocTarget;
 import com.ly.doc.builder.JMeterBuilder;
+import com.ly.doc.builder.MultiTargetDocBuilder;
 import com.ly.doc.constants.DocLanguage;
 import com.ly.doc.model.ApiConfig;
 import com.ly.doc.model.SourceCodePath;
@@ -136,4 +138,32 @@ public class ApiDocTest {
 		DateTimeUtil.printRunTime(end, start);
 	}
 
+	/**
+	 * test html, openapi and postman in one pass
+	 * @throws Exception exception
+	 */
+	@Test
+	public void testMultiTargetBuilderControllersApi() throws Exception {
+		ApiConfig config = new ApiConfig();
+		config.setServerUrl("http://127.0.0.1:8899");
+		config.setInlineEnum(true);
+		config.setStyle("randomLight");
+		config.setAllInOne(true);
+		config.setCoverOld(true);
+		config.setOutPath("D:\\smart-doc\\docs\\multi");
+		config.setFramework(FrameworkEnum.SPRING.getFramework());
+		config.setSourceCodePaths(
+				SourceCodePath.builder().setDesc("current project code").setPath("D:\\smart-doc\\test-project"));
+		config.setPackageFilters("com.power.doc.controller.*");
+		config.setBaseDir("D:\\smart-doc\\test-project\\smart-doc-example-cn-master");
+		config.setCodePath("/src/main/java");
+
+		long start = System.currentTimeMillis();
+
+		MultiTargetDocBuilder.buildApiDoc(config, DocTarget.HTML, DocTarget.OPENAPI, DocTarget.POSTMAN);
+
+		long end = System.currentTimeMillis();
+		DateTimeUtil.printRunTime(end, start);
+	}
+
 }
@@ -0,0 +1,82 @@
+package com.ly.doc;
+
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.SourceCodePath;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Java sources of the demo projects the tests build, written to a temporary directory.
+ *
+ * @author agent
+ */
+public final class SourceFixtures {
+
+	/**
+	 * the user model, package {@code com.demo}
+	 */
+	public static final String USER = "public class User {\n" + "\t/**\n\t * name\n\t */\n" + "\tprivate String name;\n"
+			+ "}\n";
+
+	/**
+	 * the user controller, package {@code com.demo}, the comment of its first endpoint is
+	 * a format argument
+	 */
+	public static final String USER_CONTROLLER = "import org.springframework.web.bind.annotation.*;\n"
+			+ "/**\n * User\n */\n" + "@RestController\n" + "public class UserController {\n"
+			+ "\t/**\n\t * %s\n\t */\n" + "\t@GetMapping(\"/user\")\n"
+			+ "\tpublic User user(@RequestParam String name) { return null; }\n" + "\t/**\n\t * Save the user\n\t */\n"
+			+ "\t@PostMapping(\"/user\")\n" + "\tpublic void save(@RequestBody User user) { }\n" + "}\n";
+
+	private SourceFixtures() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Write the source of a class to the source directory.
+	 * @param sourceDir source directory
+	 * @param className fully qualified name of the class
+	 * @param body the source without the package declaration
+	 * @return the source file
+	 * @throws IOException if the source can't be written
+	 */
+	public static Path write(Path sourceDir, String className, String body) throws IOException {
+		int index = className.lastIndexOf('.');
+		Path file = sourceDir.resolve(className.replace('.', '/') + ".java");
+		Files.createDirectories(file.getParent());
+		String source = index < 0 ? body : "package " + className.substring(0, index) + ";\n" + body;
+		Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	/**
+	 * Write the user controller and the user model, package {@code com.demo}.
+	 * @param sourceDir source directory
+	 * @param comment comment of the first endpoint
+	 * @return the source file of the controller
+	 * @throws IOException if the sources can't be written
+	 */
+	public static Path writeUserController(Path sourceDir, String comment) throws IOException {
+		write(sourceDir, "com.demo.User", USER);
+		return write(sourceDir, "com.demo.UserController", String.format(USER_CONTROLLER, comment));
+	}
+
+	/**
+	 * Config of a project whose sources are in {@code src} and whose docs are written to
+	 * {@code out}.
+	 * @param baseDir project directory
+	 * @return ApiConfig
+	 */
+	public static ApiConfig config(Path baseDir) {
+		ApiConfig config = new ApiConfig();
+		config.setBaseDir(baseDir.toString());
+		config.setCodePath("src");
+		config.setOutPath(baseDir.resolve("out").toString());
+		config.setSourceCodePaths(SourceCodePath.builder().setPath(baseDir.resolve("src").toString()));
+		return config;
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.ly.doc.benchmark;
+
+import com.ly.doc.model.ApiParam;
+import com.ly.doc.utils.ApiParamTreeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the param tree of a flattened response with the pid index of
+ * {@link ApiParamTreeUtil#apiParamToTree(List, int)} and by scanning the whole list for
+ * the children of every node.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiParamTreeBenchmark {
+
+	@Param({ "300", "3000" })
+	private int size;
+
+	private List<ApiParam> params;
+
+	@Setup
+	public void setup() {
+		params = new ArrayList<>(size);
+		// every object has four fields and one of them is a nested object
+		for (int id = 1; id <= size; id++) {
+			int pid = id <= 4 ? 0 : (id - 1) / 4;
+			params.add(ApiParam.of().setId(id).setPid(pid).setField("└─field" + id));
+		}
+	}
+
+	@Benchmark
+	public List<ApiParam> indexed() {
+		return ApiParamTreeUtil.apiParamToTree(copy(), 7);
+	}
+
+	@Benchmark
+	public List<ApiParam> scan() {
+		List<ApiParam> copies = copy();
+		List<ApiParam> roots = new ArrayList<>();
+		for (ApiParam param : copies) {
+			param.setField(param.getField().replaceAll("└─", "").replaceAll("&nbsp;", ""));
+			if (param.getPid() == 0) {
+				roots.add(param);
+			}
+		}
+		for (ApiParam root : roots) {
+			root.setChildren(scanChildren(root.getId(), copies, 0));
+		}
+		return roots;
+	}
+
+	private static List<ApiParam> scanChildren(int id, List<ApiParam> params, int counter) {
+		List<ApiParam> children = new ArrayList<>();
+		if (counter > 7) {
+			return children;
+		}
+		for (ApiParam param : params) {
+			if (param.getPid() == id) {
+				children.add(param);
+			}
+		}
+		for (ApiParam param : children) {
+			param.setChildren(scanChildren(param.getId(), params, counter + 1));
+		}
+		return children;
+	}
+
+	private List<ApiParam> copy() {
+		List<ApiParam> copies = new ArrayList<>(params.size());
+		for (ApiParam param : params) {
+			copies.add(param.clone());
+		}
+		return copies;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ApiParamTreeBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.ly.doc.benchmark;
+
+import com.ly.doc.builder.DocBuilderTemplate;
+import com.ly.doc.builder.ProjectDocConfigBuilder;
+import com.ly.doc.constants.DocGlobalConstants;
+import com.ly.doc.constants.FrameworkEnum;
+import com.ly.doc.factory.BuildTemplateFactory;
+import com.ly.doc.helper.JavaProjectBuilderHelper;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.ApiDoc;
+import com.ly.doc.model.SourceCodePath;
+import com.ly.doc.utils.BeetlTemplateUtil;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the html page of every controller with a cold and a cached
+ * {@link BeetlTemplateUtil}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeetlTemplateBenchmark {
+
+	@Param({ "20" })
+	private int controllers;
+
+	private ApiConfig config;
+
+	private JavaProjectBuilder javaProjectBuilder;
+
+	private List<ApiDoc> apiDocList;
+
+	private final DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+
+	@Setup
+	public void setup() throws IOException {
+		Path sourceDir = Files.createTempDirectory("smart-doc-benchmark");
+		BenchmarkSources.writeControllers(sourceDir, controllers);
+		config = new ApiConfig();
+		config.setServerUrl("http://localhost:8080");
+		config.setOutPath(sourceDir.resolve("doc").toString());
+		config.setBaseDir(sourceDir.toString());
+		config.setCodePath("/");
+		config.setSourceCodePaths(SourceCodePath.builder().setPath(sourceDir.toString()));
+		config.setFramework(FrameworkEnum.SPRING.getFramework());
+		javaProjectBuilder = JavaProjectBuilderHelper.create();
+		ProjectDocConfigBuilder configBuilder = new ProjectDocConfigBuilder(config, javaProjectBuilder);
+		apiDocList = BuildTemplateFactory.<ApiDoc>getDocBuildTemplate(config.getFramework(), config.getClassLoader())
+			.getApiData(configBuilder)
+			.getApiDatas();
+	}
+
+	@Benchmark
+	public void coldRender(Blackhole blackhole) {
+		for (ApiDoc doc : apiDocList) {
+			BeetlTemplateUtil.clearCache();
+			blackhole.consume(render(doc));
+		}
+	}
+
+	@Benchmark
+	public void cachedRender(Blackhole blackhole) {
+		for (ApiDoc doc : apiDocList) {
+			blackhole.consume(render(doc));
+		}
+	}
+
+	private String render(ApiDoc doc) {
+		return builderTemplate
+			.buildAllRenderDocTemplate(apiDocList, config, javaProjectBuilder, DocGlobalConstants.HTML_API_DOC_TPL, doc,
+					"index")
+			.render();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(BeetlTemplateBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.ly.doc.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates a spring project for the benchmarks.
+ *
+ * @author agent
+ */
+final class BenchmarkSources {
+
+	private BenchmarkSources() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Write the controllers and their models to the source directory.
+	 * @param sourceDir source directory
+	 * @param controllers number of controllers
+	 * @throws IOException if the sources can't be written
+	 */
+	static void writeControllers(Path sourceDir, int controllers) throws IOException {
+		Path packageDir = Files.createDirectories(sourceDir.resolve("com/demo"));
+		write(packageDir.resolve("User.java"),
+				"package com.demo;\n" + "/** user */\n" + "public class User {\n" + "\t/** user id */\n"
+						+ "\tprivate Long id;\n" + "\t/** user name */\n" + "\tprivate String name;\n"
+						+ "\t/** birthday */\n" + "\tprivate java.time.LocalDate birthday;\n" + "\t/** tags */\n"
+						+ "\tprivate java.util.Map<String, java.math.BigDecimal> tags;\n" + "\t/** friends */\n"
+						+ "\tprivate java.util.List<User> friends;\n" + "}\n");
+		for (int i = 0; i < controllers; i++) {
+			write(packageDir.resolve("UserController" + i + ".java"),
+					"package com.demo;\n" + "import org.springframework.web.bind.annotation.*;\n" + "/** user api " + i
+							+ " */\n" + "@RestController\n" + "@RequestMapping(\"/user" + i + "\")\n"
+							+ "public class UserController" + i + " {\n"
+							+ "\t/**\n\t * get user\n\t * @param id user id\n\t */\n" + "\t@GetMapping(\"/{id}\")\n"
+							+ "\tpublic User get(@PathVariable Long id) { return null; }\n" + "\t/** list users */\n"
+							+ "\t@GetMapping(\"/list\")\n"
+							+ "\tpublic java.util.List<User> list(@RequestParam String name) { return null; }\n"
+							+ "\t/** save user */\n" + "\t@PostMapping\n"
+							+ "\tpublic User save(@RequestBody User user) { return null; }\n" + "}\n");
+		}
+	}
+
+	/**
+	 * Write the fixtures of the hot path benchmarks to the source directory, package
+	 * {@code com.demo.bench}: nested generic wrappers, a recursive and two mutually
+	 * recursive models, a large enum and a wide controller using all of them.
+	 * @param sourceDir source directory
+	 * @param enumConstants number of the constants of the enum
+	 * @param endpoints number of the endpoints of the controller
+	 * @throws IOException if the sources can't be written
+	 */
+	static void writeFixtures(Path sourceDir, int enumConstants, int endpoints) throws IOException {
+		Path packageDir = Files.createDirectories(sourceDir.resolve("com/demo/bench"));
+		String pkg = "package com.demo.bench;\n";
+		write(packageDir.resolve("Result.java"),
+				pkg + "/** result */\n" + "public class Result<T> {\n" + "\t/** code */\n" + "\tprivate int code;\n"
+						+ "\t/** message */\n" + "\tprivate String message;\n" + "\t/** data */\n"
+						+ "\tprivate T data;\n" + "}\n");
+		write(packageDir.resolve("Page.java"), pkg + "/** page */\n" + "public class Page<T> {\n" + "\t/** total */\n"
+				+ "\tprivate long total;\n" + "\t/** records */\n" + "\tprivate java.util.List<T> records;\n" + "}\n");
+		write(packageDir.resolve("Pair.java"), pkg + "/** pair */\n" + "public class Pair<L, R> {\n" + "\t/** left */\n"
+				+ "\tprivate L left;\n" + "\t/** right */\n" + "\tprivate R right;\n" + "}\n");
+		write(packageDir.resolve("Item.java"),
+				pkg + "/** item */\n" + "public class Item {\n" + "\t/** sku */\n" + "\tprivate String sku;\n"
+						+ "\t/** price */\n" + "\tprivate java.math.BigDecimal price;\n" + "\t/** created */\n"
+						+ "\tprivate java.time.LocalDateTime created;\n" + "}\n");
+		write(packageDir.resolve("Order.java"),
+				pkg + "/** order */\n" + "public class Order<T> {\n" + "\t/** order id */\n" + "\tprivate Long id;\n"
+						+ "\t/** status */\n" + "\tprivate Status status;\n" + "\t/** history */\n"
+						+ "\tprivate java.util.List<Status> history;\n" + "\t/** items */\n"
+						+ "\tprivate java.util.List<T> items;\n" + "\t/** items by key */\n"
+						+ "\tprivate java.util.Map<String, T> byKey;\n" + "}\n");
+		write(packageDir.resolve("TreeNode.java"),
+				pkg + "/** tree node */\n" + "public class TreeNode {\n" + "\t/** name */\n"
+						+ "\tprivate String name;\n" + "\t/** parent */\n" + "\tprivate TreeNode parent;\n"
+						+ "\t/** children */\n" + "\tprivate java.util.List<TreeNode> children;\n" + "\t/** index */\n"
+						+ "\tprivate java.util.Map<String, TreeNode> index;\n" + "}\n");
+		write(packageDir.resolve("Department.java"),
+				pkg + "/** department */\n" + "public class Department {\n" + "\t/** name */\n"
+						+ "\tprivate String name;\n" + "\t/** manager */\n" + "\tprivate Employee manager;\n"
+						+ "\t/** employees */\n" + "\tprivate java.util.List<Employee> employees;\n" + "}\n");
+		write(packageDir.resolve("Employee.java"),
+				pkg + "/** employee */\n" + "public class Employee {\n" + "\t/** name */\n" + "\tprivate String name;\n"
+						+ "\t/** department */\n" + "\tprivate Department department;\n" + "\t/** reports */\n"
+						+ "\tprivate java.util.List<Employee> reports;\n" + "}\n");
+		StringBuilder status = new StringBuilder(pkg).append("/** status */\npublic enum Status {\n");
+		for (int i = 0; i < enumConstants; i++) {
+			status.append("\t/** status ")
+				.append(i)
+				.append(" */\n\tS")
+				.append(i)
+				.append('(')
+				.append(i)
+				.append(", \"status ")
+				.append(i)
+				.append("\")")
+				.append(i == enumConstants - 1 ? ";\n" : ",\n");
+		}
+		status.append("\tprivate final int code;\n")
+			.append("\tprivate final String desc;\n")
+			.append("\tStatus(int code, String desc) { this.code = code; this.desc = desc; }\n")
+			.append("\tpublic int getCode() { return code; }\n")
+			.append("\tpublic String getDesc() { return desc; }\n")
+			.append("}\n");
+		write(packageDir.resolve("Status.java"), status.toString());
+		StringBuilder controller = new StringBuilder(pkg).append("import org.springframework.web.bind.annotation.*;\n")
+			.append("/** wide api */\n@RestController\n@RequestMapping(\"/wide\")\npublic class WideController {\n");
+		for (int i = 0; i < endpoints; i++) {
+			switch (i % 3) {
+				case 0:
+					controller.append("\t/**\n\t * page ")
+						.append(i)
+						.append("\n\t * @param status status\n\t */\n\t@GetMapping(\"/page")
+						.append(i)
+						.append("\")\n\tpublic Result<Page<Pair<TreeNode, Order<Item>>>> page")
+						.append(i)
+						.append("(@RequestParam Status status) { return null; }\n");
+					break;
+				case 1:
+					controller.append("\t/** save ")
+						.append(i)
+						.append(" */\n\t@PostMapping(\"/save")
+						.append(i)
+						.append("\")\n\tpublic Result<Order<Item>> save")
+						.append(i)
+						.append("(@RequestBody Order<Item> order) { return null; }\n");
+					break;
+				default:
+					controller.append("\t/** department ")
+						.append(i)
+						.append(" */\n\t@PutMapping(\"/department")
+						.append(i)
+						.append("\")\n\tpublic Result<Department> department")
+						.append(i)
+						.append("(@RequestBody Department department) { return null; }\n");
+			}
+		}
+		write(packageDir.resolve("WideController.java"), controller.append("}\n").toString());
+	}
+
+	private static void write(Path file, String content) throws IOException {
+		Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,196 @@
+package com.ly.doc.benchmark;
+
+import com.ly.doc.builder.DocBuilderTemplate;
+import com.ly.doc.builder.ProjectDocConfigBuilder;
+import com.ly.doc.constants.DocGlobalConstants;
+import com.ly.doc.constants.FrameworkEnum;
+import com.ly.doc.factory.BuildTemplateFactory;
+import com.ly.doc.helper.JavaProjectBuilderHelper;
+import com.ly.doc.helper.JsonBuildHelper;
+import com.ly.doc.helper.ParamsBuildHelper;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.ApiDoc;
+import com.ly.doc.model.ApiParam;
+import com.ly.doc.model.SourceCodePath;
+import com.ly.doc.utils.ApiParamTreeUtil;
+import com.ly.doc.utils.DocClassUtil;
+import com.ly.doc.utils.HtmlCompressorUtil;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The analysis and rendering hot paths on the fixtures of
+ * {@link BenchmarkSources#writeFixtures(Path, int, int)}. Run with {@code -prof gc} for
+ * the allocation rate, e.g. {@code mvn -Pbenchmark verify}.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotPathBenchmark {
+
+	/**
+	 * The analyzed fixture project.
+	 */
+	@State(Scope.Benchmark)
+	public static class Project {
+
+		ApiConfig config;
+
+		JavaProjectBuilder javaProjectBuilder;
+
+		ProjectDocConfigBuilder configBuilder;
+
+		List<ApiDoc> apiDocList;
+
+		ApiDoc wideController;
+
+		String htmlTemplate;
+
+		final DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+
+		@Setup
+		public void setup() throws IOException {
+			Path sourceDir = Files.createTempDirectory("smart-doc-benchmark");
+			BenchmarkSources.writeFixtures(sourceDir, 200, 60);
+			config = new ApiConfig();
+			config.setServerUrl("http://localhost:8080");
+			config.setOutPath(sourceDir.resolve("doc").toString());
+			config.setBaseDir(sourceDir.toString());
+			config.setCodePath("/");
+			config.setSourceCodePaths(SourceCodePath.builder().setPath(sourceDir.toString()));
+			config.setFramework(FrameworkEnum.SPRING.getFramework());
+			javaProjectBuilder = JavaProjectBuilderHelper.create();
+			configBuilder = new ProjectDocConfigBuilder(config, javaProjectBuilder);
+			apiDocList = BuildTemplateFactory
+				.<ApiDoc>getDocBuildTemplate(config.getFramework(), config.getClassLoader())
+				.getApiData(configBuilder)
+				.getApiDatas();
+			wideController = apiDocList.stream()
+				.filter(doc -> "WideController".equals(doc.getName()))
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("WideController is not analyzed"));
+			htmlTemplate = readTemplate(DocGlobalConstants.ALL_IN_ONE_HTML_TPL);
+		}
+
+	}
+
+	/**
+	 * The analyzed type: nested generics, a recursive model, mutually recursive models
+	 * and a model with a large enum.
+	 */
+	@State(Scope.Benchmark)
+	public static class Type {
+
+		@Param({ "com.demo.bench.Result<com.demo.bench.Page<com.demo.bench.Pair<com.demo.bench.TreeNode,com.demo.bench.Order<com.demo.bench.Item>>>>",
+				"com.demo.bench.TreeNode", "com.demo.bench.Department", "com.demo.bench.Order<com.demo.bench.Item>" })
+		String typeName;
+
+		List<ApiParam> params;
+
+		@Setup
+		public void setup(Project project) {
+			params = buildParams(typeName, project.configBuilder);
+		}
+
+	}
+
+	@Benchmark
+	public List<ApiParam> buildParams(Project project, Type type) {
+		return buildParams(type.typeName, project.configBuilder);
+	}
+
+	@Benchmark
+	public String buildJson(Project project, Type type) {
+		return JsonBuildHelper.buildJson(type.typeName, type.typeName, true, 0, new HashMap<>(16), new HashSet<>(),
+				new HashSet<>(), project.configBuilder);
+	}
+
+	@Benchmark
+	public String[] simpleGicName(Type type) {
+		return DocClassUtil.getSimpleGicName(type.typeName);
+	}
+
+	@Benchmark
+	public List<ApiParam> apiParamToTree(Type type) {
+		List<ApiParam> copies = new ArrayList<>(type.params.size());
+		for (ApiParam param : type.params) {
+			copies.add(param.clone());
+		}
+		return ApiParamTreeUtil.apiParamToTree(copies, 7);
+	}
+
+	@Benchmark
+	public String renderMarkdown(Project project) {
+		return project.builderTemplate
+			.buildApiDocTemplate(project.wideController, project.config, DocGlobalConstants.API_DOC_MD_TPL)
+			.render();
+	}
+
+	@Benchmark
+	public String renderHtml(Project project) {
+		return project.builderTemplate
+			.buildAllRenderDocTemplate(project.apiDocList, project.config, project.javaProjectBuilder,
+					DocGlobalConstants.HTML_API_DOC_TPL, project.wideController, "index")
+			.render();
+	}
+
+	@Benchmark
+	public String compressHtml(Project project) {
+		return HtmlCompressorUtil.compress(project.htmlTemplate);
+	}
+
+	private static List<ApiParam> buildParams(String typeName, ProjectDocConfigBuilder configBuilder) {
+		return ParamsBuildHelper.buildParams(typeName, "", 0, "true", true, new HashMap<>(16), configBuilder,
+				new HashSet<>(), new HashSet<>(), 0, false, new AtomicInteger(1));
+	}
+
+	private static String readTemplate(String name) throws IOException {
+		try (InputStream in = HotPathBenchmark.class.getClassLoader().getResourceAsStream("template/" + name)) {
+			if (in == null) {
+				throw new IOException("Template not found: " + name);
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int len;
+			while ((len = in.read(buffer)) != -1) {
+				out.write(buffer, 0, len);
+			}
+			return new String(out.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(HotPathBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.ly.doc.benchmark;
+
+import com.ly.doc.builder.ProjectDocConfigBuilder;
+import com.ly.doc.helper.JavaProjectBuilderHelper;
+import com.ly.doc.helper.JsonBuildHelper;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.SourceCodePath;
+import com.ly.doc.utils.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the pretty json example of a model by re-parsing the compact json and by writing
+ * it indented with {@link JsonBuildHelper#buildPrettyJson}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBuildBenchmark {
+
+	@Param({ "com.ly.doc.helper.JsonBuildHelperTest$Task", "com.demo.User", "com.ly.doc.model.ApiConfig" })
+	private String typeName;
+
+	private ProjectDocConfigBuilder builder;
+
+	@Setup
+	public void setup() throws IOException {
+		Path sourceDir = Files.createTempDirectory("smart-doc-benchmark");
+		BenchmarkSources.writeControllers(sourceDir, 1);
+		ApiConfig config = new ApiConfig();
+		config.setServerUrl("http://localhost:8080");
+		config.setOutPath(sourceDir.resolve("doc").toString());
+		config.setSourceCodePaths(SourceCodePath.builder().setPath(sourceDir.toString()));
+		builder = new ProjectDocConfigBuilder(config, JavaProjectBuilderHelper.create());
+	}
+
+	@Benchmark
+	public String reparse() {
+		return JsonUtil.toPrettyFormat(JsonBuildHelper.buildJson(typeName, typeName, true, 0, new HashMap<>(16),
+				new HashSet<>(), new HashSet<>(), builder));
+	}
+
+	@Benchmark
+	public String structured() {
+		return JsonBuildHelper.buildPrettyJson(typeName, typeName, true, 0, new HashMap<>(16), new HashSet<>(),
+				new HashSet<>(), builder);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(JsonBuildBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
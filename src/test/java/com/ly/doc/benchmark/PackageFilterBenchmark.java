@@ -0,0 +1,99 @@
+package com.ly.doc.benchmark;
+
+import com.ly.doc.utils.PackageFilterMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Checks the methods of a set of controllers against the exclude filters with the
+ * precompiled {@link PackageFilterMatcher} and by splitting the filters and compiling the
+ * wildcard entries on every call.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackageFilterBenchmark {
+
+	private static final String FILTERS = "com.power.internal,com.power.admin,com.power.legacy,"
+			+ "com.power.*.OrderController.delete.*,com.power.*Test.*";
+
+	private String[] classNames;
+
+	private String[] methodNames;
+
+	@Setup
+	public void setup() {
+		classNames = new String[50];
+		for (int i = 0; i < classNames.length; i++) {
+			classNames[i] = "com.power.module" + i + ".controller.Controller" + i;
+		}
+		methodNames = new String[20];
+		for (int i = 0; i < methodNames.length; i++) {
+			methodNames[i] = "method" + i;
+		}
+	}
+
+	@Benchmark
+	public int precompiled() {
+		int count = 0;
+		for (String className : classNames) {
+			for (String methodName : methodNames) {
+				if (PackageFilterMatcher.of(FILTERS).matches(className, methodName)) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int split() {
+		int count = 0;
+		for (String className : classNames) {
+			for (String methodName : methodNames) {
+				if (isMatch(FILTERS, className + "." + methodName)) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	private static boolean isMatch(String packageFilters, String controllerName) {
+		for (String str : packageFilters.split(",")) {
+			if (str.contains("*")) {
+				if (Pattern.compile(str).matcher(controllerName).matches()) {
+					return true;
+				}
+			}
+			else if (controllerName.startsWith(str)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PackageFilterBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.ly.doc.builder;
+
+import com.ly.doc.SourceFixtures;
+import com.ly.doc.helper.JavaProjectBuilderHelper;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.DocJavaField;
+import com.ly.doc.model.SourceCodePath;
+import com.ly.doc.model.annotation.MappingAnnotation;
+import com.ly.doc.template.SpringBootDocBuildTemplate;
+import com.thoughtworks.qdox.model.JavaAnnotation;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * @author agent
+ */
+class ClassHierarchyCacheTest {
+
+	@Test
+	void testHierarchy(@TempDir Path tempDir) throws IOException {
+		Path src = tempDir.resolve("src");
+		SourceFixtures.write(src, "com.demo.BaseEntity",
+				"public class BaseEntity<T> {\n\tprivate T id;\n\tprivate String createdBy;\n}\n");
+		SourceFixtures.write(src, "com.demo.Named", "public interface Named {\n}\n");
+		SourceFixtures.write(src, "com.demo.Order",
+				"public class Order extends BaseEntity<Long> implements Named {\n\tprivate String no;\n}\n");
+		SourceFixtures.write(src, "com.demo.BaseController",
+				"import org.springframework.web.bind.annotation.RequestMapping;\n@RequestMapping(\"/base\")\npublic class BaseController {\n}\n");
+		SourceFixtures.write(src, "com.demo.OrderController",
+				"import org.springframework.web.bind.annotation.RestController;\n@RestController\npublic class OrderController extends BaseController {\n}\n");
+		ApiConfig config = new ApiConfig();
+		config.setSourceCodePaths(SourceCodePath.builder().setPath(src.toString()));
+		ProjectDocConfigBuilder builder = new ProjectDocConfigBuilder(config, JavaProjectBuilderHelper.create());
+		ClassHierarchyCache classHierarchy = builder.getClassHierarchy();
+
+		JavaClass order = builder.getClassByName("com.demo.Order");
+		List<String> hierarchy = classHierarchy.getHierarchy(order)
+			.stream()
+			.map(JavaClass::getFullyQualifiedName)
+			.collect(Collectors.toList());
+		Assertions.assertEquals("[com.demo.Order, com.demo.BaseEntity, com.demo.Named]", hierarchy.toString());
+
+		List<DocJavaField> fields = classHierarchy.getFields(order);
+		Assertions.assertSame(fields, classHierarchy.getFields(order));
+		Assertions.assertEquals("[id, createdBy, no]",
+				fields.stream().map(DocJavaField::getFieldName).collect(Collectors.toList()).toString());
+		Assertions.assertEquals("java.lang.Long", fields.get(0).getTypeGenericCanonicalName());
+
+		Map<String, MappingAnnotation> mappingAnnotations = new SpringBootDocBuildTemplate().registeredAnnotations()
+			.getMappingAnnotations();
+		List<JavaAnnotation> annotations = classHierarchy
+			.getClassAnnotations(builder.getClassByName("com.demo.OrderController"), mappingAnnotations);
+		Assertions.assertEquals("[RestController, RequestMapping]",
+				annotations.stream()
+					.map(annotation -> annotation.getType().getValue())
+					.collect(Collectors.toList())
+					.toString());
+	}
+
+}
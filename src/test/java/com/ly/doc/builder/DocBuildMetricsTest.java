@@ -0,0 +1,85 @@
+package com.ly.doc.builder;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.ly.doc.SourceFixtures;
+import com.ly.doc.model.ApiConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author agent
+ */
+class DocBuildMetricsTest {
+
+	@TempDir
+	Path baseDir;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testSpans() {
+		ApiConfig config = new ApiConfig();
+		config.setPerformanceReport(true);
+		config.setPerformanceReportTopN(2);
+		// the events are begun through the reflectively loaded event class
+		config.setPerformanceJfr(true);
+		AtomicLong clock = new AtomicLong();
+		DocBuildMetrics.register(config, clock::get);
+		long[] durations = { 20L, 30L, 10L };
+		for (int i = 0; i < durations.length; i++) {
+			try (DocBuildMetrics.Span ignored = DocBuildMetrics.start(config, DocBuildMetrics.ENDPOINT, "Demo",
+					"GET /" + i)) {
+				clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(durations[i]));
+			}
+		}
+		Map<String, Object> report = DocBuildMetrics.get(config).toReport();
+		Map<String, Object> endpoint = (Map<String, Object>) ((Map<String, Object>) report.get("phases"))
+			.get(DocBuildMetrics.ENDPOINT);
+		Assertions.assertEquals(3L, endpoint.get("count"));
+		List<Map<String, Object>> slowest = (List<Map<String, Object>>) report.get("slowestEndpoints");
+		Assertions.assertEquals(2, slowest.size());
+		Assertions.assertEquals("GET /1", slowest.get(0).get("endpoint"));
+		Assertions.assertEquals(30.0, slowest.get(0).get("wallMillis"));
+		Assertions.assertEquals("GET /0", slowest.get(1).get("endpoint"));
+		Assertions.assertEquals(60.0, endpoint.get("wallMillis"));
+
+		ApiConfig disabled = new ApiConfig();
+		DocBuildMetrics.start(disabled, DocBuildMetrics.RENDER).close();
+		Assertions.assertNull(DocBuildMetrics.get(disabled));
+	}
+
+	@Test
+	void testReport() throws IOException {
+		SourceFixtures.writeUserController(baseDir.resolve("src"), "Get the user");
+		ApiConfig config = SourceFixtures.config(baseDir);
+		config.setPerformanceReport(true);
+		ApiDocBuilder.buildApiDoc(config);
+
+		Path reportFile = baseDir.resolve("out").resolve(DocBuildMetrics.REPORT_NAME);
+		JsonObject report = JsonParser.parseString(new String(Files.readAllBytes(reportFile), StandardCharsets.UTF_8))
+			.getAsJsonObject();
+		JsonObject phases = report.getAsJsonObject("phases");
+		for (String phase : new String[] { DocBuildMetrics.LOAD_SOURCES, DocBuildMetrics.ANALYZE,
+				DocBuildMetrics.CANDIDATE_CLASSES, DocBuildMetrics.CONTROLLER, DocBuildMetrics.ENDPOINT,
+				DocBuildMetrics.REQUEST_PARAMS, DocBuildMetrics.RESPONSE_PARAMS, DocBuildMetrics.RENDER,
+				DocBuildMetrics.WRITE }) {
+			Assertions.assertTrue(phases.has(phase), phase);
+		}
+		Assertions.assertEquals(2, phases.getAsJsonObject(DocBuildMetrics.ENDPOINT).get("count").getAsInt());
+		Assertions.assertTrue(report.getAsJsonObject("controllers").has("com.demo.UserController"));
+		JsonArray slowest = report.getAsJsonArray("slowestEndpoints");
+		Assertions.assertEquals(2, slowest.size());
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.ly.doc.builder;
+
+import com.ly.doc.constants.DocGlobalConstants;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.utils.BeetlTemplateUtil;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @author agent
+ */
+class DocOutputManifestTest {
+
+	@Test
+	void testSkipUnchangedOutput(@TempDir Path tempDir) throws IOException {
+		ApiConfig config = new ApiConfig();
+		config.setOutPath(tempDir.toString());
+		config.setOutputManifest(true);
+		String page = tempDir.resolve("UserApi.md").toString();
+		String json = tempDir.resolve("openapi.json").toString();
+		String inputHash = DocOutputManifest.hash("api.md", "user");
+
+		DocOutputManifest manifest = DocOutputManifest.load(config);
+		Assertions.assertFalse(manifest.isUpToDate(page, inputHash));
+		manifest.write(page, inputHash, "# user");
+		manifest.write(json, null, writer -> writer.write("{}"));
+		manifest.save();
+		File pageFile = new File(page);
+		File jsonFile = new File(json);
+		Assertions.assertTrue(pageFile.setLastModified(1000L));
+		Assertions.assertTrue(jsonFile.setLastModified(1000L));
+		// the files are touched outside of the manifest
+		manifest = DocOutputManifest.load(config);
+		Assertions.assertFalse(manifest.isUpToDate(page, inputHash));
+		manifest.write(page, inputHash, "# user");
+		manifest.write(json, null, writer -> writer.write("{}"));
+		manifest.save();
+
+		manifest = DocOutputManifest.load(config);
+		Assertions.assertTrue(manifest.isUpToDate(page, inputHash));
+		Assertions.assertFalse(manifest.isUpToDate(page, DocOutputManifest.hash("api.md", "order")));
+		long modified = jsonFile.lastModified();
+		manifest.write(json, null, writer -> writer.write("{}"));
+		Assertions.assertEquals(modified, jsonFile.lastModified());
+		Assertions.assertFalse(new File(json + ".tmp").exists());
+		manifest.write(json, null, writer -> writer.write("{\"openapi\":\"3.1.0\"}"));
+		manifest.save();
+		Assertions.assertEquals("{\"openapi\":\"3.1.0\"}",
+				new String(Files.readAllBytes(jsonFile.toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void testWriteSingleFile(@TempDir Path tempDir) throws IOException {
+		ApiConfig config = new ApiConfig();
+		config.setOutPath(tempDir.toString());
+		config.setOutputManifest(true);
+		String searchJs = tempDir.resolve("search.js").toString();
+		DocOutputManifest.write(config, searchJs, "var api = [];");
+		File searchJsFile = new File(searchJs);
+		Assertions.assertTrue(searchJsFile.setLastModified(1000L));
+		// the file is touched outside of the manifest, it is written again
+		DocOutputManifest.write(config, searchJs, "var api = [];");
+		Assertions.assertNotEquals(1000L, searchJsFile.lastModified());
+		long modified = searchJsFile.lastModified();
+		DocOutputManifest.write(config, searchJs, "var api = [];");
+		Assertions.assertEquals(modified, searchJsFile.lastModified());
+		DocOutputManifest.write(config, searchJs, "var api = [1];");
+		Assertions.assertEquals("var api = [1];",
+				new String(Files.readAllBytes(searchJsFile.toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void testDisabledManifest(@TempDir Path tempDir) {
+		ApiConfig config = new ApiConfig();
+		config.setOutPath(tempDir.toString());
+		DocOutputManifest manifest = DocOutputManifest.load(config);
+		String page = tempDir.resolve("UserApi.md").toString();
+		manifest.write(page, null, "# user");
+		manifest.save();
+		Assertions.assertFalse(manifest.isUpToDate(page, DocOutputManifest.hash("user")));
+		Assertions.assertTrue(new File(page).isFile());
+		Assertions.assertEquals(1, tempDir.toFile().list().length);
+	}
+
+	@Test
+	void testTemplateHashCoversContent() throws IOException {
+		String templateHash = BeetlTemplateUtil.getTemplateHash(DocGlobalConstants.API_DOC_MD_TPL);
+		try (InputStream in = DocOutputManifestTest.class
+			.getResourceAsStream("/template/" + DocGlobalConstants.API_DOC_MD_TPL)) {
+			Assertions.assertEquals(DigestUtils.md5Hex(in), templateHash);
+		}
+		Assertions.assertNotEquals(templateHash,
+				BeetlTemplateUtil.getTemplateHash(DocGlobalConstants.ALL_IN_ONE_MD_TPL));
+	}
+
+}
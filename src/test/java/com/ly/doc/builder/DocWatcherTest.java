@@ -0,0 +1,68 @@
+package com.ly.doc.builder;
+
+import com.ly.doc.SourceFixtures;
+import com.ly.doc.model.ApiConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author agent
+ */
+class DocWatcherTest {
+
+	@TempDir
+	Path baseDir;
+
+	@Test
+	void testReload() throws IOException {
+		Path source = SourceFixtures.writeUserController(baseDir.resolve("src"), "Get the user");
+		ApiConfig config = SourceFixtures.config(baseDir);
+		AtomicReference<String> desc = new AtomicReference<>();
+		DocWatcher watcher = DocWatcher.create(config, (apiConfig, builder) -> desc
+			.set(builder.getClassByName("com.demo.UserController").getMethods().get(0).getComment()));
+		watcher.build();
+		Assertions.assertEquals("Get the user", desc.get());
+
+		SourceFixtures.writeUserController(baseDir.resolve("src"), "Find the user");
+		watcher.reload(Collections.singletonList(source));
+		watcher.build();
+		Assertions.assertEquals("Find the user", desc.get());
+		watcher.close();
+	}
+
+	@Test
+	void testWatch() throws Exception {
+		SourceFixtures.writeUserController(baseDir.resolve("src"), "Get the user");
+		ApiConfig config = SourceFixtures.config(baseDir);
+		Path doc = baseDir.resolve("out").resolve("UserControllerApi.md");
+		try (DocWatcher watcher = DocWatcher.create(config, ApiDocBuilder::buildApiDoc)) {
+			Thread thread = new Thread(watcher::run);
+			thread.setDaemon(true);
+			thread.start();
+			Assertions.assertTrue(await(doc, "Get the user"));
+
+			SourceFixtures.writeUserController(baseDir.resolve("src"), "Find the user");
+			Assertions.assertTrue(await(doc, "Find the user"));
+		}
+	}
+
+	private static boolean await(Path doc, String text) throws Exception {
+		for (int i = 0; i < 200; i++) {
+			if (Files.isRegularFile(doc)
+					&& new String(Files.readAllBytes(doc), StandardCharsets.UTF_8).contains(text)) {
+				return true;
+			}
+			Thread.sleep(50L);
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.ly.doc.builder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author agent
+ */
+class ParallelDocWriterTest {
+
+	@TempDir
+	Path outPath;
+
+	@Test
+	void testWrite() throws IOException {
+		List<Integer> docs = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+		ParallelDocWriter.write(docs, 4, doc -> "page-" + doc, doc -> outPath.resolve(doc + ".md").toString());
+		for (Integer doc : docs) {
+			String content = new String(Files.readAllBytes(outPath.resolve(doc + ".md")), StandardCharsets.UTF_8);
+			Assertions.assertEquals("page-" + doc, content);
+		}
+	}
+
+	@Test
+	void testRenderFailure() {
+		List<Integer> docs = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+		Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelDocWriter.write(docs, 4, doc -> {
+			if (doc == 5) {
+				throw new IllegalArgumentException("bad page");
+			}
+			return "page-" + doc;
+		}, doc -> outPath.resolve(doc + ".md").toString()));
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.ly.doc.builder;
+
+import com.ly.doc.SourceFixtures;
+import com.ly.doc.helper.GitHelper;
+import com.ly.doc.helper.JavaProjectBuilderHelper;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.SourceCodePath;
+import com.ly.doc.utils.JavaClassUtil;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * @author agent
+ */
+class ProjectDocConfigBuilderTest {
+
+	@Test
+	void testLoadJarJavaSources(@TempDir Path tempDir) throws IOException {
+		Path first = writeJar(tempDir.resolve("first-sources.jar"), "com/jar/first/First.java",
+				"package com.jar.first;\n/** first */\npublic class First {\n\tprivate String name;\n}\n");
+		Path second = writeJar(tempDir.resolve("second-sources.jar"), "com/jar/second/Second.java",
+				"package com.jar.second;\n/** second */\npublic class Second {\n\tprivate Long id;\n}\n");
+		ApiConfig config = new ApiConfig();
+		config.setSourceCodePaths(
+				SourceCodePath.builder().setPath(Files.createDirectory(tempDir.resolve("src")).toString()));
+		config.setJarSourcePaths(SourceCodePath.builder().setPath(first.toString()),
+				SourceCodePath.builder().setPath(second.toString()));
+		ProjectDocConfigBuilder builder = new ProjectDocConfigBuilder(config, JavaProjectBuilderHelper.create());
+		Assertions.assertEquals("first",
+				builder.getJavaProjectBuilder().getClassByName("com.jar.first.First").getComment());
+		Assertions.assertEquals("second",
+				builder.getJavaProjectBuilder().getClassByName("com.jar.second.Second").getComment());
+	}
+
+	@Test
+	void testLazySourceLoading(@TempDir Path tempDir) throws IOException {
+		Path src = tempDir.resolve("src");
+		SourceFixtures.write(src, "com.lazy.Api", "public class Api {\n\tprivate Dto dto;\n}\n");
+		SourceFixtures.write(src, "com.lazy.Outer", "public class Outer {\n\tpublic static class Empty {\n\t}\n}\n");
+		SourceFixtures.write(src, "com.lazy.Dto", "/** dto */\npublic class Dto {\n\tprivate String name;\n}\n");
+		ApiConfig config = new ApiConfig();
+		config.setBaseDir(tempDir.toString());
+		config.setSourceCodePaths(SourceCodePath.builder().setPath(src.toString()));
+		config.setIncrement(true);
+
+		// the first incremental build has no recorded build, all the sources are loaded
+		ProjectDocConfigBuilder builder = new ProjectDocConfigBuilder(config, JavaProjectBuilderHelper.create());
+		Assertions.assertFalse(builder.isLazySource());
+		Assertions.assertEquals(4, builder.getJavaProjectBuilder().getClasses().size());
+
+		// the changes are detected by git
+		Assumptions.assumeTrue(GitHelper.create().isGitRepo());
+		Files.write(tempDir.resolve(".smart-doc-dependency.json"),
+				"{\"schema\":\"v1\",\"commitId\":\"HEAD\",\"dependencyTree\":[{\"clazz\":\"com.lazy.Api\",\"derivedClazz\":[],\"apis\":[]}]}"
+					.getBytes(StandardCharsets.UTF_8));
+		builder = new ProjectDocConfigBuilder(config, JavaProjectBuilderHelper.create());
+		Assertions.assertTrue(builder.isLazySource());
+		Assertions.assertTrue(builder.getJavaProjectBuilder().getClasses().isEmpty());
+		Assertions.assertEquals("dto", builder.getJavaProjectBuilder().getClassByName("com.lazy.Dto").getComment());
+		Assertions.assertEquals(1, builder.getJavaProjectBuilder().getClasses().size());
+		// qdox keeps a placeholder for the nested class, it's found in the source of its
+		// outer class loaded on demand
+		Assertions.assertFalse(
+				JavaClassUtil.isSourceClass(builder.getJavaProjectBuilder().getClassByName("com.lazy.Outer.Empty")));
+		Assertions.assertEquals("com.lazy.Outer",
+				builder.getClassByName("com.lazy.Outer.Empty").getDeclaringClass().getFullyQualifiedName());
+	}
+
+	@Test
+	void testGetClassByName(@TempDir Path tempDir) throws IOException {
+		Path src = tempDir.resolve("src");
+		SourceFixtures.write(src, "com.demo.Outer",
+				"public class Outer {\n\tprivate String name;\n"
+						+ "\tpublic static class Inner {\n\t\tprivate int id;\n\t}\n"
+						+ "\tpublic static class Empty {\n\t}\n}\n");
+		ApiConfig config = new ApiConfig();
+		config.setSourceCodePaths(SourceCodePath.builder().setPath(src.toString()));
+		ProjectDocConfigBuilder builder = new ProjectDocConfigBuilder(config, JavaProjectBuilderHelper.create());
+
+		JavaClass outer = builder.getClassByName("com.demo.Outer");
+		Assertions.assertEquals("com.demo.Outer", outer.getFullyQualifiedName());
+		Assertions.assertSame(outer, builder.getClassByName("com.demo.Outer"));
+		JavaClass inner = builder.getClassByName("com.demo.Outer.Inner");
+		Assertions.assertEquals(1, inner.getFields().size());
+		Assertions.assertEquals("com.demo.Outer.Inner",
+				builder.getClassByName("com.demo.Outer$Inner").getFullyQualifiedName());
+		// a class without fields resolves by its fully qualified name only
+		Assertions.assertEquals("com.demo.Outer.Empty",
+				builder.getClassByName("com.demo.Outer.Empty").getFullyQualifiedName());
+		Assertions.assertNull(builder.getClassByName("com.demo.Outer$Empty"));
+		Assertions.assertNull(builder.getClassByName("com.demo.Missing"));
+		Assertions.assertNull(builder.getClassByName("com.demo.Missing"));
+	}
+
+	private static Path writeJar(Path jar, String entryName, String source) throws IOException {
+		try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+			jarOut.putNextEntry(new JarEntry(entryName));
+			jarOut.write(source.getBytes(StandardCharsets.UTF_8));
+			jarOut.closeEntry();
+		}
+		return jar;
+	}
+
+}
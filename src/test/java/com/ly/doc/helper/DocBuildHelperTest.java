@@ -0,0 +1,88 @@
+package com.ly.doc.helper;
+
+import com.ly.doc.SourceFixtures;
+import com.ly.doc.builder.ProjectDocConfigBuilder;
+import com.ly.doc.constants.FrameworkEnum;
+import com.ly.doc.factory.BuildTemplateFactory;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.ApiDoc;
+import com.ly.doc.model.dependency.FileDiff;
+import com.ly.doc.template.IDocBuildTemplate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * @author agent
+ */
+class DocBuildHelperTest {
+
+	@Test
+	void testChangeOfTransitiveTypeRebuildsController(@TempDir Path baseDir) throws IOException {
+		Path src = baseDir.resolve("src");
+		SourceFixtures.writeUserController(src, "Get the user");
+		SourceFixtures.write(src, "com.demo.Audited",
+				"public class Audited {\n\t/**\n\t * creator\n\t */\n\tprivate String createdBy;\n}\n");
+		SourceFixtures.write(src, "com.demo.Item",
+				"public class Item extends Audited {\n\t/**\n\t * sku\n\t */\n\tprivate String sku;\n}\n");
+		SourceFixtures.write(src, "com.demo.Order",
+				"public class Order {\n\t/**\n\t * items\n\t */\n\tprivate java.util.List<Item> items;\n}\n");
+		SourceFixtures.write(src, "com.demo.OrderController",
+				"import org.springframework.web.bind.annotation.*;\n/**\n * Order\n */\n@RestController\n"
+						+ "public class OrderController {\n\t/**\n\t * Get the order\n\t */\n"
+						+ "\t@GetMapping(\"/order\")\n\tpublic Order order() { return null; }\n}\n");
+		ApiConfig config = SourceFixtures.config(baseDir);
+		config.setFramework(FrameworkEnum.SPRING.getFramework());
+		config.setIncrement(true);
+		ProjectDocConfigBuilder configBuilder = new ProjectDocConfigBuilder(config, JavaProjectBuilderHelper.create());
+		// the dependency tree is only written in a git repo
+		Assumptions.assumeTrue(!DocBuildHelper.create(configBuilder).notGitRepo());
+
+		// the first build is a full build and writes the type reference index
+		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
+				config.getClassLoader());
+		List<ApiDoc> apiDocs = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+		Assertions.assertEquals(2, apiDocs.size());
+		// no param of the order api has the type Audited, the super class of an item
+		Assertions.assertEquals(Collections.singleton("com.demo.OrderController"),
+				relatedClazz(configBuilder, "com.demo.Audited"));
+		Assertions.assertEquals(Collections.singleton("com.demo.UserController"),
+				relatedClazz(configBuilder, "com.demo.User"));
+
+		// an incremental build of the order controller keeps the index of the user
+		// controller
+		DocBuildHelper.create(configBuilder)
+			.rebuildDependencyTree(apiDocs.stream()
+				.filter(apiDoc -> "com.demo.OrderController".equals(apiDoc.getDocClass()))
+				.collect(Collectors.toList()));
+		Assertions.assertEquals(Collections.singleton("com.demo.OrderController"),
+				relatedClazz(configBuilder, "com.demo.Audited"));
+		Assertions.assertEquals(Collections.singleton("com.demo.UserController"),
+				relatedClazz(configBuilder, "com.demo.User"));
+	}
+
+	/**
+	 * Get the api classes rebuilt after a change of the class.
+	 */
+	private static Set<String> relatedClazz(ProjectDocConfigBuilder configBuilder, String changedClazz) {
+		FileDiff fileDiff = new FileDiff();
+		fileDiff.setChangeType(FileDiff.ChangeType.UNCOMMITTED);
+		fileDiff.setNewQualifiedName(changedClazz);
+		Set<FileDiff> fileDiffs = new HashSet<>(Collections.singleton(fileDiff));
+		DocBuildHelper.create(configBuilder).populateRelatedClazzAndMarkEntryPoint(fileDiffs, clazz -> false);
+		return fileDiffs.stream()
+			.filter(item -> FileDiff.ChangeType.RELATED == item.getChangeType())
+			.map(FileDiff::getNewQualifiedName)
+			.collect(Collectors.toSet());
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.ly.doc.helper;
+
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * @author agent
+ */
+class JavaProjectBuilderHelperTest {
+
+	@Test
+	void testSynchronizeClassLibrary() {
+		JavaProjectBuilder projectBuilder = JavaProjectBuilderHelper.create();
+		projectBuilder.addSource(new StringReader("package com.demo; public class User { private String name; }"));
+		Assertions.assertTrue(JavaProjectBuilderHelper.synchronizeClassLibrary(projectBuilder));
+		// calling it twice keeps the synchronized maps
+		Assertions.assertTrue(JavaProjectBuilderHelper.synchronizeClassLibrary(projectBuilder));
+
+		List<String> names = Arrays.asList("com.demo.User", String.class.getName(), Integer.class.getName(),
+				List.class.getName(), java.util.Map.class.getName(), java.time.LocalDate.class.getName(),
+				java.math.BigDecimal.class.getName(), java.util.UUID.class.getName());
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			List<ForkJoinTask<JavaClass>> tasks = new ArrayList<>();
+			for (int i = 0; i < 64; i++) {
+				String name = names.get(i % names.size());
+				tasks.add(pool.submit(() -> projectBuilder.getClassByName(name)));
+			}
+			for (int i = 0; i < tasks.size(); i++) {
+				Assertions.assertEquals(names.get(i % names.size()), tasks.get(i).join().getFullyQualifiedName());
+			}
+		}
+		finally {
+			pool.shutdownNow();
+		}
+		Assertions.assertEquals(1, projectBuilder.getClassByName("com.demo.User").getFields().size());
+	}
+
+}
@@ -0,0 +1,167 @@
+package com.ly.doc.helper;
+
+import com.ly.doc.SourceFixtures;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.model.JavaAnnotation;
+import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaField;
+import com.thoughtworks.qdox.model.JavaMethod;
+import com.thoughtworks.qdox.model.JavaParameter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * @author agent
+ */
+class JavaSourceCacheTest {
+
+	@TempDir
+	Path baseDir;
+
+	private int lastHits;
+
+	@Test
+	void testCachedModel() throws IOException {
+		List<File> files;
+		try (Stream<Path> paths = Files.walk(new File("src").toPath())) {
+			files = paths.filter(p -> p.toString().endsWith(".java"))
+				// a package-info has no class to cache
+				.filter(p -> !p.endsWith("package-info.java"))
+				.map(Path::toFile)
+				.collect(Collectors.toList());
+		}
+		JavaProjectBuilder parsed = build(files, false);
+		// write the cache, then read the models from it
+		build(files, true);
+		JavaProjectBuilder cached = build(files, true);
+		int cacheHits = lastHits;
+		Map<String, JavaClass> cachedClasses = cached.getClasses()
+			.stream()
+			.collect(Collectors.toMap(JavaClass::getBinaryName, Function.identity()));
+		Assertions.assertEquals(parsed.getClasses().size(), cachedClasses.size());
+		Assertions.assertEquals(files.size(), cacheHits);
+		for (JavaClass javaClass : parsed.getClasses()) {
+			Assertions.assertEquals(describe(javaClass), describe(cachedClasses.get(javaClass.getBinaryName())));
+		}
+	}
+
+	@Test
+	void testChangedSource() throws IOException {
+		File source = SourceFixtures.write(baseDir, "com.demo.User", "public class User { private String name; }")
+			.toFile();
+		build(source, true);
+		Assertions.assertEquals(1, build(source, true).getClassByName("com.demo.User").getFields().size());
+
+		SourceFixtures.write(baseDir, "com.demo.User", "public class User { private String name; private int age; }");
+		Assertions.assertEquals(2, build(source, true).getClassByName("com.demo.User").getFields().size());
+		Assertions.assertEquals(2, build(source, true).getClassByName("com.demo.User").getFields().size());
+	}
+
+	@Test
+	void testBrokenModel() throws IOException {
+		File source = SourceFixtures.write(baseDir, "com.demo.User", "public class User { private String name; }")
+			.toFile();
+		build(source, true);
+		Assertions.assertEquals(1, cacheHits(source));
+
+		// replace the cached model by an unknown event
+		File cacheFile = baseDir.resolve(".smart-doc-source-cache").toFile();
+		String fingerprint;
+		String path;
+		String hash;
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(cacheFile.toPath()))) {
+			fingerprint = in.readUTF();
+			in.readInt();
+			path = in.readUTF();
+			hash = in.readUTF();
+		}
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(cacheFile.toPath()))) {
+			out.writeUTF(fingerprint);
+			out.writeInt(1);
+			out.writeUTF(path);
+			out.writeUTF(hash);
+			out.writeInt(1);
+			out.writeByte(Byte.MAX_VALUE);
+		}
+		Assertions.assertEquals(0, cacheHits(source));
+		Assertions.assertEquals(1, build(source, true).getClassByName("com.demo.User").getFields().size());
+	}
+
+	private int cacheHits(File file) throws IOException {
+		JavaProjectBuilder builder = JavaProjectBuilderHelper.create();
+		JavaSourceCache sourceCache = JavaSourceCache.load(baseDir.toString(), builder);
+		sourceCache.addSource(file, builder);
+		return sourceCache.getHits();
+	}
+
+	private JavaProjectBuilder build(File file, boolean useCache) throws IOException {
+		List<File> files = new ArrayList<>();
+		files.add(file);
+		return build(files, useCache);
+	}
+
+	private JavaProjectBuilder build(List<File> files, boolean useCache) throws IOException {
+		JavaProjectBuilder builder = JavaProjectBuilderHelper.create();
+		JavaSourceCache sourceCache = useCache ? JavaSourceCache.load(baseDir.toString(), builder) : null;
+		for (File file : files) {
+			if (sourceCache == null) {
+				builder.addSource(file);
+			}
+			else {
+				sourceCache.addSource(file, builder);
+			}
+		}
+		if (sourceCache != null) {
+			sourceCache.save();
+			lastHits = sourceCache.getHits();
+		}
+		return builder;
+	}
+
+	private static String describe(JavaClass javaClass) {
+		StringBuilder builder = new StringBuilder(javaClass.getGenericFullyQualifiedName());
+		builder.append(javaClass.getComment()).append(javaClass.getSuperClass()).append(javaClass.getImplements());
+		for (JavaAnnotation annotation : javaClass.getAnnotations()) {
+			builder.append(annotation.getType().getFullyQualifiedName()).append(annotation.getNamedParameterMap());
+		}
+		javaClass.getTags().forEach(tag -> builder.append(tag.getName()).append(tag.getValue()));
+		for (JavaField field : javaClass.getFields()) {
+			builder.append(field.getType().getGenericCanonicalName())
+				.append(field.getName())
+				.append(field.getInitializationExpression())
+				.append(field.getEnumConstantArguments())
+				.append(field.getComment())
+				.append(field.getAnnotations());
+		}
+		for (JavaMethod method : javaClass.getMethods()) {
+			builder.append(method.getReturnType().getGenericCanonicalName())
+				.append(method.getName())
+				.append(method.getComment())
+				.append(method.getAnnotations())
+				.append(method.getTags().size())
+				.append(method.getSourceCode());
+			for (JavaParameter parameter : method.getParameters()) {
+				builder.append(parameter.getType().getGenericFullyQualifiedName()).append(parameter.getName());
+			}
+			for (JavaAnnotation annotation : method.getAnnotations()) {
+				annotation.getPropertyMap().forEach((k, v) -> builder.append(k).append(v.getParameterValue()));
+			}
+		}
+		return builder.toString();
+	}
+
+}
@@ -1,7 +1,9 @@
 package com.ly.doc.helper;
 
+import com.google.gson.JsonParser;
 import com.ly.doc.builder.ProjectDocConfigBuilder;
 import com.ly.doc.model.ApiConfig;
+import com.ly.doc.utils.JsonUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import com.thoughtworks.qdox.model.JavaClass;
 import org.junit.jupiter.api.Assertions;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 /**
  * @author muyuanjin
@@ -36,6 +39,21 @@ class JsonBuildHelperTest {
 		System.out.println(json);
 	}
 
+	/**
+	 * A map field followed by other fields must still be separated by a comma.
+	 */
+	@Test
+	void testBuildJsonWithMapField() {
+		ProjectDocConfigBuilder builder = new ProjectDocConfigBuilder(new ApiConfig(),
+				JavaProjectBuilderHelper.create());
+		String json = JsonBuildHelper.buildJson(Tagged.class.getName(), Tagged.class.getName(), true, 0,
+				new HashMap<>(16), new HashSet<>(), new HashSet<>(), builder);
+		Assertions.assertTrue(JsonParser.parseString(json).getAsJsonObject().has("name"), json);
+		String pretty = JsonBuildHelper.buildPrettyJson(Tagged.class.getName(), Tagged.class.getName(), true, 0,
+				new HashMap<>(16), new HashSet<>(), new HashSet<>(), builder);
+		Assertions.assertEquals(JsonUtil.toPrettyFormat(json), pretty);
+	}
+
 	interface Serialize<T extends Serialize<T>> {
 
 		@SuppressWarnings("unchecked")
@@ -59,4 +77,12 @@ class JsonBuildHelperTest {
 
 	}
 
+	public static class Tagged {
+
+		private Map<String, Integer> tags;
+
+		private String name;
+
+	}
+
 }
\ No newline at end of file
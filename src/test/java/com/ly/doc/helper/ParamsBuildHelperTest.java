@@ -0,0 +1,139 @@
+package com.ly.doc.helper;
+
+import com.ly.doc.builder.ProjectDocConfigBuilder;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.ApiParam;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author agent
+ */
+class ParamsBuildHelperTest {
+
+	@Test
+	void testBuildParamsCopiesCachedTree() {
+		ProjectDocConfigBuilder builder = new ProjectDocConfigBuilder(new ApiConfig(),
+				JavaProjectBuilderHelper.create());
+		String className = Order.class.getName();
+		List<ApiParam> first = ParamsBuildHelper.buildParams(className, "", 0, null, true, new HashMap<>(16), builder,
+				null, Collections.emptySet(), 0, false, null);
+		List<ApiParam> second = ParamsBuildHelper.buildParams(className, "", 0, null, true, new HashMap<>(16), builder,
+				null, Collections.emptySet(), 5, false, null);
+		Assertions.assertEquals(4, first.size());
+		Assertions.assertEquals(first.size(), second.size());
+		for (int i = 0; i < first.size(); i++) {
+			Assertions.assertNotSame(first.get(i), second.get(i));
+			Assertions.assertEquals(first.get(i).getField(), second.get(i).getField());
+			Assertions.assertEquals(first.get(i).getId() + 5, second.get(i).getId());
+			Assertions.assertEquals(first.get(i).getPid() + 5, second.get(i).getPid());
+		}
+		first.get(0).setDesc("changed");
+		List<ApiParam> third = ParamsBuildHelper.buildParams(className, "", 0, null, true, new HashMap<>(16), builder,
+				null, Collections.emptySet(), 0, false, null);
+		Assertions.assertNotEquals("changed", third.get(0).getDesc());
+	}
+
+	@Test
+	void testBuildParamsRenumbersCachedTreeFromAtomicInteger() {
+		ProjectDocConfigBuilder builder = new ProjectDocConfigBuilder(new ApiConfig(),
+				JavaProjectBuilderHelper.create());
+		String className = Cart.class.getName();
+		// a registry bypasses the cache
+		Map<String, String> registryClasses = new HashMap<>(16);
+		registryClasses.put("com.demo.Unrelated", "com.demo.Unrelated");
+		AtomicInteger expectedIds = new AtomicInteger(10);
+		List<ApiParam> expected = ParamsBuildHelper.buildParams(className, "", 0, null, true, registryClasses, builder,
+				null, Collections.emptySet(), 3, false, expectedIds);
+		for (int i = 0; i < 2; i++) {
+			AtomicInteger ids = new AtomicInteger(10);
+			List<ApiParam> actual = ParamsBuildHelper.buildParams(className, "", 0, null, true, new HashMap<>(16),
+					builder, null, Collections.emptySet(), 3, false, ids);
+			Assertions.assertEquals(expected.size(), actual.size());
+			for (int j = 0; j < expected.size(); j++) {
+				Assertions.assertEquals(expected.get(j).getField(), actual.get(j).getField());
+				Assertions.assertEquals(expected.get(j).getId(), actual.get(j).getId());
+				Assertions.assertEquals(expected.get(j).getPid(), actual.get(j).getPid());
+			}
+			Assertions.assertEquals(expectedIds.get(), ids.get());
+		}
+	}
+
+	@Test
+	void testBuildParamsKeysCachedTreeByConfig() {
+		ApiConfig config = new ApiConfig();
+		ProjectDocConfigBuilder builder = new ProjectDocConfigBuilder(config, JavaProjectBuilderHelper.create());
+		String className = Order.class.getName();
+		config.setShowJavaType(false);
+		List<ApiParam> simpleTypes = ParamsBuildHelper.buildParams(className, "", 0, null, true, new HashMap<>(16),
+				builder, null, Collections.emptySet(), 0, false, null);
+		config.setShowJavaType(true);
+		List<ApiParam> javaTypes = ParamsBuildHelper.buildParams(className, "", 0, null, true, new HashMap<>(16),
+				builder, null, Collections.emptySet(), 0, false, null);
+		Assertions.assertEquals("int64", simpleTypes.get(0).getType());
+		Assertions.assertEquals("Long", javaTypes.get(0).getType());
+	}
+
+	public static class Order {
+
+		/**
+		 * order id
+		 */
+		private Long id;
+
+		/**
+		 * order item
+		 */
+		private Item item;
+
+	}
+
+	public static class Cart {
+
+		/**
+		 * cart id
+		 */
+		private Long id;
+
+		/**
+		 * items by kind
+		 */
+		private Map<Kind, Item> items;
+
+	}
+
+	public enum Kind {
+
+		/**
+		 * book
+		 */
+		BOOK,
+
+		/**
+		 * food
+		 */
+		FOOD
+
+	}
+
+	public static class Item {
+
+		/**
+		 * sku
+		 */
+		private String sku;
+
+		/**
+		 * quantity
+		 */
+		private int qty;
+
+	}
+
+}
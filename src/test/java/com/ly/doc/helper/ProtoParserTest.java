@@ -0,0 +1,123 @@
+package com.ly.doc.helper;
+
+import com.ly.doc.model.grpc.proto.EnumDefinition;
+import com.ly.doc.model.grpc.proto.Message;
+import com.ly.doc.model.grpc.proto.MessageField;
+import com.ly.doc.model.grpc.proto.ProtoFile;
+import com.ly.doc.model.grpc.proto.ProtoJson;
+import com.ly.doc.model.grpc.proto.Service;
+import com.ly.doc.model.grpc.proto.ServiceMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * @author agent
+ */
+public class ProtoParserTest {
+
+	private static final String COMMON = String.join("\n", "syntax = \"proto3\";", "package demo.common;", "",
+			"// Paging of a query", "message Page {", "  int32 page = 1; // page number", "  int32 size = 2;", "}", "",
+			"enum Status {", "  option allow_alias = true;", "  // the user is active", "  ACTIVE = 0;",
+			"  DISABLED = 1 [deprecated = true];", "  BLOCKED = 0x02;", "}");
+
+	private static final String USER = String.join("\n", "// User service of the demo", "syntax = \"proto3\";",
+			"package demo.user;", "", "import \"common.proto\";", "import \"google/api/annotations.proto\";",
+			"option java_package = \"com.demo.user\";", "", "/**", " * A user", " */", "message User {",
+			"  int64 id = 1;", "  // the name", "  // of the user", "  optional string name = 2;",
+			"  repeated demo.common.Status statuses = 3;", "  map<string, Address> addresses = 4;",
+			"  Address.Geo home = 5;", "  oneof contact {", "    string email = 6;", "    string phone = 7;", "  }",
+			"  reserved 8, 9;", "", "  message Address {", "    string city = 1;", "    Geo geo = 2;",
+			"    message Geo {", "      double lat = 1;", "      double lng = 2;", "    }", "  }", "}", "",
+			"message ListUsersRequest {", "  .demo.common.Page page = 1;", "}", "", "message ListUsersResponse {",
+			"  repeated User users = 1;", "}", "", "service UserService {", "  // Get a user",
+			"  rpc GetUser(User) returns (User);",
+			"  rpc ListUsers(ListUsersRequest) returns (stream ListUsersResponse) {",
+			"    option (google.api.http) = { get: \"/v1/users\" };", "  }",
+			"  rpc Chat(stream User) returns (stream User) {}", "}");
+
+	@Test
+	public void testParse(@TempDir Path tempDir) throws IOException {
+		Path common = tempDir.resolve("common.proto");
+		Path user = tempDir.resolve("user.proto");
+		Path broken = tempDir.resolve("broken.proto");
+		Files.write(common, COMMON.getBytes(StandardCharsets.UTF_8));
+		Files.write(user, USER.getBytes(StandardCharsets.UTF_8));
+		Files.write(broken,
+				"syntax = \"proto3\";\nmessage Broken {\n  int32 id = 1;\n".getBytes(StandardCharsets.UTF_8));
+
+		ProtoJson protoJson = ProtoParser.parse(Arrays.asList(user.toString(), common.toString(), broken.toString()));
+		// the broken file is skipped
+		Assertions.assertEquals(Arrays.asList("common.proto", "user.proto"),
+				protoJson.getFiles().stream().map(ProtoFile::getName).collect(Collectors.toList()));
+		ProtoFile userFile = protoJson.getFiles().get(1);
+		Assertions.assertEquals("demo.user", userFile.getPackageName());
+		Assertions.assertEquals("User service of the demo", userFile.getDescription());
+		Assertions.assertTrue(userFile.isHasMessages() && userFile.isHasServices());
+		Assertions.assertFalse(userFile.isHasEnums());
+
+		Map<String, Message> messages = protoJson.getFiles()
+			.stream()
+			.flatMap(file -> file.getMessages().stream())
+			.collect(Collectors.toMap(Message::getFullName, Function.identity()));
+		Assertions.assertEquals("Paging of a query", messages.get("demo.common.Page").getDescription());
+		Assertions.assertEquals("page number", messages.get("demo.common.Page").getFields().get(0).getDescription());
+
+		Message userMessage = messages.get("demo.user.User");
+		Assertions.assertEquals("A user", userMessage.getDescription());
+		Assertions.assertTrue(userMessage.isHasOneofs());
+		Map<String, MessageField> fields = userMessage.getFields()
+			.stream()
+			.collect(Collectors.toMap(MessageField::getName, Function.identity()));
+		Assertions.assertEquals(7, fields.size());
+		Assertions.assertEquals("", fields.get("id").getLabel());
+		Assertions.assertEquals("int64", fields.get("id").getFullType());
+		Assertions.assertEquals("the name\nof the user", fields.get("name").getDescription());
+		Assertions.assertEquals("optional", fields.get("name").getLabel());
+		MessageField statuses = fields.get("statuses");
+		Assertions.assertEquals("repeated", statuses.getLabel());
+		Assertions.assertEquals("Status", statuses.getType());
+		Assertions.assertEquals("Status", statuses.getLongType());
+		Assertions.assertEquals("demo.common.Status", statuses.getFullType());
+		MessageField addresses = fields.get("addresses");
+		Assertions.assertTrue(addresses.isMap());
+		Assertions.assertEquals("demo.user.User.AddressesEntry", addresses.getFullType());
+		Assertions.assertEquals("demo.user.User.Address",
+				messages.get("demo.user.User.AddressesEntry").getFields().get(1).getFullType());
+		Assertions.assertEquals("User.Address.Geo", fields.get("home").getLongType());
+		Assertions.assertEquals("contact", fields.get("email").getOneofDecl());
+		Assertions.assertEquals("demo.user.User.Address.Geo",
+				messages.get("demo.user.User.Address").getFields().get(1).getFullType());
+		Assertions.assertEquals("demo.common.Page",
+				messages.get("demo.user.ListUsersRequest").getFields().get(0).getFullType());
+
+		EnumDefinition status = protoJson.getFiles().get(0).getEnums().get(0);
+		Assertions.assertEquals(3, status.getValues().size());
+		Assertions.assertEquals("the user is active", status.getValues().get(0).getDescription());
+		Assertions.assertEquals(2, status.getValues().get(2).getNumber());
+
+		Service service = userFile.getServices().get(0);
+		Assertions.assertEquals("demo.user.UserService", service.getFullName());
+		Assertions.assertEquals(3, service.getMethods().size());
+		ServiceMethod getUser = service.getMethods().get(0);
+		Assertions.assertEquals("Get a user", getUser.getDescription());
+		Assertions.assertEquals("demo.user.User", getUser.getRequestFullType());
+		Assertions.assertFalse(getUser.isRequestStreaming() || getUser.isResponseStreaming());
+		ServiceMethod listUsers = service.getMethods().get(1);
+		Assertions.assertFalse(listUsers.isRequestStreaming());
+		Assertions.assertTrue(listUsers.isResponseStreaming());
+		Assertions.assertEquals("ListUsersResponse", listUsers.getResponseType());
+		ServiceMethod chat = service.getMethods().get(2);
+		Assertions.assertTrue(chat.isRequestStreaming() && chat.isResponseStreaming());
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.ly.doc.template;
+
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.ly.doc.SourceFixtures;
+import com.ly.doc.builder.ApiDataBuilder;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.ApiDoc;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * @author agent
+ */
+class IRestDocTemplateTest {
+
+	@Test
+	void testParallelAnalysisMatchesSerial(@TempDir Path baseDir) throws IOException {
+		Path src = baseDir.resolve("src");
+		SourceFixtures.write(src, "com.demo.User", SourceFixtures.USER);
+		SourceFixtures.write(src, "com.demo.Order",
+				"public class Order<T> {\n\t/**\n\t * order id\n\t */\n\tprivate Long id;\n"
+						+ "\t/**\n\t * buyer\n\t */\n\tprivate User buyer;\n"
+						+ "\t/**\n\t * items\n\t */\n\tprivate java.util.List<T> items;\n}\n");
+		for (int i = 0; i < 12; i++) {
+			StringBuilder controller = new StringBuilder("import org.springframework.web.bind.annotation.*;\n")
+				.append("/**\n * api ")
+				.append(i)
+				.append(i % 4 == 0 ? "\n * @order " + (12 - i) : "")
+				.append("\n */\n@RestController\n@RequestMapping(\"/api")
+				.append(i)
+				.append("\")\npublic class Api")
+				.append(i)
+				.append("Controller {\n");
+			for (int j = 0; j <= i % 3; j++) {
+				controller.append("\t/**\n\t * get ")
+					.append(j)
+					.append("\n\t * @param id id\n\t */\n\t@GetMapping(\"/get")
+					.append(j)
+					.append("/{id}\")\n\tpublic Order<User> get")
+					.append(j)
+					.append("(@PathVariable Long id) { return null; }\n")
+					.append("\t/**\n\t * save ")
+					.append(j)
+					.append("\n\t */\n\t@PostMapping(\"/save")
+					.append(j)
+					.append("\")\n\tpublic User save")
+					.append(j)
+					.append("(@RequestBody Order<User> order) { return null; }\n");
+			}
+			SourceFixtures.write(src, "com.demo.Api" + i + "Controller", controller.append("}\n").toString());
+		}
+
+		List<ApiDoc> serial = analyze(baseDir, 1);
+		List<ApiDoc> parallel = analyze(baseDir, 4);
+		Assertions.assertEquals(12, serial.size());
+		// the back references to the class and tag docs are cyclic
+		Gson gson = new GsonBuilder().setPrettyPrinting().setExclusionStrategies(new ExclusionStrategy() {
+			@Override
+			public boolean shouldSkipField(FieldAttributes field) {
+				return "tagRefs".equals(field.getName()) || "clazzDoc".equals(field.getName());
+			}
+
+			@Override
+			public boolean shouldSkipClass(Class<?> clazz) {
+				return false;
+			}
+		}).create();
+		Assertions.assertEquals(gson.toJson(serial), gson.toJson(parallel));
+	}
+
+	private static List<ApiDoc> analyze(Path baseDir, int analysisThreads) {
+		// the orders continue from the previous build otherwise
+		IRestDocTemplate.ATOMIC_INTEGER.set(1);
+		ApiConfig config = SourceFixtures.config(baseDir);
+		config.setServerUrl("http://localhost:8080");
+		config.setAnalysisThreads(analysisThreads);
+		return ApiDataBuilder.getApiData(config).getApiDocList();
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.ly.doc.util;
+
+import com.ly.doc.constants.DocGlobalConstants;
+import com.ly.doc.model.ApiParam;
+import com.ly.doc.utils.ApiParamTreeUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author agent
+ */
+public class ApiParamTreeUtilTest {
+
+	@Test
+	public void testApiParamToTree() {
+		List<ApiParam> params = new ArrayList<>();
+		params.add(ApiParam.of().setId(1).setPid(0).setField("id"));
+		params.add(ApiParam.of().setId(2).setPid(0).setField("items"));
+		params.add(ApiParam.of().setId(3).setPid(2).setField(DocGlobalConstants.PARAM_PREFIX + "name"));
+		params.add(ApiParam.of().setId(4).setPid(2).setField(DocGlobalConstants.PARAM_PREFIX + "tags"));
+		params
+			.add(ApiParam.of().setId(5).setPid(4).setField("&nbsp;&nbsp;" + DocGlobalConstants.PARAM_PREFIX + "value"));
+
+		List<ApiParam> tree = ApiParamTreeUtil.apiParamToTree(params);
+		Assertions.assertEquals(2, tree.size());
+		Assertions.assertTrue(tree.get(0).getChildren().isEmpty());
+		List<ApiParam> items = tree.get(1).getChildren();
+		Assertions.assertEquals("name", items.get(0).getField());
+		Assertions.assertEquals("tags", items.get(1).getField());
+		Assertions.assertEquals("value", items.get(1).getChildren().get(0).getField());
+	}
+
+	@Test
+	public void testApiParamToTreeWithRecursionLimit() {
+		List<ApiParam> params = new ArrayList<>();
+		params.add(ApiParam.of().setId(1).setPid(0).setField("level0"));
+		for (int i = 2; i <= 12; i++) {
+			params.add(ApiParam.of().setId(i).setPid(i - 1).setField("level" + (i - 1)));
+		}
+		Assertions.assertEquals(3, depth(ApiParamTreeUtil.apiParamToTree(copy(params), 1)));
+		// the default limit keeps eight levels of children
+		Assertions.assertEquals(9, depth(ApiParamTreeUtil.apiParamToTree(copy(params))));
+		Assertions.assertEquals(12, depth(ApiParamTreeUtil.apiParamToTree(copy(params), 20)));
+	}
+
+	private static List<ApiParam> copy(List<ApiParam> params) {
+		List<ApiParam> copies = new ArrayList<>(params.size());
+		for (ApiParam param : params) {
+			copies.add(param.clone());
+		}
+		return copies;
+	}
+
+	private static int depth(List<ApiParam> tree) {
+		int depth = 0;
+		for (ApiParam param : tree) {
+			depth = Math.max(depth, 1 + depth(param.getChildren()));
+		}
+		return depth;
+	}
+
+}
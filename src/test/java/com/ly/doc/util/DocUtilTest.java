@@ -3,13 +3,24 @@ package com.ly.doc.util;
 import com.ly.doc.constants.DocGlobalConstants;
 import com.ly.doc.enums.IEnum;
 import com.ly.doc.enums.OrderEnum;
+import com.ly.doc.helper.JavaProjectBuilderHelper;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.ApiDataDictionary;
+import com.ly.doc.model.ApiDocDict;
+import com.ly.doc.model.ApiErrorCode;
+import com.ly.doc.model.ApiErrorCodeDictionary;
 import com.ly.doc.utils.DocUtil;
 import com.ly.doc.constants.DocLanguage;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * @author yu 2018/12/10.
@@ -39,6 +50,33 @@ public class DocUtilTest {
 		System.out.println(DocUtil.formatAndRemove(url3, params));
 	}
 
+	@Test
+	public void testGenerateByRegex() {
+		String randomMock = System.getProperty(DocGlobalConstants.RANDOM_MOCK);
+		try {
+			System.setProperty(DocGlobalConstants.RANDOM_MOCK, "false");
+			String value = DocUtil.generateByRegex("[a-z]{3}-\\d{4}");
+			Assertions.assertTrue(value.matches("[a-z]{3}-\\d{4}"));
+			Assertions.assertEquals(value, DocUtil.generateByRegex("[a-z]{3}-\\d{4}"));
+			Map<String, String> params = new HashMap<>();
+			Assertions.assertEquals("user/" + value, DocUtil.formatAndRemove("/user/{id:[a-z]{3}-\\d{4}}", params));
+			// a value of the path variable is kept
+			params.put("id", "1");
+			Assertions.assertEquals("user/1", DocUtil.formatAndRemove("/user/{id:[a-z]{3}-\\d{4}}", params));
+
+			System.setProperty(DocGlobalConstants.RANDOM_MOCK, "true");
+			Assertions.assertTrue(DocUtil.generateByRegex("[a-z]{3}-\\d{4}").matches("[a-z]{3}-\\d{4}"));
+		}
+		finally {
+			if (Objects.isNull(randomMock)) {
+				System.clearProperty(DocGlobalConstants.RANDOM_MOCK);
+			}
+			else {
+				System.setProperty(DocGlobalConstants.RANDOM_MOCK, randomMock);
+			}
+		}
+	}
+
 	@Test
 	public void testGetInterfacesEnum() throws ClassNotFoundException {
 		System.out.println(IEnum.class.isAssignableFrom(OrderEnum.class));
@@ -80,4 +118,32 @@ public class DocUtilTest {
 		System.out.println(result); // Output: com.Test<List<Use
 	}
 
+	@Test
+	public void testDictionaryResolvedOncePerBuild() {
+		ApiConfig config = new ApiConfig();
+		config.setDataDictionaries(ApiDataDictionary.builder()
+			.setTitle("order")
+			.setEnumClass(OrderEnum.class)
+			.setCodeField("code")
+			.setDescField("desc"));
+		config.setErrorCodeDictionaries(ApiErrorCodeDictionary.builder()
+			.setEnumClass(OrderEnum.class)
+			.setCodeField("code")
+			.setDescField("desc"));
+		JavaProjectBuilder builder = JavaProjectBuilderHelper.create();
+		builder.addSourceTree(new File("src/test/java/com/ly/doc/enums"));
+
+		List<ApiDocDict> dictionaries = DocUtil.buildDictionary(config, builder);
+		Assertions.assertEquals(1, dictionaries.size());
+		Assertions.assertSame(dictionaries, DocUtil.buildDictionary(config, builder));
+		List<ApiErrorCode> errorCodes = DocUtil.errorCodeDictToList(config, builder);
+		Assertions.assertEquals(OrderEnum.values().length, errorCodes.size());
+		Assertions.assertSame(errorCodes, DocUtil.errorCodeDictToList(config, builder));
+		Assertions.assertThrows(UnsupportedOperationException.class, dictionaries::clear);
+
+		// changed dictionaries are resolved again
+		config.setDataDictionaries(new ArrayList<>(config.getDataDictionaries()));
+		Assertions.assertNotSame(dictionaries, DocUtil.buildDictionary(config, builder));
+	}
+
 }
@@ -0,0 +1,72 @@
+package com.ly.doc.util;
+
+import com.ly.doc.builder.ProjectDocConfigBuilder;
+import com.ly.doc.helper.JavaProjectBuilderHelper;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.EnumMetadata;
+import com.ly.doc.model.SourceCodePath;
+import com.ly.doc.model.torna.EnumInfoAndValues;
+import com.ly.doc.utils.JavaClassUtil;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class JavaClassUtilTest {
+
+	@Test
+	void testEnumMetadataIsResolvedOnce() {
+		ApiConfig config = new ApiConfig();
+		config.setSourceCodePaths(SourceCodePath.builder().setPath("src/test/java/com/ly/doc/util"));
+		ProjectDocConfigBuilder builder = new ProjectDocConfigBuilder(config, JavaProjectBuilderHelper.create());
+		JavaClass status = builder.getJavaProjectBuilder().getClassByName(Status.class.getName());
+
+		EnumInfoAndValues jsonEnum = JavaClassUtil.getEnumInfoAndValue(status, builder, true);
+		Assertions.assertEquals("[200, 500]", jsonEnum.getEnumValues().toString());
+		Assertions.assertEquals("200", jsonEnum.getValue());
+		Assertions.assertSame(jsonEnum, JavaClassUtil.getEnumInfoAndValue(status, builder, true));
+		EnumInfoAndValues formEnum = JavaClassUtil.getEnumInfoAndValue(status, builder, false);
+		Assertions.assertEquals("[OK, FAIL]", formEnum.getEnumValues().toString());
+		Assertions.assertSame(jsonEnum.getEnumInfo(), formEnum.getEnumInfo());
+		Assertions.assertEquals("failed", formEnum.getEnumInfo().getItems().get(1).getDescription());
+		Assertions.assertEquals(500,
+				JavaClassUtil.getEnumValueWithJsonValue(status, builder, status.getEnumConstants().get(1)));
+
+		EnumMetadata metadata = builder.getEnumMetadataMap().get(Status.class.getName());
+		Assertions.assertSame(Status.class, metadata.getEnumClass());
+		Assertions.assertEquals("getCode", metadata.getJsonValueMethod());
+		Assertions.assertEquals(2, metadata.getJsonValues().size());
+	}
+
+	@interface JsonValue {
+
+	}
+
+	enum Status {
+
+		/**
+		 * ok
+		 */
+		OK(200),
+
+		/**
+		 * failed
+		 */
+		FAIL(500);
+
+		private final int code;
+
+		Status(int code) {
+			this.code = code;
+		}
+
+		@JsonValue
+		public int getCode() {
+			return code;
+		}
+
+	}
+
+}
@@ -1,8 +1,20 @@
 package com.ly.doc.util;
 
+import com.google.gson.stream.JsonWriter;
 import com.ly.doc.utils.JsonUtil;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author yu 2021/6/27.
@@ -18,4 +30,33 @@ public class JsonUtilTest {
 				"{\"success\":true,\"message\":\"\",\"data\":\"\",\"code\":\"\",\"timestamp\":\"\",\"traceId\":\"\"}"));
 	}
 
+	@Test
+	public void testWritePrettyJson(@TempDir Path outPath) throws IOException {
+		Map<String, Object> operation = new HashMap<>();
+		operation.put("summary", "<b>get</b> user");
+		operation.put("tags", Arrays.asList("user", "admin"));
+		operation.put("deprecated", null);
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("openapi", "3.1.0");
+		json.put("paths", new LinkedHashMap<String, Object>() {
+			{
+				put("/user", operation);
+				put("/empty", new HashMap<>());
+			}
+		});
+
+		Path file = outPath.resolve("dir").resolve("openapi.json");
+		try (JsonWriter writer = JsonUtil.newPrettyJsonWriter(file.toString())) {
+			writer.beginObject();
+			JsonUtil.writePrettyJson(writer, "openapi", "3.1.0");
+			writer.name("paths").beginObject();
+			JsonUtil.writePrettyJson(writer, "/user", operation);
+			JsonUtil.writePrettyJson(writer, "/empty", new HashMap<>());
+			writer.endObject();
+			writer.endObject();
+		}
+		Assertions.assertEquals(JsonUtil.toPrettyJson(json),
+				new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+	}
+
 }
@@ -0,0 +1,61 @@
+package com.ly.doc.util;
+
+import com.ly.doc.utils.PackageFilterMatcher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * @author agent
+ */
+public class PackageFilterMatcherTest {
+
+	private static final List<String> METHODS = Arrays.asList("list", "listPage", "save", "delete");
+
+	@Test
+	public void testMatches() {
+		PackageFilterMatcher matcher = PackageFilterMatcher
+			.of("com.power.controller,com.power.user,com.aaa.*.controller,.*Order.*");
+		Assertions.assertSame(matcher,
+				PackageFilterMatcher.of("com.power.controller,com.power.user," + "com.aaa.*.controller,.*Order.*"));
+		Assertions.assertTrue(matcher.matches("com.power.controller.UserController"));
+		Assertions.assertTrue(matcher.matches("com.power.userapi.UserController"));
+		Assertions.assertTrue(matcher.matches("com.aaa.cc.controller"));
+		Assertions.assertFalse(matcher.matches("com.aaa.cc.controlle"));
+		Assertions.assertTrue(matcher.matches("com.shop.OrderController"));
+		Assertions.assertFalse(matcher.matches("com.power.UserController"));
+		Assertions.assertTrue(matcher.matches("com.shop.OrderController", "list"));
+		Assertions.assertFalse(matcher.matches("com.shop.UserController", "list"));
+
+		PackageFilterMatcher empty = PackageFilterMatcher.of("");
+		Assertions.assertTrue(empty.isEmpty());
+		Assertions.assertFalse(empty.matches("com.power.controller.UserController"));
+		Assertions.assertFalse(empty.matchesClass("com.power.controller.UserController"));
+	}
+
+	@Test
+	public void testMatchesClass() {
+		PackageFilterMatcher matcher = PackageFilterMatcher.of("controller.user,com.power.*Api");
+		Assertions.assertTrue(matcher.matchesClass("com.power.controller.user.UserController"));
+		Assertions.assertFalse(matcher.matches("com.power.controller.user.UserController"));
+		Assertions.assertTrue(matcher.matchesClass("com.power.OrderApi"));
+		Assertions.assertFalse(matcher.matchesClass("com.power.OrderController"));
+	}
+
+	@Test
+	public void testMatchMethods() {
+		PackageFilterMatcher matcher = PackageFilterMatcher
+			.of("com.power.UserController.save,com.power.UserController.list.*,com.power.OrderController.delete");
+		Assertions.assertFalse(matcher.matchesClass("com.power.UserController"));
+		Assertions.assertEquals(new HashSet<>(Arrays.asList("save", "list", "listPage")),
+				matcher.matchMethods("com.power.UserController", METHODS));
+		Assertions.assertEquals(Collections.singleton("delete"),
+				matcher.matchMethods("com.power.OrderController", METHODS));
+		Assertions.assertTrue(matcher.matchMethods("com.power.GoodsController", METHODS).isEmpty());
+	}
+
+}
@@ -0,0 +1,124 @@
+package com.ly.doc.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.ly.doc.model.ApiConfig;
+import com.ly.doc.model.torna.Apis;
+import com.ly.doc.model.torna.TornaApi;
+import com.ly.doc.utils.TornaUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * @author agent
+ */
+public class TornaUtilTest {
+
+	@Test
+	public void testPushToTorna() throws IOException {
+		AtomicInteger requests = new AtomicInteger();
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		AtomicInteger pushedApis = new AtomicInteger();
+		List<String> encodings = new ArrayList<>();
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		server.setExecutor(executor);
+		server.createContext("/api", exchange -> {
+			int running = inFlight.incrementAndGet();
+			maxInFlight.accumulateAndGet(running, Math::max);
+			try {
+				String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+				synchronized (encodings) {
+					encodings.add(encoding);
+				}
+				InputStream body = "gzip".equals(encoding) ? new GZIPInputStream(exchange.getRequestBody())
+						: exchange.getRequestBody();
+				Map<?, ?> request = new Gson().fromJson(read(body), Map.class);
+				Thread.sleep(50);
+				// the first request fails with a server error and is retried
+				if (requests.incrementAndGet() == 1) {
+					respond(exchange, 503, "unavailable");
+					return;
+				}
+				String data = URLDecoder.decode((String) request.get("data"), "utf-8");
+				JsonObject tornaApi = JsonParser.parseString(data).getAsJsonObject();
+				pushedApis.addAndGet(tornaApi.getAsJsonArray("apis").size());
+				respond(exchange, 200, "{\"code\":\"0\",\"msg\":\"success\"}");
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				inFlight.decrementAndGet();
+			}
+		});
+		server.start();
+		try {
+			ApiConfig config = new ApiConfig();
+			config.setOpenUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/api");
+			config.setAppToken("token");
+			config.setTornaDebug(false);
+			config.setApiUploadNums(3);
+			config.setTornaPushThreads(2);
+			config.setTornaGzip(true);
+			List<Apis> apis = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				Apis api = new Apis();
+				api.setName("api" + i);
+				apis.add(api);
+			}
+			TornaApi tornaApi = new TornaApi();
+			tornaApi.setApis(apis);
+
+			TornaUtil.pushToTorna(tornaApi, config, null);
+
+			// four partitions and one retry, no dictionary is configured
+			Assertions.assertEquals(5, requests.get());
+			Assertions.assertEquals(10, pushedApis.get());
+			Assertions.assertTrue(maxInFlight.get() <= 2);
+			Assertions.assertTrue(encodings.stream().allMatch("gzip"::equals));
+			Assertions.assertSame(apis, tornaApi.getApis());
+		}
+		finally {
+			server.stop(0);
+			executor.shutdownNow();
+		}
+	}
+
+	private static String read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		for (int n; (n = in.read(buffer)) > 0;) {
+			out.write(buffer, 0, n);
+		}
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(code, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.ly.doc.util;
+
+import com.ly.doc.model.ApiReturn;
+import com.ly.doc.utils.DocClassUtil;
+import com.ly.doc.utils.TypeSignature;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * @author agent
+ */
+class TypeSignatureTest {
+
+	private static final String RESULT = "com.demo.Result<com.demo.PageResult<java.util.Map<java.lang.String,java.util.List<com.demo.OrderDTO>>>>";
+
+	@Test
+	void testTypeArguments() {
+		TypeSignature signature = TypeSignature.of(RESULT);
+		Assertions.assertSame(signature, TypeSignature.of(RESULT));
+		Assertions.assertEquals("com.demo.Result", signature.getRawType());
+		List<TypeSignature> arguments = signature.getTypeArguments();
+		Assertions.assertEquals(1, arguments.size());
+		TypeSignature page = arguments.get(0);
+		Assertions.assertEquals("com.demo.PageResult", page.getRawType());
+		TypeSignature map = page.getTypeArguments().get(0);
+		Assertions.assertEquals("java.util.Map", map.getRawType());
+		Assertions.assertEquals("java.lang.String", map.getTypeArguments().get(0).getName());
+		Assertions.assertEquals("com.demo.OrderDTO", map.getTypeArguments().get(1).getTypeArguments().get(0).getName());
+		Assertions.assertEquals(2, TypeSignature.of("com.demo.OrderDTO[][]").getArrayDepth());
+		Assertions.assertEquals(0, signature.getArrayDepth());
+	}
+
+	@Test
+	void testDocClassUtil() {
+		Assertions.assertArrayEquals(new String[] { "com.demo.A", "com.demo.B<com.demo.C,com.demo.D>" },
+				DocClassUtil.getSimpleGicName("com.demo.Pair<com.demo.A,com.demo.B<com.demo.C,com.demo.D>>"));
+		Assertions.assertArrayEquals(new String[] { "T" }, DocClassUtil.getSimpleGicName("java.util.List"));
+		Assertions.assertArrayEquals(new String[] { "com.demo.User" },
+				DocClassUtil.getSimpleGicName("com.demo.User[]"));
+		Assertions.assertArrayEquals(new String[] { "java.lang.String", "java.util.List<com.demo.User>" },
+				DocClassUtil.getMapKeyValueType("java.util.Map<java.lang.String, java.util.List<com.demo.User>>"));
+		Assertions.assertEquals(0, DocClassUtil.getMapKeyValueType("com.demo.User").length);
+		Assertions.assertEquals("controller.R$Data", DocClassUtil.getSimpleName("controller.R<T,A>$Data<T,A>"));
+
+		// the arrays are copies of the cached ones
+		String[] names = DocClassUtil.getSimpleGicName(RESULT);
+		names[0] = "changed";
+		Assertions.assertEquals(
+				"com.demo.PageResult<java.util.Map<java.lang.String,java.util.List<com.demo.OrderDTO>>>",
+				DocClassUtil.getSimpleGicName(RESULT)[0]);
+	}
+
+	@Test
+	void testProcessReturnType() {
+		ApiReturn apiReturn = DocClassUtil
+			.processReturnType("org.springframework.http.ResponseEntity<com.demo.Result<com.demo.User>>");
+		Assertions.assertEquals("com.demo.Result<com.demo.User>", apiReturn.getGenericCanonicalName());
+		Assertions.assertEquals("com.demo.Result", apiReturn.getSimpleName());
+		apiReturn.setSimpleName("changed");
+		Assertions.assertEquals("com.demo.Result",
+				DocClassUtil
+					.processReturnType("org.springframework.http.ResponseEntity<com.demo.Result<com.demo.User>>")
+					.getSimpleName());
+		Assertions.assertEquals("java.lang.Object",
+				DocClassUtil.processReturnType("org.springframework.http.ResponseEntity").getSimpleName());
+	}
+
+}